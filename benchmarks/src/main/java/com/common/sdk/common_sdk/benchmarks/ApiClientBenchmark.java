@@ -0,0 +1,116 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.common.sdk.common_sdk.client.ApiClient;
+import com.common.sdk.common_sdk.client.ApiClientFactory;
+import com.common.sdk.common_sdk.correlation.CorrelationContext;
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure throughput and latency percentiles
+ *           of the envelope client against a local stub server, so the
+ *           numbers cover request building, the loopback round trip and
+ *           decoding. The stub is the JDK HttpServer, which needs TCP_NODELAY to
+ *           not stall every response on delayed ACKs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@Threads(8)
+public class ApiClientBenchmark {
+
+    private static final TypeReference<List<BenchmarkFixtures.Order>> ORDERS =
+            new TypeReference<List<BenchmarkFixtures.Order>>() {
+            };
+
+    private HttpServer server;
+    private ApiClientFactory factory;
+    private ApiClient client;
+
+    /**
+     * @implNote This method is used to start the stub server and the client.
+     * @throws IOException
+     */
+    @Setup
+    public void setUp() throws IOException {
+        byte[] body = BenchmarkFixtures.sdkMapper(new JsonFactory()).writeValueAsBytes(ApiResponse.success(
+                BenchmarkFixtures.orders(10), APIResponseCode.SUCCESS, BenchmarkFixtures.REQUEST_ID));
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/orders", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        factory = new ApiClientFactory(BenchmarkFixtures.sdkMapper(new JsonFactory()), Duration.ofSeconds(2),
+                Duration.ofSeconds(10));
+        client = factory.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    /**
+     * @implNote This method is used to stop the client and the stub server.
+     */
+    @TearDown
+    public void tearDown() {
+        factory.destroy();
+        server.stop(0);
+    }
+
+    /**
+     * @implNote This method is used to perform a blocking call.
+     * @return GenericApiResponse<List<Order>>
+     */
+    @Benchmark
+    public GenericApiResponse<List<BenchmarkFixtures.Order>> get() {
+        try (CorrelationContext.Scope scope = CorrelationContext.open(BenchmarkFixtures.REQUEST_ID)) {
+            return client.get("/orders", ORDERS);
+        }
+    }
+
+    /**
+     * @implNote This method is used to perform a non blocking call and wait for
+     *           it, which adds the executor hand-off to the blocking path.
+     * @return GenericApiResponse<List<Order>>
+     */
+    @Benchmark
+    public GenericApiResponse<List<BenchmarkFixtures.Order>> getAsync() {
+        try (CorrelationContext.Scope scope = CorrelationContext.open(BenchmarkFixtures.REQUEST_ID)) {
+            return client.sendAsync("GET", "/orders", null, ORDERS).join();
+        }
+    }
+}
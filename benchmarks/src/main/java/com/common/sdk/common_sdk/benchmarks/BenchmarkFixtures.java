@@ -0,0 +1,76 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.common.sdk.common_sdk.exception.ExceptionLogAggregator;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.serializer.CommonSdkJacksonModule;
+import com.common.sdk.common_sdk.services.BatchExecutor;
+import com.common.sdk.common_sdk.services.ResponseHandler;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to build the objects shared by the benchmarks
+ *           the same way the SDK configuration builds them.
+ */
+final class BenchmarkFixtures {
+
+    static final String REQUEST_ID = "0190a6e4-7c1b-7d3e-9f4a-2b5c6d7e8f90";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * @implNote This method is used to create a mapper with the envelope module.
+     * @param factory
+     * @return ObjectMapper
+     */
+    static ObjectMapper sdkMapper(JsonFactory factory) {
+        return new ObjectMapper(factory).registerModule(new CommonSdkJacksonModule());
+    }
+
+    /**
+     * @implNote This method is used to create the response handler without
+     *           metrics, so only the envelope itself is measured.
+     * @return ResponseHandler
+     */
+    static ResponseHandler responseHandler() {
+        return new ResponseHandler(ResponseMetrics.NOOP, sdkMapper(new JsonFactory()), new BatchExecutor(64, 50,
+                Duration.ofSeconds(30), ResponseMetrics.NOOP, logAggregator()));
+    }
+
+    /**
+     * @implNote This method is used to create a log aggregator that never
+     *           flushes during a benchmark iteration.
+     * @return ExceptionLogAggregator
+     */
+    static ExceptionLogAggregator logAggregator() {
+        return new ExceptionLogAggregator(20, Map.of(), 5, Duration.ofHours(1));
+    }
+
+    /**
+     * @implNote This method is used to create a typical list payload.
+     * @param size
+     * @return List<Order>
+     */
+    static List<Order> orders(int size) {
+        List<Order> orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orders.add(new Order(i, "customer-" + i, i * 12.5d, List.of("express", "gift")));
+        }
+        return orders;
+    }
+
+    /**
+     * @implNote This record is used as the benchmark payload.
+     */
+    record Order(long id, String customer, double amount, List<String> tags) {
+    }
+}
@@ -0,0 +1,171 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.common.sdk.common_sdk.compression.CompressionFilter;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.services.ResponseHandler;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure response compression: a 100 order
+ *           envelope gzipped by the compression filter with a pooled Deflater
+ *           vs. a new GZIPOutputStream per response, and a small error
+ *           envelope, which the filter sends as it is. Bodies go to a plain
+ *           buffer, because the mock response stream writes and flushes byte
+ *           by byte.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompressionBenchmark {
+
+    private CompressionFilter filter;
+    private MockHttpServletRequest request;
+    private BufferedResponse response;
+    private byte[] large;
+    private FilterChain largeChain;
+    private FilterChain smallChain;
+    private final ByteArrayOutputStream target = new ByteArrayOutputStream(1 << 16);
+
+    /**
+     * @implNote This method is used to encode the envelopes and create the
+     *           filter.
+     * @throws IOException
+     */
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = BenchmarkFixtures.sdkMapper(new JsonFactory());
+        ResponseHandler responseHandler = BenchmarkFixtures.responseHandler();
+        large = objectMapper.writeValueAsBytes(responseHandler.ok(BenchmarkFixtures.orders(100)));
+        byte[] small = objectMapper.writeValueAsBytes(responseHandler.failure(APIResponseCode.BAD_REQUEST));
+        filter = new CompressionFilter(2048, 6, List.of(MediaType.APPLICATION_JSON_VALUE), 4);
+        request = new MockHttpServletRequest("GET", "/orders");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+        response = new BufferedResponse();
+        largeChain = (req, res) -> {
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getOutputStream().write(large);
+        };
+        smallChain = (req, res) -> {
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getOutputStream().write(small);
+        };
+    }
+
+    /**
+     * @implNote This method is used to gzip the large envelope through the
+     *           filter.
+     * @return int
+     * @throws ServletException
+     * @throws IOException
+     */
+    @Benchmark
+    public int pooledDeflater() throws ServletException, IOException {
+        response.reset();
+        filter.doFilter(request, response, largeChain);
+        return response.body.size();
+    }
+
+    /**
+     * @implNote This method is used to gzip the large envelope with a new
+     *           Deflater.
+     * @return int
+     * @throws IOException
+     */
+    @Benchmark
+    public int deflaterPerResponse() throws IOException {
+        target.reset();
+        try (GZIPOutputStream out = new GZIPOutputStream(target, 8192)) {
+            out.write(large);
+        }
+        return target.size();
+    }
+
+    /**
+     * @implNote This method is used to send the small envelope through the
+     *           filter.
+     * @return int
+     * @throws ServletException
+     * @throws IOException
+     */
+    @Benchmark
+    public int smallEnvelope() throws ServletException, IOException {
+        response.reset();
+        filter.doFilter(request, response, smallChain);
+        return response.body.size();
+    }
+
+    private static final class BufferedResponse extends HttpServletResponseWrapper {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1 << 16);
+        private final ServletOutputStream out = new ServletOutputStream() {
+
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                body.write(b, off, len);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        private BufferedResponse() {
+            super(new MockHttpServletResponse());
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return out;
+        }
+
+        @Override
+        public void reset() {
+            body.reset();
+            super.reset();
+        }
+    }
+}
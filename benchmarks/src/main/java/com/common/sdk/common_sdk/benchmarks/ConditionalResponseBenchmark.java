@@ -0,0 +1,129 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.common.sdk.common_sdk.models.dto.RawJson;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.common.sdk.common_sdk.services.ETagCache;
+import com.common.sdk.common_sdk.services.ResponseHandler;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure a poll of data that did not change:
+ *           the full envelope serialized again, vs. a 304 from the version tag
+ *           before the data is touched, vs. a 304 from the cached hash of the
+ *           data, vs. a 304 from the hash computed again, which serializes
+ *           the data but sends nothing. The envelope is
+ *           written to a null stream.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConditionalResponseBenchmark {
+
+    private static final String KEY = "/orders";
+    private static final long VERSION = 42;
+
+    @Param({ "10", "1000" })
+    public int items;
+
+    private ResponseHandler responseHandler;
+    private ObjectWriter writer;
+    private List<BenchmarkFixtures.Order> orders;
+    private OutputStream out;
+
+    /**
+     * @implNote This method is used to bind a request carrying the current tags
+     *           of the resource to the benchmark thread.
+     */
+    @Setup
+    public void setUp() {
+        responseHandler = BenchmarkFixtures.responseHandler();
+        writer = BenchmarkFixtures.sdkMapper(new JsonFactory()).writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        orders = BenchmarkFixtures.orders(items);
+        out = OutputStream.nullOutputStream();
+        String versionTag = ETagCache.versionTag(VERSION);
+        String hashTag = responseHandler.okHashed(KEY + "/hashed", () -> orders).getHeaders().getETag();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", KEY);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, versionTag + ", " + hashTag);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    /**
+     * @implNote This method is used to unbind the request.
+     */
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * @implNote This method is used to build and serialize the envelope, as an
+     *           unconditional response does on every poll.
+     * @throws IOException
+     */
+    @Benchmark
+    public void full() throws IOException {
+        writer.writeValue(out, responseHandler.ok(orders));
+    }
+
+    /**
+     * @implNote This method is used to answer the poll from the version tag.
+     * @return ResponseEntity<GenericApiResponse<List<BenchmarkFixtures.Order>>>
+     */
+    @Benchmark
+    public ResponseEntity<GenericApiResponse<List<BenchmarkFixtures.Order>>> notModifiedByVersion() {
+        return responseHandler.okConditional(VERSION, () -> orders);
+    }
+
+    /**
+     * @implNote This method is used to answer the poll from the cached hash of
+     *           the serialized data.
+     * @return ResponseEntity<GenericApiResponse<RawJson>>
+     */
+    @Benchmark
+    public ResponseEntity<GenericApiResponse<RawJson>> notModifiedByCachedHash() {
+        return responseHandler.okHashed(KEY + "/hashed", () -> orders);
+    }
+
+    /**
+     * @implNote This method is used to answer the poll from the hash of the
+     *           serialized data after the cached tag was invalidated.
+     * @return ResponseEntity<GenericApiResponse<RawJson>>
+     */
+    @Benchmark
+    public ResponseEntity<GenericApiResponse<RawJson>> notModifiedByHash() {
+        responseHandler.etagCache().invalidate(KEY + "/hashed");
+        return responseHandler.okHashed(KEY + "/hashed", () -> orders);
+    }
+}
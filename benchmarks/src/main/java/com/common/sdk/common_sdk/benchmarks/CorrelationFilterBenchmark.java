@@ -0,0 +1,93 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.correlation.CorrelationIdGenerators;
+import com.common.sdk.common_sdk.filter.CorrelationFilter;
+import com.common.sdk.common_sdk.models.enums.CorrelationIdStrategy;
+import com.common.sdk.common_sdk.utils.CommonUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure the correlation filter round trip,
+ *           with an incoming header and with a generated id. The chain reads
+ *           the id back the way application code does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CorrelationFilterBenchmark {
+
+    @Param({ "UUID", "TIME_ORDERED", "THREAD_LOCAL_RANDOM", "NODE_COUNTER" })
+    public CorrelationIdStrategy strategy;
+
+    private CorrelationFilter filter;
+    private MockHttpServletRequest withHeader;
+    private MockHttpServletRequest withoutHeader;
+    private MockHttpServletResponse response;
+    private Blackhole blackhole;
+    private FilterChain chain;
+
+    /**
+     * @implNote This method is used to prepare the filter and the requests. The
+     *           filter removes its own marker attribute after every call, so the
+     *           requests are reused across invocations.
+     * @param blackhole
+     */
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        filter = new CorrelationFilter(CorrelationIdGenerators.of(strategy, 1));
+        withHeader = new MockHttpServletRequest("GET", "/orders");
+        withHeader.addHeader(ApplicationConstants.CORRELATION_ID, BenchmarkFixtures.REQUEST_ID);
+        withoutHeader = new MockHttpServletRequest("GET", "/orders");
+        response = new MockHttpServletResponse();
+        chain = (request, servletResponse) -> this.blackhole.consume(CommonUtils.getCurrentRequestId());
+    }
+
+    /**
+     * @implNote This method is used to run the filter with an incoming header.
+     * @throws ServletException
+     * @throws IOException
+     */
+    @Benchmark
+    public void incomingHeader() throws ServletException, IOException {
+        filter.doFilter(withHeader, response, chain);
+    }
+
+    /**
+     * @implNote This method is used to run the filter without a header, so an id
+     *           is generated.
+     * @throws ServletException
+     * @throws IOException
+     */
+    @Benchmark
+    public void generatedId() throws ServletException, IOException {
+        filter.doFilter(withoutHeader, response, chain);
+    }
+}
@@ -0,0 +1,59 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.common.sdk.common_sdk.correlation.CorrelationIdGenerators;
+import com.common.sdk.common_sdk.models.enums.CorrelationIdStrategy;
+import com.common.sdk.common_sdk.models.interfaces.CorrelationIdGenerator;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure the correlation id generators under
+ *           contention, since the generator is shared by every request thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+public class CorrelationIdGeneratorBenchmark {
+
+    @Param({ "UUID", "TIME_ORDERED", "THREAD_LOCAL_RANDOM", "NODE_COUNTER" })
+    public CorrelationIdStrategy strategy;
+
+    private CorrelationIdGenerator generator;
+
+    /**
+     * @implNote This method is used to create the generator.
+     */
+    @Setup
+    public void setUp() {
+        generator = CorrelationIdGenerators.of(strategy, 1);
+    }
+
+    /**
+     * @implNote This method is used to generate one id.
+     * @return String
+     */
+    @Benchmark
+    public String generate() {
+        return generator.generate();
+    }
+}
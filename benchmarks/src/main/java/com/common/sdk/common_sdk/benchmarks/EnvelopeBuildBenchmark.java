@@ -0,0 +1,96 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.common.sdk.common_sdk.correlation.CorrelationContext;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.common.sdk.common_sdk.services.ResponseHandler;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure building envelopes through the
+ *           response handler while a correlation id is bound to the thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EnvelopeBuildBenchmark {
+
+    private ResponseHandler responseHandler;
+    private List<BenchmarkFixtures.Order> data;
+    private CorrelationContext.Scope scope;
+
+    /**
+     * @implNote This method is used to bind the correlation id for the trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        responseHandler = BenchmarkFixtures.responseHandler();
+        data = BenchmarkFixtures.orders(10);
+        scope = CorrelationContext.open(BenchmarkFixtures.REQUEST_ID);
+    }
+
+    /**
+     * @implNote This method is used to restore the correlation id.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scope.close();
+    }
+
+    /**
+     * @implNote This method is used to build a success envelope with data.
+     * @return GenericApiResponse<List<Order>>
+     */
+    @Benchmark
+    public GenericApiResponse<List<BenchmarkFixtures.Order>> okWithData() {
+        return responseHandler.ok(data);
+    }
+
+    /**
+     * @implNote This method is used to build an empty success envelope.
+     * @return GenericApiResponse<Object>
+     */
+    @Benchmark
+    public GenericApiResponse<Object> okEmpty() {
+        return responseHandler.ok();
+    }
+
+    /**
+     * @implNote This method is used to build a failure envelope from a code.
+     * @return GenericApiResponse<Void>
+     */
+    @Benchmark
+    public GenericApiResponse<Void> failureWithCode() {
+        return responseHandler.failure(APIResponseCode.BAD_REQUEST);
+    }
+
+    /**
+     * @implNote This method is used to build a failure envelope with a message.
+     * @return GenericApiResponse<Void>
+     */
+    @Benchmark
+    public GenericApiResponse<Void> failureWithMessage() {
+        return responseHandler.failure(1001, "Notification Template not found");
+    }
+}
@@ -0,0 +1,114 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.serializer.CompactEnvelopeModule;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to compare the negotiated envelope formats. The
+ *           encoded size is reported as an extra counter next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EnvelopeCodecBenchmark {
+
+    @Param({ "json", "cbor", "smile", "compact-cbor" })
+    public String format;
+
+    @Param({ "10", "100" })
+    public int items;
+
+    private ObjectMapper mapper;
+    private ApiResponse<?> envelope;
+    private byte[] encoded;
+
+    /**
+     * @implNote This method is used to prepare the mapper and the encoded
+     *           envelope.
+     * @throws IOException
+     */
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "cbor" -> BenchmarkFixtures.sdkMapper(new CBORFactory());
+            case "smile" -> BenchmarkFixtures.sdkMapper(new SmileFactory());
+            case "compact-cbor" -> BenchmarkFixtures.sdkMapper(new CBORFactory())
+                    .registerModule(new CompactEnvelopeModule());
+            default -> BenchmarkFixtures.sdkMapper(new JsonFactory());
+        };
+        envelope = ApiResponse.success(BenchmarkFixtures.orders(items), APIResponseCode.SUCCESS,
+                BenchmarkFixtures.REQUEST_ID);
+        encoded = mapper.writeValueAsBytes(envelope);
+    }
+
+    /**
+     * @implNote This method is used to encode the envelope.
+     * @param size
+     * @return byte[]
+     * @throws IOException
+     */
+    @Benchmark
+    public byte[] encode(EncodedSize size) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(envelope);
+        size.bytes = bytes.length;
+        return bytes;
+    }
+
+    /**
+     * @implNote This method is used to decode the envelope into a tree, which
+     *           works for the compact layout as well.
+     * @return JsonNode
+     * @throws IOException
+     */
+    @Benchmark
+    public JsonNode decode() throws IOException {
+        return mapper.readTree(encoded);
+    }
+
+    /**
+     * @implNote This class is used to report the encoded size.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long bytes;
+
+        /**
+         * @implNote This method is used to reset the counter per iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure the JSON serialization of the
+ *           envelope, with the SDK serializer and with plain bean
+ *           serialization as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EnvelopeSerializationBenchmark {
+
+    @Param({ "0", "10", "100" })
+    public int items;
+
+    private ObjectWriter sdkWriter;
+    private ObjectWriter beanWriter;
+    private ApiResponse<?> success;
+    private ApiResponse<Void> failure;
+
+    /**
+     * @implNote This method is used to prepare the writers and envelopes.
+     */
+    @Setup
+    public void setUp() {
+        sdkWriter = BenchmarkFixtures.sdkMapper(new JsonFactory()).writer();
+        beanWriter = new ObjectMapper().writer();
+        success = items == 0 ? ApiResponse.success(APIResponseCode.SUCCESS, BenchmarkFixtures.REQUEST_ID)
+                : ApiResponse.success(BenchmarkFixtures.orders(items), APIResponseCode.SUCCESS,
+                        BenchmarkFixtures.REQUEST_ID);
+        failure = ApiResponse.failure(APIResponseCode.ILLEGAL_ARGUMENT, "amount must be positive",
+                BenchmarkFixtures.REQUEST_ID);
+    }
+
+    /**
+     * @implNote This method is used to serialize a success envelope with the SDK
+     *           serializer.
+     * @return byte[]
+     * @throws JsonProcessingException
+     */
+    @Benchmark
+    public byte[] successSdk() throws JsonProcessingException {
+        return sdkWriter.writeValueAsBytes(success);
+    }
+
+    /**
+     * @implNote This method is used to serialize a success envelope as a bean.
+     * @return byte[]
+     * @throws JsonProcessingException
+     */
+    @Benchmark
+    public byte[] successBean() throws JsonProcessingException {
+        return beanWriter.writeValueAsBytes(success);
+    }
+
+    /**
+     * @implNote This method is used to serialize a failure envelope with the SDK
+     *           serializer.
+     * @return byte[]
+     * @throws JsonProcessingException
+     */
+    @Benchmark
+    public byte[] failureSdk() throws JsonProcessingException {
+        return sdkWriter.writeValueAsBytes(failure);
+    }
+
+    /**
+     * @implNote This method is used to serialize a failure envelope as a bean.
+     * @return byte[]
+     * @throws JsonProcessingException
+     */
+    @Benchmark
+    public byte[] failureBean() throws JsonProcessingException {
+        return beanWriter.writeValueAsBytes(failure);
+    }
+}
@@ -0,0 +1,113 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.common.sdk.common_sdk.exception.ExceptionMapper;
+import com.common.sdk.common_sdk.exception.ExceptionResponse;
+import com.common.sdk.common_sdk.exception.ExceptionRule;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure resolving the rule of a domain
+ *           exception declared a few levels below its registered type: the
+ *           rule cached per class by the mapper vs. walking the hierarchy on
+ *           every lookup, and the full mapping to an envelope.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ExceptionMappingBenchmark {
+
+    private final Map<Class<?>, ExceptionRule> rules = new HashMap<>();
+    private ExceptionMapper mapper;
+    private RuntimeException exception;
+
+    /**
+     * @implNote This method is used to register the domain rule.
+     */
+    @Setup
+    public void setUp() {
+        ExceptionRule rule = ExceptionRule.of(APIResponseCode.BAD_REQUEST).withHandler("handleDomain");
+        rules.put(DomainException.class, rule);
+        rules.put(Throwable.class, ExceptionRule.of(APIResponseCode.INTERNAL_ERROR));
+        mapper = ExceptionMapper.builder().map(DomainException.class, rule).build();
+        exception = new PaymentDeclinedException();
+    }
+
+    /**
+     * @implNote This method is used to get the rule cached for the class.
+     * @return ExceptionRule
+     */
+    @Benchmark
+    public ExceptionRule cached() {
+        return mapper.ruleFor(exception.getClass());
+    }
+
+    /**
+     * @implNote This method is used to walk the superclasses and interfaces on
+     *           every lookup.
+     * @return ExceptionRule
+     */
+    @Benchmark
+    public ExceptionRule walk() {
+        for (Class<?> current = exception.getClass(); current != null; current = current.getSuperclass()) {
+            ExceptionRule rule = rules.get(current);
+            if (rule != null) {
+                return rule;
+            }
+            for (Class<?> declared : current.getInterfaces()) {
+                rule = rules.get(declared);
+                if (rule != null) {
+                    return rule;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @implNote This method is used to map the exception to its envelope.
+     * @return ExceptionResponse
+     */
+    @Benchmark
+    public ExceptionResponse map() {
+        return mapper.map(exception);
+    }
+
+    static class DomainException extends RuntimeException {
+        DomainException() {
+            super("Payment declined", null, false, false);
+        }
+    }
+
+    static class OrderException extends DomainException {
+    }
+
+    static class PaymentException extends OrderException {
+    }
+
+    static class CardException extends PaymentException {
+    }
+
+    static class PaymentDeclinedException extends CardException {
+    }
+}
@@ -0,0 +1,111 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.exception.BaseException;
+import com.common.sdk.common_sdk.exception.BaseGlobalExceptionHandler;
+import com.common.sdk.common_sdk.filter.CorrelationFilter;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.services.ResponseHandler;
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure the full exception to response path
+ *           through MockMvc: correlation filter, dispatch, exception handler
+ *           and envelope serialization. The success path is the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ExceptionPathBenchmark {
+
+    @Param({ "ok", "base", "stackless", "illegal-argument", "null-pointer" })
+    public String outcome;
+
+    private MockMvc mockMvc;
+    private RequestBuilder request;
+
+    /**
+     * @implNote This method is used to build the MockMvc instance with the SDK
+     *           advice and an envelope aware converter.
+     */
+    @Setup
+    public void setUp() {
+        ResponseHandler responseHandler = BenchmarkFixtures.responseHandler();
+        mockMvc = MockMvcBuilders.standaloneSetup(new OrderController(responseHandler))
+                .setControllerAdvice(new BaseGlobalExceptionHandler(responseHandler,
+                        BenchmarkFixtures.logAggregator(), ResponseMetrics.NOOP))
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(
+                        BenchmarkFixtures.sdkMapper(new JsonFactory())))
+                .addFilters(new CorrelationFilter())
+                .build();
+        request = get("/orders/{outcome}", outcome).header(ApplicationConstants.CORRELATION_ID,
+                BenchmarkFixtures.REQUEST_ID);
+    }
+
+    /**
+     * @implNote This method is used to perform one request.
+     * @return byte[]
+     * @throws Exception
+     */
+    @Benchmark
+    public byte[] perform() throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse().getContentAsByteArray();
+    }
+
+    /**
+     * @implNote This class is used as the controller under test.
+     */
+    @RestController
+    static class OrderController {
+
+        private static final List<BenchmarkFixtures.Order> ORDERS = BenchmarkFixtures.orders(3);
+
+        private final ResponseHandler responseHandler;
+
+        OrderController(ResponseHandler responseHandler) {
+            this.responseHandler = responseHandler;
+        }
+
+        @GetMapping("/orders/{outcome}")
+        public GenericApiResponse<List<BenchmarkFixtures.Order>> orders(@PathVariable String outcome) {
+            return switch (outcome) {
+                case "base" -> throw new BaseException(1001, "Notification Template not found");
+                case "stackless" -> throw BaseException.stackless(1001, "Notification Template not found");
+                case "illegal-argument" -> throw new IllegalArgumentException("amount must be positive");
+                case "null-pointer" -> throw new NullPointerException();
+                default -> responseHandler.ok(ORDERS);
+            };
+        }
+    }
+}
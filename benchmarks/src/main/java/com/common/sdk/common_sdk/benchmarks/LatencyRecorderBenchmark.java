@@ -0,0 +1,73 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.common.sdk.common_sdk.latency.LatencyRecorder;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure recording into the latency recorder
+ *           from several threads, with one recorder per endpoint and with
+ *           striping. Run with -prof gc to check that recording allocates
+ *           nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+public class LatencyRecorderBenchmark {
+
+    @Param({ "1", "8" })
+    public int stripes;
+
+    private LatencyRecorder recorder;
+
+    /**
+     * @implNote This method is used to create the recorder. Snapshots are left
+     *           to the end of the run.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        recorder = new LatencyRecorder(Duration.ofHours(1), Duration.ofMinutes(1), 2, stripes,
+                Duration.ofSeconds(1), 64);
+    }
+
+    /**
+     * @implNote This method is used to stop the recorder.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        recorder.destroy();
+    }
+
+    /**
+     * @implNote This method is used to record a request of 0.1 to 50ms.
+     */
+    @Benchmark
+    public void record() {
+        long durationNanos = ThreadLocalRandom.current().nextLong(100_000, 50_000_000);
+        recorder.record("GET", "/orders/{id}", 200, durationNanos, BenchmarkFixtures.REQUEST_ID);
+    }
+}
@@ -0,0 +1,157 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.limit.AimdLimitAlgorithm;
+import com.common.sdk.common_sdk.limit.ConcurrencyLimitFilter;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.services.ResponseHandler;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to compare a request shed by the concurrency
+ *           limit filter with the cheapest request it admits, one that writes
+ *           a small envelope. Shedding has to stay well below serving.
+ *           Bodies go to a plain buffer, because the mock response stream
+ *           writes and flushes byte by byte.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LoadSheddingBenchmark {
+
+    private ConcurrencyLimitFilter filter;
+    private MockHttpServletRequest shedRequest;
+    private MockHttpServletRequest servedRequest;
+    private FilterChain chain;
+    private BufferedResponse response;
+
+    /**
+     * @implNote This method is used to prepare a filter whose "full" group
+     *           admits nothing while the default group admits everything.
+     */
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = BenchmarkFixtures.sdkMapper(new JsonFactory());
+        ResponseHandler responseHandler = BenchmarkFixtures.responseHandler();
+        filter = new ConcurrencyLimitFilter(Map.of("full", List.of("/full/**")),
+                group -> group.equals("full")
+                        ? new AimdLimitAlgorithm(0, 0, 0, 0.9, Duration.ofSeconds(1))
+                        : new AimdLimitAlgorithm(1000, 1000, 1000, 0.9, Duration.ofSeconds(1)),
+                objectMapper, ResponseMetrics.NOOP);
+        shedRequest = request("/full/orders");
+        servedRequest = request("/orders");
+        response = new BufferedResponse();
+        BenchmarkFixtures.Order order = BenchmarkFixtures.orders(1).get(0);
+        chain = (request, response) -> {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    responseHandler.ok(order));
+        };
+    }
+
+    /**
+     * @implNote This method is used to shed a request.
+     * @return int
+     * @throws ServletException
+     * @throws IOException
+     */
+    @Benchmark
+    public int shed() throws ServletException, IOException {
+        response.reset();
+        filter.doFilter(shedRequest, response, chain);
+        return response.body.size();
+    }
+
+    /**
+     * @implNote This method is used to admit a request and serve it.
+     * @return int
+     * @throws ServletException
+     * @throws IOException
+     */
+    @Benchmark
+    public int serve() throws ServletException, IOException {
+        response.reset();
+        filter.doFilter(servedRequest, response, chain);
+        return response.body.size();
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader(ApplicationConstants.CORRELATION_ID, BenchmarkFixtures.REQUEST_ID);
+        return request;
+    }
+
+    private static final class BufferedResponse extends HttpServletResponseWrapper {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(512);
+        private final ServletOutputStream out = new ServletOutputStream() {
+
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                body.write(b, off, len);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        private BufferedResponse() {
+            super(new MockHttpServletResponse());
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return out;
+        }
+
+        @Override
+        public void reset() {
+            body.reset();
+        }
+    }
+}
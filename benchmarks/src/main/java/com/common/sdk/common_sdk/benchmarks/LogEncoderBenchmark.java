@@ -0,0 +1,96 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.event.KeyValuePair;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.logging.JsonLogEncoder;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure encoding the warning logged by the
+ *           exception handler: the SDK JSON encoder vs. a pattern layout
+ *           encoder with the Spring Boot console pattern, extended with the
+ *           correlation id and key-value pairs so both carry the same fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LogEncoderBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : "
+            + "[%X{" + ApplicationConstants.CORRELATION_ID + "}] %kvp %m%n";
+
+    private LoggingEvent event;
+    private JsonLogEncoder json;
+    private PatternLayoutEncoder pattern;
+
+    /**
+     * @implNote This method is used to create the event and start the
+     *           encoders.
+     */
+    @Setup
+    public void setUp() {
+        LoggerContext context = new LoggerContext();
+        event = new LoggingEvent(getClass().getName(),
+                context.getLogger("com.common.sdk.common_sdk.exception.BaseGlobalExceptionHandler"), Level.WARN,
+                "{}: {} - {}", null, new Object[] { "handleOrderException", "OrderNotFoundException",
+                        "Order 7 not found" });
+        event.setThreadName("http-nio-8080-exec-1");
+        event.setMDCPropertyMap(Map.of(ApplicationConstants.CORRELATION_ID, "3f1c2a9e-5b7d-4e21-9a0c-6d8e2f4b1a73"));
+        event.addKeyValuePair(new KeyValuePair(ApplicationConstants.LOG_CODE_KEY, 4100));
+        event.addKeyValuePair(new KeyValuePair(ApplicationConstants.LOG_HANDLER_KEY, "handleOrderException"));
+        event.addKeyValuePair(new KeyValuePair(ApplicationConstants.LOG_EXCEPTION_KEY,
+                "com.example.orders.OrderNotFoundException"));
+        event.getFormattedMessage();
+
+        json = new JsonLogEncoder();
+        json.setContext(context);
+        json.start();
+        pattern = new PatternLayoutEncoder();
+        pattern.setContext(context);
+        pattern.setPattern(PATTERN);
+        pattern.start();
+    }
+
+    /**
+     * @implNote This method is used to encode the event as a JSON line.
+     * @return byte[]
+     */
+    @Benchmark
+    public byte[] json() {
+        return json.encode(event);
+    }
+
+    /**
+     * @implNote This method is used to encode the event with the pattern
+     *           layout.
+     * @return byte[]
+     */
+    @Benchmark
+    public byte[] pattern() {
+        return pattern.encode(event);
+    }
+}
@@ -0,0 +1,124 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.dto.RawJson;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure returning data that is already
+ *           encoded JSON, as a gateway does with a downstream body: decoded
+ *           into a tree and serialized again inside the envelope, vs. spliced
+ *           into the envelope as {@link RawJson}, optionally validated first.
+ *           The envelope is written to a discarding stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RawJsonBenchmark {
+
+    @Param({ "10", "1000" })
+    public int items;
+
+    private ObjectReader treeReader;
+    private ObjectWriter writer;
+    private byte[] payload;
+    private DiscardingOutputStream out;
+
+    /**
+     * @implNote This method is used to prepare the encoded payload.
+     * @param blackhole
+     * @throws IOException
+     */
+    @Setup
+    public void setUp(Blackhole blackhole) throws IOException {
+        ObjectMapper mapper = BenchmarkFixtures.sdkMapper(new JsonFactory());
+        treeReader = mapper.readerFor(JsonNode.class);
+        writer = mapper.writer();
+        payload = mapper.writeValueAsBytes(BenchmarkFixtures.orders(items));
+        out = new DiscardingOutputStream(blackhole);
+    }
+
+    /**
+     * @implNote This method is used to decode the payload and encode it again in
+     *           the envelope.
+     * @throws IOException
+     */
+    @Benchmark
+    public void reencode() throws IOException {
+        JsonNode data = treeReader.readValue(payload);
+        writer.writeValue(out, ApiResponse.success(data, APIResponseCode.SUCCESS, BenchmarkFixtures.REQUEST_ID));
+    }
+
+    /**
+     * @implNote This method is used to splice the payload into the envelope.
+     * @throws IOException
+     */
+    @Benchmark
+    public void splice() throws IOException {
+        writer.writeValue(out, ApiResponse.success(RawJson.of(payload), APIResponseCode.SUCCESS,
+                BenchmarkFixtures.REQUEST_ID));
+    }
+
+    /**
+     * @implNote This method is used to validate the payload with a streaming
+     *           parser and splice it into the envelope.
+     * @throws IOException
+     */
+    @Benchmark
+    public void validateAndSplice() throws IOException {
+        writer.writeValue(out, ApiResponse.success(RawJson.of(payload).validate(), APIResponseCode.SUCCESS,
+                BenchmarkFixtures.REQUEST_ID));
+    }
+
+    /**
+     * @implNote This class is used to consume the written bytes without keeping
+     *           them.
+     */
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        private DiscardingOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+            blackhole.consume(len);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.NotificationResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.common.sdk.common_sdk.registry.ResponseCodeRegistry;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to compare the registry lookup with the linear
+ *           scan over values() it replaces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResponseCodeLookupBenchmark {
+
+    @Param({ "200", "503", "404" })
+    public int code;
+
+    private ResponseCodeRegistry registry;
+
+    /**
+     * @implNote This method is used to create the registry.
+     */
+    @Setup
+    public void setUp() {
+        registry = ResponseCodeRegistry.of(APIResponseCode.class, NotificationResponseCode.class);
+    }
+
+    /**
+     * @implNote This method is used to look the code up in the registry.
+     * @return ResponseCode
+     */
+    @Benchmark
+    public ResponseCode registry() {
+        return registry.find(code);
+    }
+
+    /**
+     * @implNote This method is used to look the code up by scanning values().
+     * @return ResponseCode
+     */
+    @Benchmark
+    public ResponseCode valuesScan() {
+        for (APIResponseCode responseCode : APIResponseCode.values()) {
+            if (responseCode.getCode() == code) {
+                return responseCode;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,143 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure the cold start of a servlet
+ *           application (Tomcat on a random port) in a fresh JVM per fork:
+ *           without the SDK, with the SDK through auto-configuration, and with
+ *           the SDK packages component scanned as consumers used to. Heap used
+ *           after a full GC and the number of loaded classes are reported as
+ *           secondary results; JMH sums them over the forks, so divide by the
+ *           fork count.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Param({ "NONE", "AUTO_CONFIGURATION", "COMPONENT_SCAN" })
+    public Setup setup;
+
+    private ConfigurableApplicationContext context;
+
+    /**
+     * @implNote This enum is used to list the compared setups.
+     */
+    public enum Setup {
+        NONE, AUTO_CONFIGURATION, COMPONENT_SCAN
+    }
+
+    /**
+     * @implNote This class is used to report the footprint of the started
+     *           application.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long heapUsedKb;
+        public long loadedClasses;
+    }
+
+    /**
+     * @implNote This method is used to start the application.
+     * @param footprint
+     * @return ConfigurableApplicationContext
+     */
+    @Benchmark
+    public ConfigurableApplicationContext start(Footprint footprint) {
+        SpringApplication application = new SpringApplication(
+                setup == Setup.COMPONENT_SCAN ? ComponentScanApplication.class : AutoConfiguredApplication.class);
+        application.setWebApplicationType(WebApplicationType.SERVLET);
+        application.setDefaultProperties(properties());
+        context = application.run();
+
+        System.gc();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        footprint.heapUsedKb = memory.getHeapMemoryUsage().getUsed() / 1024;
+        footprint.loadedClasses = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+        return context;
+    }
+
+    /**
+     * @implNote This method is used to stop the application.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    private Map<String, Object> properties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "warn");
+        if (setup != Setup.AUTO_CONFIGURATION) {
+            properties.put("spring.autoconfigure.exclude", sdkAutoConfigurations());
+        }
+        return properties;
+    }
+
+    private static String sdkAutoConfigurations() {
+        return ImportCandidates.load(AutoConfiguration.class, StartupBenchmark.class.getClassLoader())
+                .getCandidates()
+                .stream()
+                .filter(name -> name.startsWith("com.common.sdk."))
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * @implNote This class is used as the application getting the SDK through
+     *           auto-configuration, or nothing when it is excluded.
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    static class AutoConfiguredApplication {
+    }
+
+    /**
+     * @implNote This class is used as the application scanning the SDK packages.
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackages = "com.common.sdk.common_sdk", excludeFilters = @ComponentScan.Filter(
+            type = FilterType.REGEX, pattern = "com\\.common\\.sdk\\.common_sdk\\.benchmarks\\..*"))
+    static class ComponentScanApplication {
+    }
+}
@@ -0,0 +1,92 @@
+package com.common.sdk.common_sdk.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.common.sdk.common_sdk.models.enums.SpanKind;
+import com.common.sdk.common_sdk.tracing.Span;
+import com.common.sdk.common_sdk.tracing.SpanRingBuffer;
+import com.common.sdk.common_sdk.tracing.TraceContext;
+import com.common.sdk.common_sdk.tracing.Tracer;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to measure the tracing work of one request:
+ *           parsing the incoming traceparent, the server span made current, a
+ *           client span whose traceparent is sent downstream, and ending both,
+ *           for a trace that is not sampled vs. one that is recorded into the
+ *           span ring buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TracingBenchmark {
+
+    private static final String SAMPLED = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+    private static final String UNSAMPLED = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00";
+
+    private final List<Span> drained = new ArrayList<>();
+    private SpanRingBuffer ring;
+    private Tracer tracer;
+
+    /**
+     * @implNote This method is used to create the tracer.
+     */
+    @Setup
+    public void setUp() {
+        ring = new SpanRingBuffer(1024);
+        tracer = new Tracer(0, ring);
+    }
+
+    /**
+     * @implNote This method is used to trace a request of an unsampled trace.
+     * @return String
+     */
+    @Benchmark
+    public String unsampled() {
+        return request(UNSAMPLED);
+    }
+
+    /**
+     * @implNote This method is used to trace a request of a sampled trace and
+     *           drain its spans, as the export thread would.
+     * @return String
+     */
+    @Benchmark
+    public String sampled() {
+        String traceparent = request(SAMPLED);
+        ring.drain(drained, 2);
+        drained.clear();
+        return traceparent;
+    }
+
+    private String request(String traceparent) {
+        Span server = tracer.startServerSpan("GET", TraceContext.parse(traceparent, null));
+        try (Span.Scope scope = server.makeCurrent()) {
+            Span client = Span.current().startChild("GET", SpanKind.CLIENT);
+            String downstream = client.getContext().traceparent();
+            client.setAttribute("http.response.status_code", 200).end();
+            server.updateName("GET /orders/{id}").setAttribute("http.route", "/orders/{id}");
+            return downstream;
+        } finally {
+            server.end();
+        }
+    }
+}
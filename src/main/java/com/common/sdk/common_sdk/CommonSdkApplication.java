@@ -1,13 +0,0 @@
-package com.common.sdk.common_sdk;
-
-import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
-
-@SpringBootApplication
-public class CommonSdkApplication {
-
-	public static void main(String[] args) {
-		SpringApplication.run(CommonSdkApplication.class, args);
-	}
-
-}
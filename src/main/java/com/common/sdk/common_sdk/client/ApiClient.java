@@ -0,0 +1,305 @@
+package com.common.sdk.common_sdk.client;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.ObjectUtils;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.exception.BaseException;
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.SpanKind;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.common.sdk.common_sdk.tracing.Span;
+import com.common.sdk.common_sdk.utils.CommonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to call services that answer with the
+ *           {@link GenericApiResponse} envelope. Requests carry the current
+ *           correlation id and, inside a traced request, the W3C trace context
+ *           of a client span timing the call. The envelope is decoded with a reader cached per
+ *           data type, and a failure envelope is thrown as a
+ *           {@link BaseException} with the remote code and message. Clients
+ *           created by one {@link ApiClientFactory} share its HTTP/2
+ *           connections.
+ */
+public class ApiClient implements ApplicationConstants {
+
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String PUT = "PUT";
+    private static final String DELETE = "DELETE";
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final Duration requestTimeout;
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    /**
+     * @implNote This constructor is used to create the client for a base url.
+     * @param httpClient
+     * @param baseUrl
+     * @param objectMapper
+     * @param requestTimeout
+     */
+    public ApiClient(HttpClient httpClient, String baseUrl, ObjectMapper objectMapper, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * @implNote This method is used to send a GET request.
+     * @param path
+     * @param dataType
+     * @return GenericApiResponse<T>
+     */
+    public <T> GenericApiResponse<T> get(String path, Class<T> dataType) {
+        return send(GET, path, null, dataType);
+    }
+
+    /**
+     * @implNote This method is used to send a GET request for a generic data
+     *           type.
+     * @param path
+     * @param dataType
+     * @return GenericApiResponse<T>
+     */
+    public <T> GenericApiResponse<T> get(String path, TypeReference<T> dataType) {
+        return send(GET, path, null, dataType.getType());
+    }
+
+    /**
+     * @implNote This method is used to send a POST request.
+     * @param path
+     * @param body
+     * @param dataType
+     * @return GenericApiResponse<T>
+     */
+    public <T> GenericApiResponse<T> post(String path, Object body, Class<T> dataType) {
+        return send(POST, path, body, dataType);
+    }
+
+    /**
+     * @implNote This method is used to send a POST request for a generic data
+     *           type.
+     * @param path
+     * @param body
+     * @param dataType
+     * @return GenericApiResponse<T>
+     */
+    public <T> GenericApiResponse<T> post(String path, Object body, TypeReference<T> dataType) {
+        return send(POST, path, body, dataType.getType());
+    }
+
+    /**
+     * @implNote This method is used to send a PUT request.
+     * @param path
+     * @param body
+     * @param dataType
+     * @return GenericApiResponse<T>
+     */
+    public <T> GenericApiResponse<T> put(String path, Object body, Class<T> dataType) {
+        return send(PUT, path, body, dataType);
+    }
+
+    /**
+     * @implNote This method is used to send a DELETE request.
+     * @param path
+     * @param dataType
+     * @return GenericApiResponse<T>
+     */
+    public <T> GenericApiResponse<T> delete(String path, Class<T> dataType) {
+        return send(DELETE, path, null, dataType);
+    }
+
+    /**
+     * @implNote This method is used to send a request and block for the
+     *           envelope. On a virtual thread the wait only parks the thread.
+     * @param method
+     * @param path
+     * @param body
+     * @param dataType
+     * @return GenericApiResponse<T>
+     * @throws BaseException for a failure envelope or a failed call
+     */
+    public <T> GenericApiResponse<T> send(String method, String path, Object body, Type dataType) {
+        Span span = clientSpan(method);
+        HttpRequest request = request(method, path, body, span);
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            endClientSpan(span, request, 0, e);
+            throw callFailed(request, e);
+        } catch (InterruptedException e) {
+            endClientSpan(span, request, 0, e);
+            Thread.currentThread().interrupt();
+            throw callFailed(request, e);
+        }
+        endClientSpan(span, request, response.statusCode(), null);
+        return decode(request, response, dataType);
+    }
+
+    /**
+     * @implNote This method is used to send a request without blocking. The
+     *           future fails with a {@link CompletionException} wrapping the
+     *           {@link BaseException}.
+     * @param method
+     * @param path
+     * @param body
+     * @param dataType
+     * @return CompletableFuture<GenericApiResponse<T>>
+     */
+    public <T> CompletableFuture<GenericApiResponse<T>> sendAsync(String method, String path, Object body,
+            Class<T> dataType) {
+        return dispatchAsync(method, path, body, dataType);
+    }
+
+    /**
+     * @implNote This method is used to send a request for a generic data type
+     *           without blocking.
+     * @param method
+     * @param path
+     * @param body
+     * @param dataType
+     * @return CompletableFuture<GenericApiResponse<T>>
+     */
+    public <T> CompletableFuture<GenericApiResponse<T>> sendAsync(String method, String path, Object body,
+            TypeReference<T> dataType) {
+        return dispatchAsync(method, path, body, dataType.getType());
+    }
+
+    private <T> CompletableFuture<GenericApiResponse<T>> dispatchAsync(String method, String path, Object body,
+            Type dataType) {
+        Span span = clientSpan(method);
+        HttpRequest request = request(method, path, body, span);
+        return httpClient.sendAsync(request, BodyHandlers.ofByteArray()).handle((response, failure) -> {
+            if (failure != null) {
+                Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                endClientSpan(span, request, 0, cause);
+                throw callFailed(request, cause);
+            }
+            endClientSpan(span, request, response.statusCode(), null);
+            return decode(request, response, dataType);
+        });
+    }
+
+    private static Span clientSpan(String method) {
+        Span current = Span.current();
+        return current != null ? current.startChild(method, SpanKind.CLIENT) : null;
+    }
+
+    private static void endClientSpan(Span span, HttpRequest request, int status, Throwable failure) {
+        if (span == null || !span.isRecording()) {
+            return;
+        }
+        span.setAttribute("http.request.method", request.method()).setAttribute("url.full", request.uri().toString());
+        if (failure != null) {
+            span.recordError(failure);
+        } else {
+            span.setAttribute("http.response.status_code", status);
+            if (status >= 500) {
+                span.markError();
+            }
+        }
+        span.end();
+    }
+
+    private HttpRequest request(String method, String path, Object body, Span span) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(path.startsWith("/") ? baseUrl + path
+                : baseUrl + "/" + path))
+                .timeout(requestTimeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        String requestId = CommonUtils.getCurrentRequestId();
+        if (!ObjectUtils.isEmpty(requestId)) {
+            builder.header(CORRELATION_ID, requestId);
+        }
+        if (span != null) {
+            builder.header(TRACEPARENT, span.getContext().traceparent());
+            if (span.getContext().getTraceState() != null) {
+                builder.header(TRACESTATE, span.getContext().getTraceState());
+            }
+        }
+        if (body == null) {
+            return builder.method(method, BodyPublishers.noBody()).build();
+        }
+        try {
+            return builder.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .method(method, BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Request body of " + method + " " + path + " cannot be serialized",
+                    e);
+        }
+    }
+
+    private <T> GenericApiResponse<T> decode(HttpRequest request, HttpResponse<byte[]> response, Type dataType) {
+        byte[] body = response.body();
+        int status = response.statusCode();
+        if (body.length == 0) {
+            if (status < 300) {
+                return ApiResponse.success(APIResponseCode.SUCCESS,
+                        request.headers().firstValue(CORRELATION_ID).orElse(null));
+            }
+            throw BaseException.stackless(status, unexpectedResponse(request, status));
+        }
+
+        ApiResponse<T> envelope;
+        try {
+            envelope = reader(dataType).readValue(body);
+        } catch (IOException e) {
+            throw new BaseException(status >= 400 ? status : APIResponseCode.INTERNAL_ERROR.getCode(),
+                    unexpectedResponse(request, status), e);
+        }
+        if (!envelope.isSuccess()) {
+            throw BaseException.stackless(envelope.getCode() != null ? envelope.getCode() : status,
+                    envelope.getErrorMessage());
+        }
+        return envelope;
+    }
+
+    private ObjectReader reader(Type dataType) {
+        ObjectReader reader = readers.get(dataType);
+        if (reader == null) {
+            reader = readers.computeIfAbsent(dataType, type -> objectMapper
+                    .readerFor(objectMapper.getTypeFactory().constructParametricType(ApiResponse.class,
+                            objectMapper.getTypeFactory().constructType(type)))
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        }
+        return reader;
+    }
+
+    private static BaseException callFailed(HttpRequest request, Throwable cause) {
+        return new BaseException(APIResponseCode.INTERNAL_ERROR.getCode(),
+                "Call to " + request.method() + " " + request.uri() + " failed: " + cause, cause);
+    }
+
+    private static String unexpectedResponse(HttpRequest request, int status) {
+        return "Unexpected response from " + request.method() + " " + request.uri() + " (HTTP " + status + ")";
+    }
+}
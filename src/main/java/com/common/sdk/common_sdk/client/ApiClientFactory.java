@@ -0,0 +1,94 @@
+package com.common.sdk.common_sdk.client;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to create {@link ApiClient}s that share one JDK
+ *           HttpClient. The HttpClient prefers HTTP/2, so calls to the same
+ *           host are multiplexed over reused connections, and runs its
+ *           response handling on virtual threads. The HttpClient is built on
+ *           first use, because building it initializes TLS, which an
+ *           application that never calls another service should not pay for
+ *           at startup.
+ */
+public class ApiClientFactory implements DisposableBean {
+
+    private final Duration connectTimeout;
+    @Getter
+    private final ObjectMapper objectMapper;
+    @Getter
+    private final Duration requestTimeout;
+    private volatile ExecutorService executor;
+    private volatile HttpClient httpClient;
+
+    /**
+     * @implNote This constructor is used to create the factory.
+     * @param objectMapper
+     * @param connectTimeout
+     * @param requestTimeout
+     */
+    public ApiClientFactory(ObjectMapper objectMapper, Duration connectTimeout, Duration requestTimeout) {
+        this.connectTimeout = connectTimeout;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * @implNote This method is used to get the shared HttpClient, building it on
+     *           first use.
+     * @return HttpClient
+     */
+    public HttpClient getHttpClient() {
+        HttpClient client = httpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = httpClient;
+                if (client == null) {
+                    executor = Executors.newVirtualThreadPerTaskExecutor();
+                    client = HttpClient.newBuilder()
+                            .version(HttpClient.Version.HTTP_2)
+                            .connectTimeout(connectTimeout)
+                            .followRedirects(HttpClient.Redirect.NORMAL)
+                            .executor(executor)
+                            .build();
+                    httpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * @implNote This method is used to create a client for a base url, e.g.
+     *           http://orders-service/api/v1.
+     * @param baseUrl
+     * @return ApiClient
+     */
+    public ApiClient create(String baseUrl) {
+        return new ApiClient(getHttpClient(), baseUrl, objectMapper, requestTimeout);
+    }
+
+    /**
+     * @implNote This method is used to stop the shared HttpClient and its
+     *           executor.
+     */
+    @Override
+    public synchronized void destroy() {
+        if (httpClient != null) {
+            httpClient.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+}
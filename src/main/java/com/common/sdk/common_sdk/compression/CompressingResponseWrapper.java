@@ -0,0 +1,281 @@
+package com.common.sdk.common_sdk.compression;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+import org.springframework.http.HttpHeaders;
+
+import com.common.sdk.common_sdk.models.enums.ContentEncoding;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to compress the response body once it grows
+ *           past the threshold. The start of the body is held in the buffer of
+ *           a pooled compressor; a body that ends within it is written as it
+ *           is with its length. Past the threshold the response is compressed
+ *           if its content type is compressible, it is not already encoded or
+ *           a partial response, and it is not being streamed from an async
+ *           request; otherwise the body passes through unchanged. The content
+ *           length is held back until the choice is made. A strong entity tag
+ *           of a compressed response is made weak, as the bytes sent are no
+ *           longer the ones it was computed for.
+ */
+final class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    private static final int BUFFERING = 0;
+    private static final int COMPRESSING = 1;
+    private static final int PASSING = 2;
+    private static final int DONE = 3;
+
+    private final HttpServletRequest request;
+    private final CompressionFilter filter;
+    private final ContentEncoding encoding;
+    private int state = BUFFERING;
+    private Compressor compressor;
+    private int count;
+    private long declaredLength = -1;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CompressingResponseWrapper(HttpServletRequest request, HttpServletResponse response, CompressionFilter filter,
+            ContentEncoding encoding) {
+        super(response);
+        this.request = request;
+        this.filter = filter;
+        this.encoding = encoding;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CompressingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            String charset = getCharacterEncoding();
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), Charset.forName(charset)));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (state == PASSING) {
+            super.setContentLengthLong(len);
+        } else {
+            declaredLength = len;
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            super.setHeader(name, value);
+        } else if (value != null) {
+            setContentLengthLong(Long.parseLong(value));
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setHeader(name, value);
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (outputStream != null) {
+            outputStream.flush();
+        }
+        if (state == PASSING) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        if (state == BUFFERING) {
+            count = 0;
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        if (state == BUFFERING) {
+            count = 0;
+            declaredLength = -1;
+        }
+    }
+
+    /**
+     * @implNote This method is used to write what is still held and end the
+     *           body once the request is complete, and to return the
+     *           compressor to the pool.
+     * @throws IOException
+     */
+    void finish() throws IOException {
+        if (state == DONE) {
+            return;
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+        try {
+            if (state == BUFFERING && compressor != null) {
+                super.setContentLengthLong(count);
+                super.getOutputStream().write(compressor.buffer(), 0, count);
+                filter.recordSkipped();
+            } else if (state == COMPRESSING) {
+                compressor.finish();
+                filter.recordCompressed(compressor.bytesIn(), compressor.bytesOut(), compressor.nanos());
+            } else if (state == PASSING) {
+                filter.recordSkipped();
+            } else if (declaredLength >= 0) {
+                super.setContentLengthLong(declaredLength);
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * @implNote This method is used to return the compressor to the pool when
+     *           the request failed.
+     */
+    void release() {
+        state = DONE;
+        if (compressor != null) {
+            filter.getPool().release(compressor);
+            compressor = null;
+        }
+    }
+
+    private void write(byte[] bytes, int offset, int length) throws IOException {
+        if (state == BUFFERING) {
+            if (compressor == null) {
+                compressor = filter.getPool().acquire(encoding);
+            }
+            if (count + length <= compressor.buffer().length) {
+                System.arraycopy(bytes, offset, compressor.buffer(), count, length);
+                count += length;
+                return;
+            }
+            choose();
+        }
+        if (state == COMPRESSING) {
+            compressor.write(bytes, offset, length);
+        } else if (state == PASSING) {
+            super.getOutputStream().write(bytes, offset, length);
+        } else {
+            throw new IOException("Response body written after the response completed");
+        }
+    }
+
+    private void flush() throws IOException {
+        // synchronous bodies are held until they pass the threshold or the
+        // request completes, only streamed bodies are sent on every flush
+        if (state == BUFFERING && request.isAsyncStarted()) {
+            pass();
+        }
+        if (state == PASSING) {
+            super.getOutputStream().flush();
+        } else if (state == COMPRESSING && request.isAsyncStarted()) {
+            compressor.flush();
+        }
+    }
+
+    private void choose() throws IOException {
+        int status = getStatus();
+        if (request.isAsyncStarted() || status == SC_PARTIAL_CONTENT || status == SC_NO_CONTENT
+                || getHeader(HttpHeaders.CONTENT_ENCODING) != null || getHeader(HttpHeaders.CONTENT_RANGE) != null
+                || !filter.isCompressible(getContentType())) {
+            pass();
+            return;
+        }
+        state = COMPRESSING;
+        super.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+        super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String etag = getHeader(HttpHeaders.ETAG);
+        if (etag != null && !etag.startsWith("W/")) {
+            super.setHeader(HttpHeaders.ETAG, "W/" + etag);
+        }
+        compressor.start(super.getOutputStream());
+        compressor.write(compressor.buffer(), 0, count);
+    }
+
+    private void pass() throws IOException {
+        state = PASSING;
+        if (declaredLength >= 0) {
+            super.setContentLengthLong(declaredLength);
+        }
+        if (compressor != null && count > 0) {
+            super.getOutputStream().write(compressor.buffer(), 0, count);
+        }
+    }
+
+    /**
+     * @implNote This class is used to route the body through the wrapper.
+     */
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final byte[] single = new byte[1];
+
+        private CompressingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            single[0] = (byte) b;
+            CompressingResponseWrapper.this.write(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            CompressingResponseWrapper.this.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            CompressingResponseWrapper.this.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
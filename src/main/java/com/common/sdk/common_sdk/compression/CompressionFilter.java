@@ -0,0 +1,198 @@
+package com.common.sdk.common_sdk.compression;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import com.common.sdk.common_sdk.models.enums.ContentEncoding;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to compress response bodies with gzip or
+ *           deflate, whichever the Accept-Encoding header prefers. Bodies up
+ *           to the size threshold, which covers most error envelopes, are sent
+ *           as they are. Deflaters and buffers come from a shared pool.
+ *           Asynchronously completed responses are finished on their last
+ *           dispatch; bodies streamed while the request is asynchronous are
+ *           not compressed.
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+
+    private static final String HEAD = "HEAD";
+    private static final int MAX_CACHED_CONTENT_TYPES = 64;
+
+    private final List<MediaType> mimeTypes;
+    @Getter(AccessLevel.PACKAGE)
+    private final CompressorPool pool;
+    private final Map<String, Boolean> compressible = new ConcurrentHashMap<>();
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    /**
+     * @implNote This constructor is used to create the filter.
+     * @param threshold bodies larger than this many bytes are compressed
+     * @param level Deflater level, 1 (fastest) to 9 (smallest)
+     * @param mimeTypes compressible content types, wildcards allowed
+     * @param poolSize idle compressors kept per encoding
+     */
+    public CompressionFilter(int threshold, int level, List<String> mimeTypes, int poolSize) {
+        this.mimeTypes = MediaType.parseMediaTypes(mimeTypes);
+        this.pool = new CompressorPool(poolSize, level, threshold);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    /**
+     * @implNote This method is used to compress the response when the client
+     *           accepts it.
+     * @param request
+     * @param response
+     * @param filterChain
+     * @throws ServletException
+     * @throws IOException
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CompressingResponseWrapper wrapper = WebUtils.getNativeResponse(response, CompressingResponseWrapper.class);
+        if (wrapper == null) {
+            ContentEncoding encoding = HEAD.equals(request.getMethod()) ? null
+                    : negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            if (encoding == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            wrapper = new CompressingResponseWrapper(request, response, this, encoding);
+        }
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            completed = true;
+        } finally {
+            if (!completed) {
+                wrapper.release();
+            }
+        }
+        if (!request.isAsyncStarted()) {
+            wrapper.finish();
+        }
+    }
+
+    /**
+     * @implNote This method is used to get a snapshot of the compression
+     *           counters.
+     * @return CompressionStats
+     */
+    public CompressionStats getStats() {
+        return new CompressionStats(compressed.sum(), skipped.sum(), bytesIn.sum(), bytesOut.sum(), nanos.sum());
+    }
+
+    /**
+     * @implNote This method is used to pick the encoding of an Accept-Encoding
+     *           header: the one with the highest quality, gzip on a tie, none
+     *           when neither is acceptable.
+     * @param acceptEncoding
+     * @return ContentEncoding, null to send the body as it is
+     */
+    static ContentEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        double gzip = -1;
+        double deflate = -1;
+        double any = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            int semicolon = coding.indexOf(';');
+            String name = (semicolon < 0 ? coding : coding.substring(0, semicolon)).trim();
+            double quality = semicolon < 0 ? 1 : quality(coding.substring(semicolon + 1));
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                gzip = Math.max(gzip, quality);
+            } else if (name.equalsIgnoreCase("deflate")) {
+                deflate = Math.max(deflate, quality);
+            } else if (name.equals("*")) {
+                any = quality;
+            }
+        }
+        gzip = gzip < 0 ? any : gzip;
+        deflate = deflate < 0 ? any : deflate;
+        if (gzip > 0 && gzip >= deflate) {
+            return ContentEncoding.GZIP;
+        }
+        return deflate > 0 ? ContentEncoding.DEFLATE : null;
+    }
+
+    /**
+     * @implNote This method is used to check if a content type is one of the
+     *           compressible types. Results are cached per content type.
+     * @param contentType
+     * @return boolean
+     */
+    boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        Boolean cached = compressible.get(contentType);
+        if (cached != null) {
+            return cached;
+        }
+        boolean result;
+        try {
+            MediaType type = MediaType.parseMediaType(contentType);
+            result = mimeTypes.stream().anyMatch(mimeType -> mimeType.includes(type));
+        } catch (InvalidMediaTypeException e) {
+            result = false;
+        }
+        if (compressible.size() < MAX_CACHED_CONTENT_TYPES) {
+            compressible.put(contentType, result);
+        }
+        return result;
+    }
+
+    void recordCompressed(long in, long out, long elapsedNanos) {
+        compressed.increment();
+        bytesIn.add(in);
+        bytesOut.add(out);
+        nanos.add(elapsedNanos);
+    }
+
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    private static double quality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(trimmed.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,22 @@
+package com.common.sdk.common_sdk.compression;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This record is used to expose a snapshot of the compression
+ *           counters. Compressed responses account for the bytes in and out
+ *           and the time spent compressing; skipped responses were below the
+ *           threshold, not compressible or streamed.
+ */
+public record CompressionStats(long compressed, long skipped, long bytesIn, long bytesOut, long compressionNanos) {
+
+    /**
+     * @implNote This method is used to get the compressed size as a share of
+     *           the original size.
+     * @return double, 1 before the first compressed response
+     */
+    public double ratio() {
+        return bytesIn > 0 ? (double) bytesOut / bytesIn : 1;
+    }
+}
@@ -0,0 +1,163 @@
+package com.common.sdk.common_sdk.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import com.common.sdk.common_sdk.models.enums.ContentEncoding;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to compress one response at a time into an
+ *           output stream, in the gzip or zlib format. It owns the Deflater,
+ *           the output chunk and the buffer holding the start of the body
+ *           until the size threshold is reached, and is reset and returned to
+ *           the {@link CompressorPool} after every response.
+ */
+final class Compressor {
+
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+    private static final int GZIP_FRAMING = 18;
+
+    private final ContentEncoding encoding;
+    private final Deflater deflater;
+    private final CRC32 crc;
+    private final byte[] output;
+    private final byte[] buffer;
+    private OutputStream out;
+    private long nanos;
+
+    Compressor(ContentEncoding encoding, int level, int bufferSize, int outputSize) {
+        this.encoding = encoding;
+        this.deflater = new Deflater(level, encoding == ContentEncoding.GZIP);
+        this.crc = encoding == ContentEncoding.GZIP ? new CRC32() : null;
+        this.output = new byte[outputSize];
+        this.buffer = new byte[bufferSize];
+    }
+
+    ContentEncoding getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * @implNote This method is used to get the buffer holding the start of the
+     *           body.
+     * @return byte[]
+     */
+    byte[] buffer() {
+        return buffer;
+    }
+
+    /**
+     * @implNote This method is used to start compressing into a stream.
+     * @param target
+     * @throws IOException
+     */
+    void start(OutputStream target) throws IOException {
+        this.out = target;
+        if (crc != null) {
+            target.write(GZIP_HEADER);
+        }
+    }
+
+    /**
+     * @implNote This method is used to compress bytes of the body.
+     * @param bytes
+     * @param offset
+     * @param length
+     * @throws IOException
+     */
+    void write(byte[] bytes, int offset, int length) throws IOException {
+        long start = System.nanoTime();
+        if (crc != null) {
+            crc.update(bytes, offset, length);
+        }
+        deflater.setInput(bytes, offset, length);
+        while (!deflater.needsInput()) {
+            drain(Deflater.NO_FLUSH);
+        }
+        nanos += System.nanoTime() - start;
+    }
+
+    /**
+     * @implNote This method is used to send everything compressed so far, so a
+     *           streamed body reaches the client.
+     * @throws IOException
+     */
+    void flush() throws IOException {
+        long start = System.nanoTime();
+        while (drain(Deflater.SYNC_FLUSH) == output.length) {
+            // the chunk was full, more output is pending
+        }
+        nanos += System.nanoTime() - start;
+        out.flush();
+    }
+
+    /**
+     * @implNote This method is used to end the compressed body.
+     * @throws IOException
+     */
+    void finish() throws IOException {
+        long start = System.nanoTime();
+        deflater.finish();
+        while (!deflater.finished()) {
+            drain(Deflater.NO_FLUSH);
+        }
+        if (crc != null) {
+            writeIntLe(crc.getValue());
+            writeIntLe(deflater.getBytesRead());
+        }
+        nanos += System.nanoTime() - start;
+    }
+
+    long bytesIn() {
+        return deflater.getBytesRead();
+    }
+
+    long bytesOut() {
+        return deflater.getBytesWritten() + (crc != null ? GZIP_FRAMING : 0);
+    }
+
+    long nanos() {
+        return nanos;
+    }
+
+    /**
+     * @implNote This method is used to make the compressor ready for the next
+     *           response.
+     */
+    void reset() {
+        deflater.reset();
+        if (crc != null) {
+            crc.reset();
+        }
+        out = null;
+        nanos = 0;
+    }
+
+    /**
+     * @implNote This method is used to release the native memory of the
+     *           Deflater.
+     */
+    void end() {
+        deflater.end();
+    }
+
+    private int drain(int flush) throws IOException {
+        int length = deflater.deflate(output, 0, output.length, flush);
+        if (length > 0) {
+            out.write(output, 0, length);
+        }
+        return length;
+    }
+
+    private void writeIntLe(long value) throws IOException {
+        out.write((int) (value & 0xFF));
+        out.write((int) (value >> 8 & 0xFF));
+        out.write((int) (value >> 16 & 0xFF));
+        out.write((int) (value >> 24 & 0xFF));
+    }
+}
@@ -0,0 +1,57 @@
+package com.common.sdk.common_sdk.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+import com.common.sdk.common_sdk.models.enums.ContentEncoding;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to reuse compressors across responses. A
+ *           Deflater holds a few hundred KB of native memory and is costly to
+ *           set up, so idle ones are kept per encoding up to the capacity;
+ *           compressors returned to a full pool are ended. The pool is shared
+ *           rather than per thread so virtual threads do not each create one.
+ */
+final class CompressorPool {
+
+    private static final int OUTPUT_SIZE = 8192;
+
+    private final ArrayBlockingQueue<Compressor> gzip;
+    private final ArrayBlockingQueue<Compressor> deflate;
+    private final int level;
+    private final int bufferSize;
+
+    CompressorPool(int capacity, int level, int bufferSize) {
+        this.gzip = new ArrayBlockingQueue<>(capacity);
+        this.deflate = new ArrayBlockingQueue<>(capacity);
+        this.level = level;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * @implNote This method is used to take an idle compressor or create one.
+     * @param encoding
+     * @return Compressor
+     */
+    Compressor acquire(ContentEncoding encoding) {
+        Compressor compressor = queue(encoding).poll();
+        return compressor != null ? compressor : new Compressor(encoding, level, bufferSize, OUTPUT_SIZE);
+    }
+
+    /**
+     * @implNote This method is used to return a compressor after a response.
+     * @param compressor
+     */
+    void release(Compressor compressor) {
+        compressor.reset();
+        if (!queue(compressor.getEncoding()).offer(compressor)) {
+            compressor.end();
+        }
+    }
+
+    private ArrayBlockingQueue<Compressor> queue(ContentEncoding encoding) {
+        return encoding == ContentEncoding.GZIP ? gzip : deflate;
+    }
+}
@@ -0,0 +1,74 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.common.sdk.common_sdk.correlation.CorrelationTaskDecorator;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure Spring MVC async request
+ *           processing when common.sdk.async.enabled is true. Async work runs
+ *           on an executor starting a virtual thread per task, decorated with
+ *           the correlation id of the request.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(name = "org.springframework.web.servlet.config.annotation.WebMvcConfigurer")
+@ConditionalOnProperty(prefix = "common.sdk.async", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CommonSdkProperties.class)
+public class AsyncConfiguration {
+
+    public static final String ASYNC_TASK_EXECUTOR_BEAN_NAME = "sdkAsyncTaskExecutor";
+
+    /**
+     * @implNote This method is used to create the async executor.
+     * @param properties
+     * @return AsyncTaskExecutor
+     */
+    @Bean(name = ASYNC_TASK_EXECUTOR_BEAN_NAME)
+    @ConditionalOnMissingBean(name = ASYNC_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor sdkAsyncTaskExecutor(CommonSdkProperties properties) {
+        CommonSdkProperties.Async async = properties.getAsync();
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(async.getThreadNamePrefix());
+        executor.setVirtualThreads(async.isVirtualThreads());
+        executor.setConcurrencyLimit(async.getConcurrencyLimit());
+        executor.setTaskDecorator(new CorrelationTaskDecorator());
+        return executor;
+    }
+
+    /**
+     * @implNote This method is used to hand the executor and the request timeout
+     *           to Spring MVC. It runs after the Spring Boot defaults, so it
+     *           replaces the applicationTaskExecutor.
+     * @param executor
+     * @param properties
+     * @return WebMvcConfigurer
+     */
+    @Bean
+    public WebMvcConfigurer sdkAsyncSupportConfigurer(
+            @Qualifier(ASYNC_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor executor, CommonSdkProperties properties) {
+        CommonSdkProperties.Async async = properties.getAsync();
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(executor);
+                if (async.getRequestTimeout() != null) {
+                    configurer.setDefaultTimeout(async.getRequestTimeout().toMillis());
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import com.common.sdk.common_sdk.exception.ExceptionLogAggregator;
+import com.common.sdk.common_sdk.exception.ExceptionMapper;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.services.BatchExecutor;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure batch execution in the
+ *           application.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(CommonSdkProperties.class)
+public class BatchConfiguration {
+
+    /**
+     * @implNote This method is used to create the batch executor.
+     * @param properties
+     * @param metrics
+     * @param logAggregator
+     * @param exceptionMapper
+     * @return BatchExecutor
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public BatchExecutor batchExecutor(CommonSdkProperties properties, ResponseMetrics metrics,
+            ExceptionLogAggregator logAggregator, ObjectProvider<ExceptionMapper> exceptionMapper) {
+        CommonSdkProperties.Batch batch = properties.getBatch();
+        return new BatchExecutor(batch.getMaxConcurrency(), batch.getMaxOperations(), batch.getTimeout(), metrics,
+                logAggregator, exceptionMapper.getIfAvailable(ExceptionMapper::defaults));
+    }
+}
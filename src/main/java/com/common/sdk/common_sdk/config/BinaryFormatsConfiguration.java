@@ -0,0 +1,105 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.common.sdk.common_sdk.converter.CompactCborHttpMessageConverter;
+import com.common.sdk.common_sdk.serializer.CommonSdkJacksonModule;
+import com.common.sdk.common_sdk.serializer.CompactEnvelopeModule;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to register binary message converters for the
+ *           envelope. Spring MVC picks the converter from the Accept header:
+ *           application/cbor, application/x-jackson-smile, or
+ *           application/vnd.common-sdk.compact+cbor for the compact layout with
+ *           numeric keys. Every converter serializes with the SDK Jackson
+ *           module, so controller and exception handler envelopes work in every
+ *           format.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BinaryFormatsConfiguration {
+
+    /**
+     * @implNote This class is used to register the CBOR converters.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(CBORFactory.class)
+    static class CborConfiguration {
+
+        /**
+         * @implNote This method is used to create the CBOR converter.
+         * @param builder
+         * @return MappingJackson2CborHttpMessageConverter
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+                ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+            return new MappingJackson2CborHttpMessageConverter(binaryMapper(builder, new CBORFactory()));
+        }
+
+        /**
+         * @implNote This method is used to create the compact CBOR converter.
+         * @param builder
+         * @return CompactCborHttpMessageConverter
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public CompactCborHttpMessageConverter compactCborHttpMessageConverter(
+                ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+            ObjectMapper objectMapper = binaryMapper(builder, new CBORFactory());
+            objectMapper.registerModule(new CompactEnvelopeModule());
+            return new CompactCborHttpMessageConverter(objectMapper);
+        }
+    }
+
+    /**
+     * @implNote This class is used to register the Smile converter.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SmileFactory.class)
+    static class SmileConfiguration {
+
+        /**
+         * @implNote This method is used to create the Smile converter.
+         * @param builder
+         * @return MappingJackson2SmileHttpMessageConverter
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+                ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+            return new MappingJackson2SmileHttpMessageConverter(binaryMapper(builder, new SmileFactory()));
+        }
+    }
+
+    /**
+     * @implNote This method is used to build a mapper for a binary format from
+     *           the application's Jackson settings and the SDK module.
+     * @param builder
+     * @param factory
+     * @return ObjectMapper
+     */
+    static ObjectMapper binaryMapper(ObjectProvider<Jackson2ObjectMapperBuilder> builder,
+            JsonFactory factory) {
+        Jackson2ObjectMapperBuilder mapperBuilder = builder.getIfAvailable(Jackson2ObjectMapperBuilder::json);
+        // duplicate registrations are ignored when the builder already added the module bean
+        return mapperBuilder.factory(factory).build().registerModule(new CommonSdkJacksonModule());
+    }
+}
@@ -0,0 +1,40 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import com.common.sdk.common_sdk.client.ApiClientFactory;
+import com.common.sdk.common_sdk.serializer.CommonSdkJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure the envelope client in the
+ *           application.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(CommonSdkProperties.class)
+public class ClientConfiguration {
+
+    /**
+     * @implNote This method is used to create the client factory with the
+     *           application ObjectMapper.
+     * @param objectMapper
+     * @param properties
+     * @return ApiClientFactory
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ApiClientFactory apiClientFactory(ObjectProvider<ObjectMapper> objectMapper,
+            CommonSdkProperties properties) {
+        CommonSdkProperties.Client client = properties.getClient();
+        return new ApiClientFactory(
+                objectMapper.getIfAvailable(() -> new ObjectMapper().registerModule(new CommonSdkJacksonModule())),
+                client.getConnectTimeout(), client.getRequestTimeout());
+    }
+}
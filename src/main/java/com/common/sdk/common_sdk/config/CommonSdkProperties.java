@@ -0,0 +1,389 @@
+package com.common.sdk.common_sdk.config;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import com.common.sdk.common_sdk.models.enums.CorrelationIdStrategy;
+import com.common.sdk.common_sdk.models.enums.LimitStrategy;
+import com.common.sdk.common_sdk.models.enums.SpanExporterType;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to bind the common.sdk.* properties of the
+ *           application.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "common.sdk")
+public class CommonSdkProperties {
+
+    private Correlation correlation = new Correlation();
+    private ExceptionHandling exception = new ExceptionHandling();
+    private ResponseCodes responseCodes = new ResponseCodes();
+    private Client client = new Client();
+    private Batch batch = new Batch();
+    private Replay replay = new Replay();
+    private Limiter limiter = new Limiter();
+    private Latency latency = new Latency();
+    private Async async = new Async();
+    private Tracing tracing = new Tracing();
+    private Compression compression = new Compression();
+    private ETag etag = new ETag();
+
+    /**
+     * @implNote This class is used to bind the common.sdk.correlation.*
+     *           properties.
+     */
+    @Getter
+    @Setter
+    public static class Correlation {
+        /**
+         * Generator used when a request arrives without an x-correlation-id.
+         */
+        private CorrelationIdStrategy idStrategy = CorrelationIdStrategy.UUID;
+        /**
+         * Node id for the node-counter strategy, negative picks a random one.
+         */
+        private int nodeId = -1;
+    }
+
+    /**
+     * @implNote This class is used to bind the common.sdk.exception.*
+     *           properties.
+     */
+    @Getter
+    @Setter
+    public static class ExceptionHandling {
+        /**
+         * Capture the stack trace of roughly one in N stackless exceptions, 0
+         * disables sampling.
+         */
+        private int stackTraceSampleRate = 0;
+        /**
+         * Occurrences of the same exception class, code and handler logged in
+         * full per summary interval, the rest are counted.
+         */
+        private int maxLoggedPerInterval = 20;
+        /**
+         * Per handler override of max-logged-per-interval, keyed by handler
+         * method name, e.g. handleGeneric.
+         */
+        private Map<String, Integer> handlerLogLimits = new HashMap<>();
+        /**
+         * Correlation ids of suppressed occurrences listed in a summary line.
+         */
+        private int summarySampleSize = 5;
+        /**
+         * Interval of the suppressed-exception summary lines.
+         */
+        private Duration logSummaryInterval = Duration.ofMinutes(1);
+        /**
+         * Field errors listed in the errors section of a validation failure,
+         * the rest are counted in omittedErrors.
+         */
+        private int maxValidationErrors = 50;
+        /**
+         * Characters of field names, values, codes and messages listed in the
+         * errors section before the rest are omitted.
+         */
+        private int maxValidationErrorsLength = 8192;
+        /**
+         * Characters of a rejected value echoed back, longer values are cut
+         * and end with "...".
+         */
+        private int maxRejectedValueLength = 64;
+    }
+
+    /**
+     * @implNote This class is used to bind the common.sdk.response-codes.*
+     *           properties.
+     */
+    @Getter
+    @Setter
+    public static class ResponseCodes {
+        /**
+         * ResponseCode enums registered in addition to the SDK ones.
+         */
+        private List<Class<? extends ResponseCode>> enums = new ArrayList<>();
+        /**
+         * Packages scanned for ResponseCode enums at startup.
+         */
+        private List<String> basePackages = new ArrayList<>();
+        /**
+         * Whether the application packages are scanned for ResponseCode enums as
+         * well. Scanning slows the startup and does not work in a native image.
+         */
+        private boolean scanApplicationPackages = false;
+    }
+
+    /**
+     * @implNote This class is used to bind the common.sdk.client.* properties.
+     */
+    @Getter
+    @Setter
+    public static class Client {
+        /**
+         * Timeout for opening a connection to another service.
+         */
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        /**
+         * Timeout of a whole call, from sending the request to the last byte
+         * of the response.
+         */
+        private Duration requestTimeout = Duration.ofSeconds(10);
+    }
+
+    /**
+     * @implNote This class is used to bind the common.sdk.batch.* properties.
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+        /**
+         * Operations accepted in one batch, larger batches are rejected with
+         * 400.
+         */
+        private int maxOperations = 50;
+        /**
+         * Batch operations executing at the same time across all batches.
+         */
+        private int maxConcurrency = 64;
+        /**
+         * Time a batch waits for its operations, unfinished ones are cancelled
+         * and reported as failed.
+         */
+        private Duration timeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * @implNote This class is used to bind the common.sdk.replay.* properties.
+     */
+    @Getter
+    @Setter
+    public static class Replay {
+        /**
+         * Answer retries carrying the x-correlation-id of an earlier request
+         * from the stored response.
+         */
+        private boolean enabled = false;
+        /**
+         * HTTP methods whose responses are stored.
+         */
+        private Set<String> methods = new LinkedHashSet<>(List.of("POST", "PUT", "PATCH", "DELETE"));
+        /**
+         * Time a stored response is replayed.
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+        /**
+         * Total size of the stored responses, least recently used ones are
+         * evicted beyond it.
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+        /**
+         * Largest response body that is stored.
+         */
+        private DataSize maxEntrySize = DataSize.ofKilobytes(256);
+        /**
+         * Keep response bodies in direct buffers outside the heap.
+         */
+        private boolean offHeap = false;
+        /**
+         * Time a retry waits for the original request still in flight before
+         * running the handler itself.
+         */
+        private Duration coalesceTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * @implNote This class is used to bind the common.sdk.limiter.* properties.
+     */
+    @Getter
+    @Setter
+    public static class Limiter {
+        /**
+         * Reject requests over the adaptive in-flight limit with 429.
+         */
+        private boolean enabled = false;
+        /**
+         * Algorithm adjusting the limit from request latency.
+         */
+        private LimitStrategy strategy = LimitStrategy.GRADIENT;
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 500;
+        /**
+         * Route groups with their own limit, keyed by group name, valued by
+         * path patterns. Unmatched requests share the default group.
+         */
+        private Map<String, List<String>> groups = new LinkedHashMap<>();
+        /**
+         * AIMD only: factor applied to the limit after a slow request.
+         */
+        private double backoffRatio = 0.9;
+        /**
+         * AIMD only: latency above which a request counts as slow.
+         */
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+    }
+
+    /**
+     * @implNote This class is used to bind the common.sdk.latency.* properties.
+     */
+    @Getter
+    @Setter
+    public static class Latency {
+        /**
+         * Record per-endpoint latency histograms and capture slow requests.
+         */
+        private boolean enabled = false;
+        /**
+         * Length of the interval the published distributions cover.
+         */
+        private Duration interval = Duration.ofMinutes(1);
+        /**
+         * Longest duration kept apart; longer requests are recorded as this.
+         */
+        private Duration highestTrackable = Duration.ofMinutes(1);
+        private int significantDigits = 2;
+        /**
+         * Recorders per endpoint, 0 for one per processor up to 8. Each only
+         * holds the buckets its durations fall in.
+         */
+        private int stripes = 0;
+        /**
+         * Requests at least this slow are captured in the slow request log.
+         */
+        private Duration slowThreshold = Duration.ofSeconds(1);
+        private int slowCapacity = 64;
+        private boolean jmxEnabled = true;
+        private String jmxName = "com.common.sdk:type=Latency";
+    }
+
+    /**
+     * @implNote This class is used to bind the common.sdk.async.* properties.
+     */
+    @Getter
+    @Setter
+    public static class Async {
+        /**
+         * Run Spring MVC async work such as Callable and StreamingResponseBody
+         * results on the SDK executor, which carries the correlation id.
+         */
+        private boolean enabled = false;
+        /**
+         * Start a virtual thread per task instead of a platform thread.
+         */
+        private boolean virtualThreads = true;
+        /**
+         * Prefix of the executor thread names.
+         */
+        private String threadNamePrefix = "sdk-async-";
+        /**
+         * Tasks running at the same time, -1 for no limit.
+         */
+        private int concurrencyLimit = -1;
+        /**
+         * Time an async request may take before it fails with the 504 response
+         * timeout code, unset keeps spring.mvc.async.request-timeout.
+         */
+        private Duration requestTimeout;
+    }
+
+    /**
+     * @implNote This class is used to bind the common.sdk.tracing.* properties.
+     */
+    @Getter
+    @Setter
+    public static class Tracing {
+        /**
+         * Trace requests with the W3C traceparent and tracestate headers and
+         * export the spans of sampled traces.
+         */
+        private boolean enabled = false;
+        /**
+         * Share of new traces that are recorded, from 0 to 1. Requests with a
+         * traceparent follow its sampled flag.
+         */
+        private double sampleRatio = 0.01;
+        /**
+         * Finished spans kept until the next export; spans finishing while it
+         * is full are dropped.
+         */
+        private int bufferCapacity = 2048;
+        private SpanExporterType exporter = SpanExporterType.OTLP;
+        /**
+         * OTLP/HTTP traces endpoint the spans are posted to as JSON.
+         */
+        private URI otlpEndpoint = URI.create("http://localhost:4318/v1/traces");
+        private Duration otlpTimeout = Duration.ofSeconds(10);
+        /**
+         * File the spans are appended to, one JSON document per line.
+         */
+        private Path file = Path.of("spans.jsonl");
+        private Duration exportInterval = Duration.ofSeconds(5);
+        private int maxExportBatchSize = 512;
+        /**
+         * service.name of the exported spans, unset uses
+         * spring.application.name.
+         */
+        private String serviceName;
+    }
+
+    /**
+     * @implNote This class is used to bind the common.sdk.compression.*
+     *           properties.
+     */
+    @Getter
+    @Setter
+    public static class Compression {
+        /**
+         * Compress response bodies with gzip or deflate when the client
+         * accepts it.
+         */
+        private boolean enabled = false;
+        /**
+         * Bodies up to this size are sent as they are.
+         */
+        private DataSize minResponseSize = DataSize.ofKilobytes(2);
+        /**
+         * Deflater level, 1 for the fastest to 9 for the smallest output.
+         */
+        private int level = 6;
+        private List<String> mimeTypes = new ArrayList<>(List.of("application/json", "application/*+json",
+                "application/xml", "application/*+xml", "text/html", "text/plain", "text/css", "text/csv",
+                "text/javascript", "application/javascript"));
+        /**
+         * Idle Deflaters kept per encoding, 0 for twice the processors.
+         */
+        private int poolSize = 0;
+    }
+
+    /**
+     * @implNote This class is used to bind the common.sdk.etag.* properties.
+     */
+    @Getter
+    @Setter
+    public static class ETag {
+        /**
+         * Resource keys whose content tag is kept for okHashed responses.
+         */
+        private int maxEntries = 10_000;
+    }
+}
@@ -0,0 +1,52 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import com.common.sdk.common_sdk.latency.LatencySnapshot;
+import com.common.sdk.common_sdk.latency.SlowRequest;
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.dto.BatchApiResponse;
+import com.common.sdk.common_sdk.models.dto.BatchItemResult;
+import com.common.sdk.common_sdk.models.dto.BatchOperation;
+import com.common.sdk.common_sdk.models.dto.BatchRequest;
+import com.common.sdk.common_sdk.models.dto.ErrorDetail;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.NotificationResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.LatencyMXBean;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to declare what a native image of an
+ *           application using the SDK needs at run time: Jackson binding of
+ *           the envelopes sent and received by clients, the code enums
+ *           resolved by name, the latency MXBean types and the Micrometer
+ *           thread local accessor loaded as a service.
+ */
+public class CommonSdkRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String THREAD_LOCAL_ACCESSOR =
+            "com.common.sdk.common_sdk.correlation.CorrelationThreadLocalAccessor";
+
+    /**
+     * @implNote This method is used to register the hints.
+     * @param hints
+     * @param classLoader
+     */
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), ApiResponse.class,
+                BatchApiResponse.class, BatchItemResult.class, BatchOperation.class, BatchRequest.class,
+                ErrorDetail.class, APIResponseCode.class, NotificationResponseCode.class, LatencySnapshot.class,
+                SlowRequest.class);
+        hints.reflection().registerType(LatencyMXBean.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(TypeReference.of(THREAD_LOCAL_ACCESSOR),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("META-INF/services/io.micrometer.context.ThreadLocalAccessor");
+    }
+}
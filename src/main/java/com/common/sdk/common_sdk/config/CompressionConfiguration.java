@@ -0,0 +1,77 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.common.sdk.common_sdk.compression.CompressionFilter;
+import com.common.sdk.common_sdk.metrics.CompressionMeterBinder;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure response compression when
+ *           common.sdk.compression.enabled is true.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "common.sdk.compression", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CommonSdkProperties.class)
+public class CompressionConfiguration {
+
+    /**
+     * @implNote This method is used to create the compression filter.
+     * @param properties
+     * @return CompressionFilter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CompressionFilter compressionFilter(CommonSdkProperties properties) {
+        CommonSdkProperties.Compression compression = properties.getCompression();
+        int poolSize = compression.getPoolSize() > 0 ? compression.getPoolSize()
+                : Runtime.getRuntime().availableProcessors() * 2;
+        return new CompressionFilter(Math.toIntExact(compression.getMinResponseSize().toBytes()),
+                compression.getLevel(), compression.getMimeTypes(), poolSize);
+    }
+
+    /**
+     * @implNote This method is used to register the compression filter around
+     *           the replay filter, so replayed responses are compressed as well
+     *           and stored ones are not.
+     * @param filter
+     * @return FilterRegistrationBean<CompressionFilter>
+     */
+    @Bean
+    public FilterRegistrationBean<CompressionFilter> compressionFilterRegistration(CompressionFilter filter) {
+        FilterRegistrationBean<CompressionFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 4);
+        return registration;
+    }
+
+    /**
+     * @implNote This class is used to publish the compression counters with
+     *           Micrometer.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class CompressionMetricsConfiguration {
+
+        /**
+         * @implNote This method is used to create the compression meter binder.
+         * @param filter
+         * @return CompressionMeterBinder
+         */
+        @Bean
+        public CompressionMeterBinder compressionMeterBinder(CompressionFilter filter) {
+            return new CompressionMeterBinder(filter);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.common.sdk.common_sdk.correlation.CorrelationIdGenerators;
+import com.common.sdk.common_sdk.filter.CorrelationFilter;
+import com.common.sdk.common_sdk.models.interfaces.CorrelationIdGenerator;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure correlation id generation in the
+ *           application and, in servlet applications, the correlation filter.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(CommonSdkProperties.class)
+public class CorrelationConfiguration {
+
+    /**
+     * @implNote This method is used to create the correlation id generator
+     *           selected by common.sdk.correlation.id-strategy.
+     * @param properties
+     * @return CorrelationIdGenerator
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CorrelationIdGenerator correlationIdGenerator(CommonSdkProperties properties) {
+        CommonSdkProperties.Correlation correlation = properties.getCorrelation();
+        return CorrelationIdGenerators.of(correlation.getIdStrategy(), correlation.getNodeId());
+    }
+
+    /**
+     * @implNote This class is used to register the correlation filter ahead of
+     *           every other filter.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletCorrelationConfiguration {
+
+        /**
+         * @implNote This method is used to create the correlation filter.
+         * @param idGenerator
+         * @return CorrelationFilter
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public CorrelationFilter correlationFilter(CorrelationIdGenerator idGenerator) {
+            return new CorrelationFilter(idGenerator);
+        }
+
+        /**
+         * @implNote This method is used to register the correlation filter first.
+         * @param filter
+         * @return FilterRegistrationBean<CorrelationFilter>
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "correlationFilterRegistration")
+        public FilterRegistrationBean<CorrelationFilter> correlationFilterRegistration(CorrelationFilter filter) {
+            FilterRegistrationBean<CorrelationFilter> registration = new FilterRegistrationBean<>(filter);
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+    }
+}
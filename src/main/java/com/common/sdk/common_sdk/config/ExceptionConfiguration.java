@@ -0,0 +1,112 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.common.sdk.common_sdk.exception.BaseGlobalExceptionHandler;
+import com.common.sdk.common_sdk.exception.ExceptionLogAggregator;
+import com.common.sdk.common_sdk.exception.ExceptionMapper;
+import com.common.sdk.common_sdk.exception.StackTraceSampling;
+import com.common.sdk.common_sdk.exception.ValidationErrorCollector;
+import com.common.sdk.common_sdk.models.interfaces.ExceptionMappingCustomizer;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.registry.ResponseCodeRegistry;
+import com.common.sdk.common_sdk.services.ResponseHandler;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure exception handling in the
+ *           application.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(CommonSdkProperties.class)
+public class ExceptionConfiguration {
+
+    /**
+     * @implNote This constructor is used to apply the stack trace sample rate of
+     *           stackless exceptions.
+     * @param properties
+     */
+    public ExceptionConfiguration(CommonSdkProperties properties) {
+        StackTraceSampling.setSampleRate(properties.getException().getStackTraceSampleRate());
+    }
+
+    /**
+     * @implNote This method is used to create the exception log aggregator.
+     * @param properties
+     * @return ExceptionLogAggregator
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ExceptionLogAggregator exceptionLogAggregator(CommonSdkProperties properties) {
+        CommonSdkProperties.ExceptionHandling exception = properties.getException();
+        return new ExceptionLogAggregator(exception.getMaxLoggedPerInterval(), exception.getHandlerLogLimits(),
+                exception.getSummarySampleSize(), exception.getLogSummaryInterval());
+    }
+
+    /**
+     * @implNote This method is used to create the collector of validation error
+     *           details.
+     * @param properties
+     * @return ValidationErrorCollector
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ValidationErrorCollector validationErrorCollector(CommonSdkProperties properties) {
+        CommonSdkProperties.ExceptionHandling exception = properties.getException();
+        return new ValidationErrorCollector(exception.getMaxValidationErrors(),
+                exception.getMaxValidationErrorsLength(), exception.getMaxRejectedValueLength());
+    }
+
+    /**
+     * @implNote This method is used to create the exception mapper from the
+     *           rules of the SDK and the ExceptionMappingCustomizer beans, in
+     *           their order.
+     * @param validationErrors
+     * @param registry
+     * @param customizers
+     * @return ExceptionMapper
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ExceptionMapper exceptionMapper(ValidationErrorCollector validationErrors,
+            ObjectProvider<ResponseCodeRegistry> registry, ObjectProvider<ExceptionMappingCustomizer> customizers) {
+        return ExceptionMapper.builder()
+                .validationErrors(validationErrors)
+                .registry(registry.getIfAvailable())
+                .customize(customizers.orderedStream()::iterator)
+                .build();
+    }
+
+    /**
+     * @implNote This class is used to register the global exception handler in
+     *           servlet applications. An application extending
+     *           BaseGlobalExceptionHandler replaces it.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletExceptionConfiguration {
+
+        /**
+         * @implNote This method is used to create the global exception handler.
+         * @param responseHandler
+         * @param logAggregator
+         * @param metrics
+         * @param exceptionMapper
+         * @return BaseGlobalExceptionHandler
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public BaseGlobalExceptionHandler baseGlobalExceptionHandler(ResponseHandler responseHandler,
+                ExceptionLogAggregator logAggregator, ResponseMetrics metrics, ExceptionMapper exceptionMapper) {
+            return new BaseGlobalExceptionHandler(responseHandler, logAggregator, metrics, exceptionMapper);
+        }
+    }
+}
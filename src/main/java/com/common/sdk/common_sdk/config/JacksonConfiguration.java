@@ -0,0 +1,27 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import com.common.sdk.common_sdk.serializer.CommonSdkJacksonModule;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to register the SDK Jackson module with the
+ *           application ObjectMapper.
+ */
+@AutoConfiguration
+public class JacksonConfiguration {
+
+    /**
+     * @implNote This method is used to expose the SDK Jackson module as a bean
+     *           so that Spring Boot adds it to the ObjectMapper.
+     * @return CommonSdkJacksonModule
+     */
+    @Bean
+    public CommonSdkJacksonModule commonSdkJacksonModule() {
+        return new CommonSdkJacksonModule();
+    }
+}
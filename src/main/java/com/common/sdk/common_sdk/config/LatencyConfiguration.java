@@ -0,0 +1,76 @@
+package com.common.sdk.common_sdk.config;
+
+import javax.management.JMException;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+import com.common.sdk.common_sdk.latency.LatencyFilter;
+import com.common.sdk.common_sdk.latency.LatencyMBeanRegistration;
+import com.common.sdk.common_sdk.latency.LatencyRecorder;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure the per-endpoint latency recorder
+ *           when common.sdk.latency.enabled is true and HdrHistogram is on the
+ *           classpath.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(name = "org.HdrHistogram.Recorder")
+@ConditionalOnProperty(prefix = "common.sdk.latency", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CommonSdkProperties.class)
+public class LatencyConfiguration {
+
+    /**
+     * @implNote This method is used to create the latency recorder.
+     * @param properties
+     * @return LatencyRecorder
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LatencyRecorder latencyRecorder(CommonSdkProperties properties) {
+        CommonSdkProperties.Latency latency = properties.getLatency();
+        return new LatencyRecorder(latency.getInterval(), latency.getHighestTrackable(),
+                latency.getSignificantDigits(), latency.getStripes(), latency.getSlowThreshold(),
+                latency.getSlowCapacity());
+    }
+
+    /**
+     * @implNote This method is used to register the latency filter after the
+     *           correlation and limit filters, so shed requests are not
+     *           recorded.
+     * @param recorder
+     * @return FilterRegistrationBean<LatencyFilter>
+     */
+    @Bean
+    public FilterRegistrationBean<LatencyFilter> latencyFilter(LatencyRecorder recorder) {
+        FilterRegistrationBean<LatencyFilter> registration = new FilterRegistrationBean<>(new LatencyFilter(recorder));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    /**
+     * @implNote This method is used to expose the latency recorder over JMX.
+     * @param recorder
+     * @param properties
+     * @return LatencyMBeanRegistration
+     * @throws JMException
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "common.sdk.latency", name = "jmx-enabled", havingValue = "true",
+            matchIfMissing = true)
+    public LatencyMBeanRegistration latencyMBeanRegistration(LatencyRecorder recorder,
+            CommonSdkProperties properties) throws JMException {
+        return new LatencyMBeanRegistration(recorder, properties.getLatency().getJmxName());
+    }
+}
@@ -0,0 +1,96 @@
+package com.common.sdk.common_sdk.config;
+
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.common.sdk.common_sdk.limit.AimdLimitAlgorithm;
+import com.common.sdk.common_sdk.limit.ConcurrencyLimitFilter;
+import com.common.sdk.common_sdk.limit.GradientLimitAlgorithm;
+import com.common.sdk.common_sdk.metrics.ConcurrencyLimitMeterBinder;
+import com.common.sdk.common_sdk.models.enums.LimitStrategy;
+import com.common.sdk.common_sdk.models.interfaces.LimitAlgorithm;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.serializer.CommonSdkJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure the adaptive concurrency limiter
+ *           when common.sdk.limiter.enabled is true.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "common.sdk.limiter", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CommonSdkProperties.class)
+public class LimiterConfiguration {
+
+    /**
+     * @implNote This method is used to create the limiter filter.
+     * @param properties
+     * @param objectMapper
+     * @param metrics
+     * @return ConcurrencyLimitFilter
+     */
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(CommonSdkProperties properties,
+            ObjectProvider<ObjectMapper> objectMapper, ResponseMetrics metrics) {
+        CommonSdkProperties.Limiter limiter = properties.getLimiter();
+        return new ConcurrencyLimitFilter(limiter.getGroups(), algorithmFactory(limiter),
+                objectMapper.getIfAvailable(() -> new ObjectMapper().registerModule(new CommonSdkJacksonModule())),
+                metrics);
+    }
+
+    /**
+     * @implNote This method is used to register the limiter filter right after
+     *           the correlation filter, so rejections still carry the request
+     *           id.
+     * @param filter
+     * @return FilterRegistrationBean<ConcurrencyLimitFilter>
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(
+            ConcurrencyLimitFilter filter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    private static Function<String, LimitAlgorithm> algorithmFactory(CommonSdkProperties.Limiter limiter) {
+        return group -> limiter.getStrategy() == LimitStrategy.AIMD
+                ? new AimdLimitAlgorithm(limiter.getInitialLimit(), limiter.getMinLimit(), limiter.getMaxLimit(),
+                        limiter.getBackoffRatio(), limiter.getLatencyThreshold())
+                : new GradientLimitAlgorithm(limiter.getInitialLimit(), limiter.getMinLimit(),
+                        limiter.getMaxLimit());
+    }
+
+    /**
+     * @implNote This class is used to publish the limiter state with Micrometer.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "common.sdk.limiter", name = "enabled", havingValue = "true")
+    static class LimiterMetricsConfiguration {
+
+        /**
+         * @implNote This method is used to create the limiter meter binder.
+         * @param filter
+         * @return ConcurrencyLimitMeterBinder
+         */
+        @Bean
+        public ConcurrencyLimitMeterBinder concurrencyLimitMeterBinder(ConcurrencyLimitFilter filter) {
+            return new ConcurrencyLimitMeterBinder(filter);
+        }
+    }
+}
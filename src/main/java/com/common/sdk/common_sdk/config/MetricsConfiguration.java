@@ -0,0 +1,70 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.common.sdk.common_sdk.metrics.InMemoryResponseMetrics;
+import com.common.sdk.common_sdk.metrics.MicrometerResponseMetrics;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure response metrics in the
+ *           application. Micrometer is used when a MeterRegistry is available,
+ *           otherwise the counters are kept in memory.
+ */
+@AutoConfiguration
+public class MetricsConfiguration {
+
+    private static final String MICROMETER_REGISTRY = "io.micrometer.core.instrument.MeterRegistry";
+
+    /**
+     * @implNote This class is used to configure Micrometer response metrics.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = MICROMETER_REGISTRY)
+    static class MicrometerMetricsConfiguration {
+
+        /**
+         * @implNote This method is used to create the response metrics, backed by
+         *           Micrometer when a MeterRegistry bean exists.
+         * @param registry
+         * @return ResponseMetrics
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ResponseMetrics responseMetrics(ObjectProvider<MeterRegistry> registry) {
+            MeterRegistry meterRegistry = registry.getIfAvailable();
+            return meterRegistry != null ? new MicrometerResponseMetrics(meterRegistry)
+                    : new InMemoryResponseMetrics();
+        }
+    }
+
+    /**
+     * @implNote This class is used to configure in-memory response metrics when
+     *           Micrometer is not on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnMissingClass(MICROMETER_REGISTRY)
+    static class InMemoryMetricsConfiguration {
+
+        /**
+         * @implNote This method is used to create the in-memory response metrics.
+         * @return ResponseMetrics
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ResponseMetrics responseMetrics() {
+            return new InMemoryResponseMetrics();
+        }
+    }
+}
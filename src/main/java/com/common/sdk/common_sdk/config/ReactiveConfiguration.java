@@ -0,0 +1,156 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+
+import com.common.sdk.common_sdk.converter.CborValueEncoder;
+import com.common.sdk.common_sdk.converter.CompactCborHttpMessageConverter;
+import com.common.sdk.common_sdk.exception.ExceptionLogAggregator;
+import com.common.sdk.common_sdk.exception.ExceptionMapper;
+import com.common.sdk.common_sdk.models.interfaces.CorrelationIdGenerator;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.reactive.ReactiveCorrelationFilter;
+import com.common.sdk.common_sdk.reactive.ReactiveExceptionHandler;
+import com.common.sdk.common_sdk.reactive.ReactiveResponseHandler;
+import com.common.sdk.common_sdk.serializer.CommonSdkJacksonModule;
+import com.common.sdk.common_sdk.serializer.CompactEnvelopeModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure the SDK for reactive (WebFlux)
+ *           applications. The CBOR, Smile and compact CBOR formats are added
+ *           to the codecs with the SDK Jackson module, as the servlet
+ *           converters are, so controller and exception envelopes are
+ *           negotiated the same way.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfiguration {
+
+    /**
+     * @implNote This method is used to create the reactive correlation filter.
+     * @param idGenerator
+     * @return ReactiveCorrelationFilter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveCorrelationFilter reactiveCorrelationFilter(CorrelationIdGenerator idGenerator) {
+        return new ReactiveCorrelationFilter(idGenerator);
+    }
+
+    /**
+     * @implNote This method is used to create the reactive exception handler
+     *           with the message writers of the WebFlux codecs, or JSON only
+     *           without them.
+     * @param codecConfigurer
+     * @param objectMapper
+     * @param logAggregator
+     * @param metrics
+     * @param exceptionMapper
+     * @return ReactiveExceptionHandler
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveExceptionHandler reactiveExceptionHandler(ObjectProvider<ServerCodecConfigurer> codecConfigurer,
+            ObjectMapper objectMapper, ExceptionLogAggregator logAggregator, ResponseMetrics metrics,
+            ObjectProvider<ExceptionMapper> exceptionMapper) {
+        ExceptionMapper mapper = exceptionMapper.getIfAvailable(ExceptionMapper::defaults);
+        ServerCodecConfigurer codecs = codecConfigurer.getIfAvailable();
+        return codecs != null ? new ReactiveExceptionHandler(codecs.getWriters(), logAggregator, metrics, mapper)
+                : new ReactiveExceptionHandler(objectMapper, logAggregator, metrics, mapper);
+    }
+
+    /**
+     * @implNote This method is used to create the reactive response handler.
+     * @param metrics
+     * @return ReactiveResponseHandler
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveResponseHandler reactiveResponseHandler(ResponseMetrics metrics) {
+        return new ReactiveResponseHandler(metrics);
+    }
+
+    /**
+     * @implNote This class is used to register the CBOR codecs.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(CBORFactory.class)
+    static class CborCodecsConfiguration {
+
+        /**
+         * @implNote This method is used to add the CBOR and compact CBOR codecs.
+         *           Custom writers are consulted before the default ones, so the
+         *           application's JSON encoder is registered ahead of them to
+         *           keep JSON the answer to a wildcard Accept header.
+         * @param objectMapper
+         * @param builder
+         * @return CodecCustomizer
+         */
+        @Bean
+        public CodecCustomizer commonSdkCborCodecCustomizer(ObjectProvider<ObjectMapper> objectMapper,
+                ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+            ObjectMapper jsonMapper = objectMapper.getIfAvailable(
+                    () -> new ObjectMapper().registerModule(new CommonSdkJacksonModule()));
+            ObjectMapper cborMapper = BinaryFormatsConfiguration.binaryMapper(builder, new CBORFactory());
+            ObjectMapper compactMapper = BinaryFormatsConfiguration.binaryMapper(builder, new CBORFactory())
+                    .registerModule(new CompactEnvelopeModule());
+            return configurer -> {
+                configurer.customCodecs().registerWithDefaultConfig(new Jackson2JsonEncoder(jsonMapper));
+                configurer.customCodecs().registerWithDefaultConfig(
+                        new CborValueEncoder(cborMapper, MediaType.APPLICATION_CBOR));
+                configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(cborMapper,
+                        MediaType.APPLICATION_CBOR));
+                configurer.customCodecs().registerWithDefaultConfig(
+                        new CborValueEncoder(compactMapper, CompactCborHttpMessageConverter.APPLICATION_COMPACT_CBOR));
+                configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(compactMapper,
+                        CompactCborHttpMessageConverter.APPLICATION_COMPACT_CBOR));
+            };
+        }
+    }
+
+    /**
+     * @implNote This class is used to register the Smile codecs.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SmileFactory.class)
+    static class SmileCodecsConfiguration {
+
+        private static final MimeType[] SMILE_TYPES = { new MimeType("application", "x-jackson-smile"),
+                new MimeType("application", "*+x-jackson-smile") };
+
+        /**
+         * @implNote This method is used to replace the default Smile codecs with
+         *           ones using the SDK Jackson module.
+         * @param builder
+         * @return CodecCustomizer
+         */
+        @Bean
+        public CodecCustomizer commonSdkSmileCodecCustomizer(ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+            ObjectMapper smileMapper = BinaryFormatsConfiguration.binaryMapper(builder, new SmileFactory());
+            return configurer -> {
+                configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, SMILE_TYPES));
+                configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SMILE_TYPES));
+            };
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.common.sdk.common_sdk.metrics.ReplayCacheMeterBinder;
+import com.common.sdk.common_sdk.replay.ReplayCache;
+import com.common.sdk.common_sdk.replay.ReplayCacheFilter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure the replay cache when
+ *           common.sdk.replay.enabled is true.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "common.sdk.replay", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CommonSdkProperties.class)
+public class ReplayConfiguration {
+
+    /**
+     * @implNote This method is used to create the replay cache.
+     * @param properties
+     * @return ReplayCache
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReplayCache replayCache(CommonSdkProperties properties) {
+        CommonSdkProperties.Replay replay = properties.getReplay();
+        return new ReplayCache(replay.getMaxSize().toBytes(), Math.toIntExact(replay.getMaxEntrySize().toBytes()),
+                replay.getTtl(), replay.isOffHeap());
+    }
+
+    /**
+     * @implNote This method is used to register the replay filter after the
+     *           Spring Security filter chain, so the authenticated principal is
+     *           part of the replay key and unauthenticated requests are
+     *           rejected before a stored response is looked up.
+     * @param cache
+     * @param properties
+     * @return FilterRegistrationBean<ReplayCacheFilter>
+     */
+    @Bean
+    public FilterRegistrationBean<ReplayCacheFilter> replayCacheFilter(ReplayCache cache,
+            CommonSdkProperties properties) {
+        CommonSdkProperties.Replay replay = properties.getReplay();
+        FilterRegistrationBean<ReplayCacheFilter> registration = new FilterRegistrationBean<>(
+                new ReplayCacheFilter(cache, replay.getMethods(), replay.getCoalesceTimeout()));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 10);
+        return registration;
+    }
+
+    /**
+     * @implNote This class is used to publish the replay cache counters with
+     *           Micrometer.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "common.sdk.replay", name = "enabled", havingValue = "true")
+    static class ReplayMetricsConfiguration {
+
+        /**
+         * @implNote This method is used to create the replay cache meter binder.
+         * @param cache
+         * @return ReplayCacheMeterBinder
+         */
+        @Bean
+        public ReplayCacheMeterBinder replayCacheMeterBinder(ReplayCache cache) {
+            return new ReplayCacheMeterBinder(cache);
+        }
+    }
+}
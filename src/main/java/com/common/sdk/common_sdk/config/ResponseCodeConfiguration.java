@@ -0,0 +1,59 @@
+package com.common.sdk.common_sdk.config;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.util.ClassUtils;
+
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.NotificationResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.common.sdk.common_sdk.registry.ResponseCodeRegistry;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure the response code registry in the
+ *           application.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(CommonSdkProperties.class)
+public class ResponseCodeConfiguration {
+
+    /**
+     * @implNote This method is used to create the response code registry from
+     *           the code enums of the SDK and of common.sdk.response-codes.enums.
+     *           The classpath is only scanned for the packages listed in
+     *           common.sdk.response-codes.base-packages and, when
+     *           scan-application-packages is set, the application packages. A
+     *           code declared twice in one namespace fails the startup.
+     * @param beanFactory
+     * @param properties
+     * @return ResponseCodeRegistry
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ResponseCodeRegistry responseCodeRegistry(BeanFactory beanFactory, CommonSdkProperties properties) {
+        CommonSdkProperties.ResponseCodes responseCodes = properties.getResponseCodes();
+        Set<Class<? extends ResponseCode>> enumTypes = new LinkedHashSet<>();
+        enumTypes.add(APIResponseCode.class);
+        enumTypes.add(NotificationResponseCode.class);
+        enumTypes.addAll(responseCodes.getEnums());
+
+        Set<String> basePackages = new LinkedHashSet<>(responseCodes.getBasePackages());
+        if (responseCodes.isScanApplicationPackages() && AutoConfigurationPackages.has(beanFactory)) {
+            basePackages.addAll(AutoConfigurationPackages.get(beanFactory));
+        }
+        if (!basePackages.isEmpty()) {
+            enumTypes.addAll(ResponseCodeRegistry.findEnums(ClassUtils.getDefaultClassLoader(), basePackages));
+        }
+        return ResponseCodeRegistry.ofEnums(enumTypes);
+    }
+}
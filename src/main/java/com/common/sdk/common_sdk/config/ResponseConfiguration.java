@@ -0,0 +1,60 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.common.sdk.common_sdk.exception.ExceptionMapper;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.serializer.CommonSdkJacksonModule;
+import com.common.sdk.common_sdk.services.BatchExecutor;
+import com.common.sdk.common_sdk.services.ETagCache;
+import com.common.sdk.common_sdk.services.ResponseHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure the response handler and to
+ *           contribute the native image hints of the SDK.
+ */
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@EnableConfigurationProperties(CommonSdkProperties.class)
+@ImportRuntimeHints(CommonSdkRuntimeHints.class)
+public class ResponseConfiguration {
+
+    /**
+     * @implNote This method is used to create the cache of the content tags
+     *           of the hashed conditional responses.
+     * @param properties
+     * @return ETagCache
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ETagCache etagCache(CommonSdkProperties properties) {
+        return new ETagCache(properties.getEtag().getMaxEntries());
+    }
+
+    /**
+     * @implNote This method is used to create the response handler.
+     * @param metrics
+     * @param objectMapper
+     * @param batchExecutor
+     * @param exceptionMapper
+     * @param etagCache
+     * @return ResponseHandler
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ResponseHandler responseHandler(ResponseMetrics metrics, ObjectProvider<ObjectMapper> objectMapper,
+            BatchExecutor batchExecutor, ObjectProvider<ExceptionMapper> exceptionMapper, ETagCache etagCache) {
+        return new ResponseHandler(metrics,
+                objectMapper.getIfAvailable(() -> new ObjectMapper().registerModule(new CommonSdkJacksonModule())),
+                batchExecutor, exceptionMapper.getIfAvailable(ExceptionMapper::defaults), etagCache);
+    }
+}
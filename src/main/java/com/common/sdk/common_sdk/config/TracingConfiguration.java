@@ -0,0 +1,117 @@
+package com.common.sdk.common_sdk.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import com.common.sdk.common_sdk.models.interfaces.SpanExporter;
+import com.common.sdk.common_sdk.tracing.BatchSpanExporter;
+import com.common.sdk.common_sdk.tracing.FileSpanExporter;
+import com.common.sdk.common_sdk.tracing.OtlpHttpSpanExporter;
+import com.common.sdk.common_sdk.tracing.OtlpJsonEncoder;
+import com.common.sdk.common_sdk.tracing.SpanRingBuffer;
+import com.common.sdk.common_sdk.tracing.Tracer;
+import com.common.sdk.common_sdk.tracing.TracingFilter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to configure W3C trace context propagation and
+ *           the export of sampled spans when common.sdk.tracing.enabled is
+ *           true.
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "common.sdk.tracing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CommonSdkProperties.class)
+public class TracingConfiguration {
+
+    private static final String UNKNOWN_SERVICE = "unknown_service";
+
+    /**
+     * @implNote This method is used to create the buffer of finished spans.
+     * @param properties
+     * @return SpanRingBuffer
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SpanRingBuffer spanRingBuffer(CommonSdkProperties properties) {
+        return new SpanRingBuffer(properties.getTracing().getBufferCapacity());
+    }
+
+    /**
+     * @implNote This method is used to create the tracer.
+     * @param properties
+     * @param ring
+     * @return Tracer
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public Tracer tracer(CommonSdkProperties properties, SpanRingBuffer ring) {
+        return new Tracer(properties.getTracing().getSampleRatio(), ring);
+    }
+
+    /**
+     * @implNote This method is used to create the exporter selected by
+     *           common.sdk.tracing.exporter.
+     * @param properties
+     * @param environment
+     * @return SpanExporter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SpanExporter spanExporter(CommonSdkProperties properties, Environment environment) {
+        CommonSdkProperties.Tracing tracing = properties.getTracing();
+        String serviceName = tracing.getServiceName() != null ? tracing.getServiceName()
+                : environment.getProperty("spring.application.name", UNKNOWN_SERVICE);
+        OtlpJsonEncoder encoder = new OtlpJsonEncoder(serviceName);
+        return switch (tracing.getExporter()) {
+            case FILE -> new FileSpanExporter(tracing.getFile(), encoder);
+            case OTLP -> new OtlpHttpSpanExporter(tracing.getOtlpEndpoint(), tracing.getOtlpTimeout(), encoder);
+        };
+    }
+
+    /**
+     * @implNote This method is used to create the background span export.
+     * @param properties
+     * @param ring
+     * @param exporter
+     * @return BatchSpanExporter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public BatchSpanExporter batchSpanExporter(CommonSdkProperties properties, SpanRingBuffer ring,
+            SpanExporter exporter) {
+        CommonSdkProperties.Tracing tracing = properties.getTracing();
+        return new BatchSpanExporter(ring, exporter, tracing.getExportInterval(), tracing.getMaxExportBatchSize());
+    }
+
+    /**
+     * @implNote This class is used to configure the servlet tracing filter.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletTracingConfiguration {
+
+        /**
+         * @implNote This method is used to register the tracing filter after the
+         *           correlation, limit and latency filters.
+         * @param tracer
+         * @return FilterRegistrationBean<TracingFilter>
+         */
+        @Bean
+        public FilterRegistrationBean<TracingFilter> tracingFilter(Tracer tracer) {
+            FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(
+                    new TracingFilter(tracer));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+            return registration;
+        }
+    }
+}
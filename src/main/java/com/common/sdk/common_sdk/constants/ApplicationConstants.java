@@ -8,5 +8,17 @@ package com.common.sdk.common_sdk.constants;
  */
 public interface ApplicationConstants {
     String CORRELATION_ID = "x-correlation-id";
+    String REPLAYED_HEADER = "x-replayed";
+    String IDEMPOTENCY_KEY = "Idempotency-Key";
+    String TRACEPARENT = "traceparent";
+    String TRACESTATE = "tracestate";
+    String LOG_CODE_KEY = "code";
+    String LOG_HANDLER_KEY = "handler";
+    String LOG_EXCEPTION_KEY = "exception";
     String EMPTY_STRING = "";
+    String APPLICATION_COMPACT_CBOR_VALUE = "application/vnd.common-sdk.compact+cbor";
+    String INVALID_PAYLOAD_MESSAGE = "Invalid request payload or format";
+    String NULL_POINTER_MESSAGE = "Unexpected null value encountered";
+    String DEFAULT_CODE_NAMESPACE = "api";
+    String GENERIC_ERROR_MESSAGE = "Sorry something went wrong on server side, please try again after sometime.";
 }
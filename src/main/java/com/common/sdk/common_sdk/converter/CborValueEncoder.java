@@ -0,0 +1,62 @@
+package com.common.sdk.common_sdk.converter;
+
+import java.util.List;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to write envelopes as CBOR in WebFlux. The
+ *           Spring CBOR encoder rejects every publisher, including the Mono of
+ *           a single envelope; this one encodes a Mono as one value and
+ *           collects a Flux into one CBOR array, since CBOR has no textual
+ *           separators to stream elements with. The ObjectMapper must use a
+ *           CBOR factory.
+ */
+public class CborValueEncoder extends AbstractJackson2Encoder {
+
+    /**
+     * @implNote This constructor is used to create the encoder for the given
+     *           CBOR ObjectMapper and media types.
+     * @param objectMapper
+     * @param mimeTypes
+     */
+    public CborValueEncoder(ObjectMapper objectMapper, MimeType... mimeTypes) {
+        super(objectMapper, mimeTypes);
+    }
+
+    /**
+     * @implNote This method is used to encode a Mono as one value and a Flux as
+     *           one array.
+     * @param inputStream
+     * @param bufferFactory
+     * @param elementType
+     * @param mimeType
+     * @param hints
+     * @return Flux<DataBuffer>
+     */
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+            ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono) {
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+        ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+        return Flux.from(inputStream).collectList()
+                .map(list -> encodeValue(list, bufferFactory, listType, mimeType, hints))
+                .flux();
+    }
+}
@@ -0,0 +1,30 @@
+package com.common.sdk.common_sdk.converter;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to read and write envelopes as
+ *           application/vnd.common-sdk.compact+cbor. The ObjectMapper must use a
+ *           CBOR factory and the compact envelope module.
+ */
+public class CompactCborHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final MediaType APPLICATION_COMPACT_CBOR = MediaType
+            .parseMediaType(ApplicationConstants.APPLICATION_COMPACT_CBOR_VALUE);
+
+    /**
+     * @implNote This constructor is used to create the converter for the given
+     *           CBOR ObjectMapper.
+     * @param objectMapper
+     */
+    public CompactCborHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper, APPLICATION_COMPACT_CBOR);
+    }
+}
@@ -0,0 +1,145 @@
+package com.common.sdk.common_sdk.correlation;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to hold the correlation id of the current unit
+ *           of work. The id lives in its own thread local and is mirrored into
+ *           the logging MDC. Task wrappers capture only this id when a task is
+ *           submitted and install it around the task, the rest of the MDC map
+ *           is never copied. Thread locals are per virtual thread as well, so
+ *           the same wrappers work for virtual thread executors.
+ */
+public final class CorrelationContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private CorrelationContext() {
+    }
+
+    /**
+     * @implNote This method is used to get the correlation id of the current
+     *           thread.
+     * @return String
+     */
+    public static String get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @implNote This method is used to set the correlation id of the current
+     *           thread until the returned scope is closed.
+     * @param correlationId
+     * @return Scope
+     */
+    public static Scope open(String correlationId) {
+        Scope scope = new Scope(CURRENT.get());
+        install(correlationId);
+        return scope;
+    }
+
+    /**
+     * @implNote This method is used to wrap a runnable so that it runs with the
+     *           correlation id of the submitting thread.
+     * @param task
+     * @return Runnable
+     */
+    public static Runnable wrap(Runnable task) {
+        String correlationId = CURRENT.get();
+        if (correlationId == null) {
+            return task;
+        }
+        return () -> {
+            String previous = CURRENT.get();
+            install(correlationId);
+            try {
+                task.run();
+            } finally {
+                install(previous);
+            }
+        };
+    }
+
+    /**
+     * @implNote This method is used to wrap a callable so that it runs with the
+     *           correlation id of the submitting thread.
+     * @param task
+     * @return Callable<V>
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        String correlationId = CURRENT.get();
+        if (correlationId == null) {
+            return task;
+        }
+        return () -> {
+            String previous = CURRENT.get();
+            install(correlationId);
+            try {
+                return task.call();
+            } finally {
+                install(previous);
+            }
+        };
+    }
+
+    /**
+     * @implNote This method is used to wrap a supplier so that it runs with the
+     *           correlation id of the submitting thread.
+     * @param supplier
+     * @return Supplier<T>
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> supplier) {
+        String correlationId = CURRENT.get();
+        if (correlationId == null) {
+            return supplier;
+        }
+        return () -> {
+            String previous = CURRENT.get();
+            install(correlationId);
+            try {
+                return supplier.get();
+            } finally {
+                install(previous);
+            }
+        };
+    }
+
+    static void install(String correlationId) {
+        if (correlationId == null) {
+            CURRENT.remove();
+            MDC.remove(ApplicationConstants.CORRELATION_ID);
+        } else {
+            CURRENT.set(correlationId);
+            MDC.put(ApplicationConstants.CORRELATION_ID, correlationId);
+        }
+    }
+
+    /**
+     * @implNote This class is used to restore the previous correlation id when
+     *           closed.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final String previous;
+
+        private Scope(String previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * @implNote This method is used to restore the previous correlation id.
+         */
+        @Override
+        public void close() {
+            install(previous);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.common.sdk.common_sdk.correlation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to create executors and futures that carry the
+ *           correlation id of the submitting thread to the task.
+ */
+public final class CorrelationExecutors {
+
+    private CorrelationExecutors() {
+    }
+
+    /**
+     * @implNote This method is used to wrap an executor.
+     * @param executor
+     * @return Executor
+     */
+    public static Executor wrap(Executor executor) {
+        if (executor instanceof ExecutorService executorService) {
+            return wrap(executorService);
+        }
+        return executor instanceof CorrelationExecutor ? executor : new CorrelationExecutor(executor);
+    }
+
+    /**
+     * @implNote This method is used to wrap an executor service.
+     * @param executorService
+     * @return ExecutorService
+     */
+    public static ExecutorService wrap(ExecutorService executorService) {
+        return executorService instanceof CorrelationExecutorService ? executorService
+                : new CorrelationExecutorService(executorService);
+    }
+
+    /**
+     * @implNote This method is used to create a virtual thread per task executor
+     *           that carries the correlation id.
+     * @return ExecutorService
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        return new CorrelationExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * @implNote This method is used to run a supplier asynchronously with the
+     *           correlation id of the calling thread.
+     * @param supplier
+     * @param executor
+     * @return CompletableFuture<T>
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        return CompletableFuture.supplyAsync(CorrelationContext.wrap(supplier), executor);
+    }
+
+    /**
+     * @implNote This method is used to run a runnable asynchronously with the
+     *           correlation id of the calling thread.
+     * @param runnable
+     * @param executor
+     * @return CompletableFuture<Void>
+     */
+    public static CompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+        return CompletableFuture.runAsync(CorrelationContext.wrap(runnable), executor);
+    }
+
+    private record CorrelationExecutor(Executor delegate) implements Executor {
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(CorrelationContext.wrap(command));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.common.sdk.common_sdk.correlation;
+
+import com.common.sdk.common_sdk.models.enums.CorrelationIdStrategy;
+import com.common.sdk.common_sdk.models.interfaces.CorrelationIdGenerator;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to create the built-in correlation id
+ *           generators.
+ */
+public final class CorrelationIdGenerators {
+
+    private CorrelationIdGenerators() {
+    }
+
+    /**
+     * @implNote This method is used to create the generator for the given
+     *           strategy. A negative node id picks a random node id for the
+     *           node counter strategy.
+     * @param strategy
+     * @param nodeId
+     * @return CorrelationIdGenerator
+     */
+    public static CorrelationIdGenerator of(CorrelationIdStrategy strategy, int nodeId) {
+        return switch (strategy) {
+            case UUID -> new RandomUuidGenerator();
+            case TIME_ORDERED -> new TimeOrderedIdGenerator();
+            case THREAD_LOCAL_RANDOM -> new ThreadLocalRandomIdGenerator();
+            case NODE_COUNTER -> nodeId < 0 ? new NodeCounterIdGenerator() : new NodeCounterIdGenerator(nodeId);
+        };
+    }
+}
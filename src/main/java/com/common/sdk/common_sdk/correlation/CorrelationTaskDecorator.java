@@ -0,0 +1,25 @@
+package com.common.sdk.common_sdk.correlation;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to carry the correlation id into tasks of
+ *           Spring task executors such as ThreadPoolTaskExecutor and
+ *           SimpleAsyncTaskExecutor.
+ */
+public class CorrelationTaskDecorator implements TaskDecorator {
+
+    /**
+     * @implNote This method is used to decorate the task with the correlation id
+     *           of the submitting thread.
+     * @param runnable
+     * @return Runnable
+     */
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return CorrelationContext.wrap(runnable);
+    }
+}
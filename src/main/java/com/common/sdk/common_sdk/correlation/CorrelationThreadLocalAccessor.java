@@ -0,0 +1,56 @@
+package com.common.sdk.common_sdk.correlation;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to let Micrometer context propagation restore
+ *           the correlation context from the Reactor context. With automatic
+ *           context propagation Reactor restores thread locals only where a
+ *           signal hops threads, not around every operator. It is registered
+ *           through META-INF/services.
+ */
+public class CorrelationThreadLocalAccessor implements ThreadLocalAccessor<String> {
+
+    /**
+     * @implNote This method is used to get the Reactor context key.
+     * @return Object
+     */
+    @Override
+    public Object key() {
+        return ApplicationConstants.CORRELATION_ID;
+    }
+
+    /**
+     * @implNote This method is used to read the correlation id of the current
+     *           thread.
+     * @return String
+     */
+    @Override
+    public String getValue() {
+        return CorrelationContext.get();
+    }
+
+    /**
+     * @implNote This method is used to install the correlation id on the current
+     *           thread.
+     * @param value
+     */
+    @Override
+    public void setValue(String value) {
+        CorrelationContext.install(value);
+    }
+
+    /**
+     * @implNote This method is used to clear the correlation id of the current
+     *           thread.
+     */
+    @Override
+    public void setValue() {
+        CorrelationContext.install(null);
+    }
+}
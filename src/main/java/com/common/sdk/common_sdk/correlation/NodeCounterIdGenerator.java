@@ -0,0 +1,51 @@
+package com.common.sdk.common_sdk.correlation;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.common.sdk.common_sdk.models.interfaces.CorrelationIdGenerator;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to generate UUID shaped ids from the generator
+ *           start time, a 16 bit node id and a sequence counter. Ids from one
+ *           node sort in generation order and ids from a restarted node sort
+ *           after the previous run. The counter is a single atomic increment,
+ *           there is no retry loop and no random source involved.
+ */
+public class NodeCounterIdGenerator implements CorrelationIdGenerator {
+
+    private static final int NODE_ID_MASK = 0xFFFF;
+
+    private final long prefix;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @implNote This constructor is used to create a generator with a random
+     *           node id.
+     */
+    public NodeCounterIdGenerator() {
+        this(ThreadLocalRandom.current().nextInt(NODE_ID_MASK + 1));
+    }
+
+    /**
+     * @implNote This constructor is used to create a generator for the given
+     *           node id. Only the lower 16 bits are used.
+     * @param nodeId
+     */
+    public NodeCounterIdGenerator(int nodeId) {
+        this.prefix = (System.currentTimeMillis() << 16) | (nodeId & NODE_ID_MASK);
+    }
+
+    /**
+     * @implNote This method is used to generate the next id for this node.
+     * @return String
+     */
+    @Override
+    public String generate() {
+        return new UUID(prefix, sequence.getAndIncrement()).toString();
+    }
+}
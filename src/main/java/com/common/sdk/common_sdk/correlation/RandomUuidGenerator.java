@@ -0,0 +1,26 @@
+package com.common.sdk.common_sdk.correlation;
+
+import java.util.UUID;
+
+import com.common.sdk.common_sdk.models.interfaces.CorrelationIdGenerator;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to generate correlation ids with
+ *           {@link UUID#randomUUID()}. Every call goes through the shared
+ *           SecureRandom, so prefer one of the other generators under high
+ *           request rates.
+ */
+public class RandomUuidGenerator implements CorrelationIdGenerator {
+
+    /**
+     * @implNote This method is used to generate a random UUID.
+     * @return String
+     */
+    @Override
+    public String generate() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.common.sdk.common_sdk.correlation;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.common.sdk.common_sdk.models.interfaces.CorrelationIdGenerator;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to generate version 4 UUIDs from
+ *           {@link ThreadLocalRandom}. The ids are not cryptographically
+ *           strong, which is fine for correlation but not for secrets.
+ */
+public class ThreadLocalRandomIdGenerator implements CorrelationIdGenerator {
+
+    /**
+     * @implNote This method is used to generate a random version 4 UUID without
+     *           touching a shared random source.
+     * @return String
+     */
+    @Override
+    public String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb).toString();
+    }
+}
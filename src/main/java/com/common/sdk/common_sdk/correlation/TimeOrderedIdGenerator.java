@@ -0,0 +1,40 @@
+package com.common.sdk.common_sdk.correlation;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.common.sdk.common_sdk.models.interfaces.CorrelationIdGenerator;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to generate version 7 style UUIDs. The first 48
+ *           bits hold the epoch millis, so the canonical lower case string sorts
+ *           by creation time and can be used as a sortable key in log stores.
+ *           Ids created within the same millisecond are ordered randomly.
+ */
+public class TimeOrderedIdGenerator implements CorrelationIdGenerator {
+
+    /**
+     * @implNote This method is used to generate a time ordered UUID.
+     * @return String
+     */
+    @Override
+    public String generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    /**
+     * @implNote This method is used to generate a time ordered UUID for the given
+     *           epoch millis.
+     * @param epochMillis
+     * @return String
+     */
+    String generate(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (epochMillis << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb).toString();
+    }
+}
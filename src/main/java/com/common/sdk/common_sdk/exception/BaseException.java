@@ -7,11 +7,16 @@ import lombok.Getter;
  * @version 1.0
  * @since 2025-11-25
  * @implNote This class is used to throw custom exceptions in the application.
+ *           Expected business errors such as "not found" can be thrown
+ *           stackless, which skips stack capture and suppression setup. A
+ *           sampled fraction of stackless exceptions still captures a trace,
+ *           see {@link StackTraceSampling}.
  */
 @Getter
 public class BaseException extends RuntimeException {
     private final int statusCode;
     private final String message;
+    private final boolean stackTraceCaptured;
 
     /**
      * @implNote This constructor is used to throw custom exceptions in the
@@ -20,7 +25,49 @@ public class BaseException extends RuntimeException {
      * @param message
      */
     public BaseException(int statusCode, String message) {
+        this(statusCode, message, true);
+    }
+
+    /**
+     * @implNote This constructor is used to throw custom exceptions in the
+     *           application, optionally without capturing the stack trace.
+     * @param statusCode
+     * @param message
+     * @param captureStackTrace
+     */
+    public BaseException(int statusCode, String message, boolean captureStackTrace) {
+        this(statusCode, message, captureStackTrace, captureStackTrace || StackTraceSampling.sample());
+    }
+
+    /**
+     * @implNote This constructor is used to throw custom exceptions in the
+     *           application that wrap a lower level cause.
+     * @param statusCode
+     * @param message
+     * @param cause
+     */
+    public BaseException(int statusCode, String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = statusCode;
+        this.message = message;
+        this.stackTraceCaptured = true;
+    }
+
+    private BaseException(int statusCode, String message, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, null, enableSuppression, writableStackTrace);
         this.statusCode = statusCode;
         this.message = message;
+        this.stackTraceCaptured = writableStackTrace;
+    }
+
+    /**
+     * @implNote This method is used to create a stackless exception for expected
+     *           business errors.
+     * @param statusCode
+     * @param message
+     * @return BaseException
+     */
+    public static BaseException stackless(int statusCode, String message) {
+        return new BaseException(statusCode, message, false);
     }
 }
@@ -0,0 +1,267 @@
+package com.common.sdk.common_sdk.exception;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.utils.CommonUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to rate limit exception logging. Occurrences are
+ *           grouped by (exception class, response code, handler); the first
+ *           occurrences of every group in an interval are logged in full and
+ *           the rest are only counted in a {@link LongAdder}. At the end of the
+ *           interval one summary line per group reports the suppressed count
+ *           and a few sample correlation ids. Groups are looked up by handler,
+ *           then exception class, then code, so counting an occurrence does not
+ *           allocate a composite key. The shared {@link #defaults()} aggregator
+ *           has no scheduler: the first occurrence after its interval ended
+ *           writes the summary.
+ */
+@Slf4j
+public class ExceptionLogAggregator implements DisposableBean {
+
+    private final Map<String, Map<Class<?>, Codes>> handlers = new ConcurrentHashMap<>();
+    private final int defaultLimit;
+    private final Map<String, Integer> handlerLimits;
+    private final int sampleSize;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong nextFlush;
+
+    /**
+     * @implNote This constructor is used to create the aggregator and start the
+     *           periodic summary.
+     * @param defaultLimit
+     * @param handlerLimits
+     * @param sampleSize
+     * @param interval
+     */
+    public ExceptionLogAggregator(int defaultLimit, Map<String, Integer> handlerLimits, int sampleSize,
+            Duration interval) {
+        this(defaultLimit, handlerLimits, sampleSize, interval, true);
+    }
+
+    /**
+     * @implNote This constructor is used to create the aggregator, with a
+     *           scheduler for the summary or flushing it from shouldLog.
+     * @param defaultLimit
+     * @param handlerLimits
+     * @param sampleSize
+     * @param interval
+     * @param scheduled
+     */
+    ExceptionLogAggregator(int defaultLimit, Map<String, Integer> handlerLimits, int sampleSize,
+            Duration interval, boolean scheduled) {
+        if (interval == null || interval.isNegative() || interval.toMillis() == 0) {
+            throw new IllegalArgumentException(
+                    "common.sdk.exception.log-summary-interval must be at least 1ms: " + interval);
+        }
+        this.defaultLimit = defaultLimit;
+        this.handlerLimits = Map.copyOf(handlerLimits);
+        this.sampleSize = Math.max(sampleSize, 0);
+        this.interval = interval;
+        if (!scheduled) {
+            this.scheduler = null;
+            this.nextFlush = new AtomicLong(System.nanoTime() + interval.toNanos());
+            return;
+        }
+        this.nextFlush = null;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sdk-exception-log-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleAtFixedRate(this::flush, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @implNote This method is used to get the aggregator shared by handlers
+     *           created outside a Spring context, with the default limits of the
+     *           common.sdk.exception.* properties. It starts no thread, so it
+     *           needs no destroy.
+     * @return ExceptionLogAggregator
+     */
+    public static ExceptionLogAggregator defaults() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * @implNote This method is used to check if an occurrence should be logged in
+     *           full. When it returns false the occurrence has been counted for
+     *           the next summary line.
+     * @param handler
+     * @param type
+     * @param code
+     * @return boolean
+     */
+    public boolean shouldLog(String handler, Class<?> type, int code) {
+        if (nextFlush != null) {
+            flushIfDue();
+        }
+        Map<Class<?>, Codes> types = handlers.get(handler);
+        if (types == null) {
+            types = handlers.computeIfAbsent(handler, h -> new ConcurrentHashMap<>());
+        }
+        Codes codes = types.get(type);
+        if (codes == null) {
+            codes = types.computeIfAbsent(type, t -> new Codes());
+        }
+        Bucket bucket = codes.get(code);
+        if (bucket == null) {
+            bucket = codes.add(code, handlerLimits.getOrDefault(handler, defaultLimit), sampleSize);
+        }
+        return bucket.record();
+    }
+
+    /**
+     * @implNote This method is used to emit the summary lines and start a new
+     *           interval.
+     */
+    void flush() {
+        handlers.forEach((handler, types) -> types.forEach((type, codes) -> {
+            for (Bucket bucket : codes.buckets) {
+                long suppressed = bucket.suppressed.sumThenReset();
+                List<String> samples = bucket.drainSamples();
+                if (suppressed > 0) {
+                    log.atWarn()
+                            .addKeyValue(ApplicationConstants.LOG_CODE_KEY, bucket.code)
+                            .addKeyValue(ApplicationConstants.LOG_HANDLER_KEY, handler)
+                            .addKeyValue(ApplicationConstants.LOG_EXCEPTION_KEY, type.getName())
+                            .log("Suppressed {} repeated {} in {} with code {} during the last {}s, "
+                                    + "sample correlation ids: {}", suppressed, type.getName(), handler,
+                                    bucket.code, interval.toSeconds(), samples);
+                }
+                if (bucket.logged.getAndSet(0) == 0 && suppressed == 0) {
+                    codes.remove(bucket);
+                }
+            }
+        }));
+    }
+
+    private void flushIfDue() {
+        long due = nextFlush.get();
+        long now = System.nanoTime();
+        if (now - due >= 0 && nextFlush.compareAndSet(due, now + interval.toNanos())) {
+            flush();
+        }
+    }
+
+    /**
+     * @implNote This method is used to flush the pending summary and stop the
+     *           scheduler.
+     */
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        flush();
+    }
+
+    private static final class DefaultHolder {
+        private static final ExceptionLogAggregator INSTANCE = new ExceptionLogAggregator(20, Map.of(), 5,
+                Duration.ofMinutes(1), false);
+    }
+
+    /**
+     * @implNote This class is used to hold the groups of one handler and
+     *           exception class by code. There are rarely more than one or two
+     *           codes, so they are scanned from a copy-on-write array.
+     */
+    private static final class Codes {
+        private volatile Bucket[] buckets = new Bucket[0];
+
+        private Bucket get(int code) {
+            for (Bucket bucket : buckets) {
+                if (bucket.code == code) {
+                    return bucket;
+                }
+            }
+            return null;
+        }
+
+        private synchronized Bucket add(int code, int limit, int sampleSize) {
+            Bucket bucket = get(code);
+            if (bucket == null) {
+                Bucket[] current = buckets;
+                Bucket[] grown = Arrays.copyOf(current, current.length + 1);
+                bucket = new Bucket(code, limit, sampleSize);
+                grown[current.length] = bucket;
+                buckets = grown;
+            }
+            return bucket;
+        }
+
+        private synchronized void remove(Bucket bucket) {
+            Bucket[] current = buckets;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == bucket) {
+                    Bucket[] shrunk = new Bucket[current.length - 1];
+                    System.arraycopy(current, 0, shrunk, 0, i);
+                    System.arraycopy(current, i + 1, shrunk, i, shrunk.length - i);
+                    buckets = shrunk;
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private final int code;
+        private final int limit;
+        private final AtomicInteger logged = new AtomicInteger();
+        private final LongAdder suppressed = new LongAdder();
+        private final AtomicReferenceArray<String> samples;
+        private final AtomicInteger sampleIndex = new AtomicInteger();
+
+        private Bucket(int code, int limit, int sampleSize) {
+            this.code = code;
+            this.limit = limit;
+            this.samples = new AtomicReferenceArray<>(sampleSize);
+        }
+
+        private boolean record() {
+            if (logged.get() < limit && logged.incrementAndGet() <= limit) {
+                return true;
+            }
+            suppressed.increment();
+            String requestId = CommonUtils.getCurrentRequestId();
+            if (requestId != null && sampleIndex.get() < samples.length()) {
+                int index = sampleIndex.getAndIncrement();
+                if (index < samples.length()) {
+                    samples.set(index, requestId);
+                }
+            }
+            return false;
+        }
+
+        private List<String> drainSamples() {
+            int count = Math.min(sampleIndex.getAndSet(0), samples.length());
+            List<String> drained = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                drained.add(samples.getAndSet(i, null));
+            }
+            return drained;
+        }
+    }
+}
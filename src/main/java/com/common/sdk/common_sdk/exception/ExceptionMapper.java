@@ -0,0 +1,338 @@
+package com.common.sdk.common_sdk.exception;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.method.MethodValidationResult;
+import org.springframework.validation.method.ParameterValidationResult;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingPathVariableException;
+import org.springframework.web.bind.MissingRequestHeaderException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.models.dto.ErrorDetail;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.MessagePolicy;
+import com.common.sdk.common_sdk.models.interfaces.ExceptionMappingCustomizer;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.common.sdk.common_sdk.registry.ResponseCodeRegistry;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to map exceptions to their envelope with rules
+ *           registered per exception type. The rule of an exception type is
+ *           the one registered for the nearest type: its class, the interfaces
+ *           it declares, then its superclass and so on up to Throwable. Types
+ *           declaring a broader interface than their superclass, such as
+ *           MethodArgumentNotValidException, are registered explicitly. The
+ *           class hierarchy is walked once per exception type and the rule is
+ *           cached in a {@link ClassValue}, so a lookup costs the same
+ *           whatever the number of rules. Applications add or replace rules
+ *           with {@link ExceptionMappingCustomizer} beans.
+ */
+public final class ExceptionMapper {
+
+    private final Map<Class<?>, ExceptionRule> rules;
+    private final ResponseCodeRegistry registry;
+    private final ValidationErrorCollector validationErrors;
+    private final ClassValue<ExceptionRule> resolved = new ClassValue<>() {
+        @Override
+        protected ExceptionRule computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private ExceptionMapper(Builder builder) {
+        this.rules = Map.copyOf(builder.rules);
+        this.registry = builder.registry;
+        this.validationErrors = builder.validationErrors;
+    }
+
+    /**
+     * @implNote This method is used to create a builder holding the rules of the
+     *           SDK.
+     * @return Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @implNote This method is used to get the mapper with the rules of the SDK
+     *           and no response code registry.
+     * @return ExceptionMapper
+     */
+    public static ExceptionMapper defaults() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * @implNote This method is used to get the rule applied to an exception
+     *           type.
+     * @param type
+     * @return ExceptionRule
+     */
+    public ExceptionRule ruleFor(Class<? extends Throwable> type) {
+        return resolved.get(type);
+    }
+
+    /**
+     * @implNote This method is used to map an exception with the rule of its
+     *           type.
+     * @param ex
+     * @return ExceptionResponse
+     */
+    public ExceptionResponse map(Throwable ex) {
+        return map(ex, resolved.get(ex.getClass()));
+    }
+
+    /**
+     * @implNote This method is used to map an exception with the given rule, for
+     *           handlers that pick the rule from the exception state.
+     * @param ex
+     * @param rule
+     * @return ExceptionResponse
+     */
+    public ExceptionResponse map(Throwable ex, ExceptionRule rule) {
+        ResponseCode responseCode = rule.getResponseCode();
+        int code;
+        if (responseCode != null) {
+            code = responseCode.getCode();
+        } else if (ex instanceof BaseException e) {
+            code = e.getStatusCode();
+            responseCode = registry != null ? registry.find(code) : null;
+        } else if (ex instanceof ErrorResponse e) {
+            code = e.getStatusCode().value();
+            responseCode = registry != null ? registry.find(code) : null;
+        } else {
+            responseCode = APIResponseCode.INTERNAL_ERROR;
+            code = responseCode.getCode();
+        }
+
+        int status;
+        if (rule.getHttpStatus() != null) {
+            status = rule.getHttpStatus();
+        } else if (rule.getResponseCode() == null && ex instanceof ErrorResponse e) {
+            status = e.getStatusCode().value();
+        } else {
+            status = responseCode != null ? responseCode.getHttpStatus() : ResponseCode.httpStatusOf(code);
+        }
+
+        String message = switch (rule.getMessagePolicy()) {
+            case EXCEPTION -> ex instanceof ResponseStatusException e ? e.getReason() : ex.getMessage();
+            case RESPONSE_CODE -> responseCode != null ? responseCode.getMessage() : ApplicationConstants.EMPTY_STRING;
+            case FIXED -> rule.getMessage();
+            case NONE -> ApplicationConstants.EMPTY_STRING;
+        };
+        List<ErrorDetail> errors = null;
+        int omittedErrors = 0;
+        List<FieldError> fieldErrors = ex instanceof BindingResult result ? result.getFieldErrors()
+                : ex instanceof MethodValidationResult result ? parameterErrors(result) : null;
+        if (fieldErrors != null) {
+            errors = validationErrors.collect(fieldErrors);
+            omittedErrors = fieldErrors.size() - errors.size();
+            message = ValidationErrorCollector.summary(errors, fieldErrors.size());
+        }
+
+        String handler = rule.getHandler() != null ? rule.getHandler() : handlerName(ex.getClass());
+        LogLevel logLevel = rule.getLogLevel() != null ? rule.getLogLevel()
+                : status >= 500 ? LogLevel.ERROR : LogLevel.WARN;
+        boolean stackTrace = rule.isStackTrace() && !(ex instanceof BaseException e && !e.isStackTraceCaptured());
+        return new ExceptionResponse(code, responseCode, status, message, errors, omittedErrors, handler, logLevel,
+                stackTrace);
+    }
+
+    private static List<FieldError> parameterErrors(MethodValidationResult result) {
+        List<FieldError> fieldErrors = new ArrayList<>();
+        for (ParameterValidationResult parameter : result.getParameterValidationResults()) {
+            String name = parameter.getMethodParameter().getParameterName();
+            if (name == null) {
+                name = "arg" + parameter.getMethodParameter().getParameterIndex();
+            }
+            for (MessageSourceResolvable error : parameter.getResolvableErrors()) {
+                fieldErrors.add(error instanceof FieldError fieldError ? fieldError
+                        : new FieldError(name, name, parameter.getArgument(), false, error.getCodes(),
+                                error.getArguments(), error.getDefaultMessage()));
+            }
+        }
+        return fieldErrors;
+    }
+
+    private ExceptionRule resolve(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            ExceptionRule rule = rules.get(current);
+            if (rule == null) {
+                rule = interfaceRule(current);
+            }
+            if (rule != null) {
+                return rule;
+            }
+        }
+        return rules.get(Throwable.class);
+    }
+
+    private ExceptionRule interfaceRule(Class<?> type) {
+        for (Class<?> declared : type.getInterfaces()) {
+            ExceptionRule rule = rules.get(declared);
+            if (rule == null) {
+                rule = interfaceRule(declared);
+            }
+            if (rule != null) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static String handlerName(Class<?> type) {
+        return "handle" + type.getSimpleName();
+    }
+
+    /**
+     * @implNote This class is used to build an exception mapper. It starts with
+     *           the rules of the SDK, a rule registered for the same type
+     *           replaces the previous one.
+     */
+    public static final class Builder {
+
+        private final Map<Class<?>, ExceptionRule> rules = new HashMap<>();
+        private ResponseCodeRegistry registry;
+        private ValidationErrorCollector validationErrors = new ValidationErrorCollector();
+
+        private Builder() {
+            registerDefaults();
+        }
+
+        /**
+         * @implNote This method is used to register the rule of an exception type
+         *           and its subtypes. Interfaces implemented by exceptions can be
+         *           registered as well.
+         * @param type
+         * @param rule
+         * @return Builder
+         */
+        public Builder map(Class<?> type, ExceptionRule rule) {
+            if (!type.isInterface() && !Throwable.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException(type.getName() + " is neither an exception nor an interface");
+            }
+            rules.put(type, rule.getHandler() != null ? rule : rule.withHandler(handlerName(type)));
+            return this;
+        }
+
+        /**
+         * @implNote This method is used to set the registry resolving the codes
+         *           carried by exceptions to their response code.
+         * @param registry
+         * @return Builder
+         */
+        public Builder registry(ResponseCodeRegistry registry) {
+            this.registry = registry;
+            return this;
+        }
+
+        /**
+         * @implNote This method is used to set the collector of validation error
+         *           details.
+         * @param validationErrors
+         * @return Builder
+         */
+        public Builder validationErrors(ValidationErrorCollector validationErrors) {
+            this.validationErrors = validationErrors;
+            return this;
+        }
+
+        /**
+         * @implNote This method is used to apply customizers to the builder.
+         * @param customizers
+         * @return Builder
+         */
+        public Builder customize(Iterable<? extends ExceptionMappingCustomizer> customizers) {
+            customizers.forEach(customizer -> customizer.customize(this));
+            return this;
+        }
+
+        /**
+         * @implNote This method is used to build the mapper.
+         * @return ExceptionMapper
+         */
+        public ExceptionMapper build() {
+            return new ExceptionMapper(this);
+        }
+
+        private void registerDefaults() {
+            map(Throwable.class, ExceptionRule.of(APIResponseCode.INTERNAL_ERROR)
+                    .withMessage(ApplicationConstants.GENERIC_ERROR_MESSAGE).withStackTrace(true)
+                    .withHandler("handleGeneric"));
+            map(BaseException.class, ExceptionRule.fromException().withStackTrace(true)
+                    .withHandler("handleException"));
+            map(ErrorResponse.class, ExceptionRule.fromException().withHandler("handleErrorResponse"));
+            map(ResponseStatusException.class, ExceptionRule.fromException().withHandler("handleResponseStatus"));
+
+            ExceptionRule validation = ExceptionRule.of(APIResponseCode.VALIDATION_ERROR)
+                    .withHandler("handleValidation");
+            map(BindException.class, validation);
+            map(MethodArgumentNotValidException.class, validation);
+            map(HandlerMethodValidationException.class, validation);
+            map(WebExchangeBindException.class, validation);
+            map(MissingServletRequestParameterException.class,
+                    ExceptionRule.of(APIResponseCode.MISSING_REQUEST_PARAM).withHandler("handleMissingParam"));
+            map(MissingPathVariableException.class,
+                    ExceptionRule.of(APIResponseCode.MISSING_PATH_VARIABLE).withHandler("handleMissingPathVar"));
+            map(MissingRequestHeaderException.class,
+                    ExceptionRule.of(APIResponseCode.MISSING_REQUEST_HEADER).withHandler("handleMissingHeader"));
+            map(MethodArgumentTypeMismatchException.class,
+                    ExceptionRule.of(APIResponseCode.ARGUMENT_TYPE_MISMATCH).withHandler("handleTypeMismatch"));
+            map(HttpMessageNotReadableException.class, ExceptionRule.of(APIResponseCode.HTTP_MESSAGE_NOT_READABLE)
+                    .withMessage(ApplicationConstants.INVALID_PAYLOAD_MESSAGE).withHandler("handleUnreadable"));
+            map(ConversionFailedException.class,
+                    ExceptionRule.of(APIResponseCode.CONVERSION_FAILED).withHandler("handleConversion"));
+            map(ServerWebInputException.class,
+                    ExceptionRule.of(APIResponseCode.BAD_REQUEST).withHandler("handleBadRequest"));
+
+            ExceptionRule methodNotAllowed = ExceptionRule.of(APIResponseCode.METHOD_NOT_ALLOWED)
+                    .withMessage(MessagePolicy.NONE).withHandler("handleMethodNotAllowed");
+            map(HttpRequestMethodNotSupportedException.class, methodNotAllowed);
+            map(MethodNotAllowedException.class, methodNotAllowed);
+            ExceptionRule unsupportedMedia = ExceptionRule.of(APIResponseCode.UNSUPPORTED_MEDIA_TYPE)
+                    .withMessage(MessagePolicy.NONE).withHandler("handleUnsupportedMedia");
+            map(HttpMediaTypeNotSupportedException.class, unsupportedMedia);
+            map(UnsupportedMediaTypeStatusException.class, unsupportedMedia);
+            map(AsyncRequestTimeoutException.class, ExceptionRule.of(APIResponseCode.RESPONSE_TIMEOUT)
+                    .withMessage(MessagePolicy.NONE).withLogLevel(LogLevel.WARN).withHandler("handleAsyncTimeout"));
+
+            map(IllegalArgumentException.class,
+                    ExceptionRule.of(APIResponseCode.ILLEGAL_ARGUMENT).withHandler("handleIllegalArgument"));
+            map(IllegalStateException.class,
+                    ExceptionRule.of(APIResponseCode.ILLEGAL_STATE).withHandler("handleIllegalState"));
+            map(NullPointerException.class, ExceptionRule.of(APIResponseCode.NULL_POINTER)
+                    .withMessage(ApplicationConstants.NULL_POINTER_MESSAGE).withHandler("handleNullPointer"));
+        }
+    }
+
+    private static final class DefaultHolder {
+        private static final ExceptionMapper INSTANCE = builder().build();
+    }
+}
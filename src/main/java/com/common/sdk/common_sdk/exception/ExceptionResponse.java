@@ -0,0 +1,99 @@
+package com.common.sdk.common_sdk.exception;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.boot.logging.LogLevel;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.dto.ErrorDetail;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to describe the envelope an exception maps to:
+ *           the response code, the HTTP status, the client facing message and
+ *           validation details, the handler name used for logging and metrics,
+ *           and how the exception is logged.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ExceptionResponse {
+    private final int code;
+    private final ResponseCode responseCode;
+    private final int status;
+    private final String message;
+    private final List<ErrorDetail> errors;
+    private final int omittedErrors;
+    private final String handler;
+    private final LogLevel logLevel;
+    private final boolean stackTrace;
+
+    /**
+     * @implNote This method is used to get the namespace of the response code,
+     *           the default namespace for a bare code.
+     * @return String
+     */
+    public String getNamespace() {
+        return responseCode != null ? responseCode.namespace() : ApplicationConstants.DEFAULT_CODE_NAMESPACE;
+    }
+
+    /**
+     * @implNote This method is used to check if the exception is logged as an
+     *           error.
+     * @return boolean
+     */
+    public boolean isError() {
+        return logLevel == LogLevel.ERROR || logLevel == LogLevel.FATAL;
+    }
+
+    /**
+     * @implNote This method is used to create the failure envelope.
+     * @param requestId
+     * @return ApiResponse<T>
+     */
+    public <T> ApiResponse<T> toApiResponse(String requestId) {
+        if (responseCode == null) {
+            return ApiResponse.failure(code, message, requestId);
+        }
+        return ApiResponse.failure(responseCode, message, errors, omittedErrors, requestId);
+    }
+
+    /**
+     * @implNote This method is used to log the exception at the level of its
+     *           rule. Validation failures are logged with their bounded summary.
+     *           The code, handler and exception class are added as key-value
+     *           pairs for structured encoders.
+     * @param logger
+     * @param ex
+     */
+    public void log(Logger logger, Throwable ex) {
+        Level level = switch (logLevel) {
+            case TRACE -> Level.TRACE;
+            case DEBUG -> Level.DEBUG;
+            case INFO -> Level.INFO;
+            case WARN -> Level.WARN;
+            case ERROR, FATAL -> Level.ERROR;
+            case OFF -> null;
+        };
+        if (level == null || !logger.isEnabledForLevel(level)) {
+            return;
+        }
+        LoggingEventBuilder event = logger.atLevel(level)
+                .addKeyValue(ApplicationConstants.LOG_CODE_KEY, code)
+                .addKeyValue(ApplicationConstants.LOG_HANDLER_KEY, handler)
+                .addKeyValue(ApplicationConstants.LOG_EXCEPTION_KEY, ex.getClass().getName());
+        if (stackTrace) {
+            event = event.setCause(ex);
+        }
+        event.log("{}: {} - {}", handler, ex.getClass().getSimpleName(), errors != null ? message : ex.getMessage());
+    }
+}
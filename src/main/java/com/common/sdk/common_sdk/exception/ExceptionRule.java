@@ -0,0 +1,131 @@
+package com.common.sdk.common_sdk.exception;
+
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.web.ErrorResponse;
+
+import com.common.sdk.common_sdk.models.enums.MessagePolicy;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to describe how an exception type is mapped to
+ *           a response: the response code, the HTTP status, the log level, the
+ *           client facing message and the handler name used for logging and
+ *           metrics. Rules are immutable, every {@code with} method returns a
+ *           copy.
+ */
+@Getter
+public final class ExceptionRule {
+
+    private final ResponseCode responseCode;
+    private final Integer httpStatus;
+    private final LogLevel logLevel;
+    private final boolean stackTrace;
+    private final MessagePolicy messagePolicy;
+    private final String message;
+    private final String handler;
+
+    private ExceptionRule(ResponseCode responseCode, Integer httpStatus, LogLevel logLevel, boolean stackTrace,
+            MessagePolicy messagePolicy, String message, String handler) {
+        this.responseCode = responseCode;
+        this.httpStatus = httpStatus;
+        this.logLevel = logLevel;
+        this.stackTrace = stackTrace;
+        this.messagePolicy = messagePolicy;
+        this.message = message;
+        this.handler = handler;
+    }
+
+    /**
+     * @implNote This method is used to create a rule answering with the response
+     *           code and the message of the exception. The HTTP status comes
+     *           from the response code, 5xx statuses are logged as errors and
+     *           others as warnings.
+     * @param responseCode
+     * @return ExceptionRule
+     */
+    public static ExceptionRule of(ResponseCode responseCode) {
+        if (responseCode == null) {
+            throw new IllegalArgumentException("responseCode must not be null");
+        }
+        return new ExceptionRule(responseCode, null, null, false, MessagePolicy.EXCEPTION, null, null);
+    }
+
+    /**
+     * @implNote This method is used to create a rule answering with the code the
+     *           exception carries: the status code of a {@link BaseException} or
+     *           the HTTP status of an {@link ErrorResponse}. The code is looked
+     *           up in the response code registry for its HTTP status.
+     * @return ExceptionRule
+     */
+    public static ExceptionRule fromException() {
+        return new ExceptionRule(null, null, null, false, MessagePolicy.EXCEPTION, null, null);
+    }
+
+    /**
+     * @implNote This method is used to override the HTTP status of the response
+     *           code.
+     * @param httpStatus
+     * @return ExceptionRule
+     */
+    public ExceptionRule withHttpStatus(int httpStatus) {
+        return new ExceptionRule(responseCode, httpStatus, logLevel, stackTrace, messagePolicy, message, handler);
+    }
+
+    /**
+     * @implNote This method is used to set the log level, OFF disables the log.
+     * @param logLevel
+     * @return ExceptionRule
+     */
+    public ExceptionRule withLogLevel(LogLevel logLevel) {
+        return new ExceptionRule(responseCode, httpStatus, logLevel, stackTrace, messagePolicy, message, handler);
+    }
+
+    /**
+     * @implNote This method is used to log the stack trace of the exception,
+     *           when it has captured one.
+     * @param stackTrace
+     * @return ExceptionRule
+     */
+    public ExceptionRule withStackTrace(boolean stackTrace) {
+        return new ExceptionRule(responseCode, httpStatus, logLevel, stackTrace, messagePolicy, message, handler);
+    }
+
+    /**
+     * @implNote This method is used to set where the client facing message comes
+     *           from.
+     * @param messagePolicy
+     * @return ExceptionRule
+     */
+    public ExceptionRule withMessage(MessagePolicy messagePolicy) {
+        if (messagePolicy == MessagePolicy.FIXED) {
+            throw new IllegalArgumentException("A fixed message is set with withMessage(String)");
+        }
+        return new ExceptionRule(responseCode, httpStatus, logLevel, stackTrace, messagePolicy, null, handler);
+    }
+
+    /**
+     * @implNote This method is used to answer with a fixed message.
+     * @param message
+     * @return ExceptionRule
+     */
+    public ExceptionRule withMessage(String message) {
+        return new ExceptionRule(responseCode, httpStatus, logLevel, stackTrace, MessagePolicy.FIXED, message,
+                handler);
+    }
+
+    /**
+     * @implNote This method is used to set the handler name used for logging and
+     *           metrics. It defaults to handle followed by the simple name of the
+     *           registered exception type.
+     * @param handler
+     * @return ExceptionRule
+     */
+    public ExceptionRule withHandler(String handler) {
+        return new ExceptionRule(responseCode, httpStatus, logLevel, stackTrace, messagePolicy, message, handler);
+    }
+}
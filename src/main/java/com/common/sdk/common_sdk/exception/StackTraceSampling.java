@@ -0,0 +1,47 @@
+package com.common.sdk.common_sdk.exception;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to decide whether a stackless
+ *           {@link BaseException} should capture its stack trace anyway. With
+ *           a sample rate of N roughly one in N stackless exceptions keeps its
+ *           trace, zero disables sampling. The rate is bound from
+ *           common.sdk.exception.stack-trace-sample-rate at startup.
+ */
+public final class StackTraceSampling {
+
+    private static volatile int sampleRate;
+
+    private StackTraceSampling() {
+    }
+
+    /**
+     * @implNote This method is used to set the sample rate.
+     * @param rate
+     */
+    public static void setSampleRate(int rate) {
+        sampleRate = Math.max(rate, 0);
+    }
+
+    /**
+     * @implNote This method is used to get the sample rate.
+     * @return int
+     */
+    public static int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @implNote This method is used to check if the current stackless exception
+     *           should capture its stack trace.
+     * @return boolean
+     */
+    static boolean sample() {
+        int rate = sampleRate;
+        return rate == 1 || (rate > 1 && ThreadLocalRandom.current().nextInt(rate) == 0);
+    }
+}
@@ -0,0 +1,171 @@
+package com.common.sdk.common_sdk.exception;
+
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.validation.FieldError;
+
+import com.common.sdk.common_sdk.models.dto.ErrorDetail;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to turn field errors into bounded
+ *           {@link ErrorDetail}s. At most maxErrors errors are kept and
+ *           collection stops once their text reaches maxLength characters, so a
+ *           request with thousands of invalid rows gets a response of bounded
+ *           size. Rejected values are summarised by type and cut to
+ *           maxValueLength characters, and constraint messages are encoded
+ *           once per constraint code and message.
+ */
+public class ValidationErrorCollector {
+
+    public static final int DEFAULT_MAX_ERRORS = 50;
+    public static final int DEFAULT_MAX_LENGTH = 8192;
+    public static final int DEFAULT_MAX_VALUE_LENGTH = 64;
+    static final String TRUNCATED = "...";
+    private static final int MAX_CACHED_MESSAGES = 512;
+
+    private final int maxErrors;
+    private final int maxLength;
+    private final int maxValueLength;
+    private final Map<MessageKey, SerializedString> messages = new ConcurrentHashMap<>();
+
+    /**
+     * @implNote This constructor is used to create the collector with the
+     *           default limits.
+     */
+    public ValidationErrorCollector() {
+        this(DEFAULT_MAX_ERRORS, DEFAULT_MAX_LENGTH, DEFAULT_MAX_VALUE_LENGTH);
+    }
+
+    /**
+     * @implNote This constructor is used to create the collector.
+     * @param maxErrors
+     * @param maxLength
+     * @param maxValueLength
+     */
+    public ValidationErrorCollector(int maxErrors, int maxLength, int maxValueLength) {
+        if (maxErrors < 1 || maxLength < TRUNCATED.length() || maxValueLength < TRUNCATED.length()) {
+            throw new IllegalArgumentException("maxErrors must be positive, maxLength and maxValueLength at least "
+                    + TRUNCATED.length());
+        }
+        this.maxErrors = maxErrors;
+        this.maxLength = maxLength;
+        this.maxValueLength = maxValueLength;
+    }
+
+    /**
+     * @implNote This method is used to collect the details of the given field
+     *           errors within the configured limits. The caller reports the
+     *           errors left out as the difference in size.
+     * @param fieldErrors
+     * @return List<ErrorDetail>
+     */
+    public List<ErrorDetail> collect(List<FieldError> fieldErrors) {
+        List<ErrorDetail> details = new ArrayList<>(Math.min(fieldErrors.size(), maxErrors));
+        int length = 0;
+        for (FieldError error : fieldErrors) {
+            if (details.size() == maxErrors) {
+                break;
+            }
+            String field = abbreviate(error.getField(), maxLength);
+            String rejectedValue = summarize(error.getRejectedValue());
+            String code = abbreviate(error.getCode(), maxValueLength);
+            String message = abbreviate(error.getDefaultMessage(), maxLength);
+            length += length(field) + length(rejectedValue) + length(code) + length(message);
+            if (length > maxLength && !details.isEmpty()) {
+                break;
+            }
+            details.add(ErrorDetail.of(field, rejectedValue, code, message, encoded(code, message)));
+        }
+        return details;
+    }
+
+    /**
+     * @implNote This method is used to build the short errorMessage of the
+     *           envelope: the first error and the number of remaining ones.
+     * @param details
+     * @param total
+     * @return String
+     */
+    public static String summary(List<ErrorDetail> details, int total) {
+        if (details.isEmpty()) {
+            return APIResponseCode.VALIDATION_ERROR.getMessage();
+        }
+        ErrorDetail first = details.get(0);
+        String message = first.getField() + ": " + first.getMessage();
+        return total > 1 ? message + " (and " + (total - 1) + " more)" : message;
+    }
+
+    /**
+     * @implNote This method is used to summarise a rejected value without
+     *           calling toString on arbitrary objects or copying large inputs.
+     *           Scalars are cut to maxValueLength characters, containers are
+     *           reported by size and other objects by type.
+     * @param value
+     * @return String
+     */
+    String summarize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum<?> || value instanceof TemporalAccessor
+                || value instanceof UUID) {
+            return abbreviate(value instanceof CharSequence chars ? chars : value.toString(), maxValueLength);
+        }
+        if (value instanceof Collection<?> collection) {
+            return "collection of " + collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return "map of " + map.size();
+        }
+        if (value.getClass().isArray()) {
+            return "array of " + Array.getLength(value);
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private SerializedString encoded(String code, String message) {
+        if (message == null) {
+            return null;
+        }
+        MessageKey key = new MessageKey(code, message);
+        SerializedString encoded = messages.get(key);
+        if (encoded == null && messages.size() < MAX_CACHED_MESSAGES) {
+            encoded = messages.computeIfAbsent(key, k -> new SerializedString(k.message()));
+        }
+        return encoded;
+    }
+
+    private static String abbreviate(CharSequence value, int limit) {
+        if (value == null) {
+            return null;
+        }
+        if (value.length() <= limit) {
+            return value.toString();
+        }
+        int end = limit - TRUNCATED.length();
+        if (end > 0 && Character.isHighSurrogate(value.charAt(end - 1))) {
+            end--;
+        }
+        return value.subSequence(0, end) + TRUNCATED;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record MessageKey(String code, String message) {
+    }
+}
@@ -1,15 +1,16 @@
 package com.common.sdk.common_sdk.filter;
 
 import java.io.IOException;
-import java.util.UUID;
 
-import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.correlation.CorrelationContext;
+import com.common.sdk.common_sdk.correlation.RandomUuidGenerator;
+import com.common.sdk.common_sdk.models.interfaces.CorrelationIdGenerator;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -21,11 +22,35 @@ import jakarta.servlet.http.HttpServletResponse;
  * @version 1.0
  * @since 2025-11-25
  * @implNote This class is used to add correlation id in the request and
- *           response.
+ *           response. The id is fixed when the request starts and kept as a
+ *           request attribute, so async dispatches of the same request, such
+ *           as the one rendering a CompletableFuture result or its exception,
+ *           run with the same id.
  */
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class CorrelationFilter extends OncePerRequestFilter implements ApplicationConstants {
 
+    public static final String CORRELATION_ID_ATTRIBUTE = CorrelationFilter.class.getName() + ".correlationId";
+
+    private final CorrelationIdGenerator idGenerator;
+
+    /**
+     * @implNote This constructor is used to create the filter with the random
+     *           UUID generator.
+     */
+    public CorrelationFilter() {
+        this(new RandomUuidGenerator());
+    }
+
+    /**
+     * @implNote This constructor is used to create the filter with the given
+     *           correlation id generator.
+     * @param idGenerator
+     */
+    public CorrelationFilter(CorrelationIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     /**
      * @implNote This method is used to add correlation id in the request and
      *           response.
@@ -38,17 +63,28 @@ public class CorrelationFilter extends OncePerRequestFilter implements Applicati
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        String header = request.getHeader(CORRELATION_ID);
-        if (ObjectUtils.isEmpty(header)) {
-            header = UUID.randomUUID().toString();
+        String header = (String) request.getAttribute(CORRELATION_ID_ATTRIBUTE);
+        if (header == null) {
+            header = request.getHeader(CORRELATION_ID);
+            if (ObjectUtils.isEmpty(header)) {
+                header = idGenerator.generate();
+            }
+            request.setAttribute(CORRELATION_ID_ATTRIBUTE, header);
+            response.setHeader(CORRELATION_ID, header);
         }
 
-        MDC.put(CORRELATION_ID, header);
-        response.setHeader(CORRELATION_ID, header);
-        try {
+        try (CorrelationContext.Scope scope = CorrelationContext.open(header)) {
             filterChain.doFilter(request, response);
-        } finally {
-            MDC.remove(CORRELATION_ID);
         }
     }
+
+    /**
+     * @implNote This method is used to run the filter on async dispatches too,
+     *           restoring the correlation id of the request.
+     * @return boolean
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
 }
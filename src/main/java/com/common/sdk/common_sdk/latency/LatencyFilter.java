@@ -0,0 +1,100 @@
+package com.common.sdk.common_sdk.latency;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.common.sdk.common_sdk.utils.CommonUtils;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to time every request and record it under its
+ *           method and the route pattern of the handler that served it, so
+ *           path variables do not multiply the endpoints. Requests no handler
+ *           matched are recorded under {@value #UNMATCHED}. Asynchronously
+ *           completed requests are recorded when they complete.
+ */
+@RequiredArgsConstructor
+public class LatencyFilter extends OncePerRequestFilter {
+
+    public static final String UNMATCHED = "UNMATCHED";
+
+    private static final int FAILED_STATUS = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+
+    private final LatencyRecorder recorder;
+
+    /**
+     * @implNote This method is used to time the request.
+     * @param request
+     * @param response
+     * @param filterChain
+     * @throws ServletException
+     * @throws IOException
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        String correlationId = CommonUtils.getCurrentRequestId();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnComplete(recorder, start, correlationId));
+            } else {
+                recorder.record(request.getMethod(), route(request), completed ? response.getStatus() : FAILED_STATUS,
+                        System.nanoTime() - start, correlationId);
+            }
+        }
+    }
+
+    private static String route(ServletRequest request) {
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern
+                ? pattern
+                : UNMATCHED;
+    }
+
+    /**
+     * @implNote This class is used to record asynchronously completed requests.
+     */
+    private record RecordOnComplete(LatencyRecorder recorder, long start, String correlationId)
+            implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletRequest request = (HttpServletRequest) event.getSuppliedRequest();
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            recorder.record(request.getMethod(), route(request), response.getStatus(), System.nanoTime() - start,
+                    correlationId);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // onComplete follows a timeout as well
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onComplete follows an error as well
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
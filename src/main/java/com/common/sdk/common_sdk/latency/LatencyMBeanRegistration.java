@@ -0,0 +1,61 @@
+package com.common.sdk.common_sdk.latency;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import com.common.sdk.common_sdk.models.interfaces.LatencyMXBean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to register the latency recorder with the
+ *           platform MBean server for the lifetime of the context. It does not
+ *           depend on spring.jmx.enabled. When the name is already taken, for
+ *           example by a second context in the same JVM, registration is
+ *           skipped with a warning.
+ */
+@Slf4j
+public class LatencyMBeanRegistration implements InitializingBean, DisposableBean {
+
+    private final LatencyMXBean mxBean;
+    private final ObjectName objectName;
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private boolean registered;
+
+    /**
+     * @implNote This constructor is used to create the registration.
+     * @param mxBean
+     * @param objectName
+     * @throws JMException
+     */
+    public LatencyMBeanRegistration(LatencyMXBean mxBean, String objectName) throws JMException {
+        this.mxBean = mxBean;
+        this.objectName = new ObjectName(objectName);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws JMException {
+        if (server.isRegistered(objectName)) {
+            log.warn("Latency MBean not registered, {} is already in use", objectName);
+            return;
+        }
+        server.registerMBean(mxBean, objectName);
+        registered = true;
+    }
+
+    @Override
+    public void destroy() throws JMException {
+        if (registered) {
+            server.unregisterMBean(objectName);
+        }
+    }
+}
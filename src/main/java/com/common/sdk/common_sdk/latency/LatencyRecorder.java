@@ -0,0 +1,178 @@
+package com.common.sdk.common_sdk.latency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpMethod;
+
+import com.common.sdk.common_sdk.models.interfaces.LatencyMXBean;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to record request durations per endpoint
+ *           (method and route pattern) into striped HdrHistogram recorders
+ *           and to publish the distribution of every endpoint once per
+ *           interval. Durations are kept in microseconds. Looking up a known
+ *           endpoint and recording into it allocate nothing. Methods outside
+ *           the standard HTTP methods share the OTHER endpoint of their route,
+ *           so clients cannot grow the endpoints with made-up methods.
+ */
+public class LatencyRecorder implements LatencyMXBean, DisposableBean {
+
+    static final String OTHER = "OTHER";
+    private static final HttpMethod[] KNOWN_METHODS = HttpMethod.values();
+
+    private final Map<String, Map<String, Endpoint>> endpoints = new ConcurrentHashMap<>();
+    private final SlowRequestLog slowRequests;
+    private final long highestTrackableMicros;
+    private final int significantDigits;
+    private final int stripes;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @implNote This constructor is used to create the recorder and start the
+     *           periodic snapshots.
+     * @param interval
+     * @param highestTrackable
+     * @param significantDigits
+     * @param stripes recorders per endpoint, 0 to derive it from the processors
+     * @param slowThreshold
+     * @param slowCapacity
+     */
+    public LatencyRecorder(Duration interval, Duration highestTrackable, int significantDigits, int stripes,
+            Duration slowThreshold, int slowCapacity) {
+        if (interval == null || interval.isNegative() || interval.toMillis() == 0) {
+            throw new IllegalArgumentException("common.sdk.latency.interval must be at least 1ms: " + interval);
+        }
+        this.highestTrackableMicros = Math.max(highestTrackable.toNanos() / 1_000, 2);
+        this.significantDigits = significantDigits;
+        int requested = stripes > 0 ? stripes : Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        this.stripes = Integer.highestOneBit(requested * 2 - 1);
+        this.slowRequests = new SlowRequestLog(slowCapacity, slowThreshold.toNanos());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sdk-latency-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleAtFixedRate(this::snapshot, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @implNote This method is used to record a completed request.
+     * @param method
+     * @param route
+     * @param status
+     * @param durationNanos
+     * @param correlationId
+     */
+    public void record(String method, String route, int status, long durationNanos, String correlationId) {
+        String known = knownMethod(method);
+        endpoint(known, route).recorder.record(durationNanos / 1_000);
+        slowRequests.record(correlationId, known, route, status, durationNanos);
+    }
+
+    /**
+     * @implNote This method is used to map a request method to the name of
+     *           the standard HTTP method it equals, or to OTHER.
+     * @param method
+     * @return String
+     */
+    static String knownMethod(String method) {
+        for (HttpMethod known : KNOWN_METHODS) {
+            if (known.name().equals(method)) {
+                return known.name();
+            }
+        }
+        return OTHER;
+    }
+
+    private Endpoint endpoint(String method, String route) {
+        Map<String, Endpoint> byMethod = endpoints.get(route);
+        if (byMethod == null) {
+            byMethod = endpoints.computeIfAbsent(route, r -> new ConcurrentHashMap<>());
+        }
+        Endpoint endpoint = byMethod.get(method);
+        if (endpoint == null) {
+            endpoint = byMethod.computeIfAbsent(method, m -> new Endpoint(m, route,
+                    new StripedRecorder(stripes, highestTrackableMicros, significantDigits)));
+        }
+        return endpoint;
+    }
+
+    /**
+     * @implNote This method is used to close the current interval of every
+     *           endpoint and publish its distribution.
+     */
+    void snapshot() {
+        long intervalEnd = System.currentTimeMillis();
+        for (Map<String, Endpoint> byMethod : endpoints.values()) {
+            for (Endpoint endpoint : byMethod.values()) {
+                Histogram histogram = endpoint.recorder.intervalHistogram();
+                endpoint.last = new LatencySnapshot(endpoint.method, endpoint.route, histogram.getTotalCount(),
+                        histogram.getMean() / 1_000, millis(histogram, 50), millis(histogram, 90),
+                        millis(histogram, 99), millis(histogram, 99.9), histogram.getMaxValue() / 1_000.0,
+                        intervalEnd);
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    @Override
+    public List<LatencySnapshot> getEndpoints() {
+        List<LatencySnapshot> snapshots = new ArrayList<>();
+        for (Map<String, Endpoint> byMethod : endpoints.values()) {
+            for (Endpoint endpoint : byMethod.values()) {
+                LatencySnapshot last = endpoint.last;
+                if (last != null) {
+                    snapshots.add(last);
+                }
+            }
+        }
+        return snapshots;
+    }
+
+    @Override
+    public List<SlowRequest> getSlowRequests() {
+        return slowRequests.getSlowRequests();
+    }
+
+    @Override
+    public long getSlowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowRequests.getThresholdNanos());
+    }
+
+    /**
+     * @implNote This method is used to stop the periodic snapshots.
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private static final class Endpoint {
+        private final String method;
+        private final String route;
+        private final StripedRecorder recorder;
+        private volatile LatencySnapshot last;
+
+        private Endpoint(String method, String route, StripedRecorder recorder) {
+            this.method = method;
+            this.route = route;
+            this.recorder = recorder;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.common.sdk.common_sdk.latency;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This record is used to expose the latency distribution of one
+ *           endpoint over the last completed interval. Durations are in
+ *           milliseconds and the interval ended at intervalEnd (epoch
+ *           milliseconds).
+ */
+public record LatencySnapshot(String method, String route, long count, double mean, double p50, double p90,
+        double p99, double p999, double max, long intervalEnd) {
+}
@@ -0,0 +1,13 @@
+package com.common.sdk.common_sdk.latency;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This record is used to expose one request captured by the slow
+ *           request log. The duration is in milliseconds and the timestamp in
+ *           epoch milliseconds.
+ */
+public record SlowRequest(String correlationId, String method, String route, int status, double duration,
+        long timestamp) {
+}
@@ -0,0 +1,111 @@
+package com.common.sdk.common_sdk.latency;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to keep the most recent requests slower than a
+ *           threshold in a fixed ring of preallocated slots. A writer claims
+ *           the next slot and fills it in place under a per-slot version, so
+ *           capturing allocates nothing; a writer finding its slot busy drops
+ *           the capture rather than waiting. Readers copy a slot only if its
+ *           version did not change while reading.
+ */
+public class SlowRequestLog {
+
+    private final Slot[] slots;
+    private final int mask;
+    private final long thresholdNanos;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @implNote This constructor is used to create the ring. The capacity is
+     *           rounded up to a power of two.
+     * @param capacity
+     * @param thresholdNanos
+     */
+    public SlowRequestLog(int capacity, long thresholdNanos) {
+        int size = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1);
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    /**
+     * @implNote This method is used to capture a request if it is slower than
+     *           the threshold.
+     * @param correlationId
+     * @param method
+     * @param route
+     * @param status
+     * @param durationNanos
+     * @return boolean true if captured
+     */
+    public boolean record(String correlationId, String method, String route, int status, long durationNanos) {
+        if (durationNanos < thresholdNanos) {
+            return false;
+        }
+        Slot slot = slots[(int) (sequence.getAndIncrement() & mask)];
+        long version = slot.version.get();
+        if ((version & 1) != 0 || !slot.version.compareAndSet(version, version + 1)) {
+            return false;
+        }
+        slot.correlationId = correlationId;
+        slot.method = method;
+        slot.route = route;
+        slot.status = status;
+        slot.durationNanos = durationNanos;
+        slot.timestamp = System.currentTimeMillis();
+        slot.version.set(version + 2);
+        return true;
+    }
+
+    /**
+     * @implNote This method is used to get the captured requests, slowest first.
+     * @return List<SlowRequest>
+     */
+    public List<SlowRequest> getSlowRequests() {
+        List<SlowRequest> requests = new ArrayList<>(slots.length);
+        for (Slot slot : slots) {
+            long version = slot.version.get();
+            if (version == 0 || (version & 1) != 0) {
+                continue;
+            }
+            SlowRequest request = new SlowRequest(slot.correlationId, slot.method, slot.route, slot.status,
+                    slot.durationNanos / 1_000_000.0, slot.timestamp);
+            VarHandle.acquireFence();
+            if (slot.version.get() == version) {
+                requests.add(request);
+            }
+        }
+        requests.sort(Comparator.comparingDouble(SlowRequest::duration).reversed());
+        return requests;
+    }
+
+    /**
+     * @implNote This method is used to get the capture threshold.
+     * @return long
+     */
+    public long getThresholdNanos() {
+        return thresholdNanos;
+    }
+
+    private static final class Slot {
+        private final AtomicLong version = new AtomicLong();
+        private String correlationId;
+        private String method;
+        private String route;
+        private int status;
+        private long durationNanos;
+        private long timestamp;
+    }
+}
@@ -0,0 +1,67 @@
+package com.common.sdk.common_sdk.latency;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to spread the recording of one endpoint over
+ *           several HdrHistogram recorders picked by thread id, so writers on
+ *           many cores do not all contend on the same counters. The recorders
+ *           use packed counts, so a stripe only holds the buckets its values
+ *           fall in. Recording is wait-free and, once those buckets exist,
+ *           allocation-free; the interval histograms of the stripes are merged
+ *           on the snapshot thread only.
+ */
+final class StripedRecorder {
+
+    private final Recorder[] stripes;
+    private final Histogram[] recycled;
+    private final Histogram merged;
+    private final long highestTrackableValue;
+    private final int mask;
+
+    /**
+     * @implNote This constructor is used to create the stripes.
+     * @param stripes power of two
+     * @param highestTrackableValue
+     * @param significantDigits
+     */
+    StripedRecorder(int stripes, long highestTrackableValue, int significantDigits) {
+        this.stripes = new Recorder[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Recorder(significantDigits, true);
+        }
+        this.recycled = new Histogram[stripes];
+        this.merged = new Histogram(highestTrackableValue, significantDigits);
+        this.highestTrackableValue = highestTrackableValue;
+        this.mask = stripes - 1;
+    }
+
+    /**
+     * @implNote This method is used to record a value, clamped to the highest
+     *           trackable value.
+     * @param value
+     */
+    void record(long value) {
+        stripes[(int) Thread.currentThread().threadId() & mask]
+                .recordValue(Math.max(0, Math.min(value, highestTrackableValue)));
+    }
+
+    /**
+     * @implNote This method is used to merge the values recorded since the
+     *           previous call. The returned histogram is reused by the next
+     *           call.
+     * @return Histogram
+     */
+    synchronized Histogram intervalHistogram() {
+        merged.reset();
+        for (int i = 0; i < stripes.length; i++) {
+            recycled[i] = stripes[i].getIntervalHistogram(recycled[i]);
+            merged.add(recycled[i]);
+        }
+        return merged;
+    }
+}
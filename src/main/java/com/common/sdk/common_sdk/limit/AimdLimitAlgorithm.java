@@ -0,0 +1,56 @@
+package com.common.sdk.common_sdk.limit;
+
+import java.time.Duration;
+
+import com.common.sdk.common_sdk.models.interfaces.LimitAlgorithm;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to adjust the limit by additive increase and
+ *           multiplicative decrease. A request slower than the threshold
+ *           multiplies the limit by the backoff ratio; a fast request grows it
+ *           by one, but only while the limit is actually used, so an idle
+ *           service does not build up a limit it never tested.
+ */
+public class AimdLimitAlgorithm implements LimitAlgorithm {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long thresholdNanos;
+    private double limit;
+
+    /**
+     * @implNote This constructor is used to create the algorithm.
+     * @param initialLimit
+     * @param minLimit
+     * @param maxLimit
+     * @param backoffRatio
+     * @param threshold
+     */
+    public AimdLimitAlgorithm(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+            Duration threshold) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.thresholdNanos = threshold.toNanos();
+        this.limit = initialLimit;
+    }
+
+    @Override
+    public int initialLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public int update(long rttNanos, int inFlight) {
+        if (rttNanos > thresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        return (int) limit;
+    }
+}
@@ -0,0 +1,192 @@
+package com.common.sdk.common_sdk.limit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.LimitAlgorithm;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.utils.CommonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to shed load before requests reach a handler.
+ *           Every route group has an in-flight limit adjusted from the latency
+ *           of its completed requests; a request over the limit is answered
+ *           right away with {@link APIResponseCode#TOO_MANY_REQUESTS} from a
+ *           pre-serialized envelope. Only the request id is filled in, so a
+ *           rejection costs far less than serving.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements ApplicationConstants {
+
+    public static final String DEFAULT_GROUP = "default";
+
+    private static final int MAX_CACHED_PATHS = 10_000;
+
+    private final List<Route> routes = new ArrayList<>();
+    private final RouteLimiter defaultLimiter;
+    private final List<RouteLimiter> limiters;
+    private final Map<String, RouteLimiter> limiterByPath = new ConcurrentHashMap<>();
+    private final RejectionBody rejection;
+    private final ResponseMetrics metrics;
+
+    /**
+     * @implNote This constructor is used to create the filter. Groups are
+     *           matched in the given order, the first matching path pattern
+     *           wins and unmatched requests use the default group.
+     * @param groups
+     * @param algorithmFactory
+     * @param objectMapper
+     * @param metrics
+     */
+    public ConcurrencyLimitFilter(Map<String, List<String>> groups,
+            Function<String, LimitAlgorithm> algorithmFactory, ObjectMapper objectMapper, ResponseMetrics metrics) {
+        PathPatternParser parser = new PathPatternParser();
+        List<RouteLimiter> all = new ArrayList<>();
+        for (Map.Entry<String, List<String>> group : groups.entrySet()) {
+            RouteLimiter limiter = new RouteLimiter(group.getKey(), algorithmFactory.apply(group.getKey()));
+            all.add(limiter);
+            for (String pattern : group.getValue()) {
+                routes.add(new Route(parser.parse(pattern), limiter));
+            }
+        }
+        this.defaultLimiter = new RouteLimiter(DEFAULT_GROUP, algorithmFactory.apply(DEFAULT_GROUP));
+        all.add(defaultLimiter);
+        this.limiters = Collections.unmodifiableList(all);
+        this.rejection = new RejectionBody(objectMapper, APIResponseCode.TOO_MANY_REQUESTS);
+        this.metrics = metrics;
+    }
+
+    /**
+     * @implNote This method is used to get the limiters of all groups.
+     * @return List<RouteLimiter>
+     */
+    public List<RouteLimiter> getLimiters() {
+        return limiters;
+    }
+
+    /**
+     * @implNote This method is used to admit or reject the request and measure
+     *           the latency of admitted ones.
+     * @param request
+     * @param response
+     * @param filterChain
+     * @throws ServletException
+     * @throws IOException
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RouteLimiter limiter = resolve(request.getRequestURI());
+        if (!limiter.tryAcquire()) {
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limiter, start));
+            } else if (completed) {
+                limiter.release(System.nanoTime() - start);
+            } else {
+                limiter.releaseWithoutSample();
+            }
+        }
+    }
+
+    private RouteLimiter resolve(String path) {
+        if (routes.isEmpty()) {
+            return defaultLimiter;
+        }
+        RouteLimiter limiter = limiterByPath.get(path);
+        if (limiter != null) {
+            return limiter;
+        }
+        limiter = defaultLimiter;
+        PathContainer container = PathContainer.parsePath(path);
+        for (Route route : routes) {
+            if (route.pattern().matches(container)) {
+                limiter = route.limiter();
+                break;
+            }
+        }
+        if (limiterByPath.size() < MAX_CACHED_PATHS) {
+            limiterByPath.put(path, limiter);
+        }
+        return limiter;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String requestId = CommonUtils.getCurrentRequestId();
+        if (ObjectUtils.isEmpty(requestId)) {
+            requestId = request.getHeader(CORRELATION_ID);
+        }
+        byte[] encodedRequestId = rejection.encodeRequestId(requestId);
+        metrics.recordResponse(APIResponseCode.TOO_MANY_REQUESTS, false);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(rejection.length(encodedRequestId));
+        ServletOutputStream out = response.getOutputStream();
+        rejection.write(out, encodedRequestId);
+        out.flush();
+    }
+
+    private record Route(PathPattern pattern, RouteLimiter limiter) {
+    }
+
+    /**
+     * @implNote This class is used to release asynchronously completed requests.
+     */
+    private record ReleaseOnComplete(RouteLimiter limiter, long start) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.release(System.nanoTime() - start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // onComplete follows a timeout as well
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onComplete follows an error as well
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
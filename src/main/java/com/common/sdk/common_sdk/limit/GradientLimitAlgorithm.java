@@ -0,0 +1,70 @@
+package com.common.sdk.common_sdk.limit;
+
+import com.common.sdk.common_sdk.models.interfaces.LimitAlgorithm;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to adjust the limit by the latency gradient.
+ *           A long term average tracks the latency of the service without
+ *           queueing and a short term average the current one; their ratio
+ *           (capped at 1) scales the limit, plus a queue allowance of the
+ *           square root of the limit so it can probe upwards. When latency
+ *           rises because requests queue, the ratio drops below 1 and the limit
+ *           shrinks before threads pile up.
+ */
+public class GradientLimitAlgorithm implements LimitAlgorithm {
+
+    private static final double LONG_WINDOW = 600;
+    private static final double SHORT_WINDOW = 10;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private double longRtt;
+    private double shortRtt;
+
+    /**
+     * @implNote This constructor is used to create the algorithm.
+     * @param initialLimit
+     * @param minLimit
+     * @param maxLimit
+     */
+    public GradientLimitAlgorithm(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    @Override
+    public int initialLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public int update(long rttNanos, int inFlight) {
+        if (longRtt == 0) {
+            longRtt = rttNanos;
+            shortRtt = rttNanos;
+            return (int) limit;
+        }
+        shortRtt += (rttNanos - shortRtt) * (2 / (SHORT_WINDOW + 1));
+        longRtt += (rttNanos - longRtt) * (2 / (LONG_WINDOW + 1));
+        if (longRtt / shortRtt > 2) {
+            // latency dropped a lot (e.g. after a slow dependency recovered), let the baseline follow quickly
+            longRtt *= 0.95;
+        }
+        if (inFlight < limit / 2) {
+            return (int) limit;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+        return (int) limit;
+    }
+}
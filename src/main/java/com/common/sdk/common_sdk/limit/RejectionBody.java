@@ -0,0 +1,119 @@
+package com.common.sdk.common_sdk.limit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to hold the rejection envelope serialized once at
+ *           startup, split around the request id. Writing a rejection only
+ *           copies the two halves and the id, so shedding never reaches Jackson
+ *           or the exception handlers.
+ */
+final class RejectionBody {
+
+    private static final String PLACEHOLDER = "@@request-id@@";
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final byte[] prefix;
+    private final byte[] suffix;
+
+    /**
+     * @implNote This constructor is used to serialize the envelope of the code.
+     * @param objectMapper
+     * @param responseCode
+     */
+    RejectionBody(ObjectMapper objectMapper, ResponseCode responseCode) {
+        byte[] envelope;
+        try {
+            envelope = objectMapper.writeValueAsBytes(
+                    ApiResponse.failure(responseCode, responseCode.getMessage(), PLACEHOLDER));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Rejection envelope cannot be serialized", e);
+        }
+        byte[] marker = ('"' + PLACEHOLDER + '"').getBytes(StandardCharsets.US_ASCII);
+        int index = indexOf(envelope, marker);
+        if (index < 0) {
+            throw new IllegalStateException("Rejection envelope does not contain the request id");
+        }
+        this.prefix = Arrays.copyOfRange(envelope, 0, index);
+        this.suffix = Arrays.copyOfRange(envelope, index + marker.length, envelope.length);
+    }
+
+    /**
+     * @implNote This method is used to encode the request id as a JSON value,
+     *           escaped the way Jackson escapes strings.
+     * @param requestId
+     * @return byte[]
+     */
+    byte[] encodeRequestId(String requestId) {
+        if (requestId == null) {
+            return NULL;
+        }
+        StringBuilder json = new StringBuilder(requestId.length() + 2).append('"');
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c == '\b') {
+                json.append("\\b");
+            } else if (c == '\t') {
+                json.append("\\t");
+            } else if (c == '\n') {
+                json.append("\\n");
+            } else if (c == '\f') {
+                json.append("\\f");
+            } else if (c == '\r') {
+                json.append("\\r");
+            } else if (c < 0x20) {
+                json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @implNote This method is used to get the body length for an encoded id.
+     * @param encodedRequestId
+     * @return int
+     */
+    int length(byte[] encodedRequestId) {
+        return prefix.length + encodedRequestId.length + suffix.length;
+    }
+
+    /**
+     * @implNote This method is used to write the envelope.
+     * @param out
+     * @param encodedRequestId
+     * @throws IOException
+     */
+    void write(OutputStream out, byte[] encodedRequestId) throws IOException {
+        out.write(prefix);
+        out.write(encodedRequestId);
+        out.write(suffix);
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer: for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
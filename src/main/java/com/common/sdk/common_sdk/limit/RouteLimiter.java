@@ -0,0 +1,115 @@
+package com.common.sdk.common_sdk.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.common.sdk.common_sdk.models.interfaces.LimitAlgorithm;
+
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to hold the in-flight count and the limit of one
+ *           route group. Admission is a single compare-and-set; the algorithm
+ *           is fed on completion by whichever thread gets the lock, the others
+ *           skip their sample instead of waiting for it.
+ */
+public class RouteLimiter {
+
+    @Getter
+    private final String group;
+    private final LimitAlgorithm algorithm;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    /**
+     * @implNote This constructor is used to create the limiter of a group.
+     * @param group
+     * @param algorithm
+     */
+    public RouteLimiter(String group, LimitAlgorithm algorithm) {
+        this.group = group;
+        this.algorithm = algorithm;
+        this.limit = algorithm.initialLimit();
+    }
+
+    /**
+     * @implNote This method is used to admit a request if the group is below its
+     *           limit.
+     * @return boolean
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        accepted.increment();
+        return true;
+    }
+
+    /**
+     * @implNote This method is used to release an admitted request and feed its
+     *           latency to the algorithm.
+     * @param rttNanos
+     */
+    public void release(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        if (updateLock.tryLock()) {
+            try {
+                limit = algorithm.update(rttNanos, current);
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @implNote This method is used to release an admitted request without a
+     *           latency sample, e.g. when it failed before doing real work.
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * @implNote This method is used to get the current limit.
+     * @return int
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @implNote This method is used to get the requests in flight.
+     * @return int
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @implNote This method is used to get the admitted request count.
+     * @return long
+     */
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    /**
+     * @implNote This method is used to get the rejected request count.
+     * @return long
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,322 @@
+package com.common.sdk.common_sdk.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.event.KeyValuePair;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to encode logging events as one JSON object per
+ *           line: timestamp, level, thread, logger, message, the correlation
+ *           id of the MDC, the key-value pairs of the event as typed fields
+ *           (the SDK adds code, handler and exception to exception logs) and
+ *           the stack trace. Field names are pre-encoded and every event is
+ *           written into a buffer reused per thread, so the only allocation is
+ *           the returned line. Behind an AsyncAppender all events are encoded
+ *           on its worker thread.
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] TIMESTAMP = ascii("{\"@timestamp\":\"");
+    private static final byte[] LEVEL = ascii("\",\"level\":\"");
+    private static final byte[] THREAD = ascii("\",\"thread\":");
+    private static final byte[] LOGGER = ascii(",\"logger\":");
+    private static final byte[] MESSAGE = ascii(",\"message\":");
+    private static final byte[] CORRELATION_ID = ascii(",\"correlationId\":");
+    private static final byte[] STACK_TRACE = ascii(",\"stackTrace\":\"");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] END = ascii("}\n");
+    private static final byte[] TRACE = ascii("TRACE");
+    private static final byte[] DEBUG = ascii("DEBUG");
+    private static final byte[] INFO = ascii("INFO");
+    private static final byte[] WARN = ascii("WARN");
+    private static final byte[] ERROR = ascii("ERROR");
+    private static final byte[] HEX = ascii("0123456789abcdef");
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+    private boolean includeMdc;
+
+    /**
+     * @implNote This method is used to also write the other MDC entries as
+     *           string fields; by default only the correlation id is written.
+     * @param includeMdc
+     */
+    public void setIncludeMdc(boolean includeMdc) {
+        this.includeMdc = includeMdc;
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    /**
+     * @implNote This method is used to encode an event as a JSON line.
+     * @param event
+     * @return byte[]
+     */
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        Buffer buffer = buffers.get();
+        buffer.size = 0;
+        buffer.write(TIMESTAMP);
+        buffer.timestamp(event.getTimeStamp());
+        buffer.write(LEVEL);
+        buffer.write(level(event.getLevel()));
+        buffer.write(THREAD);
+        buffer.quoted(event.getThreadName());
+        buffer.write(LOGGER);
+        buffer.quoted(event.getLoggerName());
+        buffer.write(MESSAGE);
+        buffer.quoted(event.getFormattedMessage());
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        String correlationId = mdc.get(ApplicationConstants.CORRELATION_ID);
+        if (correlationId != null) {
+            buffer.write(CORRELATION_ID);
+            buffer.quoted(correlationId);
+        }
+        if (includeMdc && mdc.size() > (correlationId != null ? 1 : 0)) {
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                if (entry.getKey() != null && !ApplicationConstants.CORRELATION_ID.equals(entry.getKey())) {
+                    buffer.key(entry.getKey());
+                    buffer.quoted(entry.getValue());
+                }
+            }
+        }
+        List<KeyValuePair> pairs = event.getKeyValuePairs();
+        if (pairs != null) {
+            for (int i = 0; i < pairs.size(); i++) {
+                KeyValuePair pair = pairs.get(i);
+                if (pair.key != null) {
+                    buffer.key(pair.key);
+                    buffer.value(pair.value);
+                }
+            }
+        }
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            buffer.write(STACK_TRACE);
+            buffer.string(ThrowableProxyUtil.asString(throwable));
+            buffer.write('"');
+        }
+        buffer.write(END);
+        return buffer.release();
+    }
+
+    private static byte[] level(Level level) {
+        return switch (level.toInt()) {
+            case Level.ERROR_INT -> ERROR;
+            case Level.WARN_INT -> WARN;
+            case Level.INFO_INT -> INFO;
+            case Level.DEBUG_INT -> DEBUG;
+            default -> TRACE;
+        };
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @implNote This class is used to hold the bytes of the event being
+     *           encoded and the formatted second of the last timestamp.
+     */
+    private static final class Buffer {
+
+        private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+        private int size;
+        private final byte[] second = new byte[20];
+        private long secondEpoch = Long.MIN_VALUE;
+
+        void write(byte[] value) {
+            ensure(value.length);
+            System.arraycopy(value, 0, bytes, size, value.length);
+            size += value.length;
+        }
+
+        void write(char value) {
+            ensure(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void key(String key) {
+            ensure(2);
+            bytes[size++] = ',';
+            bytes[size++] = '"';
+            string(key);
+            ensure(2);
+            bytes[size++] = '"';
+            bytes[size++] = ':';
+        }
+
+        void quoted(String value) {
+            if (value == null) {
+                write(NULL);
+                return;
+            }
+            write('"');
+            string(value);
+            write('"');
+        }
+
+        void value(Object value) {
+            if (value == null) {
+                write(NULL);
+            } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                    || value instanceof Byte) {
+                number(((Number) value).longValue());
+            } else if (value instanceof Boolean bool) {
+                write(bool ? TRUE : FALSE);
+            } else if (value instanceof Number number && Double.isFinite(number.doubleValue())) {
+                string(number.toString());
+            } else {
+                quoted(value.toString());
+            }
+        }
+
+        void number(long value) {
+            if (value == Long.MIN_VALUE) {
+                string(Long.toString(value));
+                return;
+            }
+            ensure(20);
+            if (value < 0) {
+                bytes[size++] = '-';
+                value = -value;
+            }
+            int digits = 1;
+            for (long rest = value / 10; rest > 0; rest /= 10) {
+                digits++;
+            }
+            for (int i = size + digits - 1; i >= size; i--) {
+                bytes[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            size += digits;
+        }
+
+        void timestamp(long epochMillis) {
+            long epochSecond = Math.floorDiv(epochMillis, 1000);
+            if (epochSecond != secondEpoch) {
+                LocalDateTime time = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+                digits(second, 0, time.getYear(), 4);
+                second[4] = '-';
+                digits(second, 5, time.getMonthValue(), 2);
+                second[7] = '-';
+                digits(second, 8, time.getDayOfMonth(), 2);
+                second[10] = 'T';
+                digits(second, 11, time.getHour(), 2);
+                second[13] = ':';
+                digits(second, 14, time.getMinute(), 2);
+                second[16] = ':';
+                digits(second, 17, time.getSecond(), 2);
+                second[19] = '.';
+                secondEpoch = epochSecond;
+            }
+            write(second);
+            ensure(4);
+            digits(bytes, size, (int) Math.floorMod(epochMillis, 1000), 3);
+            bytes[size + 3] = 'Z';
+            size += 4;
+        }
+
+        /**
+         * @implNote This method is used to write a string escaped for JSON and
+         *           encoded as UTF-8.
+         * @param value
+         */
+        void string(String value) {
+            int length = value.length();
+            ensure(length * 6);
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x20 && c < 0x80) {
+                    if (c == '"' || c == '\\') {
+                        bytes[size++] = '\\';
+                    }
+                    bytes[size++] = (byte) c;
+                } else if (c < 0x20) {
+                    bytes[size++] = '\\';
+                    switch (c) {
+                        case '\n' -> bytes[size++] = 'n';
+                        case '\r' -> bytes[size++] = 'r';
+                        case '\t' -> bytes[size++] = 't';
+                        default -> {
+                            bytes[size++] = 'u';
+                            bytes[size++] = '0';
+                            bytes[size++] = '0';
+                            bytes[size++] = HEX[c >> 4];
+                            bytes[size++] = HEX[c & 0xF];
+                        }
+                    }
+                } else if (c < 0x800) {
+                    bytes[size++] = (byte) (0xC0 | c >> 6);
+                    bytes[size++] = (byte) (0x80 | c & 0x3F);
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    bytes[size++] = (byte) (0xF0 | codePoint >> 18);
+                    bytes[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    bytes[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    bytes[size++] = (byte) (0x80 | codePoint & 0x3F);
+                } else if (Character.isSurrogate(c)) {
+                    bytes[size++] = '?';
+                } else {
+                    bytes[size++] = (byte) (0xE0 | c >> 12);
+                    bytes[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    bytes[size++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+        }
+
+        /**
+         * @implNote This method is used to copy out the encoded line. A buffer
+         *           grown by a large event is not kept.
+         * @return byte[]
+         */
+        byte[] release() {
+            byte[] line = Arrays.copyOf(bytes, size);
+            if (bytes.length > MAX_RETAINED_BUFFER_SIZE) {
+                bytes = new byte[INITIAL_BUFFER_SIZE];
+            }
+            return line;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+
+        private static void digits(byte[] target, int offset, int value, int width) {
+            for (int i = offset + width - 1; i >= offset; i--) {
+                target[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.common.sdk.common_sdk.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.NotificationResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to hold one meter per (namespace, code,
+ *           success), so enums reusing a code in their own namespace are
+ *           counted apart. Each namespace has a table where codes below
+ *           {@value #SIZE} are resolved by array index. Larger or negative codes
+ *           and namespaces beyond {@value #MAX_NAMESPACES} fall back to a map of
+ *           at most {@value #MAX_OVERFLOW} meters; once it is full the rest are
+ *           counted in a single {@value #OTHER} meter per success flag, so an
+ *           unbounded set of codes cannot create unbounded meters. Meters of
+ *           the SDK response code enums are created up front.
+ */
+final class CodeMeterTable<M> {
+
+    static final int SIZE = 2048;
+    static final int MAX_NAMESPACES = 32;
+    static final int MAX_OVERFLOW = 1024;
+    static final String OTHER = "other";
+
+    private final AtomicReferenceArray<M> defaultTable = new AtomicReferenceArray<>(SIZE << 1);
+    private final Map<String, AtomicReferenceArray<M>> tables = new ConcurrentHashMap<>();
+    private final Map<OverflowKey, M> overflow = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<M> other = new AtomicReferenceArray<>(2);
+    private final MeterFactory<M> factory;
+
+    /**
+     * @implNote This constructor is used to create the table and pre-create the
+     *           meters of the SDK response codes.
+     * @param factory
+     */
+    CodeMeterTable(MeterFactory<M> factory) {
+        this.factory = factory;
+        tables.put(ApplicationConstants.DEFAULT_CODE_NAMESPACE, defaultTable);
+        precreate(APIResponseCode.values());
+        precreate(NotificationResponseCode.values());
+    }
+
+    /**
+     * @implNote This method is used to pre-create the meters of the given
+     *           response codes.
+     * @param responseCodes
+     */
+    void precreate(ResponseCode[] responseCodes) {
+        for (ResponseCode responseCode : responseCodes) {
+            get(responseCode.namespace(), responseCode.getCode(), true);
+            get(responseCode.namespace(), responseCode.getCode(), false);
+        }
+    }
+
+    /**
+     * @implNote This method is used to get the meter for a code of the default
+     *           namespace.
+     * @param code
+     * @param success
+     * @return M
+     */
+    M get(int code, boolean success) {
+        return get(ApplicationConstants.DEFAULT_CODE_NAMESPACE, code, success);
+    }
+
+    /**
+     * @implNote This method is used to get the meter for a code.
+     * @param namespace
+     * @param code
+     * @param success
+     * @return M
+     */
+    M get(String namespace, int code, boolean success) {
+        AtomicReferenceArray<M> table = ApplicationConstants.DEFAULT_CODE_NAMESPACE.equals(namespace) ? defaultTable
+                : table(namespace);
+        if (table != null && code >= 0 && code < SIZE) {
+            int index = (code << 1) | (success ? 1 : 0);
+            M meter = table.get(index);
+            if (meter == null) {
+                table.compareAndSet(index, null, factory.create(namespace, Integer.toString(code), success));
+                meter = table.get(index);
+            }
+            return meter;
+        }
+        OverflowKey key = new OverflowKey(namespace, code, success);
+        M meter = overflow.get(key);
+        if (meter == null) {
+            if (overflow.size() >= MAX_OVERFLOW) {
+                return other(success);
+            }
+            meter = overflow.computeIfAbsent(key, k -> factory.create(namespace, Integer.toString(code), success));
+        }
+        return meter;
+    }
+
+    /**
+     * @implNote This method is used to visit every created meter.
+     * @param visitor
+     */
+    void forEach(MeterVisitor<M> visitor) {
+        tables.forEach((namespace, table) -> {
+            for (int index = 0; index < table.length(); index++) {
+                M meter = table.get(index);
+                if (meter != null) {
+                    visitor.visit(namespace, Integer.toString(index >> 1), (index & 1) == 1, meter);
+                }
+            }
+        });
+        overflow.forEach((key, meter) -> visitor.visit(key.namespace(), Integer.toString(key.code()), key.success(),
+                meter));
+        for (int index = 0; index < other.length(); index++) {
+            M meter = other.get(index);
+            if (meter != null) {
+                visitor.visit(OTHER, OTHER, index == 1, meter);
+            }
+        }
+    }
+
+    private AtomicReferenceArray<M> table(String namespace) {
+        AtomicReferenceArray<M> table = tables.get(namespace);
+        if (table == null && tables.size() < MAX_NAMESPACES) {
+            table = tables.computeIfAbsent(namespace, key -> new AtomicReferenceArray<>(SIZE << 1));
+        }
+        return table;
+    }
+
+    private M other(boolean success) {
+        int index = success ? 1 : 0;
+        M meter = other.get(index);
+        if (meter == null) {
+            other.compareAndSet(index, null, factory.create(OTHER, OTHER, success));
+            meter = other.get(index);
+        }
+        return meter;
+    }
+
+    private record OverflowKey(String namespace, int code, boolean success) {
+    }
+
+    /**
+     * @implNote This interface is used to create a meter for a code.
+     */
+    @FunctionalInterface
+    interface MeterFactory<M> {
+        M create(String namespace, String code, boolean success);
+    }
+
+    /**
+     * @implNote This interface is used to visit the meters of the table.
+     */
+    @FunctionalInterface
+    interface MeterVisitor<M> {
+        void visit(String namespace, String code, boolean success, M meter);
+    }
+}
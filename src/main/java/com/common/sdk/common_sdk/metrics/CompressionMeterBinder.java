@@ -0,0 +1,68 @@
+package com.common.sdk.common_sdk.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.common.sdk.common_sdk.compression.CompressionFilter;
+import com.common.sdk.common_sdk.compression.CompressionStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to publish the compression counters. Responses
+ *           are counted in {@value #RESPONSES} tagged by result (compressed,
+ *           skipped), body sizes in {@value #BYTES} tagged in and out, the
+ *           overall compressed size share in {@value #RATIO} and the time
+ *           spent compressing in {@value #TIME}.
+ */
+@RequiredArgsConstructor
+public class CompressionMeterBinder implements MeterBinder {
+
+    public static final String RESPONSES = "sdk.compression.responses";
+    public static final String BYTES = "sdk.compression.bytes";
+    public static final String RATIO = "sdk.compression.ratio";
+    public static final String TIME = "sdk.compression.time";
+
+    private final CompressionFilter filter;
+
+    /**
+     * @implNote This method is used to register the meters.
+     * @param registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(RESPONSES, filter, f -> f.getStats().compressed())
+                .description("Responses seen by the compression filter")
+                .tag("result", "compressed")
+                .register(registry);
+        FunctionCounter.builder(RESPONSES, filter, f -> f.getStats().skipped())
+                .description("Responses seen by the compression filter")
+                .tag("result", "skipped")
+                .register(registry);
+        FunctionCounter.builder(BYTES, filter, f -> f.getStats().bytesIn())
+                .description("Body bytes of compressed responses")
+                .tag("stage", "in")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder(BYTES, filter, f -> f.getStats().bytesOut())
+                .description("Body bytes of compressed responses")
+                .tag("stage", "out")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(RATIO, filter, f -> f.getStats().ratio())
+                .description("Compressed size as a share of the original size")
+                .register(registry);
+        FunctionTimer.builder(TIME, filter, f -> f.getStats().compressed(),
+                f -> f.getStats().compressionNanos(), TimeUnit.NANOSECONDS)
+                .description("Time spent compressing response bodies")
+                .register(registry);
+    }
+}
@@ -0,0 +1,58 @@
+package com.common.sdk.common_sdk.metrics;
+
+import com.common.sdk.common_sdk.limit.ConcurrencyLimitFilter;
+import com.common.sdk.common_sdk.limit.RouteLimiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to publish the state of every route group
+ *           limiter: {@value #LIMIT} and {@value #IN_FLIGHT} as gauges and
+ *           {@value #REQUESTS} tagged by result (accepted, rejected), all
+ *           tagged by group.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitMeterBinder implements MeterBinder {
+
+    public static final String LIMIT = "sdk.limiter.limit";
+    public static final String IN_FLIGHT = "sdk.limiter.inflight";
+    public static final String REQUESTS = "sdk.limiter.requests";
+
+    private final ConcurrencyLimitFilter filter;
+
+    /**
+     * @implNote This method is used to register the meters.
+     * @param registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RouteLimiter limiter : filter.getLimiters()) {
+            Gauge.builder(LIMIT, limiter, RouteLimiter::getLimit)
+                    .description("Current in-flight limit of the route group")
+                    .tag("group", limiter.getGroup())
+                    .register(registry);
+            Gauge.builder(IN_FLIGHT, limiter, RouteLimiter::getInFlight)
+                    .description("Requests of the route group in flight")
+                    .tag("group", limiter.getGroup())
+                    .register(registry);
+            FunctionCounter.builder(REQUESTS, limiter, RouteLimiter::getAccepted)
+                    .description("Requests seen by the concurrency limiter")
+                    .tag("group", limiter.getGroup())
+                    .tag("result", "accepted")
+                    .register(registry);
+            FunctionCounter.builder(REQUESTS, limiter, RouteLimiter::getRejected)
+                    .description("Requests seen by the concurrency limiter")
+                    .tag("group", limiter.getGroup())
+                    .tag("result", "rejected")
+                    .register(registry);
+        }
+    }
+}
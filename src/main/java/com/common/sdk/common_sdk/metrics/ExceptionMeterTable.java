@@ -0,0 +1,183 @@
+package com.common.sdk.common_sdk.metrics;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to hold one meter per (code, exception type,
+ *           handler). Handlers are looked up by name, exception types through
+ *           a {@link ClassValue} of the handler and codes below
+ *           {@value CodeMeterTable#SIZE} by array index, so recording into a
+ *           known meter allocates nothing. At most {@value #MAX_HANDLERS}
+ *           handlers, {@value #MAX_TYPES} (handler, exception type) pairs and
+ *           {@value #MAX_METERS} meters are created; the rest are counted in a
+ *           single {@value CodeMeterTable#OTHER} meter, so an unbounded set of
+ *           codes or exception types cannot create unbounded meters.
+ */
+final class ExceptionMeterTable<M> {
+
+    static final int MAX_HANDLERS = 64;
+    static final int MAX_TYPES = 256;
+    static final int MAX_METERS = 1024;
+
+    private final Map<String, Handler> handlers = new ConcurrentHashMap<>();
+    private final Queue<Types> tables = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger typeCount = new AtomicInteger();
+    private final AtomicInteger meterCount = new AtomicInteger();
+    private final Types full = new Types(CodeMeterTable.OTHER, null);
+    private final MeterFactory<M> factory;
+    private volatile M other;
+
+    /**
+     * @implNote This constructor is used to create the table.
+     * @param factory
+     */
+    ExceptionMeterTable(MeterFactory<M> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @implNote This method is used to get the meter of an exception mapped to
+     *           a code by a handler.
+     * @param code
+     * @param type
+     * @param handler
+     * @return M
+     */
+    M get(int code, Class<?> type, String handler) {
+        if (type == null || handler == null) {
+            return other();
+        }
+        Handler byType = handlers.get(handler);
+        if (byType == null) {
+            if (handlers.size() >= MAX_HANDLERS) {
+                return other();
+            }
+            byType = handlers.computeIfAbsent(handler, Handler::new);
+        }
+        return byType.types.get(type).get(code);
+    }
+
+    /**
+     * @implNote This method is used to visit every created meter.
+     * @param visitor
+     */
+    void forEach(MeterVisitor<M> visitor) {
+        for (Types table : tables) {
+            for (int code = 0; code < table.codes.length(); code++) {
+                M meter = table.codes.get(code);
+                if (meter != null) {
+                    visitor.visit(Integer.toString(code), table.type.getSimpleName(), table.handler, meter);
+                }
+            }
+            table.overflow.forEach((code, meter) -> visitor.visit(Integer.toString(code),
+                    table.type.getSimpleName(), table.handler, meter));
+        }
+        M meter = other;
+        if (meter != null) {
+            visitor.visit(CodeMeterTable.OTHER, CodeMeterTable.OTHER, CodeMeterTable.OTHER, meter);
+        }
+    }
+
+    private M other() {
+        M meter = other;
+        if (meter == null) {
+            synchronized (this) {
+                meter = other;
+                if (meter == null) {
+                    meter = factory.create(CodeMeterTable.OTHER, CodeMeterTable.OTHER, CodeMeterTable.OTHER);
+                    other = meter;
+                }
+            }
+        }
+        return meter;
+    }
+
+    /**
+     * @implNote This class is used to hold the exception types of one handler.
+     */
+    private final class Handler {
+        private final ClassValue<Types> types;
+
+        private Handler(String name) {
+            this.types = new ClassValue<>() {
+                @Override
+                protected Types computeValue(Class<?> type) {
+                    if (typeCount.incrementAndGet() > MAX_TYPES) {
+                        return full;
+                    }
+                    Types table = new Types(name, type);
+                    tables.add(table);
+                    return table;
+                }
+            };
+        }
+    }
+
+    /**
+     * @implNote This class is used to hold the meters of one handler and
+     *           exception type by code.
+     */
+    private final class Types {
+        private final String handler;
+        private final Class<?> type;
+        private final AtomicReferenceArray<M> codes;
+        private final Map<Integer, M> overflow = new ConcurrentHashMap<>();
+
+        private Types(String handler, Class<?> type) {
+            this.handler = handler;
+            this.type = type;
+            this.codes = new AtomicReferenceArray<>(type != null ? CodeMeterTable.SIZE : 0);
+        }
+
+        private M get(int code) {
+            if (type == null) {
+                return other();
+            }
+            boolean indexed = code >= 0 && code < CodeMeterTable.SIZE;
+            M meter = indexed ? codes.get(code) : overflow.get(code);
+            return meter != null ? meter : create(code, indexed);
+        }
+
+        private synchronized M create(int code, boolean indexed) {
+            M meter = indexed ? codes.get(code) : overflow.get(code);
+            if (meter != null) {
+                return meter;
+            }
+            if (meterCount.incrementAndGet() > MAX_METERS) {
+                meterCount.decrementAndGet();
+                return other();
+            }
+            meter = factory.create(Integer.toString(code), type.getSimpleName(), handler);
+            if (indexed) {
+                codes.set(code, meter);
+            } else {
+                overflow.put(code, meter);
+            }
+            return meter;
+        }
+    }
+
+    /**
+     * @implNote This interface is used to create a meter for an exception.
+     */
+    @FunctionalInterface
+    interface MeterFactory<M> {
+        M create(String code, String exception, String handler);
+    }
+
+    /**
+     * @implNote This interface is used to visit the meters of the table.
+     */
+    @FunctionalInterface
+    interface MeterVisitor<M> {
+        void visit(String code, String exception, String handler, M meter);
+    }
+}
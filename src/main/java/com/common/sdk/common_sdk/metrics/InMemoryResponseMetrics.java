@@ -0,0 +1,109 @@
+package com.common.sdk.common_sdk.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to record response metrics in memory when
+ *           Micrometer is not available. Counters are {@link LongAdder}s, so
+ *           concurrent recording does not contend on a single cache line.
+ */
+public class InMemoryResponseMetrics implements ResponseMetrics {
+
+    private final CodeMeterTable<LongAdder> responses = new CodeMeterTable<>(
+            (namespace, code, success) -> new LongAdder());
+    private final ExceptionMeterTable<LongAdder> exceptions = new ExceptionMeterTable<>(
+            (code, exception, handler) -> new LongAdder());
+
+    /**
+     * @implNote This method is used to record an envelope built for a response
+     *           code.
+     * @param code
+     * @param success
+     */
+    @Override
+    public void recordResponse(int code, boolean success) {
+        responses.get(code, success).increment();
+    }
+
+    /**
+     * @implNote This method is used to record an envelope built for a response
+     *           code of the given namespace.
+     * @param namespace
+     * @param code
+     * @param success
+     */
+    @Override
+    public void recordResponse(String namespace, int code, boolean success) {
+        responses.get(namespace, code, success).increment();
+    }
+
+    /**
+     * @implNote This method is used to record an exception mapped to a response
+     *           code by an exception handler method.
+     * @param code
+     * @param type
+     * @param handler
+     */
+    @Override
+    public void recordException(int code, Class<?> type, String handler) {
+        exceptions.get(code, type, handler).increment();
+    }
+
+    /**
+     * @implNote This method is used to get the number of envelopes built for a
+     *           response code of the default namespace.
+     * @param code
+     * @param success
+     * @return long
+     */
+    public long getResponseCount(int code, boolean success) {
+        return responses.get(code, success).sum();
+    }
+
+    /**
+     * @implNote This method is used to get the number of envelopes built for a
+     *           response code.
+     * @param responseCode
+     * @param success
+     * @return long
+     */
+    public long getResponseCount(ResponseCode responseCode, boolean success) {
+        return responses.get(responseCode.namespace(), responseCode.getCode(), success).sum();
+    }
+
+    /**
+     * @implNote This method is used to get a snapshot of the non zero response
+     *           counters keyed by "namespace:code:success".
+     * @return Map<String, Long>
+     */
+    public Map<String, Long> getResponseCounts() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        responses.forEach((namespace, code, success, counter) -> {
+            long count = counter.sum();
+            if (count > 0) {
+                snapshot.put(namespace + ":" + code + ":" + success, count);
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * @implNote This method is used to get a snapshot of the exception counters
+     *           keyed by "code:exception:handler".
+     * @return Map<String, Long>
+     */
+    public Map<String, Long> getExceptionCounts() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        exceptions.forEach((code, exception, handler, counter) -> snapshot
+                .merge(code + ":" + exception + ":" + handler, counter.sum(), Long::sum));
+        return snapshot;
+    }
+}
@@ -0,0 +1,81 @@
+package com.common.sdk.common_sdk.metrics;
+
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to record response metrics with Micrometer.
+ *           Envelopes are counted in {@value #RESPONSES} tagged by namespace,
+ *           code and success, exceptions in {@value #EXCEPTIONS} tagged by code,
+ *           exception and handler. Counter handles are resolved once and kept,
+ *           and their number is bounded, see {@link CodeMeterTable} and
+ *           {@link ExceptionMeterTable}.
+ */
+public class MicrometerResponseMetrics implements ResponseMetrics {
+
+    public static final String RESPONSES = "sdk.responses";
+    public static final String EXCEPTIONS = "sdk.exceptions";
+
+    private final CodeMeterTable<Counter> responses;
+    private final ExceptionMeterTable<Counter> exceptions;
+
+    /**
+     * @implNote This constructor is used to create the metrics for the given
+     *           registry.
+     * @param registry
+     */
+    public MicrometerResponseMetrics(MeterRegistry registry) {
+        this.responses = new CodeMeterTable<>((namespace, code, success) -> Counter.builder(RESPONSES)
+                .description("Envelopes produced by the SDK")
+                .tag("namespace", namespace)
+                .tag("code", code)
+                .tag("success", Boolean.toString(success))
+                .register(registry));
+        this.exceptions = new ExceptionMeterTable<>((code, exception, handler) -> Counter.builder(EXCEPTIONS)
+                .description("Exceptions mapped to envelopes by the SDK")
+                .tag("code", code)
+                .tag("exception", exception)
+                .tag("handler", handler)
+                .register(registry));
+    }
+
+    /**
+     * @implNote This method is used to record an envelope built for a response
+     *           code.
+     * @param code
+     * @param success
+     */
+    @Override
+    public void recordResponse(int code, boolean success) {
+        responses.get(code, success).increment();
+    }
+
+    /**
+     * @implNote This method is used to record an envelope built for a response
+     *           code of the given namespace.
+     * @param namespace
+     * @param code
+     * @param success
+     */
+    @Override
+    public void recordResponse(String namespace, int code, boolean success) {
+        responses.get(namespace, code, success).increment();
+    }
+
+    /**
+     * @implNote This method is used to record an exception mapped to a response
+     *           code by an exception handler method.
+     * @param code
+     * @param type
+     * @param handler
+     */
+    @Override
+    public void recordException(int code, Class<?> type, String handler) {
+        exceptions.get(code, type, handler).increment();
+    }
+}
@@ -0,0 +1,61 @@
+package com.common.sdk.common_sdk.metrics;
+
+import java.util.function.ToLongFunction;
+
+import com.common.sdk.common_sdk.replay.ReplayCache;
+import com.common.sdk.common_sdk.replay.ReplayCacheStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to publish the replay cache counters.
+ *           Requests are counted in {@value #REQUESTS} tagged by result (hit,
+ *           coalesced, miss), the cache size in {@value #ENTRIES} and
+ *           {@value #BYTES}.
+ */
+@RequiredArgsConstructor
+public class ReplayCacheMeterBinder implements MeterBinder {
+
+    public static final String REQUESTS = "sdk.replay.requests";
+    public static final String EVICTIONS = "sdk.replay.evictions";
+    public static final String ENTRIES = "sdk.replay.entries";
+    public static final String BYTES = "sdk.replay.bytes";
+
+    private final ReplayCache cache;
+
+    /**
+     * @implNote This method is used to register the meters.
+     * @param registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, REQUESTS, "hit", ReplayCacheStats::hits);
+        counter(registry, REQUESTS, "coalesced", ReplayCacheStats::coalesced);
+        counter(registry, REQUESTS, "miss", ReplayCacheStats::misses);
+        FunctionCounter.builder(EVICTIONS, cache, c -> c.getStats().evictions())
+                .description("Replay cache entries evicted to stay within the byte budget")
+                .register(registry);
+        Gauge.builder(ENTRIES, cache, c -> c.getStats().entries())
+                .description("Responses held by the replay cache")
+                .register(registry);
+        Gauge.builder(BYTES, cache, c -> c.getStats().bytes())
+                .description("Estimated size of the responses held by the replay cache")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String result, ToLongFunction<ReplayCacheStats> value) {
+        FunctionCounter.builder(name, cache, c -> value.applyAsLong(c.getStats()))
+                .description("Requests seen by the replay cache")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -1,8 +1,12 @@
 package com.common.sdk.common_sdk.models.dto;
 
+import java.util.List;
+
 import com.common.sdk.common_sdk.constants.ApplicationConstants;
 import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
 import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.Getter;
 
@@ -20,6 +24,12 @@ public class ApiResponse<R> implements GenericApiResponse<R>, ApplicationConstan
     private Integer code;
     private String errorMessage;
     private String requestId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ErrorDetail> errors;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer omittedErrors;
+    @JsonIgnore
+    private ResponseCode responseCode;
 
     private ApiResponse() {
     }
@@ -36,6 +46,7 @@ public class ApiResponse<R> implements GenericApiResponse<R>, ApplicationConstan
         response.success = true;
         response.data = data;
         response.code = responseCode.getCode();
+        response.responseCode = responseCode;
         response.requestId = requestId;
         return response;
     }
@@ -61,6 +72,7 @@ public class ApiResponse<R> implements GenericApiResponse<R>, ApplicationConstan
         ApiResponse<R> response = new ApiResponse<>();
         response.success = false;
         response.code = responseCode.getCode();
+        response.responseCode = responseCode;
         response.errorMessage = message;
         response.requestId = requestId;
         return response;
@@ -91,4 +103,48 @@ public class ApiResponse<R> implements GenericApiResponse<R>, ApplicationConstan
         response.requestId = requestId;
         return response;
     }
+
+    /**
+     * @implNote This method is used to create failure response with structured
+     *           error details. When errors were left out to keep the response
+     *           bounded, omittedErrors holds their count.
+     * @param responseCode
+     * @param message
+     * @param errors
+     * @param omittedErrors
+     * @param requestId
+     * @return ApiResponse<R>
+     */
+    public static <R> ApiResponse<R> failure(ResponseCode responseCode, String message, List<ErrorDetail> errors,
+            int omittedErrors, String requestId) {
+        ApiResponse<R> response = failure(responseCode, message, requestId);
+        response.errors = errors;
+        response.omittedErrors = omittedErrors > 0 ? omittedErrors : null;
+        return response;
+    }
+
+    /**
+     * @implNote This method is used to create a response from the fields of a
+     *           decoded envelope. The response code is not resolved.
+     * @param success
+     * @param data
+     * @param code
+     * @param errorMessage
+     * @param requestId
+     * @param errors
+     * @param omittedErrors
+     * @return ApiResponse<R>
+     */
+    public static <R> ApiResponse<R> of(boolean success, R data, Integer code, String errorMessage,
+            String requestId, List<ErrorDetail> errors, Integer omittedErrors) {
+        ApiResponse<R> response = new ApiResponse<>();
+        response.success = success;
+        response.data = data;
+        response.code = code;
+        response.errorMessage = errorMessage;
+        response.requestId = requestId;
+        response.errors = errors;
+        response.omittedErrors = omittedErrors;
+        return response;
+    }
 }
@@ -0,0 +1,79 @@
+package com.common.sdk.common_sdk.models.dto;
+
+import java.util.List;
+
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to store a batch response. The outcome of
+ *           every sub-operation is in its own {@link BatchItemResult}, in
+ *           request order, so one failed item does not stop its siblings. The
+ *           envelope is derived from the items: success with 200 when every
+ *           item succeeded, otherwise not successful with 207 Multi-Status and
+ *           a message counting the failed items.
+ */
+@Getter
+public class BatchApiResponse implements GenericApiResponse<List<BatchItemResult<Object>>> {
+
+    private boolean success;
+    private List<BatchItemResult<Object>> data;
+    private Integer code;
+    private String errorMessage;
+    private String requestId;
+    private int succeeded;
+    private int failed;
+
+    private BatchApiResponse() {
+    }
+
+    /**
+     * @implNote This method is used to create the batch response with the
+     *           success flag and code derived from the item results.
+     * @param results
+     * @param requestId
+     * @return BatchApiResponse
+     */
+    public static BatchApiResponse of(List<BatchItemResult<Object>> results, String requestId) {
+        BatchApiResponse response = of(results, APIResponseCode.SUCCESS, requestId);
+        if (response.failed > 0) {
+            response.success = false;
+            response.code = APIResponseCode.MULTI_STATUS.getCode();
+            response.errorMessage = response.failed == results.size()
+                    ? "All " + response.failed + " batch operations failed"
+                    : response.failed + " of " + results.size() + " batch operations failed";
+        }
+        return response;
+    }
+
+    /**
+     * @implNote This method is used to create the batch response with a fixed
+     *           code, reported as successful whatever the item results.
+     * @param results
+     * @param responseCode
+     * @param requestId
+     * @return BatchApiResponse
+     */
+    public static BatchApiResponse of(List<BatchItemResult<Object>> results, ResponseCode responseCode,
+            String requestId) {
+        BatchApiResponse response = new BatchApiResponse();
+        response.success = true;
+        response.data = results;
+        response.code = responseCode.getCode();
+        response.requestId = requestId;
+        for (BatchItemResult<Object> result : results) {
+            if (result.isSuccess()) {
+                response.succeeded++;
+            } else {
+                response.failed++;
+            }
+        }
+        return response;
+    }
+}
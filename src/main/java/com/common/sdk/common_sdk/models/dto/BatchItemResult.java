@@ -0,0 +1,57 @@
+package com.common.sdk.common_sdk.models.dto;
+
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to store the outcome of one sub-operation of a
+ *           batch, with the same success, code and errorMessage fields as the
+ *           single envelope.
+ */
+@Getter
+public class BatchItemResult<R> {
+
+    private String id;
+    private boolean success;
+    private R data;
+    private Integer code;
+    private String errorMessage;
+
+    private BatchItemResult() {
+    }
+
+    /**
+     * @implNote This method is used to create a successful item result.
+     * @param id
+     * @param data
+     * @return BatchItemResult<R>
+     */
+    public static <R> BatchItemResult<R> success(String id, R data) {
+        BatchItemResult<R> result = new BatchItemResult<>();
+        result.id = id;
+        result.success = true;
+        result.data = data;
+        result.code = APIResponseCode.SUCCESS.getCode();
+        return result;
+    }
+
+    /**
+     * @implNote This method is used to create a failed item result.
+     * @param id
+     * @param code
+     * @param message
+     * @return BatchItemResult<R>
+     */
+    public static <R> BatchItemResult<R> failure(String id, int code, String message) {
+        BatchItemResult<R> result = new BatchItemResult<>();
+        result.id = id;
+        result.success = false;
+        result.code = code;
+        result.errorMessage = message;
+        return result;
+    }
+}
@@ -0,0 +1,23 @@
+package com.common.sdk.common_sdk.models.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to store one sub-operation of a batch request:
+ *           the client chosen id echoed in the result, the operation name the
+ *           application dispatches on, and its payload.
+ */
+@Getter
+@Setter
+public class BatchOperation {
+
+    private String id;
+    private String operation;
+    private JsonNode payload;
+}
@@ -0,0 +1,21 @@
+package com.common.sdk.common_sdk.models.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to store a batch request carrying several
+ *           independent sub-operations.
+ */
+@Getter
+@Setter
+public class BatchRequest {
+
+    private List<BatchOperation> operations = new ArrayList<>();
+}
@@ -0,0 +1,62 @@
+package com.common.sdk.common_sdk.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.SerializableString;
+
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to store one structured error of a failed
+ *           response: the field in error, a bounded summary of the rejected
+ *           value, the constraint code and its message.
+ */
+@Getter
+public class ErrorDetail {
+
+    private String field;
+    private String rejectedValue;
+    private String code;
+    private String message;
+    @JsonIgnore
+    private SerializableString encodedMessage;
+
+    private ErrorDetail() {
+    }
+
+    /**
+     * @implNote This method is used to create an error detail.
+     * @param field
+     * @param rejectedValue
+     * @param code
+     * @param message
+     * @return ErrorDetail
+     */
+    public static ErrorDetail of(String field, String rejectedValue, String code, String message) {
+        return of(field, rejectedValue, code, message, null);
+    }
+
+    /**
+     * @implNote This method is used to create an error detail whose message was
+     *           encoded once and is shared by every error of the same
+     *           constraint.
+     * @param field
+     * @param rejectedValue
+     * @param code
+     * @param message
+     * @param encodedMessage
+     * @return ErrorDetail
+     */
+    public static ErrorDetail of(String field, String rejectedValue, String code, String message,
+            SerializableString encodedMessage) {
+        ErrorDetail detail = new ErrorDetail();
+        detail.field = field;
+        detail.rejectedValue = rejectedValue;
+        detail.code = code;
+        detail.message = message;
+        detail.encodedMessage = encodedMessage;
+        return detail;
+    }
+}
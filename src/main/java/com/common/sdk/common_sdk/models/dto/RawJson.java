@@ -0,0 +1,288 @@
+package com.common.sdk.common_sdk.models.dto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to carry data that is already encoded as UTF-8
+ *           JSON, such as the body of a downstream call or a cached value. JSON
+ *           generators splice the bytes into the output as they are: nothing
+ *           is parsed, and payloads larger than the generator buffer are
+ *           written straight to the output stream without being copied. Other
+ *           formats such as CBOR or Smile get the JSON transcoded. The bytes
+ *           are trusted unless {@link #validate()} is called.
+ */
+public final class RawJson implements JsonSerializable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    private RawJson(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("Invalid range " + offset + "+" + length + " of " + bytes.length);
+        }
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * @implNote This method is used to wrap UTF-8 JSON bytes without copying
+     *           them. The array must not be changed afterwards.
+     * @param bytes
+     * @return RawJson
+     */
+    public static RawJson of(byte[] bytes) {
+        return new RawJson(bytes, 0, bytes.length);
+    }
+
+    /**
+     * @implNote This method is used to wrap a range of UTF-8 JSON bytes without
+     *           copying them.
+     * @param bytes
+     * @param offset
+     * @param length
+     * @return RawJson
+     */
+    public static RawJson of(byte[] bytes, int offset, int length) {
+        return new RawJson(bytes, offset, length);
+    }
+
+    /**
+     * @implNote This method is used to wrap the remaining bytes of a buffer.
+     *           Heap buffers are wrapped without copying, direct buffers are
+     *           copied once. The position of the buffer is not changed.
+     * @param buffer
+     * @return RawJson
+     */
+    public static RawJson of(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new RawJson(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return new RawJson(copy, 0, copy.length);
+    }
+
+    /**
+     * @implNote This method is used to wrap a JSON string.
+     * @param json
+     * @return RawJson
+     */
+    public static RawJson of(String json) {
+        return of(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @implNote This method is used to check with a streaming parser that the
+     *           bytes hold exactly one JSON value. No objects are built.
+     * @return RawJson
+     * @throws IllegalArgumentException if the bytes are not one valid JSON value
+     */
+    public RawJson validate() {
+        try (JsonParser parser = JSON_FACTORY.createParser(bytes, offset, length)) {
+            if (parser.nextToken() == null) {
+                throw new IllegalArgumentException("Raw JSON is empty");
+            }
+            parser.skipChildren();
+            if (parser.nextToken() != null) {
+                throw new IllegalArgumentException("Raw JSON holds more than one value");
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Raw JSON is not valid: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Raw JSON could not be read", e);
+        }
+        return this;
+    }
+
+    /**
+     * @implNote This method is used to get the number of encoded bytes.
+     * @return int
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @implNote This method is used to write the bytes to a stream.
+     * @param out
+     * @throws IOException
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, offset, length);
+    }
+
+    /**
+     * @implNote This method is used to write the JSON to the generator, spliced
+     *           in by JSON generators and transcoded by the others.
+     * @param gen
+     * @param serializers
+     * @throws IOException
+     */
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (gen instanceof JsonGeneratorImpl) {
+            gen.writeRawValue(new Encoded());
+            return;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(bytes, offset, length)) {
+            parser.nextToken();
+            gen.copyCurrentStructure(parser);
+        }
+    }
+
+    /**
+     * @implNote This method is used to write the JSON when type information is
+     *           requested, the JSON is written as it is.
+     * @param gen
+     * @param serializers
+     * @param typeSer
+     * @throws IOException
+     */
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.VALUE_EMBEDDED_OBJECT));
+        serialize(gen, serializers);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    /**
+     * @implNote This method is used to decode the JSON as a string.
+     * @return String
+     */
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @implNote This class is used to hand the bytes to a generator as an
+     *           unquoted value. Small payloads are copied into the generator
+     *           buffer, larger ones are handed over as the wrapped array when it
+     *           is not a range, which the generator writes to its stream
+     *           directly. The quoted forms, used when the value is written as
+     *           a JSON string or a field name, escape the decoded JSON.
+     */
+    private final class Encoded implements SerializableString {
+
+        @Override
+        public String getValue() {
+            return RawJson.this.toString();
+        }
+
+        @Override
+        public int charLength() {
+            return getValue().length();
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return JsonStringEncoder.getInstance().quoteAsString(getValue());
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return offset == 0 && length == bytes.length ? bytes : Arrays.copyOfRange(bytes, offset, offset + length);
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return JsonStringEncoder.getInstance().quoteAsUTF8(getValue());
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            byte[] quoted = asQuotedUTF8();
+            if (offset + quoted.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+            return quoted.length;
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            char[] quoted = asQuotedChars();
+            if (offset + quoted.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+            return quoted.length;
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(bytes, RawJson.this.offset, buffer, offset, length);
+            return length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            String value = getValue();
+            if (offset + value.length() > buffer.length) {
+                return -1;
+            }
+            value.getChars(0, value.length(), buffer, offset);
+            return value.length();
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            byte[] quoted = asQuotedUTF8();
+            out.write(quoted);
+            return quoted.length;
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            writeTo(out);
+            return length;
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) {
+            byte[] quoted = asQuotedUTF8();
+            if (quoted.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(quoted);
+            return quoted.length;
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer out) {
+            if (length > out.remaining()) {
+                return -1;
+            }
+            out.put(bytes, offset, length);
+            return length;
+        }
+    }
+}
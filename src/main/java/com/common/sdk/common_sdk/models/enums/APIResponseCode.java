@@ -8,34 +8,41 @@ import lombok.Getter;
  * @author PRABHAKAR PAL
  * @version 1.0
  * @since 2025-11-25
- * @implNote This enum is used to store response codes in the application.
+ * @implNote This enum is used to store response codes in the application. The
+ *           HTTP status of failures is declared with each code.
  */
 @Getter
 public enum APIResponseCode implements ResponseCode {
-    SUCCESS(200, "Success"),
-    BAD_REQUEST(400, "Bad Request"),
-    METHOD_NOT_ALLOWED(405, "Method Not Allowed"),
-    UNSUPPORTED_MEDIA_TYPE(415, "Unsupported Media Type"),
-    VALIDATION_ERROR(422, "Validation Failed"),
-
-    MISSING_REQUEST_PARAM(440, "Missing Request Parameter"),
-    MISSING_PATH_VARIABLE(441, "Missing Path Variable"),
-    MISSING_REQUEST_HEADER(442, "Missing Request Header"),
-    ARGUMENT_TYPE_MISMATCH(443, "Argument Type Mismatch"),
-    HTTP_MESSAGE_NOT_READABLE(444, "Malformed JSON or Invalid Request Body"),
-    CONVERSION_FAILED(447, "Conversion Failed"),
-
-    INTERNAL_ERROR(500, "Internal Server Error"),
-    NULL_POINTER(501, "Null Pointer Exception"),
-    ILLEGAL_ARGUMENT(502, "Illegal Argument Exception"),
-    ILLEGAL_STATE(503, "Illegal StateException");
+    SUCCESS(200, "Success", 200),
+    MULTI_STATUS(207, "Multi-Status", 207),
+    NOT_MODIFIED(304, "Not Modified", 304),
+    BAD_REQUEST(400, "Bad Request", 400),
+    METHOD_NOT_ALLOWED(405, "Method Not Allowed", 405),
+    UNSUPPORTED_MEDIA_TYPE(415, "Unsupported Media Type", 415),
+    VALIDATION_ERROR(422, "Validation Failed", 400),
+    TOO_MANY_REQUESTS(429, "Too Many Requests", 429),
+
+    MISSING_REQUEST_PARAM(440, "Missing Request Parameter", 400),
+    MISSING_PATH_VARIABLE(441, "Missing Path Variable", 400),
+    MISSING_REQUEST_HEADER(442, "Missing Request Header", 400),
+    ARGUMENT_TYPE_MISMATCH(443, "Argument Type Mismatch", 400),
+    HTTP_MESSAGE_NOT_READABLE(444, "Malformed JSON or Invalid Request Body", 400),
+    CONVERSION_FAILED(447, "Conversion Failed", 400),
+
+    INTERNAL_ERROR(500, "Internal Server Error", 500),
+    NULL_POINTER(501, "Null Pointer Exception", 500),
+    ILLEGAL_ARGUMENT(502, "Illegal Argument Exception", 500),
+    ILLEGAL_STATE(503, "Illegal StateException", 500),
+    RESPONSE_TIMEOUT(504, "Response Timeout", 504);
 
     private final int code;
     private final String message;
+    private final int httpStatus;
 
-    APIResponseCode(int code, String message) {
+    APIResponseCode(int code, String message, int httpStatus) {
         this.code = code;
         this.message = message;
+        this.httpStatus = httpStatus;
     }
 
 }
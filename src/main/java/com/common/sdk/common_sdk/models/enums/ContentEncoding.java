@@ -0,0 +1,28 @@
+package com.common.sdk.common_sdk.models.enums;
+
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This enum is used to describe the response compressions the SDK
+ *           negotiates from Accept-Encoding, with their header token.
+ */
+@Getter
+public enum ContentEncoding {
+    /**
+     * DEFLATE data in the gzip format (RFC 1952).
+     */
+    GZIP("gzip"),
+    /**
+     * DEFLATE data in the zlib format (RFC 1950).
+     */
+    DEFLATE("deflate");
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+}
@@ -0,0 +1,29 @@
+package com.common.sdk.common_sdk.models.enums;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This enum is used to select the built-in correlation id generator
+ *           through the common.sdk.correlation.id-strategy property.
+ */
+public enum CorrelationIdStrategy {
+    /**
+     * Random version 4 UUID backed by SecureRandom (previous default).
+     */
+    UUID,
+    /**
+     * Version 7 style UUID whose leading bits are the epoch millis, so ids sort
+     * by creation time.
+     */
+    TIME_ORDERED,
+    /**
+     * Random version 4 UUID backed by ThreadLocalRandom.
+     */
+    THREAD_LOCAL_RANDOM,
+    /**
+     * UUID shaped id built from the start time, a node id and a sequence
+     * counter.
+     */
+    NODE_COUNTER
+}
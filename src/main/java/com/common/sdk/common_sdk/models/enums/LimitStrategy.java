@@ -0,0 +1,21 @@
+package com.common.sdk.common_sdk.models.enums;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This enum is used to select the concurrency limit algorithm
+ *           through the common.sdk.limiter.strategy property.
+ */
+public enum LimitStrategy {
+    /**
+     * Additive increase while requests are fast, multiplicative decrease when
+     * a request exceeds the latency threshold.
+     */
+    AIMD,
+    /**
+     * Limit follows the ratio of the long term to the short term latency, so
+     * it shrinks as soon as queueing shows up in the latency.
+     */
+    GRADIENT
+}
@@ -0,0 +1,27 @@
+package com.common.sdk.common_sdk.models.enums;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This enum is used to select the client facing message of an
+ *           exception mapping.
+ */
+public enum MessagePolicy {
+    /**
+     * The message of the exception, the reason of a ResponseStatusException.
+     */
+    EXCEPTION,
+    /**
+     * The message of the response code.
+     */
+    RESPONSE_CODE,
+    /**
+     * A fixed message set on the rule.
+     */
+    FIXED,
+    /**
+     * An empty message.
+     */
+    NONE
+}
@@ -16,6 +16,8 @@ public enum NotificationResponseCode implements ResponseCode {
     INTERNAL_SERVER_ERROR(500, "Internal Server Error"),
     TEMPLATE_NOT_FOUND(1001, "Notification Template not found");
 
+    public static final String NAMESPACE = "notification";
+
     private final int code;
     private final String message;
 
@@ -23,4 +25,13 @@ public enum NotificationResponseCode implements ResponseCode {
         this.code = code;
         this.message = message;
     }
+
+    /**
+     * @implNote This method is used to get the namespace of the code.
+     * @return String
+     */
+    @Override
+    public String namespace() {
+        return NAMESPACE;
+    }
 }
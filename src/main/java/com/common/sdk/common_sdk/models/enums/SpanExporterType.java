@@ -0,0 +1,19 @@
+package com.common.sdk.common_sdk.models.enums;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This enum is used to select where finished spans are exported
+ *           through the common.sdk.tracing.exporter property.
+ */
+public enum SpanExporterType {
+    /**
+     * POST OTLP/HTTP JSON to a collector.
+     */
+    OTLP,
+    /**
+     * Append one OTLP JSON document per export to a file.
+     */
+    FILE
+}
@@ -0,0 +1,32 @@
+package com.common.sdk.common_sdk.models.enums;
+
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This enum is used to describe the role of a span in a trace, with
+ *           its OTLP span kind number.
+ */
+@Getter
+public enum SpanKind {
+    /**
+     * Work inside the service.
+     */
+    INTERNAL(1),
+    /**
+     * A request served by the service.
+     */
+    SERVER(2),
+    /**
+     * A call to another service.
+     */
+    CLIENT(3);
+
+    private final int otlpValue;
+
+    SpanKind(int otlpValue) {
+        this.otlpValue = otlpValue;
+    }
+}
@@ -0,0 +1,30 @@
+package com.common.sdk.common_sdk.models.enums;
+
+import org.springframework.http.MediaType;
+
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This enum is used to select the layout of a streamed envelope.
+ */
+@Getter
+public enum StreamingFormat {
+    /**
+     * One JSON object whose data field is an array, followed by the status
+     * fields.
+     */
+    JSON_ARRAY(MediaType.APPLICATION_JSON),
+    /**
+     * One JSON line per item followed by a status line.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    StreamingFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+}
@@ -0,0 +1,19 @@
+package com.common.sdk.common_sdk.models.interfaces;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This interface is used to generate correlation ids for requests
+ *           that arrive without an x-correlation-id header. Implementations
+ *           must be thread safe and should avoid shared locks since they are
+ *           called once per request.
+ */
+public interface CorrelationIdGenerator {
+
+    /**
+     * @implNote This method is used to generate a new correlation id.
+     * @return String
+     */
+    String generate();
+}
@@ -0,0 +1,21 @@
+package com.common.sdk.common_sdk.models.interfaces;
+
+import com.common.sdk.common_sdk.exception.ExceptionMapper;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This interface is used to register exception mappings of an
+ *           application. Every bean of this type is applied to the exception
+ *           mapper of the SDK when it is created.
+ */
+@FunctionalInterface
+public interface ExceptionMappingCustomizer {
+
+    /**
+     * @implNote This method is used to register rules on the mapper builder.
+     * @param builder
+     */
+    void customize(ExceptionMapper.Builder builder);
+}
@@ -0,0 +1,37 @@
+package com.common.sdk.common_sdk.models.interfaces;
+
+import java.util.List;
+
+import com.common.sdk.common_sdk.latency.LatencySnapshot;
+import com.common.sdk.common_sdk.latency.SlowRequest;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This interface is used to expose the per-endpoint latency
+ *           distributions and the slow request log over JMX.
+ */
+public interface LatencyMXBean {
+
+    /**
+     * @implNote This method is used to get the distribution of every endpoint
+     *           over the last completed interval.
+     * @return List<LatencySnapshot>
+     */
+    List<LatencySnapshot> getEndpoints();
+
+    /**
+     * @implNote This method is used to get the most recent slow requests,
+     *           slowest first.
+     * @return List<SlowRequest>
+     */
+    List<SlowRequest> getSlowRequests();
+
+    /**
+     * @implNote This method is used to get the threshold above which a request
+     *           is captured as slow.
+     * @return long
+     */
+    long getSlowThresholdMillis();
+}
@@ -0,0 +1,27 @@
+package com.common.sdk.common_sdk.models.interfaces;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This interface is used to compute the in-flight limit of a route
+ *           group from the latency of completed requests. Calls for one group
+ *           are never concurrent, so implementations may keep plain state.
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * @implNote This method is used to get the limit before any sample.
+     * @return int
+     */
+    int initialLimit();
+
+    /**
+     * @implNote This method is used to compute the new limit after a request
+     *           completed.
+     * @param rttNanos
+     * @param inFlight
+     * @return int
+     */
+    int update(long rttNanos, int inFlight);
+}
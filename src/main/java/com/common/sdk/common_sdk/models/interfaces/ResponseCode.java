@@ -1,5 +1,9 @@
 package com.common.sdk.common_sdk.models.interfaces;
 
+import org.springframework.http.HttpStatus;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+
 /**
  * @author PRABHAKAR PAL
  * @version 1.0
@@ -19,4 +23,32 @@ public interface ResponseCode {
      * @return String
      */
     String getMessage();
+
+    /**
+     * @implNote This method is used to get the namespace of the code. Codes only
+     *           have to be unique within their namespace.
+     * @return String
+     */
+    default String namespace() {
+        return ApplicationConstants.DEFAULT_CODE_NAMESPACE;
+    }
+
+    /**
+     * @implNote This method is used to get the HTTP status of responses failing
+     *           with the code. By default a code that is an HTTP status is used
+     *           as it is and any other code is a 400.
+     * @return int
+     */
+    default int getHttpStatus() {
+        return httpStatusOf(getCode());
+    }
+
+    /**
+     * @implNote This method is used to get the default HTTP status of a code.
+     * @param code
+     * @return int
+     */
+    static int httpStatusOf(int code) {
+        return HttpStatus.resolve(code) != null ? code : HttpStatus.BAD_REQUEST.value();
+    }
 }
@@ -0,0 +1,64 @@
+package com.common.sdk.common_sdk.models.interfaces;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This interface is used to record metrics for the envelopes
+ *           produced by the SDK. Implementations resolve pre-created meter
+ *           handles, so recording does not allocate once a code has been seen.
+ */
+public interface ResponseMetrics {
+
+    /**
+     * @implNote This instance is used when metrics are disabled.
+     */
+    ResponseMetrics NOOP = new ResponseMetrics() {
+        @Override
+        public void recordResponse(int code, boolean success) {
+        }
+
+        @Override
+        public void recordException(int code, Class<?> type, String handler) {
+        }
+    };
+
+    /**
+     * @implNote This method is used to record an envelope built for a response
+     *           code of the default namespace.
+     * @param code
+     * @param success
+     */
+    void recordResponse(int code, boolean success);
+
+    /**
+     * @implNote This method is used to record an envelope built for a response
+     *           code of the given namespace. Implementations that do not
+     *           separate namespaces count it by code only.
+     * @param namespace
+     * @param code
+     * @param success
+     */
+    default void recordResponse(String namespace, int code, boolean success) {
+        recordResponse(code, success);
+    }
+
+    /**
+     * @implNote This method is used to record an envelope built for a response
+     *           code.
+     * @param responseCode
+     * @param success
+     */
+    default void recordResponse(ResponseCode responseCode, boolean success) {
+        recordResponse(responseCode.namespace(), responseCode.getCode(), success);
+    }
+
+    /**
+     * @implNote This method is used to record an exception mapped to a response
+     *           code by an exception handler method.
+     * @param code
+     * @param type
+     * @param handler
+     */
+    void recordException(int code, Class<?> type, String handler);
+}
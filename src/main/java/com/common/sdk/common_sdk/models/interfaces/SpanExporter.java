@@ -0,0 +1,23 @@
+package com.common.sdk.common_sdk.models.interfaces;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.common.sdk.common_sdk.tracing.Span;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This interface is used to export batches of finished spans. It is
+ *           only called from the export thread, never from a request thread.
+ */
+public interface SpanExporter {
+
+    /**
+     * @implNote This method is used to export a batch of finished spans.
+     * @param spans
+     * @throws IOException
+     */
+    void export(List<Span> spans) throws IOException;
+}
@@ -0,0 +1,88 @@
+package com.common.sdk.common_sdk.reactive;
+
+import java.util.function.Consumer;
+
+import org.springframework.web.server.ServerWebExchange;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.correlation.CorrelationContext;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.util.context.ContextView;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to read the correlation id in reactive
+ *           pipelines and to fill the logging MDC only around log statements,
+ *           instead of restoring thread locals around every operator.
+ */
+public final class ReactiveCorrelation {
+
+    private ReactiveCorrelation() {
+    }
+
+    /**
+     * @implNote This method is used to get the correlation id from the Reactor
+     *           context.
+     * @return Mono<String>
+     */
+    public static Mono<String> requestId() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(requestId(context)));
+    }
+
+    /**
+     * @implNote This method is used to get the correlation id from a Reactor
+     *           context view.
+     * @param context
+     * @return String
+     */
+    public static String requestId(ContextView context) {
+        return context.getOrDefault(ApplicationConstants.CORRELATION_ID, null);
+    }
+
+    /**
+     * @implNote This method is used to get the correlation id from the exchange
+     *           attributes.
+     * @param exchange
+     * @return String
+     */
+    public static String requestId(ServerWebExchange exchange) {
+        return exchange.getAttribute(ApplicationConstants.CORRELATION_ID);
+    }
+
+    /**
+     * @implNote This method is used to run a log statement for every onNext
+     *           signal with the correlation id in the MDC, e.g.
+     *           {@code doOnEach(logOnNext(value -> log.info("found {}", value)))}.
+     * @param logStatement
+     * @return Consumer<Signal<T>>
+     */
+    public static <T> Consumer<Signal<T>> logOnNext(Consumer<T> logStatement) {
+        return signal -> {
+            if (signal.isOnNext()) {
+                try (CorrelationContext.Scope scope = CorrelationContext.open(requestId(signal.getContextView()))) {
+                    logStatement.accept(signal.get());
+                }
+            }
+        };
+    }
+
+    /**
+     * @implNote This method is used to run a log statement for the onError
+     *           signal with the correlation id in the MDC.
+     * @param logStatement
+     * @return Consumer<Signal<T>>
+     */
+    public static <T> Consumer<Signal<T>> logOnError(Consumer<Throwable> logStatement) {
+        return signal -> {
+            if (signal.isOnError()) {
+                try (CorrelationContext.Scope scope = CorrelationContext.open(requestId(signal.getContextView()))) {
+                    logStatement.accept(signal.getThrowable());
+                }
+            }
+        };
+    }
+}
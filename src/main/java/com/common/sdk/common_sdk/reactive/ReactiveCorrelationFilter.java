@@ -0,0 +1,49 @@
+package com.common.sdk.common_sdk.reactive;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.models.interfaces.CorrelationIdGenerator;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to add correlation id in the request and
+ *           response of reactive applications. The id is stored in the Reactor
+ *           context and in the exchange attributes instead of a thread local.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ReactiveCorrelationFilter implements WebFilter, ApplicationConstants {
+
+    private final CorrelationIdGenerator idGenerator;
+
+    /**
+     * @implNote This method is used to add correlation id in the request and
+     *           response.
+     * @param exchange
+     * @param chain
+     * @return Mono<Void>
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst(CORRELATION_ID);
+        if (ObjectUtils.isEmpty(header)) {
+            header = idGenerator.generate();
+        }
+
+        exchange.getAttributes().put(CORRELATION_ID, header);
+        exchange.getResponse().getHeaders().set(CORRELATION_ID, header);
+        return chain.filter(exchange).contextWrite(Context.of(CORRELATION_ID, header));
+    }
+}
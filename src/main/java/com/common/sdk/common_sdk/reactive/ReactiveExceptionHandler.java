@@ -0,0 +1,221 @@
+package com.common.sdk.common_sdk.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Hints;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.WebExceptionHandler;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.correlation.CorrelationContext;
+import com.common.sdk.common_sdk.exception.ExceptionLogAggregator;
+import com.common.sdk.common_sdk.exception.ExceptionMapper;
+import com.common.sdk.common_sdk.exception.ExceptionResponse;
+import com.common.sdk.common_sdk.exception.ExceptionRule;
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to handle exceptions in reactive applications.
+ *           It writes the same envelope, response codes and statuses as the
+ *           servlet BaseGlobalExceptionHandler and shares its log aggregation
+ *           and metrics. It runs before Spring Boot's default error handler.
+ *           The envelope is written with the first message writer of the
+ *           application's codecs that accepts the most specific Accept type,
+ *           so CBOR, Smile and compact CBOR clients get their format; when no
+ *           writer matches the envelope is written as JSON.
+ */
+@Slf4j
+public class ReactiveExceptionHandler implements WebExceptionHandler, Ordered {
+
+    private static final ExceptionRule MISSING_HEADER = ExceptionRule.of(APIResponseCode.MISSING_REQUEST_HEADER)
+            .withHandler("handleMissingHeader");
+    private static final ExceptionRule MISSING_PATH_VARIABLE = ExceptionRule
+            .of(APIResponseCode.MISSING_PATH_VARIABLE).withHandler("handleMissingPathVar");
+    private static final ExceptionRule MISSING_PARAM = ExceptionRule.of(APIResponseCode.MISSING_REQUEST_PARAM)
+            .withHandler("handleMissingParam");
+    private static final ExceptionRule TYPE_MISMATCH = ExceptionRule.of(APIResponseCode.ARGUMENT_TYPE_MISMATCH)
+            .withHandler("handleTypeMismatch");
+    private static final ExceptionRule UNREADABLE = ExceptionRule.of(APIResponseCode.HTTP_MESSAGE_NOT_READABLE)
+            .withMessage(ApplicationConstants.INVALID_PAYLOAD_MESSAGE).withHandler("handleUnreadable");
+    private static final ResolvableType ENVELOPE_TYPE = ResolvableType.forClass(ApiResponse.class);
+
+    private final List<HttpMessageWriter<?>> messageWriters;
+    private final ExceptionLogAggregator logAggregator;
+    private final ResponseMetrics metrics;
+    private final ExceptionMapper exceptionMapper;
+
+    /**
+     * @implNote This constructor is used to create the handler with the default
+     *           exception mappings.
+     * @param objectMapper
+     * @param logAggregator
+     * @param metrics
+     */
+    public ReactiveExceptionHandler(ObjectMapper objectMapper, ExceptionLogAggregator logAggregator,
+            ResponseMetrics metrics) {
+        this(objectMapper, logAggregator, metrics, ExceptionMapper.defaults());
+    }
+
+    /**
+     * @implNote This constructor is used to create the handler that writes JSON
+     *           only.
+     * @param objectMapper
+     * @param logAggregator
+     * @param metrics
+     * @param exceptionMapper
+     */
+    public ReactiveExceptionHandler(ObjectMapper objectMapper, ExceptionLogAggregator logAggregator,
+            ResponseMetrics metrics, ExceptionMapper exceptionMapper) {
+        this(List.of(new EncoderHttpMessageWriter<>(new Jackson2JsonEncoder(objectMapper))), logAggregator, metrics,
+                exceptionMapper);
+    }
+
+    /**
+     * @implNote This constructor is used to create the handler with the message
+     *           writers of the application, e.g. ServerCodecConfigurer
+     *           getWriters().
+     * @param messageWriters
+     * @param logAggregator
+     * @param metrics
+     * @param exceptionMapper
+     */
+    public ReactiveExceptionHandler(List<HttpMessageWriter<?>> messageWriters, ExceptionLogAggregator logAggregator,
+            ResponseMetrics metrics, ExceptionMapper exceptionMapper) {
+        this.messageWriters = List.copyOf(messageWriters);
+        this.logAggregator = logAggregator;
+        this.metrics = metrics;
+        this.exceptionMapper = exceptionMapper;
+    }
+
+    /**
+     * @implNote This method is used to get the order of the handler.
+     * @return int
+     */
+    @Override
+    public int getOrder() {
+        return -2;
+    }
+
+    /**
+     * @implNote This method is used to write the failure envelope of the
+     *           exception.
+     * @param exchange
+     * @param ex
+     * @return Mono<Void>
+     */
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
+        ExceptionResponse mapped = resolve(ex);
+        String requestId = ReactiveCorrelation.requestId(exchange);
+        metrics.recordException(mapped.getCode(), ex.getClass(), mapped.getHandler());
+        metrics.recordResponse(mapped.getNamespace(), mapped.getCode(), false);
+        if (logAggregator.shouldLog(mapped.getHandler(), ex.getClass(), mapped.getCode())) {
+            try (CorrelationContext.Scope scope = CorrelationContext.open(requestId)) {
+                mapped.log(log, ex);
+            }
+        }
+        response.setStatusCode(HttpStatusCode.valueOf(mapped.getStatus()));
+        return write(exchange, mapped.toApiResponse(requestId));
+    }
+
+    /**
+     * @implNote This method is used to write the envelope with the writer of
+     *           the most specific acceptable media type, or as JSON when none
+     *           is acceptable.
+     * @param exchange
+     * @param body
+     * @return Mono<Void>
+     */
+    private Mono<Void> write(ServerWebExchange exchange, ApiResponse<Object> body) {
+        Map<String, Object> hints = Hints.from(Hints.LOG_PREFIX_HINT, exchange.getLogPrefix());
+        for (MediaType mediaType : acceptedMediaTypes(exchange)) {
+            for (HttpMessageWriter<?> writer : messageWriters) {
+                if (writer.canWrite(ENVELOPE_TYPE, mediaType)) {
+                    return write(writer, body, mediaType, exchange, hints);
+                }
+            }
+        }
+        for (HttpMessageWriter<?> writer : messageWriters) {
+            if (writer.canWrite(ENVELOPE_TYPE, MediaType.APPLICATION_JSON)) {
+                return write(writer, body, MediaType.APPLICATION_JSON, exchange, hints);
+            }
+        }
+        return Mono.error(new IllegalStateException("No message writer for the failure envelope"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Mono<Void> write(HttpMessageWriter<?> writer, ApiResponse<Object> body, MediaType mediaType,
+            ServerWebExchange exchange, Map<String, Object> hints) {
+        return ((HttpMessageWriter<Object>) writer).write(Mono.just(body), ENVELOPE_TYPE, mediaType,
+                exchange.getResponse(), hints);
+    }
+
+    private static List<MediaType> acceptedMediaTypes(ServerWebExchange exchange) {
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(exchange.getRequest().getHeaders().getAccept());
+        } catch (InvalidMediaTypeException e) {
+            return List.of(MediaType.ALL);
+        }
+        if (accepted.isEmpty()) {
+            return List.of(MediaType.ALL);
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        return accepted;
+    }
+
+    /**
+     * @implNote This method is used to map the reactive web exceptions whose
+     *           response code depends on their label or cause, everything else is
+     *           mapped by the rules of the {@link ExceptionMapper}.
+     * @param ex
+     * @return ExceptionResponse
+     */
+    ExceptionResponse resolve(Throwable ex) {
+        if (ex instanceof MissingRequestValueException e) {
+            return exceptionMapper.map(ex, switch (e.getLabel()) {
+                case "request header" -> MISSING_HEADER;
+                case "path variable" -> MISSING_PATH_VARIABLE;
+                default -> MISSING_PARAM;
+            });
+        }
+        if (ex instanceof ServerWebInputException e) {
+            if (e.getCause() instanceof TypeMismatchException) {
+                return exceptionMapper.map(ex, TYPE_MISMATCH);
+            }
+            if (e.getCause() instanceof DecodingException) {
+                return exceptionMapper.map(ex, UNREADABLE);
+            }
+        }
+        return exceptionMapper.map(ex);
+    }
+}
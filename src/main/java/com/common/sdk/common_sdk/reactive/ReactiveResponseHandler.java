@@ -0,0 +1,73 @@
+package com.common.sdk.common_sdk.reactive;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to handle responses in reactive applications.
+ *           It builds the same envelopes as the servlet ResponseHandler, taking
+ *           the request id from the Reactor context.
+ */
+@RequiredArgsConstructor
+public class ReactiveResponseHandler {
+
+    private final ResponseMetrics metrics;
+
+    /**
+     * @implNote This method is used to create success response.
+     * @param data
+     * @return Mono<GenericApiResponse<T>>
+     */
+    public <T> Mono<GenericApiResponse<T>> ok(Mono<T> data) {
+        return Mono.deferContextual(context -> data
+                .map(value -> success(value, APIResponseCode.SUCCESS, ReactiveCorrelation.requestId(context)))
+                .switchIfEmpty(Mono.fromSupplier(
+                        () -> success(null, APIResponseCode.SUCCESS, ReactiveCorrelation.requestId(context)))));
+    }
+
+    /**
+     * @implNote This method is used to create success response.
+     * @param data
+     * @return Mono<GenericApiResponse<T>>
+     */
+    public <T> Mono<GenericApiResponse<T>> ok(T data) {
+        return ok(data, APIResponseCode.SUCCESS);
+    }
+
+    /**
+     * @implNote This method is used to create success response.
+     * @param data
+     * @param responseCode
+     * @return Mono<GenericApiResponse<T>>
+     */
+    public <T> Mono<GenericApiResponse<T>> ok(T data, ResponseCode responseCode) {
+        return Mono.deferContextual(
+                context -> Mono.just(success(data, responseCode, ReactiveCorrelation.requestId(context))));
+    }
+
+    /**
+     * @implNote This method is used to create failure response.
+     * @param responseCode
+     * @return Mono<GenericApiResponse<Void>>
+     */
+    public Mono<GenericApiResponse<Void>> failure(ResponseCode responseCode) {
+        return Mono.deferContextual(context -> {
+            metrics.recordResponse(responseCode, false);
+            return Mono.just(ApiResponse.failure(responseCode, ReactiveCorrelation.requestId(context)));
+        });
+    }
+
+    private <T> GenericApiResponse<T> success(T data, ResponseCode responseCode, String requestId) {
+        metrics.recordResponse(responseCode, true);
+        return ApiResponse.success(data, responseCode, requestId);
+    }
+}
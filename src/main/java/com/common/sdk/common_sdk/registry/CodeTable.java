@@ -0,0 +1,67 @@
+package com.common.sdk.common_sdk.registry;
+
+import java.util.List;
+
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to hold the codes of one namespace in an open
+ *           addressing table keyed by the primitive code. The table is at most
+ *           half full, so a miss ends at the first empty slot after a short
+ *           linear probe.
+ */
+final class CodeTable {
+
+    private final int[] keys;
+    private final ResponseCode[] values;
+    private final int mask;
+
+    /**
+     * @implNote This constructor is used to build the table. The codes must be
+     *           unique, the registry checks that before building.
+     * @param codes
+     */
+    CodeTable(List<ResponseCode> codes) {
+        int capacity = Integer.highestOneBit(Math.max(2, codes.size()) << 1);
+        if (capacity < codes.size() << 1) {
+            capacity <<= 1;
+        }
+        keys = new int[capacity];
+        values = new ResponseCode[capacity];
+        mask = capacity - 1;
+        for (ResponseCode responseCode : codes) {
+            int index = slot(responseCode.getCode());
+            while (values[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = responseCode.getCode();
+            values[index] = responseCode;
+        }
+    }
+
+    /**
+     * @implNote This method is used to find the response code of a code.
+     * @param code
+     * @return ResponseCode, null when the code is unknown
+     */
+    ResponseCode find(int code) {
+        int index = slot(code);
+        ResponseCode value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == code) {
+                return value;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    private int slot(int code) {
+        // spreads neighbouring codes (400, 401, ...) across the table
+        int hash = code * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,191 @@
+package com.common.sdk.common_sdk.registry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to resolve a numeric code back to its
+ *           {@link ResponseCode}. Every code enum is registered once at startup
+ *           and each namespace gets its own int keyed table, so a lookup neither
+ *           scans enum values nor allocates. Two constants declaring the same
+ *           code in the same namespace fail the build of the registry.
+ */
+public final class ResponseCodeRegistry implements ApplicationConstants {
+
+    private final Map<String, CodeTable> tables;
+    private final CodeTable defaultTable;
+    private final int size;
+
+    private ResponseCodeRegistry(Map<String, List<ResponseCode>> codesByNamespace) {
+        Map<String, CodeTable> built = new HashMap<>();
+        int count = 0;
+        for (Map.Entry<String, List<ResponseCode>> entry : codesByNamespace.entrySet()) {
+            built.put(entry.getKey(), new CodeTable(entry.getValue()));
+            count += entry.getValue().size();
+        }
+        this.tables = Map.copyOf(built);
+        this.defaultTable = tables.get(DEFAULT_CODE_NAMESPACE);
+        this.size = count;
+    }
+
+    /**
+     * @implNote This method is used to create the registry from the constants of
+     *           the given code enums.
+     * @param enumTypes
+     * @return ResponseCodeRegistry
+     */
+    @SafeVarargs
+    public static ResponseCodeRegistry of(Class<? extends ResponseCode>... enumTypes) {
+        return ofEnums(Arrays.asList(enumTypes));
+    }
+
+    /**
+     * @implNote This method is used to create the registry from the constants of
+     *           the given code enums.
+     * @param enumTypes
+     * @return ResponseCodeRegistry
+     */
+    public static ResponseCodeRegistry ofEnums(Collection<Class<? extends ResponseCode>> enumTypes) {
+        return of(constantsOf(enumTypes));
+    }
+
+    /**
+     * @implNote This method is used to create the registry from the given codes.
+     * @param responseCodes
+     * @return ResponseCodeRegistry
+     * @throws IllegalStateException when two codes share a code and namespace
+     */
+    public static ResponseCodeRegistry of(Collection<? extends ResponseCode> responseCodes) {
+        Map<String, Map<Integer, ResponseCode>> byNamespace = new LinkedHashMap<>();
+        for (ResponseCode responseCode : responseCodes) {
+            String namespace = responseCode.namespace();
+            ResponseCode existing = byNamespace.computeIfAbsent(namespace, key -> new LinkedHashMap<>())
+                    .putIfAbsent(responseCode.getCode(), responseCode);
+            if (existing != null && existing != responseCode) {
+                throw new IllegalStateException("Response code " + responseCode.getCode() + " in namespace '"
+                        + namespace + "' is declared by both " + describe(existing) + " and "
+                        + describe(responseCode) + ", give one of them its own namespace()");
+            }
+        }
+        Map<String, List<ResponseCode>> codesByNamespace = new LinkedHashMap<>();
+        byNamespace.forEach((namespace, codes) -> codesByNamespace.put(namespace, List.copyOf(codes.values())));
+        return new ResponseCodeRegistry(codesByNamespace);
+    }
+
+    /**
+     * @implNote This method is used to create the registry from every
+     *           {@link ResponseCode} enum found in the given packages.
+     * @param classLoader
+     * @param basePackages
+     * @return ResponseCodeRegistry
+     * @throws IllegalStateException when two codes share a code and namespace
+     */
+    public static ResponseCodeRegistry scan(ClassLoader classLoader, Collection<String> basePackages) {
+        return ofEnums(findEnums(classLoader, basePackages));
+    }
+
+    /**
+     * @implNote This method is used to find every {@link ResponseCode} enum in
+     *           the given packages by scanning the classpath, which a native
+     *           image does not support.
+     * @param classLoader
+     * @param basePackages
+     * @return List<Class<? extends ResponseCode>>
+     */
+    public static List<Class<? extends ResponseCode>> findEnums(ClassLoader classLoader,
+            Collection<String> basePackages) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(
+                false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent()
+                        && Enum.class.getName().equals(beanDefinition.getMetadata().getSuperClassName());
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(ResponseCode.class));
+
+        Set<String> classNames = new LinkedHashSet<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                classNames.add(candidate.getBeanClassName());
+            }
+        }
+        List<Class<? extends ResponseCode>> enumTypes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            enumTypes.add(ClassUtils.resolveClassName(className, classLoader).asSubclass(ResponseCode.class));
+        }
+        return enumTypes;
+    }
+
+    /**
+     * @implNote This method is used to find a code of the default namespace.
+     * @param code
+     * @return ResponseCode, null when the code is unknown
+     */
+    public ResponseCode find(int code) {
+        return defaultTable == null ? null : defaultTable.find(code);
+    }
+
+    /**
+     * @implNote This method is used to find a code of the given namespace.
+     * @param namespace
+     * @param code
+     * @return ResponseCode, null when the namespace or code is unknown
+     */
+    public ResponseCode find(String namespace, int code) {
+        CodeTable table = tables.get(namespace);
+        return table == null ? null : table.find(code);
+    }
+
+    /**
+     * @implNote This method is used to get the registered namespaces.
+     * @return Set<String>
+     */
+    public Set<String> namespaces() {
+        return tables.keySet();
+    }
+
+    /**
+     * @implNote This method is used to get the number of registered codes.
+     * @return int
+     */
+    public int size() {
+        return size;
+    }
+
+    private static List<ResponseCode> constantsOf(Collection<Class<? extends ResponseCode>> enumTypes) {
+        List<ResponseCode> responseCodes = new ArrayList<>();
+        for (Class<? extends ResponseCode> enumType : enumTypes) {
+            if (!enumType.isEnum()) {
+                throw new IllegalArgumentException(enumType.getName() + " is not an enum");
+            }
+            responseCodes.addAll(Arrays.asList(enumType.getEnumConstants()));
+        }
+        return responseCodes;
+    }
+
+    private static String describe(ResponseCode responseCode) {
+        return responseCode instanceof Enum<?> constant
+                ? constant.getDeclaringClass().getSimpleName() + "." + constant.name()
+                : responseCode.toString();
+    }
+}
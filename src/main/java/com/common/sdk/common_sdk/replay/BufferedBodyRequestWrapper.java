@@ -0,0 +1,157 @@
+package com.common.sdk.common_sdk.replay;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to read the request body ahead of the handler,
+ *           so it can be part of the replay key, and to serve it again to the
+ *           handler. At most limit bytes are held; a longer body is marked as
+ *           not complete and is served as the bytes read followed by the rest
+ *           of the original stream.
+ */
+final class BufferedBodyRequestWrapper extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private final int length;
+    private final boolean complete;
+    private final InputStream remainder;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    private BufferedBodyRequestWrapper(HttpServletRequest request, byte[] body, int length, boolean complete,
+            InputStream remainder) {
+        super(request);
+        this.body = body;
+        this.length = length;
+        this.complete = complete;
+        this.remainder = remainder;
+    }
+
+    /**
+     * @implNote This method is used to read up to limit bytes of the body.
+     * @param request
+     * @param limit
+     * @return BufferedBodyRequestWrapper
+     * @throws IOException
+     */
+    static BufferedBodyRequestWrapper read(HttpServletRequest request, int limit) throws IOException {
+        long declared = request.getContentLengthLong();
+        byte[] body = new byte[(int) Math.min(limit + 1L, Math.max(declared, 256))];
+        InputStream in = request.getInputStream();
+        int length = 0;
+        while (length <= limit) {
+            if (length == body.length) {
+                body = Arrays.copyOf(body, (int) Math.min(limit + 1L, body.length * 2L));
+            }
+            int read = in.read(body, length, body.length - length);
+            if (read < 0) {
+                return new BufferedBodyRequestWrapper(request, body, length, true, null);
+            }
+            length += read;
+        }
+        return new BufferedBodyRequestWrapper(request, body, length, false, in);
+    }
+
+    /**
+     * @implNote This method is used to check if the whole body was read.
+     * @return boolean
+     */
+    boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @implNote This method is used to get the bytes read.
+     * @return byte[], valid up to {@link #length()}
+     */
+    byte[] body() {
+        return body;
+    }
+
+    /**
+     * @implNote This method is used to get the number of bytes read.
+     * @return int
+     */
+    int length() {
+        return length;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        if (inputStream == null) {
+            InputStream buffered = new ByteArrayInputStream(body, 0, length);
+            inputStream = new BodyInputStream(remainder != null ? new SequenceInputStream(buffered, remainder)
+                    : buffered);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        if (reader == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+        return reader;
+    }
+
+    /**
+     * @implNote This class is used to serve the buffered body as a servlet
+     *           stream.
+     */
+    private static final class BodyInputStream extends ServletInputStream {
+
+        private final InputStream delegate;
+        private boolean finished;
+
+        private BodyInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            finished = b < 0;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            finished = read < 0;
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new IllegalStateException("The request body was already read synchronously");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.common.sdk.common_sdk.replay;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to store a completed response for replay: the
+ *           status, the headers and the serialized body, either as a heap array
+ *           or in a direct buffer outside the heap.
+ */
+final class CachedResponse {
+
+    private static final int ENTRY_OVERHEAD = 96;
+    private static final int COPY_CHUNK = 8192;
+
+    private final int status;
+    private final Map<String, List<String>> headers;
+    private final byte[] heapBody;
+    private final ByteBuffer directBody;
+    private final int bodyLength;
+    private final long expiresAtNanos;
+    private final long weight;
+
+    /**
+     * @implNote This constructor is used to create the cached response.
+     * @param status
+     * @param headers
+     * @param body
+     * @param length
+     * @param offHeap
+     * @param expiresAtNanos
+     * @param keyLength
+     */
+    CachedResponse(int status, Map<String, List<String>> headers, byte[] body, int length, boolean offHeap,
+            long expiresAtNanos, int keyLength) {
+        this.status = status;
+        this.headers = headers;
+        this.bodyLength = length;
+        if (offHeap) {
+            this.heapBody = null;
+            this.directBody = ByteBuffer.allocateDirect(length).put(body, 0, length).flip().asReadOnlyBuffer();
+        } else {
+            this.heapBody = length == body.length ? body : Arrays.copyOf(body, length);
+            this.directBody = null;
+        }
+        this.expiresAtNanos = expiresAtNanos;
+        long headerBytes = 0;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            headerBytes += header.getKey().length();
+            for (String value : header.getValue()) {
+                headerBytes += value.length();
+            }
+        }
+        this.weight = ENTRY_OVERHEAD + length + 2L * (keyLength + headerBytes);
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    int getBodyLength() {
+        return bodyLength;
+    }
+
+    long getWeight() {
+        return weight;
+    }
+
+    boolean isExpired(long nowNanos) {
+        return nowNanos - expiresAtNanos >= 0;
+    }
+
+    /**
+     * @implNote This method is used to write the body to the output stream.
+     * @param out
+     * @throws IOException
+     */
+    void writeBody(OutputStream out) throws IOException {
+        if (heapBody != null) {
+            out.write(heapBody, 0, bodyLength);
+            return;
+        }
+        ByteBuffer source = directBody.duplicate();
+        byte[] chunk = new byte[Math.min(COPY_CHUNK, bodyLength)];
+        while (source.hasRemaining()) {
+            int length = Math.min(chunk.length, source.remaining());
+            source.get(chunk, 0, length);
+            out.write(chunk, 0, length);
+        }
+    }
+}
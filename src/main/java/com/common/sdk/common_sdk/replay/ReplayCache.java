@@ -0,0 +1,184 @@
+package com.common.sdk.common_sdk.replay;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to keep the responses of completed requests for
+ *           replay to retries. Entries are weighed by their serialized size and
+ *           the least recently used ones are evicted once the byte budget is
+ *           exceeded; expired entries are dropped when they are read. Requests
+ *           still running are tracked separately so an identical retry can
+ *           wait for the first execution instead of repeating it.
+ */
+public class ReplayCache {
+
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final long maxBytes;
+    @Getter
+    private final int maxEntryBytes;
+    private final long ttlNanos;
+    private final boolean offHeap;
+    private long usedBytes;
+
+    /**
+     * @implNote This constructor is used to create the cache.
+     * @param maxBytes
+     * @param maxEntryBytes
+     * @param ttl
+     * @param offHeap
+     */
+    public ReplayCache(long maxBytes, int maxEntryBytes, Duration ttl, boolean offHeap) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.ttlNanos = ttl.toNanos();
+        this.offHeap = offHeap;
+    }
+
+    /**
+     * @implNote This method is used to get a stored response that has not
+     *           expired.
+     * @param key
+     * @return CachedResponse, null when there is none
+     */
+    CachedResponse get(String key) {
+        CachedResponse cached;
+        lock.lock();
+        try {
+            cached = entries.get(key);
+            if (cached != null && cached.isExpired(System.nanoTime())) {
+                entries.remove(key);
+                usedBytes -= cached.getWeight();
+                cached = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (cached != null) {
+            hits.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * @implNote This method is used to claim the execution of a key.
+     * @param key
+     * @return CompletableFuture<CachedResponse>, null when the caller owns the
+     *         execution, otherwise the execution to wait for
+     */
+    CompletableFuture<CachedResponse> begin(String key) {
+        CompletableFuture<CachedResponse> claim = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> running = inFlight.putIfAbsent(key, claim);
+        if (running == null) {
+            misses.increment();
+        }
+        return running;
+    }
+
+    /**
+     * @implNote This method is used to wait for an execution in flight.
+     * @param running
+     * @param timeout
+     * @return CachedResponse, null when the execution produced nothing to
+     *         replay or did not finish in time
+     * @throws InterruptedException
+     */
+    CachedResponse await(CompletableFuture<CachedResponse> running, Duration timeout) throws InterruptedException {
+        try {
+            CachedResponse result = running.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            if (result != null) {
+                coalesced.increment();
+            } else {
+                misses.increment();
+            }
+            return result;
+        } catch (ExecutionException | TimeoutException e) {
+            misses.increment();
+            return null;
+        }
+    }
+
+    /**
+     * @implNote This method is used to store a response and release the waiting
+     *           duplicates. A null body finishes the execution without storing.
+     * @param key
+     * @param status
+     * @param headers
+     * @param body
+     * @param length
+     */
+    void finish(String key, int status, Map<String, List<String>> headers, byte[] body, int length) {
+        CachedResponse cached = null;
+        try {
+            if (body != null && length <= maxEntryBytes) {
+                cached = new CachedResponse(status, headers, body, length, offHeap, System.nanoTime() + ttlNanos,
+                        key.length());
+                put(key, cached);
+            }
+        } finally {
+            CompletableFuture<CachedResponse> claim = inFlight.remove(key);
+            if (claim != null) {
+                claim.complete(cached);
+            }
+        }
+    }
+
+    /**
+     * @implNote This method is used to get a snapshot of the counters.
+     * @return ReplayCacheStats
+     */
+    public ReplayCacheStats getStats() {
+        lock.lock();
+        try {
+            return new ReplayCacheStats(hits.sum(), misses.sum(), coalesced.sum(), stores.sum(), evictions.sum(),
+                    entries.size(), usedBytes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(String key, CachedResponse cached) {
+        if (cached.getWeight() > maxBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            CachedResponse previous = entries.put(key, cached);
+            if (previous != null) {
+                usedBytes -= previous.getWeight();
+            }
+            usedBytes += cached.getWeight();
+            Iterator<CachedResponse> eldest = entries.values().iterator();
+            while (usedBytes > maxBytes && eldest.hasNext()) {
+                usedBytes -= eldest.next().getWeight();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+        stores.increment();
+    }
+}
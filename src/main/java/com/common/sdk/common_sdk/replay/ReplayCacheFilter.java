@@ -0,0 +1,194 @@
+package com.common.sdk.common_sdk.replay;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to answer retried requests from the
+ *           {@link ReplayCache}. A request is a retry when it repeats the
+ *           method, path, Idempotency-Key header, authenticated principal and
+ *           body of an earlier one; it gets the stored response, or waits for
+ *           the original if that is still running. The key is chosen by the
+ *           client and never echoed, and the filter runs after Spring Security
+ *           so the principal is known: a caller cannot obtain the response of
+ *           another one, and a retry with a different body runs again.
+ *           Requests without the header or with a body over the entry limit,
+ *           5xx responses and asynchronously completed responses (e.g.
+ *           streams) are never stored.
+ */
+public class ReplayCacheFilter extends OncePerRequestFilter implements ApplicationConstants {
+
+    private static final int SERVER_ERROR = 500;
+
+    private final ReplayCache cache;
+    private final Set<String> methods;
+    private final Duration coalesceTimeout;
+
+    /**
+     * @implNote This constructor is used to create the filter.
+     * @param cache
+     * @param methods
+     * @param coalesceTimeout
+     */
+    public ReplayCacheFilter(ReplayCache cache, Set<String> methods, Duration coalesceTimeout) {
+        this.cache = cache;
+        this.methods = Set.copyOf(methods);
+        this.coalesceTimeout = coalesceTimeout;
+    }
+
+    /**
+     * @implNote This method is used to replay, coalesce or execute and store the
+     *           request.
+     * @param request
+     * @param response
+     * @param filterChain
+     * @throws ServletException
+     * @throws IOException
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY);
+        if (ObjectUtils.isEmpty(idempotencyKey) || !methods.contains(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        MessageDigest digest = sha256();
+        HttpServletRequest keyed = request;
+        if (isForm(request)) {
+            for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+                digest.update(parameter.getKey().getBytes(StandardCharsets.UTF_8));
+                for (String value : parameter.getValue()) {
+                    digest.update((byte) '=');
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) '&');
+            }
+        } else {
+            BufferedBodyRequestWrapper buffered = BufferedBodyRequestWrapper.read(request, cache.getMaxEntryBytes());
+            if (!buffered.isComplete()) {
+                filterChain.doFilter(buffered, response);
+                return;
+            }
+            digest.update(buffered.body(), 0, buffered.length());
+            keyed = buffered;
+        }
+
+        String key = key(idempotencyKey, keyed, digest.digest());
+        CachedResponse cached = cache.get(key);
+        if (cached != null) {
+            replay(cached, response);
+            return;
+        }
+
+        CompletableFuture<CachedResponse> running = cache.begin(key);
+        if (running != null) {
+            try {
+                cached = cache.await(running, coalesceTimeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException("Interrupted while waiting for the original request", e);
+            }
+            if (cached != null) {
+                replay(cached, response);
+            } else {
+                filterChain.doFilter(keyed, response);
+            }
+            return;
+        }
+
+        TeeResponseWrapper capture = new TeeResponseWrapper(response, cache.getMaxEntryBytes());
+        boolean storable = false;
+        try {
+            filterChain.doFilter(keyed, capture);
+            storable = !keyed.isAsyncStarted() && capture.getStatus() < SERVER_ERROR;
+        } finally {
+            try {
+                capture.flushWriter();
+                if (keyed.isAsyncStarted()) {
+                    keyed.getAsyncContext().addListener(capture.writerFlushingListener());
+                }
+            } finally {
+                if (storable) {
+                    cache.finish(key, capture.getStatus(), capture.headers(), capture.body(), capture.length());
+                } else {
+                    cache.finish(key, 0, Map.of(), null, 0);
+                }
+            }
+        }
+    }
+
+    private static String key(String idempotencyKey, HttpServletRequest request, byte[] bodyHash) {
+        Principal principal = request.getUserPrincipal();
+        StringBuilder key = new StringBuilder(128).append(request.getMethod()).append(' ')
+                .append(request.getRequestURI());
+        String query = request.getQueryString();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        String name = principal != null ? principal.getName() : EMPTY_STRING;
+        key.append(' ').append(name.length()).append(':').append(name).append(' ').append(idempotencyKey.length())
+                .append(':').append(idempotencyKey).append(' ');
+        return key.append(Base64.getEncoder().withoutPadding().encodeToString(bodyHash)).toString();
+    }
+
+    private static boolean isForm(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.regionMatches(true, 0, MediaType.APPLICATION_FORM_URLENCODED_VALUE,
+                0, MediaType.APPLICATION_FORM_URLENCODED_VALUE.length());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void replay(CachedResponse cached, HttpServletResponse response) throws IOException {
+        response.setStatus(cached.getStatus());
+        for (Map.Entry<String, List<String>> header : cached.getHeaders().entrySet()) {
+            boolean first = true;
+            for (String value : header.getValue()) {
+                if (first) {
+                    response.setHeader(header.getKey(), value);
+                    first = false;
+                } else {
+                    response.addHeader(header.getKey(), value);
+                }
+            }
+        }
+        response.setHeader(REPLAYED_HEADER, Boolean.TRUE.toString());
+        response.setContentLength(cached.getBodyLength());
+        ServletOutputStream out = response.getOutputStream();
+        cached.writeBody(out);
+        out.flush();
+    }
+}
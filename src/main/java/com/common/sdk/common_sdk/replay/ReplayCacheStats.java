@@ -0,0 +1,14 @@
+package com.common.sdk.common_sdk.replay;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This record is used to expose a snapshot of the replay cache
+ *           counters. Hits were answered from a stored response, coalesced
+ *           requests waited for an identical request in flight, and misses ran
+ *           the handler.
+ */
+public record ReplayCacheStats(long hits, long misses, long coalesced, long stores, long evictions, int entries,
+        long bytes) {
+}
@@ -0,0 +1,217 @@
+package com.common.sdk.common_sdk.replay;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to copy the response body while it is written.
+ *           Unlike a buffering wrapper, every write and flush reaches the
+ *           client immediately; the copy is abandoned once it grows past the
+ *           limit, so memory stays bounded for large or streamed responses.
+ *           Resetting the response discards the copy with the buffered body.
+ */
+final class TeeResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int limit;
+    private byte[] copy = new byte[256];
+    private int count;
+    private boolean overflow;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    /**
+     * @implNote This constructor is used to wrap the response.
+     * @param response
+     * @param limit
+     */
+    TeeResponseWrapper(HttpServletResponse response, int limit) {
+        super(response);
+        this.limit = limit;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            String encoding = getCharacterEncoding();
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), Charset.forName(encoding)));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        discardCopy();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        discardCopy();
+    }
+
+    /**
+     * @implNote This method is used to push the characters still buffered by
+     *           the writer to the client, whatever the outcome of the request.
+     */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * @implNote This method is used to get a listener flushing the writer when
+     *           an asynchronous response completes.
+     * @return AsyncListener
+     */
+    AsyncListener writerFlushingListener() {
+        return new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                flushWriter();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                flushWriter();
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                flushWriter();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // still the same response
+            }
+        };
+    }
+
+    /**
+     * @implNote This method is used to get the copied body. The writer must
+     *           have been flushed.
+     * @return byte[], null when the body exceeded the limit
+     */
+    byte[] body() {
+        return overflow ? null : copy;
+    }
+
+    /**
+     * @implNote This method is used to get the length of the copied body.
+     * @return int
+     */
+    int length() {
+        return count;
+    }
+
+    /**
+     * @implNote This method is used to get the response headers.
+     * @return Map<String, List<String>>
+     */
+    Map<String, List<String>> headers() {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : getHeaderNames()) {
+            headers.put(name, List.copyOf(getHeaders(name)));
+        }
+        return headers;
+    }
+
+    private void discardCopy() {
+        writer = null;
+        outputStream = null;
+        count = 0;
+        overflow = false;
+        copy = new byte[256];
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        if (overflow) {
+            return;
+        }
+        if (count + length > limit) {
+            overflow = true;
+            copy = null;
+            return;
+        }
+        if (count + length > copy.length) {
+            copy = Arrays.copyOf(copy, Math.min(limit, Math.max(copy.length << 1, count + length)));
+        }
+        System.arraycopy(bytes, offset, copy, count, length);
+        count += length;
+    }
+
+    /**
+     * @implNote This class is used to write to the client and the copy.
+     */
+    private final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final byte[] single = new byte[1];
+
+        private TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            single[0] = (byte) b;
+            capture(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
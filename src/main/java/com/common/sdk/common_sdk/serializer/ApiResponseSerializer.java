@@ -0,0 +1,192 @@
+package com.common.sdk.common_sdk.serializer;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.dto.ErrorDetail;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to serialize the {@link ApiResponse} envelope
+ *           without going through Jackson's reflective bean serializer. Field
+ *           names are pre-encoded, the message of the response code is cached
+ *           per code and only the data field is handed back to Jackson. The
+ *           output is identical to the bean serializer: null fields are left out
+ *           when the mapper includes only non null properties, and mappers with
+ *           a naming strategy or another inclusion get the bean serializer.
+ */
+public class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> implements ContextualSerializer {
+
+    static final SerializedString SUCCESS = new SerializedString("success");
+    static final SerializedString DATA = new SerializedString("data");
+    static final SerializedString CODE = new SerializedString("code");
+    static final SerializedString ERROR_MESSAGE = new SerializedString("errorMessage");
+    static final SerializedString REQUEST_ID = new SerializedString("requestId");
+    static final SerializedString ERRORS = new SerializedString("errors");
+    static final SerializedString OMITTED_ERRORS = new SerializedString("omittedErrors");
+    static final SerializedString FIELD = new SerializedString("field");
+    static final SerializedString REJECTED_VALUE = new SerializedString("rejectedValue");
+    static final SerializedString MESSAGE = new SerializedString("message");
+    static final SerializedString EMPTY = new SerializedString("");
+
+    private static final ApiResponseSerializer NON_NULL = new ApiResponseSerializer(true);
+
+    private final boolean skipNulls;
+
+    /**
+     * @implNote This constructor is used to create the envelope serializer.
+     */
+    public ApiResponseSerializer() {
+        this(false);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private ApiResponseSerializer(boolean skipNulls) {
+        super((Class) ApiResponse.class);
+        this.skipNulls = skipNulls;
+    }
+
+    /**
+     * @implNote This method is used to pick the serializer matching the
+     *           inclusion and naming settings of the mapper.
+     * @param provider
+     * @param property
+     * @return JsonSerializer<?>
+     * @throws JsonMappingException
+     */
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        SerializationConfig config = provider.getConfig();
+        if (config.getPropertyNamingStrategy() != null) {
+            return beanSerializer(provider);
+        }
+        return switch (config.getDefaultPropertyInclusion(ApiResponse.class).getValueInclusion()) {
+            case ALWAYS, USE_DEFAULTS -> this;
+            case NON_NULL, NON_ABSENT -> NON_NULL;
+            default -> beanSerializer(provider);
+        };
+    }
+
+    /**
+     * @implNote This method is used to write the envelope to the generator.
+     * @param value
+     * @param gen
+     * @param provider
+     * @throws IOException
+     */
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(value.isSuccess());
+        if (!skipNulls || value.getData() != null) {
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(value.getData(), gen);
+        }
+        if (value.getCode() != null) {
+            gen.writeFieldName(CODE);
+            gen.writeNumber(value.getCode().intValue());
+        } else if (!skipNulls) {
+            gen.writeFieldName(CODE);
+            gen.writeNull();
+        }
+        if (!skipNulls || value.getErrorMessage() != null) {
+            gen.writeFieldName(ERROR_MESSAGE);
+            writeMessage(value.getErrorMessage(), value.getResponseCode(), gen);
+        }
+        writeString(REQUEST_ID, value.getRequestId(), gen, skipNulls);
+        if (value.getErrors() != null) {
+            gen.writeFieldName(ERRORS);
+            writeErrors(value.getErrors(), gen, skipNulls);
+        }
+        if (value.getOmittedErrors() != null) {
+            gen.writeFieldName(OMITTED_ERRORS);
+            gen.writeNumber(value.getOmittedErrors().intValue());
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * @implNote This method is used to write the error message, reusing the
+     *           pre-encoded form when it is empty or the response code message.
+     * @param message
+     * @param responseCode
+     * @param gen
+     * @throws IOException
+     */
+    static void writeMessage(String message, ResponseCode responseCode, JsonGenerator gen) throws IOException {
+        if (message == null) {
+            gen.writeNull();
+        } else if (message.isEmpty()) {
+            gen.writeString(EMPTY);
+        } else if (responseCode != null && message.equals(EncodedResponseCode.of(responseCode).getMessage())) {
+            gen.writeString(EncodedResponseCode.of(responseCode).getEncodedMessage());
+        } else {
+            gen.writeString(message);
+        }
+    }
+
+    /**
+     * @implNote This method is used to write the structured error details,
+     *           reusing the message encoded once per constraint when present.
+     * @param errors
+     * @param gen
+     * @throws IOException
+     */
+    static void writeErrors(List<ErrorDetail> errors, JsonGenerator gen) throws IOException {
+        writeErrors(errors, gen, false);
+    }
+
+    private static void writeErrors(List<ErrorDetail> errors, JsonGenerator gen, boolean skipNulls)
+            throws IOException {
+        gen.writeStartArray(errors, errors.size());
+        for (ErrorDetail error : errors) {
+            gen.writeStartObject(error);
+            writeString(FIELD, error.getField(), gen, skipNulls);
+            writeString(REJECTED_VALUE, error.getRejectedValue(), gen, skipNulls);
+            writeString(CODE, error.getCode(), gen, skipNulls);
+            if (error.getEncodedMessage() != null) {
+                gen.writeFieldName(MESSAGE);
+                gen.writeString(error.getEncodedMessage());
+            } else {
+                writeString(MESSAGE, error.getMessage(), gen, skipNulls);
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeString(SerializableString name, String value, JsonGenerator gen, boolean skipNulls)
+            throws IOException {
+        if (value != null || !skipNulls) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private static JsonSerializer<Object> beanSerializer(SerializerProvider provider) throws JsonMappingException {
+        JsonSerializer<Object> serializer = BeanSerializerFactory.instance.createSerializer(provider,
+                provider.constructType(ApiResponse.class));
+        if (serializer instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+        return serializer;
+    }
+}
@@ -0,0 +1,27 @@
+package com.common.sdk.common_sdk.serializer;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to register the SDK serializers with Jackson.
+ *           Spring Boot registers it automatically with the application
+ *           ObjectMapper, other mappers can register it explicitly.
+ */
+public class CommonSdkJacksonModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @implNote This constructor is used to create the module with the envelope
+     *           serializer.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public CommonSdkJacksonModule() {
+        super("CommonSdkJacksonModule");
+        addSerializer((Class) ApiResponse.class, new ApiResponseSerializer());
+    }
+}
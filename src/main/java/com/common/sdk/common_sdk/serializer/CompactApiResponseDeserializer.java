@@ -0,0 +1,135 @@
+package com.common.sdk.common_sdk.serializer;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.dto.ErrorDetail;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to read the {@link ApiResponse} envelope back
+ *           from the compact layout written by
+ *           {@link CompactApiResponseSerializer}. The data is read as the
+ *           type argument of the requested ApiResponse type, and unknown keys
+ *           are skipped.
+ */
+public class CompactApiResponseDeserializer extends StdDeserializer<ApiResponse<?>>
+        implements ContextualDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient JsonDeserializer<Object> dataDeserializer;
+    private final transient JsonDeserializer<Object> errorsDeserializer;
+
+    /**
+     * @implNote This constructor is used to create the compact envelope
+     *           deserializer.
+     */
+    public CompactApiResponseDeserializer() {
+        this(null, null);
+    }
+
+    private CompactApiResponseDeserializer(JsonDeserializer<Object> dataDeserializer,
+            JsonDeserializer<Object> errorsDeserializer) {
+        super(ApiResponse.class);
+        this.dataDeserializer = dataDeserializer;
+        this.errorsDeserializer = errorsDeserializer;
+    }
+
+    /**
+     * @implNote This method is used to create a deserializer for the data type
+     *           of the requested envelope.
+     * @param ctxt
+     * @param property
+     * @return JsonDeserializer<?>
+     * @throws JsonMappingException
+     */
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        JavaType type = property != null ? property.getType() : ctxt.getContextualType();
+        JavaType dataType = type != null && type.containedTypeCount() > 0 ? type.containedType(0)
+                : ctxt.constructType(Object.class);
+        JavaType errorsType = ctxt.getTypeFactory().constructCollectionType(List.class, ErrorDetail.class);
+        return new CompactApiResponseDeserializer(ctxt.findRootValueDeserializer(dataType),
+                ctxt.findRootValueDeserializer(errorsType));
+    }
+
+    /**
+     * @implNote This method is used to read the envelope from the parser.
+     * @param p
+     * @param ctxt
+     * @return ApiResponse<?>
+     * @throws IOException
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ApiResponse<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (ApiResponse<?>) ctxt.handleUnexpectedToken(ApiResponse.class, p);
+        }
+        boolean success = false;
+        Object data = null;
+        Integer code = null;
+        String errorMessage = null;
+        String requestId = null;
+        List<ErrorDetail> errors = null;
+        Integer omittedErrors = null;
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            int key = key(p.currentName());
+            token = p.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (key) {
+                case CompactApiResponseSerializer.SUCCESS_KEY -> success = p.getBooleanValue();
+                case CompactApiResponseSerializer.CODE_KEY -> code = p.getIntValue();
+                case CompactApiResponseSerializer.ERROR_MESSAGE_KEY -> errorMessage = p.getValueAsString();
+                case CompactApiResponseSerializer.REQUEST_ID_KEY -> requestId = p.getValueAsString();
+                case CompactApiResponseSerializer.DATA_KEY -> data = dataDeserializer(ctxt).deserialize(p, ctxt);
+                case CompactApiResponseSerializer.ERRORS_KEY ->
+                    errors = (List<ErrorDetail>) errorsDeserializer(ctxt).deserialize(p, ctxt);
+                case CompactApiResponseSerializer.OMITTED_ERRORS_KEY -> omittedErrors = p.getIntValue();
+                default -> p.skipChildren();
+            }
+        }
+        return ApiResponse.of(success, data, code, errorMessage, requestId, errors, omittedErrors);
+    }
+
+    private JsonDeserializer<Object> dataDeserializer(DeserializationContext ctxt) throws IOException {
+        return dataDeserializer != null ? dataDeserializer
+                : ctxt.findRootValueDeserializer(ctxt.constructType(Object.class));
+    }
+
+    private JsonDeserializer<Object> errorsDeserializer(DeserializationContext ctxt) throws IOException {
+        return errorsDeserializer != null ? errorsDeserializer
+                : ctxt.findRootValueDeserializer(
+                        ctxt.getTypeFactory().constructCollectionType(List.class, ErrorDetail.class));
+    }
+
+    private static int key(String name) {
+        if (name != null && name.length() == 1) {
+            char digit = name.charAt(0);
+            if (digit >= '0' && digit <= '9') {
+                return digit - '0';
+            }
+        }
+        return -1;
+    }
+}
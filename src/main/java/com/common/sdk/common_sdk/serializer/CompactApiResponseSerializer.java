@@ -0,0 +1,85 @@
+package com.common.sdk.common_sdk.serializer;
+
+import java.io.IOException;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to serialize the {@link ApiResponse} envelope in
+ *           the compact layout used for service-to-service traffic. Fields use
+ *           numeric keys, which binary formats such as CBOR write as integers,
+ *           and null fields are omitted:
+ *           <ul>
+ *           <li>0 - success</li>
+ *           <li>1 - code</li>
+ *           <li>2 - errorMessage</li>
+ *           <li>3 - requestId</li>
+ *           <li>4 - data</li>
+ *           <li>5 - errors, with named fields</li>
+ *           <li>6 - omittedErrors</li>
+ *           </ul>
+ */
+public class CompactApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+
+    public static final int SUCCESS_KEY = 0;
+    public static final int CODE_KEY = 1;
+    public static final int ERROR_MESSAGE_KEY = 2;
+    public static final int REQUEST_ID_KEY = 3;
+    public static final int DATA_KEY = 4;
+    public static final int ERRORS_KEY = 5;
+    public static final int OMITTED_ERRORS_KEY = 6;
+
+    /**
+     * @implNote This constructor is used to create the compact envelope
+     *           serializer.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public CompactApiResponseSerializer() {
+        super((Class) ApiResponse.class);
+    }
+
+    /**
+     * @implNote This method is used to write the envelope to the generator.
+     * @param value
+     * @param gen
+     * @param provider
+     * @throws IOException
+     */
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldId(SUCCESS_KEY);
+        gen.writeBoolean(value.isSuccess());
+        if (value.getCode() != null) {
+            gen.writeFieldId(CODE_KEY);
+            gen.writeNumber(value.getCode().intValue());
+        }
+        if (value.getErrorMessage() != null) {
+            gen.writeFieldId(ERROR_MESSAGE_KEY);
+            ApiResponseSerializer.writeMessage(value.getErrorMessage(), value.getResponseCode(), gen);
+        }
+        if (value.getRequestId() != null) {
+            gen.writeFieldId(REQUEST_ID_KEY);
+            gen.writeString(value.getRequestId());
+        }
+        if (value.getData() != null) {
+            gen.writeFieldId(DATA_KEY);
+            provider.defaultSerializeValue(value.getData(), gen);
+        }
+        if (value.getErrors() != null) {
+            gen.writeFieldId(ERRORS_KEY);
+            ApiResponseSerializer.writeErrors(value.getErrors(), gen);
+        }
+        if (value.getOmittedErrors() != null) {
+            gen.writeFieldId(OMITTED_ERRORS_KEY);
+            gen.writeNumber(value.getOmittedErrors().intValue());
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,30 @@
+package com.common.sdk.common_sdk.serializer;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to switch an ObjectMapper to the compact
+ *           envelope layout. It must be registered after
+ *           {@link CommonSdkJacksonModule} so that its serializer takes
+ *           precedence. Envelopes in the compact layout are read back by
+ *           {@link CompactApiResponseDeserializer}.
+ */
+public class CompactEnvelopeModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @implNote This constructor is used to create the module with the compact
+     *           envelope serializer and deserializer.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public CompactEnvelopeModule() {
+        super("CompactEnvelopeModule");
+        addSerializer((Class) ApiResponse.class, new CompactApiResponseSerializer());
+        addDeserializer((Class) ApiResponse.class, new CompactApiResponseDeserializer());
+    }
+}
@@ -0,0 +1,43 @@
+package com.common.sdk.common_sdk.serializer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to cache the pre-encoded message of a
+ *           {@link ResponseCode}. Jackson caches the quoted UTF-8 and char
+ *           forms inside {@link SerializedString}, so the message is escaped
+ *           and encoded once per response code instead of once per response.
+ */
+@Getter
+final class EncodedResponseCode {
+
+    private static final Map<ResponseCode, EncodedResponseCode> CACHE = new ConcurrentHashMap<>();
+
+    private final String message;
+    private final SerializedString encodedMessage;
+
+    private EncodedResponseCode(ResponseCode responseCode) {
+        this.message = responseCode.getMessage();
+        this.encodedMessage = message == null ? null : new SerializedString(message);
+    }
+
+    /**
+     * @implNote This method is used to get the cached encoding of the given
+     *           response code.
+     * @param responseCode
+     * @return EncodedResponseCode
+     */
+    static EncodedResponseCode of(ResponseCode responseCode) {
+        EncodedResponseCode encoded = CACHE.get(responseCode);
+        return encoded != null ? encoded : CACHE.computeIfAbsent(responseCode, EncodedResponseCode::new);
+    }
+}
@@ -0,0 +1,210 @@
+package com.common.sdk.common_sdk.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.logging.LogLevel;
+
+import com.common.sdk.common_sdk.correlation.CorrelationExecutors;
+import com.common.sdk.common_sdk.exception.BaseException;
+import com.common.sdk.common_sdk.exception.ExceptionLogAggregator;
+import com.common.sdk.common_sdk.exception.ExceptionMapper;
+import com.common.sdk.common_sdk.exception.ExceptionResponse;
+import com.common.sdk.common_sdk.exception.ExceptionRule;
+import com.common.sdk.common_sdk.models.dto.BatchItemResult;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to run the sub-operations of batches. Items run
+ *           in parallel on virtual threads that carry the correlation id, while
+ *           a semaphore shared by all batches bounds how many items execute at
+ *           once. A failing item is mapped to its code and message with
+ *           the {@link ExceptionMapper} of the global exception handler, and
+ *           never fails its siblings. An item still running at the timeout is
+ *           cancelled and reported as {@link APIResponseCode#RESPONSE_TIMEOUT}.
+ */
+@Slf4j
+public class BatchExecutor implements DisposableBean {
+
+    private static final String HANDLER_PREFIX = "batch:";
+
+    private final ExecutorService executor = CorrelationExecutors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final int maxOperations;
+    private final Duration timeout;
+    private final ResponseMetrics metrics;
+    private final ExceptionLogAggregator logAggregator;
+    private final ExceptionMapper exceptionMapper;
+    private final ExceptionRule timeoutRule;
+
+    /**
+     * @implNote This constructor is used to create the executor with the default
+     *           exception mappings.
+     * @param maxConcurrency
+     * @param maxOperations
+     * @param timeout
+     * @param metrics
+     * @param logAggregator
+     */
+    public BatchExecutor(int maxConcurrency, int maxOperations, Duration timeout, ResponseMetrics metrics,
+            ExceptionLogAggregator logAggregator) {
+        this(maxConcurrency, maxOperations, timeout, metrics, logAggregator, ExceptionMapper.defaults());
+    }
+
+    /**
+     * @implNote This constructor is used to create the executor.
+     * @param maxConcurrency
+     * @param maxOperations
+     * @param timeout
+     * @param metrics
+     * @param logAggregator
+     * @param exceptionMapper
+     */
+    public BatchExecutor(int maxConcurrency, int maxOperations, Duration timeout, ResponseMetrics metrics,
+            ExceptionLogAggregator logAggregator, ExceptionMapper exceptionMapper) {
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxOperations = maxOperations;
+        this.timeout = timeout;
+        this.metrics = metrics;
+        this.logAggregator = logAggregator;
+        this.exceptionMapper = exceptionMapper;
+        this.timeoutRule = ExceptionRule.of(APIResponseCode.RESPONSE_TIMEOUT)
+                .withMessage("Operation did not complete within " + timeout).withLogLevel(LogLevel.WARN)
+                .withHandler("handleTimeout");
+    }
+
+    /**
+     * @implNote This method is used to run the operations and collect one result
+     *           per operation in the given order. A single operation runs on the
+     *           calling thread.
+     * @param ids
+     * @param operations
+     * @return List<BatchItemResult<Object>>
+     * @throws BaseException when the batch is missing, has more operations than
+     *                       allowed, or has a missing operation, a missing id
+     *                       or a duplicate id
+     */
+    public List<BatchItemResult<Object>> execute(List<String> ids, List<? extends Callable<?>> operations) {
+        if (ids == null || operations == null || ids.size() != operations.size()) {
+            throw invalid("Batch operations and their ids are required");
+        }
+        int size = operations.size();
+        if (size > maxOperations) {
+            throw invalid("Batch of " + size + " operations exceeds the limit of " + maxOperations);
+        }
+        Set<String> seen = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String id = ids.get(i);
+            if (id == null) {
+                throw invalid("Batch operation " + i + " has no id");
+            }
+            if (!seen.add(id)) {
+                throw invalid("Batch operation id " + id + " is used more than once");
+            }
+            if (operations.get(i) == null) {
+                throw invalid("Batch operation " + id + " is missing");
+            }
+        }
+        List<BatchItemResult<Object>> results = new ArrayList<>(size);
+        if (size == 1) {
+            results.add(runInline(ids.get(0), operations.get(0)));
+            return results;
+        }
+
+        List<Future<Object>> futures = new ArrayList<>(size);
+        for (Callable<?> operation : operations) {
+            futures.add(executor.submit(() -> bounded(operation)));
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (int i = 0; i < size; i++) {
+            results.add(await(ids.get(i), futures.get(i), deadline));
+        }
+        return results;
+    }
+
+    /**
+     * @implNote This method is used to stop the executor.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static BaseException invalid(String message) {
+        return BaseException.stackless(APIResponseCode.BAD_REQUEST.getCode(), message);
+    }
+
+    private BatchItemResult<Object> runInline(String id, Callable<?> operation) {
+        try {
+            return BatchItemResult.success(id, bounded(operation));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failure(id, e);
+        } catch (Exception e) {
+            return failure(id, e);
+        }
+    }
+
+    private BatchItemResult<Object> await(String id, Future<Object> future, long deadline) {
+        try {
+            return BatchItemResult.success(id, future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+        } catch (ExecutionException e) {
+            return failure(id, e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return failure(id, e, timeoutRule);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return failure(id, e);
+        }
+    }
+
+    private Object bounded(Callable<?> operation) throws Exception {
+        permits.acquire();
+        try {
+            return operation.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private BatchItemResult<Object> failure(String id, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return failure(id, cause, exceptionMapper.ruleFor(cause.getClass()));
+    }
+
+    private BatchItemResult<Object> failure(String id, Throwable cause, ExceptionRule rule) {
+        ExceptionResponse response = exceptionMapper.map(cause, rule);
+        String handler = HANDLER_PREFIX + response.getHandler();
+        metrics.recordException(response.getCode(), cause.getClass(), handler);
+        if (logAggregator.shouldLog(handler, cause.getClass(), response.getCode())) {
+            if (response.isError()) {
+                log.error("Batch operation {} failed : code = {}, message = {}", id, response.getCode(),
+                        cause.getMessage(), cause);
+            } else {
+                log.warn("Batch operation {} failed : code = {}, message = {}", id, response.getCode(),
+                        cause.getMessage());
+            }
+        }
+        return BatchItemResult.failure(id, response.getCode(), response.getMessage());
+    }
+}
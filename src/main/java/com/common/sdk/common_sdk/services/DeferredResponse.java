@@ -0,0 +1,76 @@
+package com.common.sdk.common_sdk.services;
+
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to complete an envelope from any thread after
+ *           the controller has returned. The request id is taken when the
+ *           response is created on the request thread. Failures are handed to
+ *           Spring MVC as error results, so BaseGlobalExceptionHandler maps
+ *           them as if they had been thrown by the controller, and a timeout
+ *           is reported as {@link APIResponseCode#RESPONSE_TIMEOUT}.
+ */
+public class DeferredResponse<T> extends DeferredResult<GenericApiResponse<T>> {
+
+    private final ResponseMetrics metrics;
+    private final String requestId;
+
+    DeferredResponse(Long timeout, ResponseMetrics metrics, String requestId) {
+        super(timeout);
+        this.metrics = metrics;
+        this.requestId = requestId;
+    }
+
+    /**
+     * @implNote This method is used to complete the response with a success
+     *           envelope.
+     * @param data
+     * @return boolean
+     */
+    public boolean ok(T data) {
+        return ok(data, APIResponseCode.SUCCESS);
+    }
+
+    /**
+     * @implNote This method is used to complete the response with a success
+     *           envelope of the given code.
+     * @param data
+     * @param responseCode
+     * @return boolean
+     */
+    public boolean ok(T data, ResponseCode responseCode) {
+        boolean set = setResult(ApiResponse.success(data, responseCode, requestId));
+        if (set) {
+            metrics.recordResponse(responseCode, true);
+        }
+        return set;
+    }
+
+    /**
+     * @implNote This method is used to complete the response with the envelope
+     *           of the given exception. CompletionException and
+     *           ExecutionException wrappers are removed first.
+     * @param ex
+     * @return boolean
+     */
+    public boolean fail(Throwable ex) {
+        return setErrorResult(ResponseHandler.unwrap(ex));
+    }
+
+    /**
+     * @implNote This method is used to get the request id of the response.
+     * @return String
+     */
+    public String getRequestId() {
+        return requestId;
+    }
+}
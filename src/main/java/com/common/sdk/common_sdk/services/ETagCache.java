@@ -0,0 +1,175 @@
+package com.common.sdk.common_sdk.services;
+
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to hold the current entity tag of resources
+ *           tagged by the hash of their content. While a key has a tag, a
+ *           request already holding it is answered with a 304 without loading
+ *           or serializing the resource, so the tag is authoritative: the
+ *           application must invalidate the key whenever the resource changes.
+ *           The number of keys is bounded; once full, an arbitrary key is
+ *           dropped for a new one, which only costs a recomputation.
+ */
+public class ETagCache {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Map<String, String> tags = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    /**
+     * @implNote This constructor is used to create the cache.
+     * @param maxEntries
+     */
+    public ETagCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @implNote This method is used to get the current tag of a resource.
+     * @param key
+     * @return String, null when the tag is not known
+     */
+    public String get(String key) {
+        return tags.get(key);
+    }
+
+    /**
+     * @implNote This method is used to set the current tag of a resource.
+     * @param key
+     * @param tag
+     */
+    public void put(String key, String tag) {
+        if (tags.size() >= maxEntries && !tags.containsKey(key)) {
+            Iterator<String> keys = tags.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        tags.put(key, tag);
+    }
+
+    /**
+     * @implNote This method is used to drop the tag of a resource that changed
+     *           or was deleted, so the next request computes it again.
+     * @param key
+     */
+    public void invalidate(String key) {
+        tags.remove(key);
+    }
+
+    /**
+     * @implNote This method is used to drop every tag.
+     */
+    public void clear() {
+        tags.clear();
+    }
+
+    /**
+     * @implNote This method is used to get the number of keys with a tag.
+     * @return int
+     */
+    public int size() {
+        return tags.size();
+    }
+
+    /**
+     * @implNote This method is used to build the tag of a numeric version, e.g.
+     *           a row version or an update counter.
+     * @param version
+     * @return String the quoted entity tag
+     */
+    public static String versionTag(long version) {
+        return "\"v" + Long.toHexString(version) + '"';
+    }
+
+    /**
+     * @implNote This method is used to build the tag of a textual version, e.g.
+     *           a revision id.
+     * @param version visible ASCII without double quotes
+     * @return String the quoted entity tag
+     */
+    public static String versionTag(String version) {
+        for (int i = 0; i < version.length(); i++) {
+            char c = version.charAt(i);
+            if (c <= ' ' || c == '"' || c >= 0x7f) {
+                throw new IllegalArgumentException("Version is not a valid entity tag: " + version);
+            }
+        }
+        return '"' + version + '"';
+    }
+
+    /**
+     * @implNote This method is used to build the tag of encoded content from
+     *           its CRC-32C and CRC-32, both computed with hardware support,
+     *           side by side.
+     * @param content
+     * @return String the quoted entity tag
+     */
+    public static String contentTag(byte[] content) {
+        CRC32C crc32c = new CRC32C();
+        crc32c.update(content, 0, content.length);
+        CRC32 crc32 = new CRC32();
+        crc32.update(content, 0, content.length);
+        return '"' + HEX.toHexDigits(crc32c.getValue() << 32 | crc32.getValue()) + '"';
+    }
+
+    /**
+     * @implNote This method is used to check an If-None-Match header against
+     *           the current tag of a resource. Tags are compared weakly, as the
+     *           header requires, so a tag weakened on the way by a compressing
+     *           filter still matches, and * matches any tag.
+     * @param ifNoneMatch the header value, may be null
+     * @param tag
+     * @return boolean true if the client already has the current representation
+     */
+    public static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null || tag == null) {
+            return false;
+        }
+        int tagStart = tag.startsWith("W/") ? 2 : 0;
+        int tagLength = tag.length() - tagStart;
+        int length = ifNoneMatch.length();
+        int i = 0;
+        while (i < length) {
+            char c = ifNoneMatch.charAt(i);
+            if (c == ' ' || c == '\t' || c == ',') {
+                i++;
+                continue;
+            }
+            if (c == '*') {
+                return true;
+            }
+            if (ifNoneMatch.startsWith("W/", i)) {
+                i += 2;
+            }
+            if (i >= length || ifNoneMatch.charAt(i) != '"') {
+                int comma = ifNoneMatch.indexOf(',', i);
+                i = comma < 0 ? length : comma + 1;
+                continue;
+            }
+            int close = ifNoneMatch.indexOf('"', i + 1);
+            if (close < 0) {
+                return false;
+            }
+            if (close + 1 - i == tagLength && ifNoneMatch.regionMatches(i, tag, tagStart, tagLength)) {
+                return true;
+            }
+            i = close + 1;
+        }
+        return false;
+    }
+}
@@ -1,12 +1,55 @@
 package com.common.sdk.common_sdk.services;
 
-import org.springframework.stereotype.Component;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.common.sdk.common_sdk.exception.BaseException;
+import com.common.sdk.common_sdk.exception.ExceptionLogAggregator;
+import com.common.sdk.common_sdk.exception.ExceptionMapper;
+import com.common.sdk.common_sdk.exception.ExceptionResponse;
 import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.dto.BatchApiResponse;
+import com.common.sdk.common_sdk.models.dto.BatchItemResult;
+import com.common.sdk.common_sdk.models.dto.BatchOperation;
+import com.common.sdk.common_sdk.models.dto.BatchRequest;
+import com.common.sdk.common_sdk.models.dto.ErrorDetail;
+import com.common.sdk.common_sdk.models.dto.RawJson;
 import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.StreamingFormat;
 import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
 import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.serializer.CommonSdkJacksonModule;
 import com.common.sdk.common_sdk.utils.CommonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * @author PRABHAKAR PAL
@@ -14,15 +57,89 @@ import com.common.sdk.common_sdk.utils.CommonUtils;
  * @since 2025-11-26
  * @implNote This class is used to handle responses in the application.
  */
-@Component
 public class ResponseHandler {
 
+    private static final int STREAM_FLUSH_EVERY = 256;
+    private static final int DEFAULT_ETAG_ENTRIES = 10_000;
+    private static final int DEFAULT_BATCH_CONCURRENCY = 64;
+    private static final int DEFAULT_BATCH_OPERATIONS = 50;
+    private static final Duration DEFAULT_BATCH_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ResponseMetrics metrics;
+    private final ObjectMapper objectMapper;
+    private volatile BatchExecutor batchExecutor;
+    private final ExceptionMapper exceptionMapper;
+    private final ETagCache etagCache;
+
+    /**
+     * @implNote This constructor is used to create a response handler outside a
+     *           Spring context, as before metrics were recorded: no metrics and
+     *           the default mapper, batch limits and exception mappings.
+     */
+    public ResponseHandler() {
+        this(ResponseMetrics.NOOP);
+    }
+
+    /**
+     * @implNote This constructor is used to create a response handler with the
+     *           default mapper, batch limits and exception mappings. The batch
+     *           executor is only created by the first batch and the shared
+     *           default log aggregator is used, so the handler starts no thread.
+     * @param metrics
+     */
+    public ResponseHandler(ResponseMetrics metrics) {
+        this(metrics, new ObjectMapper().registerModule(new CommonSdkJacksonModule()), null);
+    }
+
+    /**
+     * @implNote This constructor is used to create the response handler with the
+     *           default exception mappings.
+     * @param metrics
+     * @param objectMapper
+     * @param batchExecutor null for one with the default limits created by the
+     *                      first batch
+     */
+    public ResponseHandler(ResponseMetrics metrics, ObjectMapper objectMapper, BatchExecutor batchExecutor) {
+        this(metrics, objectMapper, batchExecutor, ExceptionMapper.defaults());
+    }
+
+    /**
+     * @implNote This constructor is used to create the response handler.
+     * @param metrics
+     * @param objectMapper
+     * @param batchExecutor
+     * @param exceptionMapper
+     */
+    public ResponseHandler(ResponseMetrics metrics, ObjectMapper objectMapper, BatchExecutor batchExecutor,
+            ExceptionMapper exceptionMapper) {
+        this(metrics, objectMapper, batchExecutor, exceptionMapper, new ETagCache(DEFAULT_ETAG_ENTRIES));
+    }
+
+    /**
+     * @implNote This constructor is used to create the response handler with
+     *           the cache of entity tags used by the conditional responses.
+     * @param metrics
+     * @param objectMapper
+     * @param batchExecutor
+     * @param exceptionMapper
+     * @param etagCache
+     */
+    public ResponseHandler(ResponseMetrics metrics, ObjectMapper objectMapper, BatchExecutor batchExecutor,
+            ExceptionMapper exceptionMapper, ETagCache etagCache) {
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+        this.batchExecutor = batchExecutor;
+        this.exceptionMapper = exceptionMapper;
+        this.etagCache = etagCache;
+    }
+
     /**
      * @implNote This method is used to create success response.
      * @param data
      * @return GenericApiResponse<T>
      */
     public <T> GenericApiResponse<T> ok(T data) {
+        metrics.recordResponse(APIResponseCode.SUCCESS, true);
         return ApiResponse.success(data, APIResponseCode.SUCCESS, CommonUtils.getCurrentRequestId());
     }
 
@@ -31,6 +148,7 @@ public class ResponseHandler {
      * @return GenericApiResponse<T>
      */
     public <T> GenericApiResponse<T> ok() {
+        metrics.recordResponse(APIResponseCode.SUCCESS, true);
         return ApiResponse.success(APIResponseCode.SUCCESS, CommonUtils.getCurrentRequestId());
     }
 
@@ -41,6 +159,7 @@ public class ResponseHandler {
      * @return GenericApiResponse<T>
      */
     public <T> GenericApiResponse<T> ok(T data, ResponseCode responseCode) {
+        metrics.recordResponse(responseCode, true);
         return ApiResponse.success(data, responseCode, CommonUtils.getCurrentRequestId());
     }
 
@@ -50,15 +169,113 @@ public class ResponseHandler {
      * @return GenericApiResponse<T>
      */
     public GenericApiResponse<Void> ok(ResponseCode responseCode) {
+        metrics.recordResponse(responseCode, true);
         return ApiResponse.success(responseCode, CommonUtils.getCurrentRequestId());
     }
 
+    /**
+     * @implNote This method is used to create success response whose data is
+     *           already encoded JSON, written into the envelope as it is.
+     * @param data
+     * @return GenericApiResponse<RawJson>
+     */
+    public GenericApiResponse<RawJson> okRaw(RawJson data) {
+        metrics.recordResponse(APIResponseCode.SUCCESS, true);
+        return ApiResponse.success(data, APIResponseCode.SUCCESS, CommonUtils.getCurrentRequestId());
+    }
+
+    /**
+     * @implNote This method is used to create success response whose data is
+     *           UTF-8 encoded JSON. The array is not copied.
+     * @param data
+     * @return GenericApiResponse<RawJson>
+     */
+    public GenericApiResponse<RawJson> okRaw(byte[] data) {
+        return okRaw(RawJson.of(data));
+    }
+
+    /**
+     * @implNote This method is used to create success response whose data is
+     *           the UTF-8 encoded JSON remaining in the buffer.
+     * @param data
+     * @return GenericApiResponse<RawJson>
+     */
+    public GenericApiResponse<RawJson> okRaw(ByteBuffer data) {
+        return okRaw(RawJson.of(data));
+    }
+
+    /**
+     * @implNote This method is used to create a success response tagged with
+     *           the version of the resource. When the request is a GET or HEAD
+     *           whose If-None-Match holds the tag, a 304 is returned and the
+     *           data supplier is never called, so nothing is loaded or
+     *           serialized for a client that is up to date.
+     * @param version changes whenever the data changes
+     * @param data
+     * @return ResponseEntity<GenericApiResponse<T>>
+     */
+    public <T> ResponseEntity<GenericApiResponse<T>> okConditional(long version, Supplier<? extends T> data) {
+        return conditional(ETagCache.versionTag(version), currentIfNoneMatch(), data);
+    }
+
+    /**
+     * @implNote This method is used to create a success response tagged with a
+     *           textual version of the resource, answered with a 304 before the
+     *           data supplier is called when the client has it already.
+     * @param version changes whenever the data changes, visible ASCII without
+     *                double quotes
+     * @param data
+     * @return ResponseEntity<GenericApiResponse<T>>
+     */
+    public <T> ResponseEntity<GenericApiResponse<T>> okConditional(String version, Supplier<? extends T> data) {
+        return conditional(ETagCache.versionTag(version), currentIfNoneMatch(), data);
+    }
+
+    /**
+     * @implNote This method is used to create a success response tagged with a
+     *           hash of the encoded data, for resources without a version. The
+     *           tag is kept per key in the {@link ETagCache}: a request holding
+     *           it is answered with a 304 without calling the supplier. Without
+     *           a match the data is serialized once, hashed, and unless the
+     *           client has it already written into the envelope as it is. The
+     *           key must be invalidated whenever the data changes.
+     * @param key identifies the resource, e.g. its path
+     * @param data
+     * @return ResponseEntity<GenericApiResponse<RawJson>>
+     */
+    public ResponseEntity<GenericApiResponse<RawJson>> okHashed(String key, Supplier<?> data) {
+        String ifNoneMatch = currentIfNoneMatch();
+        String cached = etagCache.get(key);
+        if (cached != null && ETagCache.matches(ifNoneMatch, cached)) {
+            return notModified(cached);
+        }
+        byte[] encoded;
+        try {
+            encoded = objectMapper.writeValueAsBytes(data.get());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Data could not be serialized: " + e.getOriginalMessage(), e);
+        }
+        String tag = ETagCache.contentTag(encoded);
+        etagCache.put(key, tag);
+        return conditional(tag, ifNoneMatch, () -> RawJson.of(encoded));
+    }
+
+    /**
+     * @implNote This method is used to get the cache of the content tags, e.g.
+     *           to invalidate the tag of a resource that changed.
+     * @return ETagCache
+     */
+    public ETagCache etagCache() {
+        return etagCache;
+    }
+
     /**
      * @implNote This method is used to create failure response.
      * @param responseCode
      * @return GenericApiResponse<Void>
      */
     public GenericApiResponse<Void> failure(ResponseCode responseCode) {
+        metrics.recordResponse(responseCode, false);
         return ApiResponse.failure(responseCode, CommonUtils.getCurrentRequestId());
     }
 
@@ -69,6 +286,7 @@ public class ResponseHandler {
      * @return GenericApiResponse<Void>
      */
     public GenericApiResponse<Void> failure(int code, String message) {
+        metrics.recordResponse(code, false);
         return ApiResponse.failure(code, message, CommonUtils.getCurrentRequestId());
     }
 
@@ -80,6 +298,274 @@ public class ResponseHandler {
      * @return GenericApiResponse<Void>
      */
     public GenericApiResponse<Void> failure(ResponseCode responseCode, String message, String requestId) {
+        metrics.recordResponse(responseCode, false);
         return ApiResponse.failure(responseCode, message, requestId);
     }
+
+    /**
+     * @implNote This method is used to create failure response with structured
+     *           error details.
+     * @param responseCode
+     * @param message
+     * @param errors
+     * @param omittedErrors
+     * @return GenericApiResponse<Void>
+     */
+    public GenericApiResponse<Void> failure(ResponseCode responseCode, String message, List<ErrorDetail> errors,
+            int omittedErrors) {
+        metrics.recordResponse(responseCode, false);
+        return ApiResponse.failure(responseCode, message, errors, omittedErrors, CommonUtils.getCurrentRequestId());
+    }
+
+    /**
+     * @implNote This method is used to create the failure response of a mapped
+     *           exception.
+     * @param mapped
+     * @return GenericApiResponse<Void>
+     */
+    public GenericApiResponse<Void> failure(ExceptionResponse mapped) {
+        metrics.recordResponse(mapped.getNamespace(), mapped.getCode(), false);
+        return mapped.toApiResponse(CommonUtils.getCurrentRequestId());
+    }
+
+    /**
+     * @implNote This method is used to create a streamed success response whose
+     *           data is written as a JSON array while the stream is consumed.
+     *           The stream is closed when the response is complete.
+     * @param data
+     * @return ResponseEntity<StreamingResponseBody>
+     */
+    public <T> ResponseEntity<StreamingResponseBody> okStream(Stream<T> data) {
+        return okStream(data, StreamingFormat.JSON_ARRAY);
+    }
+
+    /**
+     * @implNote This method is used to create a streamed success response in the
+     *           given format. The stream is closed when the response is complete.
+     * @param data
+     * @param format
+     * @return ResponseEntity<StreamingResponseBody>
+     */
+    public <T> ResponseEntity<StreamingResponseBody> okStream(Stream<T> data, StreamingFormat format) {
+        return stream(data.iterator(), data::close, format);
+    }
+
+    /**
+     * @implNote This method is used to create a streamed success response from an
+     *           iterator.
+     * @param data
+     * @param format
+     * @return ResponseEntity<StreamingResponseBody>
+     */
+    public <T> ResponseEntity<StreamingResponseBody> okStream(Iterator<T> data, StreamingFormat format) {
+        return stream(data, null, format);
+    }
+
+    /**
+     * @implNote This method is used to create a streamed success response from
+     *           pages. Pages are requested from 0 until an empty page is returned.
+     * @param pageSupplier
+     * @param format
+     * @return ResponseEntity<StreamingResponseBody>
+     */
+    public <T> ResponseEntity<StreamingResponseBody> okPaged(
+            IntFunction<? extends Collection<? extends T>> pageSupplier, StreamingFormat format) {
+        return stream(StreamingEnvelopeBody.pages(pageSupplier), null, format);
+    }
+
+    /**
+     * @implNote This method is used to create a batch response by dispatching
+     *           every operation of the request. Operations run in parallel and
+     *           each gets its own code and message, so one failed operation
+     *           does not stop the others; the envelope is successful only when
+     *           every operation succeeded, see {@link BatchApiResponse}.
+     * @param request
+     * @param dispatcher
+     * @return BatchApiResponse
+     * @throws BaseException with 400 when the operations, an operation or its
+     *                       id is missing, or an id is used twice
+     */
+    public BatchApiResponse okBatch(BatchRequest request, Function<BatchOperation, ?> dispatcher) {
+        if (request == null || request.getOperations() == null) {
+            throw BaseException.stackless(APIResponseCode.BAD_REQUEST.getCode(),
+                    "Batch operations and their ids are required");
+        }
+        List<BatchOperation> operations = request.getOperations();
+        List<String> ids = new ArrayList<>(operations.size());
+        List<Callable<?>> calls = new ArrayList<>(operations.size());
+        for (BatchOperation operation : operations) {
+            if (operation == null) {
+                throw BaseException.stackless(APIResponseCode.BAD_REQUEST.getCode(),
+                        "Batch operation " + ids.size() + " is missing");
+            }
+            ids.add(operation.getId());
+            calls.add(() -> dispatcher.apply(operation));
+        }
+        return batch(ids, calls);
+    }
+
+    /**
+     * @implNote This method is used to create a batch response from operations
+     *           keyed by their id, results keep the iteration order of the map.
+     * @param operations
+     * @return BatchApiResponse
+     * @throws BaseException with 400 when the operations, an operation or its
+     *                       id is missing
+     */
+    public BatchApiResponse okBatch(Map<String, ? extends Callable<?>> operations) {
+        if (operations == null) {
+            throw BaseException.stackless(APIResponseCode.BAD_REQUEST.getCode(),
+                    "Batch operations and their ids are required");
+        }
+        return batch(new ArrayList<>(operations.keySet()), new ArrayList<>(operations.values()));
+    }
+
+    /**
+     * @implNote This method is used to create a success response once the stage
+     *           completes, so the servlet thread is released while it runs.
+     *           The request id is taken when this method is called. A failed
+     *           stage fails the response with the unwrapped cause, which
+     *           BaseGlobalExceptionHandler maps like a synchronous exception.
+     * @param stage
+     * @return CompletableFuture<GenericApiResponse<T>>
+     */
+    public <T> CompletableFuture<GenericApiResponse<T>> okAsync(CompletionStage<? extends T> stage) {
+        return okAsync(stage, APIResponseCode.SUCCESS);
+    }
+
+    /**
+     * @implNote This method is used to create a success response of the given
+     *           code once the stage completes.
+     * @param stage
+     * @param responseCode
+     * @return CompletableFuture<GenericApiResponse<T>>
+     */
+    public <T> CompletableFuture<GenericApiResponse<T>> okAsync(CompletionStage<? extends T> stage,
+            ResponseCode responseCode) {
+        String requestId = CommonUtils.getCurrentRequestId();
+        CompletableFuture<GenericApiResponse<T>> response = new CompletableFuture<>();
+        stage.whenComplete((data, ex) -> {
+            if (ex != null) {
+                response.completeExceptionally(unwrap(ex));
+            } else {
+                metrics.recordResponse(responseCode, true);
+                response.complete(ApiResponse.<T>success(data, responseCode, requestId));
+            }
+        });
+        return response;
+    }
+
+    /**
+     * @implNote This method is used to create a response completed later from
+     *           any thread, timing out after the Spring MVC async request
+     *           timeout.
+     * @return DeferredResponse<T>
+     */
+    public <T> DeferredResponse<T> deferred() {
+        return new DeferredResponse<>(null, metrics, CommonUtils.getCurrentRequestId());
+    }
+
+    /**
+     * @implNote This method is used to create a response completed later from
+     *           any thread, timing out after the given duration.
+     * @param timeout
+     * @return DeferredResponse<T>
+     */
+    public <T> DeferredResponse<T> deferred(Duration timeout) {
+        return new DeferredResponse<>(timeout.toMillis(), metrics, CommonUtils.getCurrentRequestId());
+    }
+
+    /**
+     * @implNote This method is used to create a deferred response completed by
+     *           the stage. The stage is cancelled when it is a Future and the
+     *           response times out first.
+     * @param stage
+     * @param timeout
+     * @return DeferredResponse<T>
+     */
+    public <T> DeferredResponse<T> okDeferred(CompletionStage<? extends T> stage, Duration timeout) {
+        DeferredResponse<T> response = deferred(timeout);
+        if (stage instanceof Future<?> future) {
+            response.onTimeout(() -> {
+                response.setErrorResult(new AsyncRequestTimeoutException());
+                future.cancel(true);
+            });
+        }
+        stage.whenComplete((data, ex) -> {
+            if (ex != null) {
+                response.fail(ex);
+            } else {
+                response.ok(data);
+            }
+        });
+        return response;
+    }
+
+    private BatchExecutor batchExecutor() {
+        BatchExecutor executor = batchExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = batchExecutor;
+                if (executor == null) {
+                    executor = new BatchExecutor(DEFAULT_BATCH_CONCURRENCY, DEFAULT_BATCH_OPERATIONS,
+                            DEFAULT_BATCH_TIMEOUT, metrics, ExceptionLogAggregator.defaults(), exceptionMapper);
+                    batchExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private BatchApiResponse batch(List<String> ids, List<? extends Callable<?>> calls) {
+        BatchApiResponse response = BatchApiResponse.of(batchExecutor().execute(ids, calls),
+                CommonUtils.getCurrentRequestId());
+        metrics.recordResponse(response.isSuccess() ? APIResponseCode.SUCCESS : APIResponseCode.MULTI_STATUS,
+                response.isSuccess());
+        return response;
+    }
+
+    private <T> ResponseEntity<StreamingResponseBody> stream(Iterator<? extends T> items, Runnable onClose,
+            StreamingFormat format) {
+        StreamingResponseBody body = new StreamingEnvelopeBody<>(items, onClose, format,
+                CommonUtils.getCurrentRequestId(), objectMapper, metrics, exceptionMapper, STREAM_FLUSH_EVERY);
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
+    }
+
+    private <T> ResponseEntity<GenericApiResponse<T>> conditional(String tag, String ifNoneMatch,
+            Supplier<? extends T> data) {
+        if (ETagCache.matches(ifNoneMatch, tag)) {
+            return notModified(tag);
+        }
+        metrics.recordResponse(APIResponseCode.SUCCESS, true);
+        GenericApiResponse<T> body = ApiResponse.success(data.get(), APIResponseCode.SUCCESS,
+                CommonUtils.getCurrentRequestId());
+        return ResponseEntity.ok().eTag(tag).body(body);
+    }
+
+    private <T> ResponseEntity<T> notModified(String tag) {
+        metrics.recordResponse(APIResponseCode.NOT_MODIFIED, true);
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+    }
+
+    private static String currentIfNoneMatch() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return null;
+        }
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH);
+    }
+
+    static Throwable unwrap(Throwable ex) {
+        Throwable cause = ex;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
 }
@@ -0,0 +1,211 @@
+package com.common.sdk.common_sdk.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.common.sdk.common_sdk.correlation.CorrelationContext;
+import com.common.sdk.common_sdk.exception.ExceptionResponse;
+import com.common.sdk.common_sdk.exception.ExceptionMapper;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.StreamingFormat;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to stream an envelope whose data is produced
+ *           item by item. Each item is serialized into a small reusable buffer
+ *           and copied to the response, so memory stays bounded by the largest
+ *           item. The status fields are written after the data:
+ *           <ul>
+ *           <li>JSON_ARRAY: {"requestId":..,"data":[..],"count":n,"success":..,"code":..,"errorMessage":..}</li>
+ *           <li>NDJSON: one line per item, then a status line with the same
+ *           fields.</li>
+ *           </ul>
+ *           If the source or an item fails mid-stream, the items already
+ *           written are kept, the failed item is dropped and the status reports
+ *           success false with the mapped code and message.
+ */
+@Slf4j
+class StreamingEnvelopeBody<T> implements StreamingResponseBody {
+
+    private static final byte[] DATA_START = ",\"data\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA_END = "],".getBytes(StandardCharsets.UTF_8);
+
+    private final Iterator<? extends T> items;
+    private final Runnable onClose;
+    private final StreamingFormat format;
+    private final String requestId;
+    private final ObjectMapper objectMapper;
+    private final ResponseMetrics metrics;
+    private final ExceptionMapper exceptionMapper;
+    private final int flushEvery;
+
+    StreamingEnvelopeBody(Iterator<? extends T> items, Runnable onClose, StreamingFormat format, String requestId,
+            ObjectMapper objectMapper, ResponseMetrics metrics, ExceptionMapper exceptionMapper, int flushEvery) {
+        this.items = items;
+        this.onClose = onClose;
+        this.format = format;
+        this.requestId = requestId;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.exceptionMapper = exceptionMapper;
+        this.flushEvery = Math.max(flushEvery, 1);
+    }
+
+    /**
+     * @implNote This method is used to write the envelope to the response.
+     * @param out
+     * @throws IOException
+     */
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        ItemBuffer buffer = new ItemBuffer();
+        try (CorrelationContext.Scope scope = CorrelationContext.open(requestId);
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer)) {
+            generator.setRootValueSeparator(null);
+            if (format == StreamingFormat.JSON_ARRAY) {
+                generator.writeStartObject();
+                generator.writeStringField("requestId", requestId);
+                generator.writeEndObject();
+                generator.flush();
+                buffer.writeTo(out, 0, buffer.size() - 1);
+                buffer.reset();
+                out.write(DATA_START);
+            }
+
+            long count = 0;
+            Throwable failure = null;
+            while (failure == null) {
+                try {
+                    if (!items.hasNext()) {
+                        break;
+                    }
+                    objectMapper.writeValue(generator, items.next());
+                    generator.flush();
+                } catch (RuntimeException | IOException ex) {
+                    failure = ex;
+                    continue;
+                }
+                if (format == StreamingFormat.JSON_ARRAY && count > 0) {
+                    out.write(',');
+                }
+                buffer.writeTo(out, 0, buffer.size());
+                buffer.reset();
+                if (format == StreamingFormat.NDJSON) {
+                    out.write('\n');
+                }
+                if (++count % flushEvery == 0) {
+                    out.flush();
+                }
+            }
+
+            // a failed item may leave the item generator inside an object, so the
+            // status is written with a fresh generator over the same buffer
+            buffer.reset();
+            try (JsonGenerator statusGenerator = objectMapper.getFactory().createGenerator(buffer)) {
+                writeStatus(statusGenerator, count, failure);
+            }
+            if (format == StreamingFormat.JSON_ARRAY) {
+                out.write(DATA_END);
+                buffer.writeTo(out, 1, buffer.size());
+            } else {
+                buffer.writeTo(out, 0, buffer.size());
+                out.write('\n');
+            }
+            out.flush();
+        } finally {
+            if (onClose != null) {
+                onClose.run();
+            }
+        }
+    }
+
+    private void writeStatus(JsonGenerator generator, long count, Throwable failure) throws IOException {
+        generator.writeStartObject();
+        if (format == StreamingFormat.NDJSON) {
+            generator.writeStringField("requestId", requestId);
+        }
+        generator.writeNumberField("count", count);
+        if (failure == null) {
+            metrics.recordResponse(APIResponseCode.SUCCESS, true);
+            generator.writeBooleanField("success", true);
+            generator.writeNumberField("code", APIResponseCode.SUCCESS.getCode());
+            generator.writeNullField("errorMessage");
+        } else {
+            ExceptionResponse mapped = exceptionMapper.map(failure);
+            log.warn("Streaming response failed after {} items: {} - {}", count, failure.getClass().getSimpleName(),
+                    failure.getMessage());
+            metrics.recordResponse(mapped.getNamespace(), mapped.getCode(), false);
+            generator.writeBooleanField("success", false);
+            generator.writeNumberField("code", mapped.getCode());
+            generator.writeStringField("errorMessage", mapped.getMessage());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * @implNote This method is used to iterate over the items of consecutive
+     *           pages, starting at page 0 and stopping at the first empty or
+     *           null page.
+     * @param pageSupplier
+     * @return Iterator<T>
+     */
+    static <T> Iterator<T> pages(IntFunction<? extends Collection<? extends T>> pageSupplier) {
+        return new Iterator<>() {
+            private int page;
+            private Iterator<? extends T> current = Collections.emptyIterator();
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                while (!exhausted && !current.hasNext()) {
+                    Collection<? extends T> next = pageSupplier.apply(page++);
+                    if (next == null || next.isEmpty()) {
+                        exhausted = true;
+                    } else {
+                        current = next.iterator();
+                    }
+                }
+                return !exhausted;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    /**
+     * @implNote This class is used to expose the internal buffer so that a slice
+     *           of it can be copied without an intermediate array.
+     */
+    private static final class ItemBuffer extends ByteArrayOutputStream {
+
+        private ItemBuffer() {
+            super(512);
+        }
+
+        private void writeTo(OutputStream out, int from, int to) throws IOException {
+            out.write(buf, from, to - from);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.common.sdk.common_sdk.tracing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import com.common.sdk.common_sdk.models.interfaces.SpanExporter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to export the finished spans from a single
+ *           background thread: once per interval it drains the span ring
+ *           buffer in batches and hands them to the exporter, so encoding and
+ *           network calls never run on a request thread. A failed batch is
+ *           logged and dropped. The spans left are exported on shutdown.
+ */
+@Slf4j
+public class BatchSpanExporter implements DisposableBean {
+
+    private final SpanRingBuffer ring;
+    private final SpanExporter exporter;
+    private final int maxBatchSize;
+    private final List<Span> batch;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @implNote This constructor is used to create the exporter and start the
+     *           periodic export.
+     * @param ring
+     * @param exporter
+     * @param interval
+     * @param maxBatchSize
+     */
+    public BatchSpanExporter(SpanRingBuffer ring, SpanExporter exporter, Duration interval, int maxBatchSize) {
+        this.ring = ring;
+        this.exporter = exporter;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.batch = new ArrayList<>(this.maxBatchSize);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sdk-span-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flush, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @implNote This method is used to export every span finished so far.
+     */
+    synchronized void flush() {
+        while (ring.drain(batch, maxBatchSize) > 0) {
+            try {
+                exporter.export(batch);
+            } catch (Exception e) {
+                log.warn("Export of {} spans failed: {}", batch.size(), e.toString());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * @implNote This method is used to stop the export thread and export the
+     *           spans left.
+     * @throws InterruptedException
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+        long dropped = ring.getDropped();
+        if (dropped > 0) {
+            log.warn("{} spans were dropped because the span buffer was full", dropped);
+        }
+    }
+}
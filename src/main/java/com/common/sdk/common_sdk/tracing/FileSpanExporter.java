@@ -0,0 +1,42 @@
+package com.common.sdk.common_sdk.tracing;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.common.sdk.common_sdk.models.interfaces.SpanExporter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to append every batch of spans to a file as
+ *           one OTLP/JSON document per line, the format of the OpenTelemetry
+ *           collector file exporter.
+ */
+public class FileSpanExporter implements SpanExporter {
+
+    private final Path file;
+    private final OtlpJsonEncoder encoder;
+
+    /**
+     * @implNote This constructor is used to create the exporter for a file.
+     * @param file
+     * @param encoder
+     */
+    public FileSpanExporter(Path file, OtlpJsonEncoder encoder) {
+        this.file = file;
+        this.encoder = encoder;
+    }
+
+    @Override
+    public void export(List<Span> spans) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            encoder.encode(spans, out);
+            out.write('\n');
+        }
+    }
+}
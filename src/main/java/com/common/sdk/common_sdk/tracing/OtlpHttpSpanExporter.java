@@ -0,0 +1,67 @@
+package com.common.sdk.common_sdk.tracing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.common.sdk.common_sdk.models.interfaces.SpanExporter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to post every batch of spans to an OTLP/HTTP
+ *           endpoint with the JSON encoding.
+ */
+public class OtlpHttpSpanExporter implements SpanExporter {
+
+    private final HttpClient httpClient;
+    private final URI endpoint;
+    private final Duration timeout;
+    private final OtlpJsonEncoder encoder;
+
+    /**
+     * @implNote This constructor is used to create the exporter for an
+     *           endpoint, e.g. http://localhost:4318/v1/traces.
+     * @param endpoint
+     * @param timeout
+     * @param encoder
+     */
+    public OtlpHttpSpanExporter(URI endpoint, Duration timeout, OtlpJsonEncoder encoder) {
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.endpoint = endpoint;
+        this.timeout = timeout;
+        this.encoder = encoder;
+    }
+
+    @Override
+    public void export(List<Span> spans) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(spans.size() * 512);
+        encoder.encode(spans, body);
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(timeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+        HttpResponse<Void> response;
+        try {
+            response = httpClient.send(request, BodyHandlers.discarding());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Export to " + endpoint + " was interrupted", e);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Export to " + endpoint + " failed (HTTP " + response.statusCode() + ")");
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.common.sdk.common_sdk.tracing;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to write a batch of spans as an OTLP/JSON
+ *           ExportTraceServiceRequest: ids as lowercase hex, times as strings
+ *           of epoch nanoseconds, numbers as intValue strings. The document is
+ *           streamed, no tree of the batch is built.
+ */
+public class OtlpJsonEncoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String SCOPE_NAME = "common-sdk";
+    private static final int STATUS_UNSET = 0;
+    private static final int STATUS_ERROR = 2;
+
+    private final String serviceName;
+
+    /**
+     * @implNote This constructor is used to create the encoder for a service.
+     * @param serviceName
+     */
+    public OtlpJsonEncoder(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    /**
+     * @implNote This method is used to write the spans as one JSON document.
+     *           The stream is left open.
+     * @param spans
+     * @param out
+     * @throws IOException
+     */
+    public void encode(List<Span> spans, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("resourceSpans");
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("resource");
+            generator.writeArrayFieldStart("attributes");
+            writeAttribute(generator, "service.name", serviceName);
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeArrayFieldStart("scopeSpans");
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("scope");
+            generator.writeStringField("name", SCOPE_NAME);
+            generator.writeEndObject();
+            generator.writeArrayFieldStart("spans");
+            for (Span span : spans) {
+                writeSpan(generator, span);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeSpan(JsonGenerator generator, Span span) throws IOException {
+        TraceContext context = span.getContext();
+        generator.writeStartObject();
+        generator.writeStringField("traceId", context.getTraceId());
+        generator.writeStringField("spanId", context.getSpanIdHex());
+        if (span.getParentSpanId() != 0) {
+            generator.writeStringField("parentSpanId", TraceContext.hex(span.getParentSpanId()));
+        }
+        if (context.getTraceState() != null) {
+            generator.writeStringField("traceState", context.getTraceState());
+        }
+        generator.writeStringField("name", span.getName());
+        generator.writeNumberField("kind", span.getKind().getOtlpValue());
+        generator.writeStringField("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+        generator.writeStringField("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+        if (span.getAttributeCount() > 0) {
+            generator.writeArrayFieldStart("attributes");
+            for (int i = 0; i < span.getAttributeCount(); i++) {
+                writeAttribute(generator, span.attributeKey(i), span.attributeValue(i));
+            }
+            generator.writeEndArray();
+        }
+        generator.writeObjectFieldStart("status");
+        generator.writeNumberField("code", span.isError() ? STATUS_ERROR : STATUS_UNSET);
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private static void writeAttribute(JsonGenerator generator, String key, Object value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("key", key);
+        generator.writeObjectFieldStart("value");
+        if (value instanceof Long number) {
+            generator.writeStringField("intValue", number.toString());
+        } else {
+            generator.writeStringField("stringValue", String.valueOf(value));
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,282 @@
+package com.common.sdk.common_sdk.tracing;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import com.common.sdk.common_sdk.models.enums.SpanKind;
+
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to time one operation of a trace. Spans of
+ *           sampled traces record their name, times, attributes and error, and
+ *           are handed to the span ring buffer when they end. Spans of traces
+ *           that are not sampled only carry the context to propagate: every
+ *           method returns at once and their children are the span itself, so
+ *           the unsampled path allocates one span per request. A span is meant
+ *           to be used by one thread at a time; it may end on another thread
+ *           once its work was handed over.
+ */
+public final class Span {
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final Scope NOOP_SCOPE = new Scope(null, false);
+
+    private final Tracer tracer;
+    @Getter
+    private final TraceContext context;
+    @Getter
+    private final long parentSpanId;
+    @Getter
+    private final SpanKind kind;
+    @Getter
+    private final long startEpochNanos;
+    @Getter
+    private String name;
+    @Getter
+    private long endEpochNanos;
+    @Getter
+    private boolean error;
+    private Object[] attributes;
+    @Getter
+    private int attributeCount;
+
+    Span(Tracer tracer, TraceContext context, long parentSpanId, SpanKind kind, String name) {
+        this.tracer = tracer;
+        this.context = context;
+        this.parentSpanId = parentSpanId;
+        this.kind = kind;
+        this.name = name;
+        this.startEpochNanos = tracer != null ? tracer.epochNanos() : 0;
+    }
+
+    /**
+     * @implNote This method is used to get the span of the current thread.
+     * @return Span, null outside of a traced request
+     */
+    public static Span current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @implNote This method is used to wrap a supplier so that it runs with the
+     *           current span of the submitting thread.
+     * @param supplier
+     * @return Supplier<T>
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> supplier) {
+        Span span = CURRENT.get();
+        if (span == null) {
+            return supplier;
+        }
+        return () -> {
+            try (Scope scope = span.makeCurrent()) {
+                return supplier.get();
+            }
+        };
+    }
+
+    /**
+     * @implNote This method is used to wrap a runnable so that it runs with the
+     *           current span of the submitting thread.
+     * @param task
+     * @return Runnable
+     */
+    public static Runnable wrap(Runnable task) {
+        Span span = CURRENT.get();
+        if (span == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope scope = span.makeCurrent()) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * @implNote This method is used to check if the span is recorded.
+     * @return boolean
+     */
+    public boolean isRecording() {
+        return tracer != null;
+    }
+
+    /**
+     * @implNote This method is used to start an internal child span. It is not
+     *           made current.
+     * @param name
+     * @return Span
+     */
+    public Span startChild(String name) {
+        return startChild(name, SpanKind.INTERNAL);
+    }
+
+    /**
+     * @implNote This method is used to start a child span. It is not made
+     *           current.
+     * @param name
+     * @param kind
+     * @return Span
+     */
+    public Span startChild(String name, SpanKind kind) {
+        if (tracer == null) {
+            return this;
+        }
+        return new Span(tracer, context.child(), context.getSpanId(), kind, name);
+    }
+
+    /**
+     * @implNote This method is used to make the span current on this thread
+     *           until the returned scope is closed.
+     * @return Scope
+     */
+    public Scope makeCurrent() {
+        Span previous = CURRENT.get();
+        if (previous == this) {
+            return NOOP_SCOPE;
+        }
+        CURRENT.set(this);
+        return new Scope(previous, true);
+    }
+
+    /**
+     * @implNote This method is used to rename the span, e.g. once the route of
+     *           a request is known.
+     * @param name
+     * @return Span
+     */
+    public Span updateName(String name) {
+        if (tracer != null) {
+            this.name = name;
+        }
+        return this;
+    }
+
+    /**
+     * @implNote This method is used to add a string attribute.
+     * @param key
+     * @param value
+     * @return Span
+     */
+    public Span setAttribute(String key, String value) {
+        if (tracer != null && value != null) {
+            add(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * @implNote This method is used to add a number attribute.
+     * @param key
+     * @param value
+     * @return Span
+     */
+    public Span setAttribute(String key, long value) {
+        if (tracer != null) {
+            add(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * @implNote This method is used to mark the span as failed by an exception.
+     * @param ex
+     * @return Span
+     */
+    public Span recordError(Throwable ex) {
+        if (tracer != null) {
+            error = true;
+            add("exception.type", ex.getClass().getName());
+            if (ex.getMessage() != null) {
+                add("exception.message", ex.getMessage());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @implNote This method is used to mark the span as failed.
+     * @return Span
+     */
+    public Span markError() {
+        if (tracer != null) {
+            error = true;
+        }
+        return this;
+    }
+
+    /**
+     * @implNote This method is used to end the span. Only the first call
+     *           records it.
+     */
+    public void end() {
+        if (tracer != null && endEpochNanos == 0) {
+            endEpochNanos = tracer.epochNanos();
+            tracer.finished(this);
+        }
+    }
+
+    /**
+     * @implNote This method is used to get the attribute key at an index.
+     * @param index
+     * @return String
+     */
+    public String attributeKey(int index) {
+        return (String) attributes[index * 2];
+    }
+
+    /**
+     * @implNote This method is used to get the attribute value at an index, a
+     *           String or a Long.
+     * @param index
+     * @return Object
+     */
+    public Object attributeValue(int index) {
+        return attributes[index * 2 + 1];
+    }
+
+    private void add(String key, Object value) {
+        if (attributes == null) {
+            attributes = new Object[8];
+        } else if (attributeCount * 2 == attributes.length) {
+            attributes = Arrays.copyOf(attributes, attributes.length * 2);
+        }
+        attributes[attributeCount * 2] = key;
+        attributes[attributeCount * 2 + 1] = value;
+        attributeCount++;
+    }
+
+    /**
+     * @implNote This class is used to restore the previous current span when
+     *           closed.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Span previous;
+        private final boolean restore;
+
+        private Scope(Span previous, boolean restore) {
+            this.previous = previous;
+            this.restore = restore;
+        }
+
+        /**
+         * @implNote This method is used to restore the previous current span.
+         */
+        @Override
+        public void close() {
+            if (!restore) {
+                return;
+            }
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
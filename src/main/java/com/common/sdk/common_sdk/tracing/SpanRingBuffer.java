@@ -0,0 +1,109 @@
+package com.common.sdk.common_sdk.tracing;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to hand finished spans from request threads to
+ *           the export thread through a fixed ring of slots. Producers claim a
+ *           slot with one compare-and-set on the tail and publish the span
+ *           with the slot sequence, so adding never locks and never waits; a
+ *           span arriving while the ring is full is dropped and counted. The
+ *           export thread is the only consumer.
+ */
+public class SpanRingBuffer {
+
+    private final AtomicReferenceArray<Span> spans;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private long head;
+
+    /**
+     * @implNote This constructor is used to create the ring. The capacity is
+     *           rounded up to a power of two.
+     * @param capacity
+     */
+    public SpanRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1);
+        this.spans = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * @implNote This method is used to add a finished span.
+     * @param span
+     * @return boolean false if the ring was full and the span was dropped
+     */
+    public boolean offer(Span span) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long sequence = sequences.getAcquire(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    spans.setPlain(index, span);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (sequence < position) {
+                dropped.increment();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @implNote This method is used to move up to max spans into the list, in
+     *           the order they were added.
+     * @param target
+     * @param max
+     * @return int the number of spans moved
+     */
+    public synchronized int drain(List<Span> target, int max) {
+        int count = 0;
+        while (count < max) {
+            int index = (int) (head & mask);
+            if (sequences.getAcquire(index) != head + 1) {
+                break;
+            }
+            target.add(spans.getPlain(index));
+            spans.setPlain(index, null);
+            sequences.setRelease(index, head + mask + 1);
+            head++;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @implNote This method is used to get the number of spans dropped because
+     *           the ring was full.
+     * @return long
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @implNote This method is used to get the number of slots.
+     * @return int
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,185 @@
+package com.common.sdk.common_sdk.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to hold the W3C trace context of a span: the
+ *           128-bit trace id, the 64-bit span id, the sampled flag and the
+ *           vendor tracestate, which is carried along as it is. Ids are kept
+ *           as numbers and only formatted as hex when a header or an export
+ *           needs them.
+ */
+@Getter
+public final class TraceContext {
+
+    private static final int TRACEPARENT_LENGTH = 55;
+    private static final int MAX_TRACESTATE_LENGTH = 512;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final long traceIdHigh;
+    private final long traceIdLow;
+    private final long spanId;
+    private final boolean sampled;
+    private final String traceState;
+    @Getter(AccessLevel.NONE)
+    private String traceparent;
+
+    TraceContext(long traceIdHigh, long traceIdLow, long spanId, boolean sampled, String traceState) {
+        this.traceIdHigh = traceIdHigh;
+        this.traceIdLow = traceIdLow;
+        this.spanId = spanId;
+        this.sampled = sampled;
+        this.traceState = traceState;
+    }
+
+    /**
+     * @implNote This method is used to parse the traceparent and tracestate
+     *           headers of a request. A tracestate longer than 512 characters is
+     *           dropped, as the specification allows.
+     * @param traceparent
+     * @param tracestate
+     * @return TraceContext, null when the traceparent is missing or invalid
+     */
+    public static TraceContext parse(String traceparent, String tracestate) {
+        if (traceparent == null || traceparent.length() < TRACEPARENT_LENGTH
+                || !isHex(traceparent, 0, 2) || traceparent.startsWith("ff")
+                || traceparent.startsWith("00") && traceparent.length() != TRACEPARENT_LENGTH
+                || traceparent.length() > TRACEPARENT_LENGTH && traceparent.charAt(TRACEPARENT_LENGTH) != '-'
+                || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-'
+                || !isHex(traceparent, 3, 35) || !isHex(traceparent, 36, 52) || !isHex(traceparent, 53, 55)) {
+            return null;
+        }
+        long traceIdHigh = parseHex(traceparent, 3, 19);
+        long traceIdLow = parseHex(traceparent, 19, 35);
+        long spanId = parseHex(traceparent, 36, 52);
+        if (traceIdHigh == 0 && traceIdLow == 0 || spanId == 0) {
+            return null;
+        }
+        boolean sampled = (parseHex(traceparent, 53, 55) & 1) != 0;
+        String state = tracestate == null || tracestate.isBlank() || tracestate.length() > MAX_TRACESTATE_LENGTH
+                ? null
+                : tracestate;
+        return new TraceContext(traceIdHigh, traceIdLow, spanId, sampled, state);
+    }
+
+    /**
+     * @implNote This method is used to get the context of a child span: the same
+     *           trace, flags and tracestate with a new span id.
+     * @return TraceContext
+     */
+    public TraceContext child() {
+        return new TraceContext(traceIdHigh, traceIdLow, randomId(), sampled, traceState);
+    }
+
+    /**
+     * @implNote This method is used to get the trace id as 32 hex characters.
+     * @return String
+     */
+    public String getTraceId() {
+        char[] chars = new char[32];
+        writeHex(traceIdHigh, chars, 0);
+        writeHex(traceIdLow, chars, 16);
+        return new String(chars);
+    }
+
+    /**
+     * @implNote This method is used to get the span id as 16 hex characters.
+     * @return String
+     */
+    public String getSpanIdHex() {
+        return hex(spanId);
+    }
+
+    /**
+     * @implNote This method is used to format the traceparent header announcing
+     *           this span as the parent. The header is formatted once.
+     * @return String
+     */
+    public String traceparent() {
+        String header = traceparent;
+        if (header == null) {
+            header = formatTraceparent();
+            traceparent = header;
+        }
+        return header;
+    }
+
+    private String formatTraceparent() {
+        char[] chars = new char[TRACEPARENT_LENGTH];
+        chars[0] = '0';
+        chars[1] = '0';
+        chars[2] = '-';
+        writeHex(traceIdHigh, chars, 3);
+        writeHex(traceIdLow, chars, 19);
+        chars[35] = '-';
+        writeHex(spanId, chars, 36);
+        chars[52] = '-';
+        chars[53] = '0';
+        chars[54] = sampled ? '1' : '0';
+        return new String(chars);
+    }
+
+    /**
+     * @implNote This method is used to format the traceparent header.
+     * @return String
+     */
+    @Override
+    public String toString() {
+        return traceparent();
+    }
+
+    /**
+     * @implNote This method is used to format an id as 16 hex characters.
+     * @param id
+     * @return String
+     */
+    static String hex(long id) {
+        char[] chars = new char[16];
+        writeHex(id, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * @implNote This method is used to generate a random non-zero id.
+     * @return long
+     */
+    static long randomId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return id;
+    }
+
+    private static void writeHex(long value, char[] chars, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static boolean isHex(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(String value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            result = (result << 4) | (c <= '9' ? c - '0' : c - 'a' + 10);
+        }
+        return result;
+    }
+}
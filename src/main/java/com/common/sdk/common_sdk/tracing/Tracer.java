@@ -0,0 +1,114 @@
+package com.common.sdk.common_sdk.tracing;
+
+import java.time.Instant;
+import java.util.function.Supplier;
+
+import com.common.sdk.common_sdk.models.enums.SpanKind;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to start spans. Whether a trace is recorded is
+ *           decided once, when its root span starts: a request carrying a
+ *           traceparent follows its sampled flag, a new trace is sampled when
+ *           its trace id falls under the sample ratio, so every service seeing
+ *           the id takes the same decision. Finished spans go to the span ring
+ *           buffer. Span times are taken from the monotonic clock, anchored to
+ *           the wall clock when the tracer is created.
+ */
+public class Tracer {
+
+    private final SpanRingBuffer ring;
+    private final long sampleThreshold;
+    private final long anchorEpochNanos;
+    private final long anchorNanoTime;
+
+    /**
+     * @implNote This constructor is used to create the tracer.
+     * @param sampleRatio share of new traces that are recorded, from 0 to 1
+     * @param ring
+     */
+    public Tracer(double sampleRatio, SpanRingBuffer ring) {
+        if (sampleRatio < 0 || sampleRatio > 1) {
+            throw new IllegalArgumentException("sampleRatio must be between 0 and 1: " + sampleRatio);
+        }
+        this.ring = ring;
+        this.sampleThreshold = sampleRatio >= 1 ? Long.MAX_VALUE : (long) (sampleRatio * Long.MAX_VALUE);
+        Instant now = Instant.now();
+        this.anchorNanoTime = System.nanoTime();
+        this.anchorEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    /**
+     * @implNote This method is used to start the span of a request served by
+     *           the service.
+     * @param name
+     * @param remoteParent the context of the caller, null to start a new trace
+     * @return Span
+     */
+    public Span startServerSpan(String name, TraceContext remoteParent) {
+        if (remoteParent != null) {
+            TraceContext context = remoteParent.child();
+            return new Span(context.isSampled() ? this : null, context, remoteParent.getSpanId(), SpanKind.SERVER,
+                    name);
+        }
+        return startRoot(name, SpanKind.SERVER);
+    }
+
+    /**
+     * @implNote This method is used to start an internal span, a child of the
+     *           current span or the root of a new trace. It is not made current.
+     * @param name
+     * @return Span
+     */
+    public Span startSpan(String name) {
+        Span parent = Span.current();
+        return parent != null ? parent.startChild(name) : startRoot(name, SpanKind.INTERNAL);
+    }
+
+    /**
+     * @implNote This method is used to run work in a span made current around
+     *           it. An exception thrown by the work is recorded on the span.
+     * @param name
+     * @param work
+     * @return T
+     */
+    public <T> T trace(String name, Supplier<T> work) {
+        Span span = startSpan(name);
+        try (Span.Scope scope = span.makeCurrent()) {
+            return work.get();
+        } catch (RuntimeException | Error e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * @implNote This method is used to check if a new trace with the given trace
+     *           id is sampled.
+     * @param traceIdLow
+     * @return boolean
+     */
+    boolean sample(long traceIdLow) {
+        return sampleThreshold == Long.MAX_VALUE || (traceIdLow & Long.MAX_VALUE) < sampleThreshold;
+    }
+
+    long epochNanos() {
+        return anchorEpochNanos + (System.nanoTime() - anchorNanoTime);
+    }
+
+    void finished(Span span) {
+        ring.offer(span);
+    }
+
+    private Span startRoot(String name, SpanKind kind) {
+        long traceIdLow = TraceContext.randomId();
+        boolean sampled = sample(traceIdLow);
+        TraceContext context = new TraceContext(TraceContext.randomId(), traceIdLow, TraceContext.randomId(),
+                sampled, null);
+        return new Span(sampled ? this : null, context, 0, kind, name);
+    }
+}
@@ -0,0 +1,131 @@
+package com.common.sdk.common_sdk.tracing;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.utils.CommonUtils;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author PRABHAKAR PAL
+ * @version 1.0
+ * @since 2026-10-17
+ * @implNote This class is used to start a server span per request, continuing
+ *           the trace of the traceparent and tracestate headers when they are
+ *           valid, and to keep it current while the request is handled. The
+ *           span is named after the method and the route pattern once the
+ *           handler is known and ends when the request completes, including
+ *           asynchronously completed requests. The correlation id header is
+ *           left as it is and recorded on the span.
+ */
+@RequiredArgsConstructor
+public class TracingFilter extends OncePerRequestFilter implements ApplicationConstants {
+
+    public static final String SPAN_ATTRIBUTE = TracingFilter.class.getName() + ".SPAN";
+
+    private static final String UNMATCHED = "UNMATCHED";
+
+    private final Tracer tracer;
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    /**
+     * @implNote This method is used to trace the request.
+     * @param request
+     * @param response
+     * @param filterChain
+     * @throws ServletException
+     * @throws IOException
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (request.getAttribute(SPAN_ATTRIBUTE) instanceof Span span) {
+            try (Span.Scope scope = span.makeCurrent()) {
+                filterChain.doFilter(request, response);
+            }
+            return;
+        }
+
+        Span span = tracer.startServerSpan(request.getMethod(),
+                TraceContext.parse(request.getHeader(TRACEPARENT), request.getHeader(TRACESTATE)));
+        request.setAttribute(SPAN_ATTRIBUTE, span);
+        String correlationId = CommonUtils.getCurrentRequestId();
+        boolean completed = false;
+        try (Span.Scope scope = span.makeCurrent()) {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new EndOnComplete(span, correlationId));
+            } else {
+                end(span, request, completed ? response.getStatus() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+                        correlationId);
+            }
+        }
+    }
+
+    private static void end(Span span, HttpServletRequest request, int status, String correlationId) {
+        if (!span.isRecording()) {
+            return;
+        }
+        String route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern
+                ? pattern
+                : UNMATCHED;
+        span.updateName(request.getMethod() + " " + route)
+                .setAttribute("http.request.method", request.getMethod())
+                .setAttribute("http.route", route)
+                .setAttribute("http.response.status_code", status)
+                .setAttribute(CORRELATION_ID, correlationId);
+        if (status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+            span.markError();
+        }
+        span.end();
+    }
+
+    /**
+     * @implNote This class is used to end the span of asynchronously completed
+     *           requests.
+     */
+    private record EndOnComplete(Span span, String correlationId) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            end(span, (HttpServletRequest) event.getSuppliedRequest(),
+                    ((HttpServletResponse) event.getSuppliedResponse()).getStatus(), correlationId);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // onComplete follows a timeout as well
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            if (event.getThrowable() != null) {
+                span.recordError(event.getThrowable());
+            }
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.common.sdk.common_sdk.utils;
 import org.slf4j.MDC;
 
 import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.correlation.CorrelationContext;
 
 /**
  * @author PRABHAKAR PAL
@@ -16,11 +17,14 @@ public final class CommonUtils {
     }
 
     /**
-     * @implNote This method is used to get the current request id.
+     * @implNote This method is used to get the current request id. The
+     *           correlation context is checked first, so ids carried to other
+     *           threads by the correlation executors are found as well.
      * @return String
      */
     public static String getCurrentRequestId() {
-        return MDC.get(ApplicationConstants.CORRELATION_ID);
+        String requestId = CorrelationContext.get();
+        return requestId != null ? requestId : MDC.get(ApplicationConstants.CORRELATION_ID);
     }
 
 }
@@ -0,0 +1,19 @@
+package com.common.sdk.common_sdk;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+
+/**
+ * Application the tests start. Like a consuming application it gets the SDK
+ * through auto-configuration only and does not scan the SDK packages.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class CommonSdkApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(CommonSdkApplication.class, args);
+	}
+
+}
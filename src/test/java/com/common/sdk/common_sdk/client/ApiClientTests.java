@@ -0,0 +1,107 @@
+package com.common.sdk.common_sdk.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.correlation.CorrelationContext;
+import com.common.sdk.common_sdk.exception.BaseException;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+class ApiClientTests {
+
+	private static HttpServer server;
+	private static ApiClientFactory factory;
+	private static ApiClient client;
+
+	@BeforeAll
+	static void startStub() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		server.createContext("/orders", exchange -> respond(exchange, 200,
+				"{\"success\":true,\"data\":[{\"id\":1,\"customer\":\"a\"},{\"id\":2,\"customer\":\"b\"}],"
+						+ "\"code\":200,\"errorMessage\":null,\"requestId\":\"r\",\"message\":\"ignored\"}"));
+		server.createContext("/echo-correlation", exchange -> respond(exchange, 200,
+				"{\"success\":true,\"data\":\"" + exchange.getRequestHeaders().getFirst(ApplicationConstants.CORRELATION_ID)
+						+ "\",\"code\":200}"));
+		server.createContext("/missing", exchange -> respond(exchange, 400,
+				"{\"success\":false,\"code\":1001,\"errorMessage\":\"Notification Template not found\"}"));
+		server.createContext("/gateway", exchange -> respond(exchange, 502, "<html>Bad Gateway</html>"));
+		server.start();
+		factory = new ApiClientFactory(new ObjectMapper(), Duration.ofSeconds(2), Duration.ofSeconds(5));
+		client = factory.create("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+	}
+
+	@AfterAll
+	static void stopStub() {
+		factory.destroy();
+		server.stop(0);
+	}
+
+	@Test
+	void decodesGenericDataAndIgnoresUnknownFields() {
+		GenericApiResponse<List<Order>> response = client.get("/orders", new TypeReference<List<Order>>() {
+		});
+		assertTrue(response.isSuccess());
+		assertEquals(List.of(new Order(1, "a"), new Order(2, "b")), response.getData());
+		assertEquals(200, response.getCode());
+	}
+
+	@Test
+	void forwardsCurrentCorrelationId() {
+		try (CorrelationContext.Scope scope = CorrelationContext.open("corr-42")) {
+			assertEquals("corr-42", client.get("echo-correlation", String.class).getData());
+		}
+	}
+
+	@Test
+	void failureEnvelopeIsThrownWithRemoteCode() {
+		BaseException exception = assertThrows(BaseException.class, () -> client.get("/missing", String.class));
+		assertEquals(1001, exception.getStatusCode());
+		assertEquals("Notification Template not found", exception.getMessage());
+	}
+
+	@Test
+	void nonEnvelopeErrorIsThrownWithHttpStatus() {
+		BaseException exception = assertThrows(BaseException.class, () -> client.get("/gateway", String.class));
+		assertEquals(502, exception.getStatusCode());
+	}
+
+	@Test
+	void asyncFailureCompletesWithBaseException() {
+		CompletionException exception = assertThrows(CompletionException.class,
+				() -> client.sendAsync("GET", "/missing", null, String.class).join());
+		assertEquals(1001, assertInstanceOf(BaseException.class, exception.getCause()).getStatusCode());
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	record Order(long id, String customer) {
+	}
+}
@@ -0,0 +1,129 @@
+package com.common.sdk.common_sdk.compression;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.WebUtils;
+
+import com.common.sdk.common_sdk.models.enums.ContentEncoding;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+class CompressionFilterTests {
+
+	private static final byte[] LARGE = "{\"success\":true,\"data\":[%s]}"
+			.formatted("{\"id\":1,\"name\":\"order\"},".repeat(200) + "{}").getBytes(StandardCharsets.UTF_8);
+
+	private final CompressionFilter filter = new CompressionFilter(1024, 6,
+			List.of("application/json", "application/*+json", "text/plain"), 2);
+
+	@Test
+	void largeBodiesAreCompressedWithTheNegotiatedEncoding() throws Exception {
+		FilterChain chain = (request, response) -> {
+			HttpServletResponse servletResponse = (HttpServletResponse) response;
+			servletResponse.setContentType("application/json");
+			servletResponse.setContentLength(LARGE.length);
+			servletResponse.getOutputStream().write(LARGE, 0, 100);
+			servletResponse.getOutputStream().flush();
+			servletResponse.getOutputStream().write(LARGE, 100, LARGE.length - 100);
+		};
+
+		for (int i = 0; i < 3; i++) {
+			MockHttpServletResponse gzip = perform(chain, "gzip, deflate, br", false);
+			assertEquals("gzip", gzip.getHeader("Content-Encoding"));
+			assertEquals("Accept-Encoding", gzip.getHeader("Vary"));
+			assertNull(gzip.getHeader("Content-Length"));
+			assertArrayEquals(LARGE, new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))
+					.readAllBytes());
+		}
+
+		MockHttpServletResponse deflate = perform(chain, "gzip;q=0.5, deflate", false);
+		assertEquals("deflate", deflate.getHeader("Content-Encoding"));
+		try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(deflate.getContentAsByteArray()))) {
+			assertArrayEquals(LARGE, in.readAllBytes());
+		}
+
+		CompressionStats stats = filter.getStats();
+		assertEquals(4, stats.compressed());
+		assertEquals(4L * LARGE.length, stats.bytesIn());
+		assertTrue(stats.ratio() < 0.2, "ratio " + stats.ratio());
+		assertTrue(stats.compressionNanos() > 0);
+	}
+
+	@Test
+	void smallEncodedStreamedAndBinaryBodiesPassThrough() throws Exception {
+		MockHttpServletResponse small = perform((request, response) -> {
+			response.setContentType("application/problem+json");
+			response.getWriter().write("{\"success\":false,\"code\":404}");
+		}, "gzip", false);
+		assertNull(small.getHeader("Content-Encoding"));
+		assertEquals("{\"success\":false,\"code\":404}", small.getContentAsString());
+		assertEquals(small.getContentAsByteArray().length, small.getContentLength());
+
+		MockHttpServletResponse image = perform((request, response) -> {
+			response.setContentType("image/png");
+			response.getOutputStream().write(LARGE);
+		}, "gzip", false);
+		MockHttpServletResponse encoded = perform((request, response) -> {
+			response.setContentType("application/json");
+			((HttpServletResponse) response).setHeader("Content-Encoding", "br");
+			response.getOutputStream().write(LARGE);
+		}, "gzip", false);
+		MockHttpServletResponse streamed = perform((request, response) -> {
+			response.setContentType("application/json");
+			response.getOutputStream().write(LARGE, 0, 10);
+			response.getOutputStream().flush();
+			assertEquals(10, WebUtils.getNativeResponse(response, MockHttpServletResponse.class)
+					.getContentAsByteArray().length);
+			response.getOutputStream().write(LARGE, 10, LARGE.length - 10);
+		}, "gzip", true);
+
+		assertNull(image.getHeader("Content-Encoding"));
+		assertEquals("br", encoded.getHeader("Content-Encoding"));
+		assertNull(streamed.getHeader("Content-Encoding"));
+		assertArrayEquals(LARGE, image.getContentAsByteArray());
+		assertArrayEquals(LARGE, encoded.getContentAsByteArray());
+		assertArrayEquals(LARGE, streamed.getContentAsByteArray());
+		assertEquals(0, filter.getStats().compressed());
+	}
+
+	@Test
+	void acceptEncodingIsNegotiatedByQuality() {
+		assertEquals(ContentEncoding.GZIP, CompressionFilter.negotiate("deflate, gzip"));
+		assertEquals(ContentEncoding.DEFLATE, CompressionFilter.negotiate("gzip;q=0.2, deflate;q=0.8"));
+		assertEquals(ContentEncoding.GZIP, CompressionFilter.negotiate("br, *;q=0.1"));
+		assertEquals(ContentEncoding.DEFLATE, CompressionFilter.negotiate("gzip;q=0, *"));
+		assertNull(CompressionFilter.negotiate("identity, br"));
+		assertNull(CompressionFilter.negotiate("gzip;q=0"));
+		assertNull(CompressionFilter.negotiate(null));
+	}
+
+	private MockHttpServletResponse perform(FilterChain chain, String acceptEncoding, boolean async)
+			throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders");
+		request.addHeader("Accept-Encoding", acceptEncoding);
+		request.setAsyncSupported(true);
+		request.setAsyncStarted(async);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, chain);
+		if (async) {
+			request.setAsyncStarted(false);
+			filter.doFilter(request, response, (req, res) -> {
+			});
+		}
+		return response;
+	}
+}
@@ -0,0 +1,137 @@
+package com.common.sdk.common_sdk.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+import com.common.sdk.common_sdk.exception.BaseGlobalExceptionHandler;
+import com.common.sdk.common_sdk.exception.ExceptionLogAggregator;
+import com.common.sdk.common_sdk.filter.CorrelationFilter;
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.NotificationResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.registry.ResponseCodeRegistry;
+import com.common.sdk.common_sdk.services.ResponseHandler;
+
+class CommonSdkAutoConfigurationTests {
+
+	private static final AutoConfigurations SDK = AutoConfigurations.of(sdkAutoConfigurations());
+
+	@Test
+	void servletApplicationGetsTheFilterHandlerAndExceptionHandler() {
+		new WebApplicationContextRunner().withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+				.withConfiguration(SDK)
+				.run(context -> {
+					assertThat(context).hasSingleBean(CorrelationFilter.class)
+							.hasSingleBean(ResponseHandler.class)
+							.hasSingleBean(BaseGlobalExceptionHandler.class);
+					assertThat(context.getBean("correlationFilterRegistration", FilterRegistrationBean.class)
+							.getFilter()).isSameAs(context.getBean(CorrelationFilter.class));
+				});
+	}
+
+	@Test
+	void applicationExceptionHandlerReplacesTheDefault() {
+		new WebApplicationContextRunner().withConfiguration(SDK)
+				.withUserConfiguration(CustomExceptionHandlerConfiguration.class)
+				.run(context -> assertThat(context).getBean(BaseGlobalExceptionHandler.class)
+						.isInstanceOf(CustomExceptionHandler.class));
+	}
+
+	@Test
+	void nonWebApplicationGetsNoServletComponents() {
+		new ApplicationContextRunner().withConfiguration(SDK)
+				.run(context -> assertThat(context).hasSingleBean(ResponseHandler.class)
+						.doesNotHaveBean(CorrelationFilter.class)
+						.doesNotHaveBean(BaseGlobalExceptionHandler.class));
+	}
+
+	@Test
+	void envelopesAndCodesAreRegisteredForReflection() {
+		RuntimeHints hints = new RuntimeHints();
+		new CommonSdkRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+		assertThat(RuntimeHintsPredicates.reflection().onType(ApiResponse.class)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(APIResponseCode.class)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.resource()
+				.forResource("META-INF/services/io.micrometer.context.ThreadLocalAccessor")).accepts(hints);
+	}
+
+	@Test
+	void responseCodeRegistryScansOnlyWhenAsked() {
+		ApplicationContextRunner runner = new ApplicationContextRunner().withConfiguration(SDK);
+
+		runner.run(context -> assertThat(context.getBean(ResponseCodeRegistry.class).namespaces())
+				.containsExactlyInAnyOrder("api", NotificationResponseCode.NAMESPACE));
+		runner.withPropertyValues("common.sdk.response-codes.enums=" + ShippingCode.class.getName())
+				.run(context -> assertThat(context.getBean(ResponseCodeRegistry.class).find("shipping", 4200))
+						.isSameAs(ShippingCode.DELAYED));
+		runner.withPropertyValues("common.sdk.response-codes.base-packages=" + getClass().getPackageName())
+				.run(context -> assertThat(context.getBean(ResponseCodeRegistry.class).find("shipping", 4200))
+						.isSameAs(ShippingCode.DELAYED));
+	}
+
+	private static Class<?>[] sdkAutoConfigurations() {
+		List<Class<?>> classes = ImportCandidates.load(AutoConfiguration.class, null)
+				.getCandidates()
+				.stream()
+				.filter(name -> name.startsWith("com.common.sdk."))
+				.<Class<?>>map(name -> ClassUtils.resolveClassName(name, null))
+				.toList();
+		assertThat(classes).contains(CorrelationConfiguration.class, ResponseConfiguration.class);
+		return classes.toArray(Class<?>[]::new);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class CustomExceptionHandlerConfiguration {
+
+		@Bean
+		CustomExceptionHandler customExceptionHandler(ResponseHandler responseHandler,
+				ExceptionLogAggregator logAggregator, ResponseMetrics metrics) {
+			return new CustomExceptionHandler(responseHandler, logAggregator, metrics);
+		}
+	}
+
+	enum ShippingCode implements ResponseCode {
+		DELAYED;
+
+		@Override
+		public int getCode() {
+			return 4200;
+		}
+
+		@Override
+		public String getMessage() {
+			return "Shipment delayed";
+		}
+
+		@Override
+		public String namespace() {
+			return "shipping";
+		}
+	}
+
+	static class CustomExceptionHandler extends BaseGlobalExceptionHandler {
+
+		CustomExceptionHandler(ResponseHandler responseHandler, ExceptionLogAggregator logAggregator,
+				ResponseMetrics metrics) {
+			super(responseHandler, logAggregator, metrics);
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package com.common.sdk.common_sdk.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.exception.BaseException;
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.dto.ErrorDetail;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.common.sdk.common_sdk.serializer.CommonSdkJacksonModule;
+import com.common.sdk.common_sdk.serializer.CompactEnvelopeModule;
+import com.common.sdk.common_sdk.services.ResponseHandler;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(ContentNegotiationTests.SampleController.class)
+class ContentNegotiationTests {
+
+	private static final String COMPACT = ApplicationConstants.APPLICATION_COMPACT_CBOR_VALUE;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@ParameterizedTest
+	@ValueSource(strings = { "application/json", "application/cbor", "application/x-jackson-smile" })
+	void writesControllerAndExceptionEnvelopesInAcceptedFormat(String accept) throws Exception {
+		ObjectMapper mapper = switch (accept) {
+			case "application/cbor" -> new CBORMapper();
+			case "application/x-jackson-smile" -> new SmileMapper();
+			default -> new ObjectMapper();
+		};
+
+		MockHttpServletResponse ok = perform("/sample/ok", accept, "req-1");
+		JsonNode okBody = mapper.readTree(ok.getContentAsByteArray());
+		assertEquals(200, ok.getStatus());
+		assertEquals(accept, ok.getContentType());
+		assertTrue(okBody.get("success").asBoolean());
+		assertEquals(200, okBody.get("code").asInt());
+		assertEquals("req-1", okBody.get("requestId").asText());
+		assertEquals(1, okBody.get("data").get("id").asInt());
+
+		MockHttpServletResponse failure = perform("/sample/failure", accept, "req-2");
+		JsonNode failureBody = mapper.readTree(failure.getContentAsByteArray());
+		assertEquals(404, failure.getStatus());
+		assertEquals(accept, failure.getContentType());
+		assertFalse(failureBody.get("success").asBoolean());
+		assertEquals(404, failureBody.get("code").asInt());
+		assertEquals("User not found", failureBody.get("errorMessage").asText());
+		assertEquals("req-2", failureBody.get("requestId").asText());
+	}
+
+	@Test
+	void compactCborUsesIntegerKeysAndOmitsNullFields() throws Exception {
+		MockHttpServletResponse ok = perform("/sample/ok", COMPACT, "req-3");
+		JsonNode okBody = new CBORMapper().readTree(ok.getContentAsByteArray());
+		assertEquals(COMPACT, ok.getContentType());
+		assertTrue(okBody.get("0").asBoolean());
+		assertEquals(200, okBody.get("1").asInt());
+		assertNull(okBody.get("2"));
+		assertEquals("req-3", okBody.get("3").asText());
+		assertEquals(1, okBody.get("4").get("id").asInt());
+		assertNull(okBody.get("success"));
+
+		MockHttpServletResponse failure = perform("/sample/failure", COMPACT, "req-4");
+		JsonNode failureBody = new CBORMapper().readTree(failure.getContentAsByteArray());
+		assertEquals(404, failure.getStatus());
+		assertFalse(failureBody.get("0").asBoolean());
+		assertEquals(404, failureBody.get("1").asInt());
+		assertEquals("User not found", failureBody.get("2").asText());
+		assertEquals("req-4", failureBody.get("3").asText());
+		assertNull(failureBody.get("4"));
+	}
+
+	@Test
+	void compactCborIsReadBackIntoApiResponse() throws Exception {
+		ObjectMapper mapper = new CBORMapper().registerModule(new CommonSdkJacksonModule())
+				.registerModule(new CompactEnvelopeModule());
+		assertTrue(new CompactCborHttpMessageConverter(mapper).canRead(ApiResponse.class,
+				CompactCborHttpMessageConverter.APPLICATION_COMPACT_CBOR));
+
+		MockHttpServletResponse ok = perform("/sample/ok", COMPACT, "req-5");
+		ApiResponse<Map<String, Integer>> okBody = mapper.readValue(ok.getContentAsByteArray(),
+				new TypeReference<ApiResponse<Map<String, Integer>>>() {
+				});
+		assertTrue(okBody.isSuccess());
+		assertEquals(200, okBody.getCode());
+		assertNull(okBody.getErrorMessage());
+		assertEquals("req-5", okBody.getRequestId());
+		assertEquals(Map.of("id", 1), okBody.getData());
+
+		ApiResponse<Void> failure = ApiResponse.failure(APIResponseCode.VALIDATION_ERROR, "email: invalid",
+				List.of(ErrorDetail.of("email", "x", "Email", "invalid")), 3, "req-6");
+		ApiResponse<?> failureBody = mapper.readValue(mapper.writeValueAsBytes(failure), ApiResponse.class);
+		assertFalse(failureBody.isSuccess());
+		assertEquals(422, failureBody.getCode());
+		assertEquals("email: invalid", failureBody.getErrorMessage());
+		assertEquals("req-6", failureBody.getRequestId());
+		assertNull(failureBody.getData());
+		assertEquals(1, failureBody.getErrors().size());
+		assertEquals("email", failureBody.getErrors().get(0).getField());
+		assertEquals("x", failureBody.getErrors().get(0).getRejectedValue());
+		assertEquals("Email", failureBody.getErrors().get(0).getCode());
+		assertEquals("invalid", failureBody.getErrors().get(0).getMessage());
+		assertEquals(3, failureBody.getOmittedErrors());
+	}
+
+	private MockHttpServletResponse perform(String path, String accept, String correlationId) throws Exception {
+		return mockMvc.perform(get(path).accept(accept).header(ApplicationConstants.CORRELATION_ID, correlationId))
+				.andReturn().getResponse();
+	}
+
+	@RestController
+	static class SampleController {
+
+		@Autowired
+		private ResponseHandler responseHandler;
+
+		@GetMapping("/sample/ok")
+		GenericApiResponse<Map<String, Integer>> ok() {
+			return responseHandler.ok(Map.of("id", 1));
+		}
+
+		@GetMapping("/sample/failure")
+		GenericApiResponse<Void> failure() {
+			throw BaseException.stackless(404, "User not found");
+		}
+	}
+
+}
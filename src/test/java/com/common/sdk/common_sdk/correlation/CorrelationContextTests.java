@@ -0,0 +1,101 @@
+package com.common.sdk.common_sdk.correlation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+
+class CorrelationContextTests {
+
+	private ExecutorService pool;
+
+	@BeforeEach
+	void setUp() {
+		pool = Executors.newSingleThreadExecutor();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		pool.shutdownNow();
+		pool.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void scopeRestoresThePreviousIdAndMdc() {
+		try (CorrelationContext.Scope outer = CorrelationContext.open("outer")) {
+			try (CorrelationContext.Scope inner = CorrelationContext.open("inner")) {
+				assertEquals("inner", CorrelationContext.get());
+				assertEquals("inner", MDC.get(ApplicationConstants.CORRELATION_ID));
+			}
+			assertEquals("outer", CorrelationContext.get());
+			assertEquals("outer", MDC.get(ApplicationConstants.CORRELATION_ID));
+		}
+		assertNull(CorrelationContext.get());
+		assertNull(MDC.get(ApplicationConstants.CORRELATION_ID));
+	}
+
+	@Test
+	void wrappedExecutorServiceCarriesTheIdAndCleansThePoolThread() throws Exception {
+		ExecutorService executor = CorrelationExecutors.wrap(pool);
+		Future<String> submitted;
+		List<Future<String>> invoked;
+		try (CorrelationContext.Scope scope = CorrelationContext.open("req-1")) {
+			submitted = executor.submit(() -> CorrelationContext.get() + "/" + MDC.get(
+					ApplicationConstants.CORRELATION_ID));
+			invoked = executor.invokeAll(List.of(CorrelationContext::get, CorrelationContext::get));
+		}
+
+		assertEquals("req-1/req-1", submitted.get());
+		assertEquals("req-1", invoked.get(0).get());
+		assertEquals("req-1", invoked.get(1).get());
+		assertNull(pool.submit(CorrelationContext::get).get());
+		assertNull(pool.submit(() -> MDC.get(ApplicationConstants.CORRELATION_ID)).get());
+	}
+
+	@Test
+	void asyncHelpersAndVirtualThreadsCarryTheId() throws Exception {
+		try (CorrelationContext.Scope scope = CorrelationContext.open("req-2");
+				ExecutorService virtual = CorrelationExecutors.newVirtualThreadPerTaskExecutor()) {
+			AtomicReference<String> ran = new AtomicReference<>();
+
+			assertEquals("req-2", CorrelationExecutors.supplyAsync(CorrelationContext::get, pool).get());
+			CorrelationExecutors.runAsync(() -> ran.set(CorrelationContext.get()), pool).get();
+			assertEquals("req-2", ran.get());
+			assertEquals("req-2", virtual.submit(CorrelationContext::get).get());
+		}
+	}
+
+	@Test
+	void taskDecoratorCapturesTheIdWhenDecorating() throws Exception {
+		Runnable decorated;
+		AtomicReference<String> ran = new AtomicReference<>();
+		try (CorrelationContext.Scope scope = CorrelationContext.open("req-3")) {
+			decorated = new CorrelationTaskDecorator().decorate(() -> ran.set(CorrelationContext.get()));
+		}
+
+		pool.submit(decorated).get();
+
+		assertEquals("req-3", ran.get());
+		assertNull(pool.submit(CorrelationContext::get).get());
+	}
+
+	@Test
+	void tasksWrappedWithoutAnIdAreLeftAsTheyAre() {
+		Runnable task = () -> {
+		};
+
+		assertEquals(task, CorrelationContext.wrap(task));
+	}
+}
@@ -0,0 +1,51 @@
+package com.common.sdk.common_sdk.correlation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.common.sdk.common_sdk.models.enums.CorrelationIdStrategy;
+import com.common.sdk.common_sdk.models.interfaces.CorrelationIdGenerator;
+
+class CorrelationIdGeneratorTests {
+
+	@Test
+	void everyStrategyProducesUniqueUuidShapedIds() {
+		for (CorrelationIdStrategy strategy : CorrelationIdStrategy.values()) {
+			CorrelationIdGenerator generator = CorrelationIdGenerators.of(strategy, 7);
+			Set<String> ids = new HashSet<>();
+			for (int i = 0; i < 10_000; i++) {
+				String id = generator.generate();
+				assertEquals(id, UUID.fromString(id).toString(), strategy.name());
+				ids.add(id);
+			}
+			assertEquals(10_000, ids.size(), strategy.name());
+		}
+	}
+
+	@Test
+	void timeOrderedIdsSortByCreationTime() {
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+		String earlier = generator.generate(1_700_000_000_000L);
+		String later = generator.generate(1_700_000_000_001L);
+		assertTrue(earlier.compareTo(later) < 0);
+		assertEquals(7, UUID.fromString(later).version());
+	}
+
+	@Test
+	void nodeCounterIdsSortInGenerationOrder() {
+		NodeCounterIdGenerator generator = new NodeCounterIdGenerator(42);
+		String previous = generator.generate();
+		for (int i = 0; i < 1_000; i++) {
+			String next = generator.generate();
+			assertTrue(previous.compareTo(next) < 0);
+			previous = next;
+		}
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.common.sdk.common_sdk.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import com.common.sdk.common_sdk.correlation.CorrelationContext;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class ExceptionLogAggregatorTests {
+
+	private final Logger logger = (Logger) LoggerFactory.getLogger(ExceptionLogAggregator.class);
+	private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+	private ExceptionLogAggregator aggregator;
+
+	@BeforeEach
+	void setUp() {
+		appender.start();
+		logger.addAppender(appender);
+		aggregator = new ExceptionLogAggregator(2, Map.of("handleConflict", 1), 2, Duration.ofHours(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		aggregator.destroy();
+		logger.detachAppender(appender);
+	}
+
+	@Test
+	void logsTheFirstOccurrencesOfEveryGroupPerInterval() {
+		assertTrue(aggregator.shouldLog("handleGeneric", IllegalStateException.class, 500));
+		assertTrue(aggregator.shouldLog("handleGeneric", IllegalStateException.class, 500));
+		assertFalse(aggregator.shouldLog("handleGeneric", IllegalStateException.class, 500));
+		assertTrue(aggregator.shouldLog("handleGeneric", IllegalStateException.class, 503));
+		assertTrue(aggregator.shouldLog("handleGeneric", IllegalArgumentException.class, 500));
+		assertTrue(aggregator.shouldLog("handleConflict", IllegalStateException.class, 500));
+		assertFalse(aggregator.shouldLog("handleConflict", IllegalStateException.class, 500));
+
+		aggregator.flush();
+
+		assertTrue(aggregator.shouldLog("handleGeneric", IllegalStateException.class, 500));
+		assertTrue(aggregator.shouldLog("handleConflict", IllegalStateException.class, 500));
+	}
+
+	@Test
+	void summarizesSuppressedOccurrencesWithNonNullSampleIds() {
+		aggregator.shouldLog("handleConflict", IllegalStateException.class, 409);
+		aggregator.shouldLog("handleConflict", IllegalStateException.class, 409);
+		try (CorrelationContext.Scope scope = CorrelationContext.open("req-1")) {
+			aggregator.shouldLog("handleConflict", IllegalStateException.class, 409);
+		}
+		aggregator.shouldLog("handleConflict", IllegalStateException.class, 409);
+
+		aggregator.flush();
+
+		List<ILoggingEvent> events = appender.list;
+		assertEquals(1, events.size());
+		assertEquals("Suppressed 3 repeated java.lang.IllegalStateException in handleConflict with code 409 "
+				+ "during the last 3600s, sample correlation ids: [req-1]", events.get(0).getFormattedMessage());
+
+		aggregator.flush();
+
+		assertEquals(1, events.size());
+	}
+
+	@Test
+	void defaultAggregatorIsSharedAndStartsNoThread() {
+		long before = summaryThreads();
+
+		ExceptionLogAggregator defaults = ExceptionLogAggregator.defaults();
+		defaults.shouldLog("handleGeneric", IllegalStateException.class, 500);
+
+		assertSame(defaults, ExceptionLogAggregator.defaults());
+		assertTrue(summaryThreads() <= before);
+	}
+
+	@Test
+	void unscheduledAggregatorSummarizesOnTheFirstOccurrenceAfterTheInterval() throws InterruptedException {
+		ExceptionLogAggregator unscheduled = new ExceptionLogAggregator(1, Map.of(), 0, Duration.ofMillis(1),
+				false);
+		unscheduled.shouldLog("handleGeneric", IllegalStateException.class, 500);
+		unscheduled.shouldLog("handleGeneric", IllegalStateException.class, 500);
+		Thread.sleep(5);
+
+		assertTrue(unscheduled.shouldLog("handleGeneric", IllegalStateException.class, 500));
+		assertEquals(1, appender.list.size());
+		assertTrue(appender.list.get(0).getFormattedMessage().startsWith("Suppressed 1 repeated"));
+	}
+
+	private static long summaryThreads() {
+		return Thread.getAllStackTraces().keySet().stream()
+				.filter(thread -> thread.getName().equals("sdk-exception-log-summary"))
+				.count();
+	}
+
+	@Test
+	void rejectsANonPositiveInterval() {
+		IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+				() -> new ExceptionLogAggregator(2, Map.of(), 2, Duration.ZERO));
+
+		assertEquals("common.sdk.exception.log-summary-interval must be at least 1ms: PT0S", ex.getMessage());
+		assertThrows(IllegalArgumentException.class,
+				() -> new ExceptionLogAggregator(2, Map.of(), 2, Duration.ofSeconds(-1)));
+	}
+}
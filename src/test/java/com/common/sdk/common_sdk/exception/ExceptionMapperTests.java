@@ -0,0 +1,127 @@
+package com.common.sdk.common_sdk.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.MessagePolicy;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+import com.common.sdk.common_sdk.registry.ResponseCodeRegistry;
+
+class ExceptionMapperTests {
+
+	@Test
+	void registeredRulesApplyToSubtypesAndReplaceDefaults() {
+		ExceptionMapper mapper = ExceptionMapper.builder()
+				.map(OrderException.class, ExceptionRule.of(OrderCode.ORDER_NOT_FOUND).withLogLevel(LogLevel.INFO))
+				.map(Retryable.class, ExceptionRule.of(APIResponseCode.TOO_MANY_REQUESTS)
+						.withMessage(MessagePolicy.RESPONSE_CODE))
+				.map(IllegalArgumentException.class, ExceptionRule.of(APIResponseCode.BAD_REQUEST))
+				.build();
+
+		ExceptionResponse order = mapper.map(new MissingOrderException("Order 7 not found"));
+		assertEquals(4100, order.getCode());
+		assertEquals(404, order.getStatus());
+		assertEquals("Order 7 not found", order.getMessage());
+		assertEquals("handleOrderException", order.getHandler());
+		assertEquals(LogLevel.INFO, order.getLogLevel());
+		assertSame(mapper.ruleFor(MissingOrderException.class), mapper.ruleFor(MissingOrderException.class));
+
+		ExceptionResponse retry = mapper.map(new LockedOrderException());
+		assertEquals(429, retry.getStatus());
+		assertEquals("Too Many Requests", retry.getMessage());
+
+		ExceptionResponse illegal = mapper.map(new NumberFormatException("not a number"));
+		assertEquals(400, illegal.getStatus());
+		assertEquals(LogLevel.WARN, illegal.getLogLevel());
+		assertEquals("handleIllegalArgument", ExceptionMapper.defaults().map(new NumberFormatException()).getHandler());
+	}
+
+	@Test
+	void baseExceptionsAnswerWithTheStatusOfTheirCode() {
+		ExceptionMapper mapper = ExceptionMapper.builder().registry(ResponseCodeRegistry.of(APIResponseCode.class))
+				.build();
+
+		ExceptionResponse notFound = mapper.map(BaseException.stackless(404, "User not found"));
+		assertEquals(404, notFound.getStatus());
+		assertNull(notFound.getResponseCode());
+		assertEquals(LogLevel.WARN, notFound.getLogLevel());
+		assertFalse(notFound.isStackTrace());
+		assertEquals(400, mapper.map(new BaseException(1001, "Template not found")).getStatus());
+
+		ExceptionResponse registered = mapper.map(new BaseException(503, "Not ready"));
+		assertSame(APIResponseCode.ILLEGAL_STATE, registered.getResponseCode());
+		assertEquals(500, registered.getStatus());
+		assertTrue(registered.isError());
+		assertTrue(registered.isStackTrace());
+	}
+
+	@Test
+	void errorResponsesKeepTheirStatus() {
+		ExceptionMapper mapper = ExceptionMapper.defaults();
+
+		ExceptionResponse conflict = mapper.map(new ResponseStatusException(HttpStatus.CONFLICT, "Busy"));
+		assertEquals(409, conflict.getCode());
+		assertEquals(409, conflict.getStatus());
+		assertEquals("Busy", conflict.getMessage());
+		assertEquals("handleResponseStatus", conflict.getHandler());
+
+		ExceptionResponse notAcceptable = mapper.map(new HttpMediaTypeNotAcceptableException("text/csv"));
+		assertEquals(406, notAcceptable.getStatus());
+		assertEquals("handleErrorResponse", notAcceptable.getHandler());
+		ExceptionResponse timeout = mapper.map(new AsyncRequestTimeoutException());
+		assertEquals(504, timeout.getStatus());
+		assertEquals(504, timeout.getCode());
+		assertEquals(500, mapper.map(new Exception("boom")).getStatus());
+	}
+
+	private enum OrderCode implements ResponseCode {
+		ORDER_NOT_FOUND;
+
+		@Override
+		public int getCode() {
+			return 4100;
+		}
+
+		@Override
+		public String getMessage() {
+			return "Order not found";
+		}
+
+		@Override
+		public int getHttpStatus() {
+			return 404;
+		}
+	}
+
+	private interface Retryable {
+	}
+
+	private static class OrderException extends RuntimeException {
+		OrderException(String message) {
+			super(message);
+		}
+	}
+
+	private static class MissingOrderException extends OrderException {
+		MissingOrderException(String message) {
+			super(message);
+		}
+	}
+
+	private static class LockedOrderException extends OrderException implements Retryable {
+		LockedOrderException() {
+			super("Order is locked");
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.common.sdk.common_sdk.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StackTraceSamplingTests {
+
+	@AfterEach
+	void resetSampleRate() {
+		StackTraceSampling.setSampleRate(0);
+	}
+
+	@Test
+	void stacklessExceptionSkipsStackAndSuppression() {
+		BaseException ex = BaseException.stackless(404, "Order 7 not found");
+		ex.addSuppressed(new IllegalStateException());
+
+		assertFalse(ex.isStackTraceCaptured());
+		assertEquals(0, ex.getStackTrace().length);
+		assertEquals(0, ex.getSuppressed().length);
+		assertEquals(404, ex.getStatusCode());
+		assertEquals("Order 7 not found", ex.getMessage());
+	}
+
+	@Test
+	void exceptionsCaptureTheirStackByDefault() {
+		BaseException ex = new BaseException(500, "failed");
+		BaseException wrapped = new BaseException(500, "failed", ex);
+
+		assertTrue(ex.isStackTraceCaptured());
+		assertTrue(ex.getStackTrace().length > 0);
+		assertTrue(wrapped.isStackTraceCaptured());
+	}
+
+	@Test
+	void sampleRateOfOneCapturesEveryStacklessException() {
+		StackTraceSampling.setSampleRate(1);
+
+		BaseException ex = BaseException.stackless(404, "Order 7 not found");
+
+		assertTrue(ex.isStackTraceCaptured());
+		assertTrue(ex.getStackTrace().length > 0);
+	}
+
+	@Test
+	void sampleRateOfNCapturesRoughlyOneInN() {
+		StackTraceSampling.setSampleRate(10);
+
+		long captured = IntStream.range(0, 10_000)
+				.filter(i -> BaseException.stackless(404, "missing").isStackTraceCaptured())
+				.count();
+
+		assertTrue(captured > 700 && captured < 1300, "captured " + captured);
+	}
+
+	@Test
+	void negativeSampleRateDisablesSampling() {
+		StackTraceSampling.setSampleRate(-3);
+
+		assertEquals(0, StackTraceSampling.getSampleRate());
+		assertFalse(BaseException.stackless(404, "missing").isStackTraceCaptured());
+	}
+}
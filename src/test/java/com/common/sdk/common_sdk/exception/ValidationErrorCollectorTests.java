@@ -0,0 +1,59 @@
+package com.common.sdk.common_sdk.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.FieldError;
+
+import com.common.sdk.common_sdk.models.dto.ErrorDetail;
+
+class ValidationErrorCollectorTests {
+
+	@Test
+	void keepsAtMostMaxErrorsAndSharesMessagesPerConstraint() {
+		List<FieldError> fieldErrors = IntStream.range(0, 10_000)
+				.mapToObj(i -> new FieldError("rows", "rows[" + i + "].name", "", false,
+						new String[] { "NotBlank" }, null, "must not be blank"))
+				.toList();
+
+		List<ErrorDetail> errors = new ValidationErrorCollector(3, 1024, 16).collect(fieldErrors);
+
+		assertEquals(3, errors.size());
+		assertEquals("rows[2].name", errors.get(2).getField());
+		assertEquals("NotBlank", errors.get(0).getCode());
+		assertSame(errors.get(0).getEncodedMessage(), errors.get(2).getEncodedMessage());
+		assertEquals("rows[0].name: must not be blank (and 9999 more)",
+				ValidationErrorCollector.summary(errors, fieldErrors.size()));
+	}
+
+	@Test
+	void stopsAtMaxLengthAndCutsRejectedValues() {
+		List<FieldError> fieldErrors = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			fieldErrors.add(new FieldError("user", "bio", "x".repeat(1_000_000), false, new String[] { "Size" },
+					null, "size must be between 0 and 500"));
+		}
+
+		List<ErrorDetail> errors = new ValidationErrorCollector(50, 100, 10).collect(fieldErrors);
+
+		assertEquals(2, errors.size());
+		assertEquals("xxxxxxx...", errors.get(0).getRejectedValue());
+	}
+
+	@Test
+	void summarizesContainersAndObjectsWithoutToString() {
+		ValidationErrorCollector collector = new ValidationErrorCollector();
+
+		assertNull(collector.summarize(null));
+		assertEquals("42", collector.summarize(42));
+		assertEquals("collection of 3", collector.summarize(List.of(1, 2, 3)));
+		assertEquals("array of 2", collector.summarize(new int[2]));
+		assertEquals("Object", collector.summarize(new Object()));
+	}
+}
@@ -0,0 +1,103 @@
+package com.common.sdk.common_sdk.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = "common.sdk.exception.max-validation-errors=2")
+@AutoConfigureMockMvc
+@Import(ValidationResponseTests.RowsController.class)
+class ValidationResponseTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void invalidRequestBodyIsAValidationErrorWithBoundedErrors() throws Exception {
+		MvcResult result = mockMvc.perform(post("/rows").contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON)
+				.content("{\"emails\":[\"a\",\"b\",\"c\",\"ok@example.com\",\"d\"]}")).andReturn();
+		JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+
+		assertEquals(APIResponseCode.VALIDATION_ERROR.getHttpStatus(), result.getResponse().getStatus());
+		assertFalse(body.get("success").asBoolean());
+		assertEquals(422, body.get("code").asInt());
+		assertEquals("emails[0]: must be an email address (and 3 more)", body.get("errorMessage").asText());
+		assertEquals(2, body.get("errors").size());
+		assertEquals("emails[1]", body.get("errors").get(1).get("field").asText());
+		assertEquals("b", body.get("errors").get(1).get("rejectedValue").asText());
+		assertEquals("Email", body.get("errors").get(1).get("code").asText());
+		assertEquals(2, body.get("omittedErrors").asInt());
+	}
+
+	@Test
+	void validationExceptionsAreNotMappedAsPlainErrorResponses() {
+		ExceptionMapper mapper = ExceptionMapper.defaults();
+
+		assertEquals("handleValidation", mapper.ruleFor(MethodArgumentNotValidException.class).getHandler());
+		assertEquals("handleValidation", mapper.ruleFor(HandlerMethodValidationException.class).getHandler());
+	}
+
+	record Rows(List<String> emails) {
+	}
+
+	@RestController
+	static class RowsController {
+
+		@InitBinder("rows")
+		void validator(WebDataBinder binder) {
+			binder.addValidators(new RowsValidator());
+		}
+
+		@PostMapping("/rows")
+		String rows(@Validated @RequestBody Rows rows) {
+			return "ok";
+		}
+	}
+
+	static class RowsValidator implements Validator {
+
+		@Override
+		public boolean supports(Class<?> type) {
+			return Rows.class.equals(type);
+		}
+
+		@Override
+		public void validate(Object target, Errors errors) {
+			List<String> emails = ((Rows) target).emails();
+			for (int i = 0; i < emails.size(); i++) {
+				if (!emails.get(i).contains("@")) {
+					errors.rejectValue("emails[" + i + "]", "Email", "must be an email address");
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.common.sdk.common_sdk.latency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+
+class LatencyRecorderTests {
+
+	private final LatencyRecorder recorder = new LatencyRecorder(Duration.ofHours(1), Duration.ofMinutes(1), 2, 4,
+			Duration.ofMillis(100), 4);
+
+	@AfterEach
+	void tearDown() {
+		recorder.destroy();
+	}
+
+	@Test
+	void snapshotReportsPercentilesPerEndpoint() {
+		for (int i = 1; i <= 1000; i++) {
+			recorder.record("GET", "/orders/{id}", 200, TimeUnit.MICROSECONDS.toNanos(i * 10L), "corr");
+		}
+		recorder.record("POST", "/orders/{id}", 201, TimeUnit.MILLISECONDS.toNanos(2), "corr");
+		assertTrue(recorder.getEndpoints().isEmpty());
+
+		recorder.snapshot();
+
+		LatencySnapshot get = find("GET");
+		assertEquals(1000, get.count());
+		assertEquals(5.0, get.p50(), 0.05);
+		assertEquals(9.9, get.p99(), 0.1);
+		assertEquals(10.0, get.max(), 0.1);
+		assertEquals(1, find("POST").count());
+
+		recorder.snapshot();
+		assertEquals(0, find("GET").count());
+	}
+
+	@Test
+	void slowRequestLogKeepsTheMostRecentSlowestFirst() {
+		for (int i = 1; i <= 6; i++) {
+			recorder.record("GET", "/reports", 200, TimeUnit.MILLISECONDS.toNanos(100L * i), "corr-" + i);
+		}
+		recorder.record("GET", "/reports", 200, TimeUnit.MILLISECONDS.toNanos(50), "fast");
+
+		List<SlowRequest> slow = recorder.getSlowRequests();
+		assertEquals(List.of("corr-6", "corr-5", "corr-4", "corr-3"), slow.stream().map(SlowRequest::correlationId)
+				.toList());
+		assertEquals(600.0, slow.get(0).duration(), 0.001);
+		assertEquals(100, recorder.getSlowThresholdMillis());
+	}
+
+	@Test
+	void filterRecordsUnderTheRoutePattern() throws ServletException, IOException {
+		LatencyFilter filter = new LatencyFilter(recorder);
+		MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/orders/42");
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/orders/{id}");
+			((HttpServletResponse) res).setStatus(204);
+		});
+		filter.doFilter(new MockHttpServletRequest("GET", "/missing"), new MockHttpServletResponse(),
+				(req, res) -> ((HttpServletResponse) res).setStatus(404));
+
+		recorder.snapshot();
+
+		assertEquals(1, find("DELETE").count());
+		assertEquals("/orders/{id}", find("DELETE").route());
+		assertTrue(recorder.getEndpoints().stream()
+				.anyMatch(snapshot -> snapshot.route().equals(LatencyFilter.UNMATCHED)));
+	}
+
+	@Test
+	void unknownMethodsShareOneEndpointPerRoute() throws ServletException, IOException {
+		LatencyFilter filter = new LatencyFilter(recorder);
+		for (int i = 0; i < 100; i++) {
+			filter.doFilter(new MockHttpServletRequest("X-METHOD-" + i, "/orders"), new MockHttpServletResponse(),
+					(req, res) -> req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/orders"));
+		}
+		recorder.record("get", "/orders", 200, TimeUnit.MILLISECONDS.toNanos(1), "corr");
+		recorder.record(null, "/orders", 200, TimeUnit.MILLISECONDS.toNanos(1), "corr");
+		recorder.record("PATCH", "/orders", 200, TimeUnit.MILLISECONDS.toNanos(1), "corr");
+
+		recorder.snapshot();
+
+		assertEquals(2, recorder.getEndpoints().size());
+		assertEquals(102, find(LatencyRecorder.OTHER).count());
+		assertEquals(1, find("PATCH").count());
+	}
+
+	@Test
+	void intervalMustBePositive() {
+		for (Duration interval : new Duration[] { null, Duration.ZERO, Duration.ofSeconds(-1), Duration.ofNanos(10) }) {
+			IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+					() -> new LatencyRecorder(interval, Duration.ofMinutes(1), 2, 1, Duration.ofSeconds(1), 4));
+			assertEquals("common.sdk.latency.interval must be at least 1ms: " + interval, exception.getMessage());
+		}
+	}
+
+	private LatencySnapshot find(String method) {
+		return recorder.getEndpoints().stream()
+				.filter(snapshot -> snapshot.method().equals(method) && !snapshot.route().equals(LatencyFilter.UNMATCHED))
+				.findFirst()
+				.orElseThrow();
+	}
+}
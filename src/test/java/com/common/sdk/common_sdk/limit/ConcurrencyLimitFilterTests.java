@@ -0,0 +1,98 @@
+package com.common.sdk.common_sdk.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.LimitAlgorithm;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.serializer.CommonSdkJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+class ConcurrencyLimitFilterTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new CommonSdkJacksonModule());
+
+	@Test
+	void rejectionMatchesTheSerializedEnvelope() throws Exception {
+		ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(Map.of("orders", List.of("/orders/**")),
+				group -> new FixedLimit(group.equals("orders") ? 0 : 10), objectMapper, ResponseMetrics.NOOP);
+
+		String requestId = "id \"quoted\" \\ é\n\t\u0001";
+		MockHttpServletResponse response = perform(filter, (req, res) -> {
+		}, "/orders/1", requestId);
+
+		assertEquals(429, response.getStatus());
+		assertEquals(objectMapper.writeValueAsString(ApiResponse.failure(APIResponseCode.TOO_MANY_REQUESTS.getCode(),
+				APIResponseCode.TOO_MANY_REQUESTS.getMessage(), requestId)), response.getContentAsString());
+		assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+	}
+
+	@Test
+	void requestsOverTheLimitAreRejectedPerGroup() throws Exception {
+		ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(Map.of("reports", List.of("/reports/**")),
+				group -> new FixedLimit(1), objectMapper, ResponseMetrics.NOOP);
+		AtomicInteger nested = new AtomicInteger();
+		FilterChain chain = (req, res) -> {
+			if (nested.getAndIncrement() == 0) {
+				assertEquals(429, perform(filter, (r, s) -> {
+				}, "/reports/daily", "corr-2").getStatus());
+				assertEquals(200, perform(filter, (r, s) -> {
+				}, "/orders/1", "corr-3").getStatus());
+			}
+		};
+
+		assertEquals(200, perform(filter, chain, "/reports/monthly", "corr-1").getStatus());
+		RouteLimiter reports = filter.getLimiters().get(0);
+		assertEquals("reports", reports.getGroup());
+		assertEquals(1, reports.getAccepted());
+		assertEquals(1, reports.getRejected());
+		assertEquals(0, reports.getInFlight());
+	}
+
+	@Test
+	void aimdBacksOffOnSlowRequestsAndGrowsOtherwise() {
+		AimdLimitAlgorithm algorithm = new AimdLimitAlgorithm(20, 4, 100, 0.5, Duration.ofMillis(100));
+
+		assertEquals(10, algorithm.update(TimeUnit.MILLISECONDS.toNanos(500), 15));
+		assertEquals(11, algorithm.update(TimeUnit.MILLISECONDS.toNanos(5), 10));
+		assertEquals(11, algorithm.update(TimeUnit.MILLISECONDS.toNanos(5), 1));
+		for (int i = 0; i < 10; i++) {
+			algorithm.update(TimeUnit.SECONDS.toNanos(1), 1);
+		}
+		assertTrue(algorithm.update(TimeUnit.SECONDS.toNanos(1), 1) >= 4);
+	}
+
+	private record FixedLimit(int initialLimit) implements LimitAlgorithm {
+
+		@Override
+		public int update(long rttNanos, int inFlight) {
+			return initialLimit;
+		}
+	}
+
+	private static MockHttpServletResponse perform(ConcurrencyLimitFilter filter, FilterChain chain, String path,
+			String correlationId) throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		request.addHeader(ApplicationConstants.CORRELATION_ID, correlationId);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, chain);
+		return response;
+	}
+}
@@ -0,0 +1,103 @@
+package com.common.sdk.common_sdk.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.KeyValuePair;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.exception.BaseException;
+import com.common.sdk.common_sdk.exception.ExceptionMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class JsonLogEncoderTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void exceptionLogsAreWrittenWithTypedFields() throws Exception {
+		Logger logger = (Logger) LoggerFactory.getLogger("json-encoder-test");
+		ListAppender<ILoggingEvent> appender = new ListAppender<>();
+		appender.start();
+		logger.addAppender(appender);
+		MDC.put(ApplicationConstants.CORRELATION_ID, "req-1");
+		try {
+			BaseException ex = BaseException.stackless(4100, "Order \"7\" not found");
+			ExceptionMapper.defaults().map(ex).log(logger, ex);
+		} finally {
+			logger.detachAppender(appender);
+			MDC.remove(ApplicationConstants.CORRELATION_ID);
+		}
+
+		JsonNode line = objectMapper.readTree(new JsonLogEncoder().encode(appender.list.get(0)));
+		assertEquals("WARN", line.get("level").asText());
+		assertEquals("json-encoder-test", line.get("logger").asText());
+		assertEquals("req-1", line.get("correlationId").asText());
+		assertTrue(line.get("code").isInt());
+		assertEquals(4100, line.get("code").asInt());
+		assertEquals("handleException", line.get("handler").asText());
+		assertEquals(BaseException.class.getName(), line.get("exception").asText());
+		assertEquals("handleException: BaseException - Order \"7\" not found", line.get("message").asText());
+		assertFalse(line.has("stackTrace"));
+	}
+
+	@Test
+	void eventsAreEscapedAndTimestampedInUtc() throws Exception {
+		LoggingEvent event = new LoggingEvent(getClass().getName(),
+				new LoggerContext().getLogger("orders"), Level.ERROR, "Line\none\t\u00e9\u20ac\ud83d\ude00 {}",
+				new IllegalStateException("boom"), new Object[] { "\\x\u0001" });
+		event.setTimeStamp(1_792_195_200_007L);
+		event.setThreadName("http-nio-1");
+		event.setMDCPropertyMap(Map.of("tenant", "acme"));
+		event.addKeyValuePair(new KeyValuePair("retryable", true));
+		event.addKeyValuePair(new KeyValuePair("ratio", 0.5));
+		JsonLogEncoder encoder = new JsonLogEncoder();
+		encoder.setIncludeMdc(true);
+
+		byte[] bytes = encoder.encode(event);
+		assertEquals('\n', bytes[bytes.length - 1]);
+		JsonNode line = objectMapper.readTree(bytes);
+		assertEquals("2026-10-17T00:00:00.007Z", line.get("@timestamp").asText());
+		assertEquals("ERROR", line.get("level").asText());
+		assertEquals("http-nio-1", line.get("thread").asText());
+		assertEquals("Line\none\t\u00e9\u20ac\ud83d\ude00 \\x\u0001", line.get("message").asText());
+		assertEquals("acme", line.get("tenant").asText());
+		assertTrue(line.get("retryable").asBoolean());
+		assertEquals(0.5, line.get("ratio").asDouble());
+		assertFalse(line.has("correlationId"));
+		assertTrue(line.get("stackTrace").asText().startsWith("java.lang.IllegalStateException: boom"));
+		assertEquals(new String(bytes, StandardCharsets.UTF_8), new String(encoder.encode(event),
+				StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void nullMessagesAndValuesAreWrittenAsNullAndNullKeysSkipped() throws Exception {
+		LoggingEvent event = new LoggingEvent(getClass().getName(), new LoggerContext().getLogger("orders"),
+				Level.WARN, null, null, null);
+		event.setThreadName("main");
+		event.setMDCPropertyMap(Map.of());
+		event.addKeyValuePair(new KeyValuePair(null, "dropped"));
+		event.addKeyValuePair(new KeyValuePair("reason", null));
+
+		JsonNode line = objectMapper.readTree(new JsonLogEncoder().encode(event));
+		assertTrue(line.get("message").isNull());
+		assertTrue(line.get("reason").isNull());
+		assertEquals("orders", line.get("logger").asText());
+		assertEquals(6, line.size());
+	}
+}
@@ -0,0 +1,104 @@
+package com.common.sdk.common_sdk.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.NotificationResponseCode;
+import com.common.sdk.common_sdk.services.ResponseHandler;
+
+class InMemoryResponseMetricsTests {
+
+	@Test
+	void countsEqualCodesOfDifferentNamespacesApart() {
+		InMemoryResponseMetrics metrics = new InMemoryResponseMetrics();
+
+		metrics.recordResponse(APIResponseCode.SUCCESS, true);
+		metrics.recordResponse(NotificationResponseCode.SUCCESS, true);
+		metrics.recordResponse(NotificationResponseCode.SUCCESS, true);
+		metrics.recordResponse(NotificationResponseCode.INTERNAL_SERVER_ERROR, false);
+
+		assertEquals(1, metrics.getResponseCount(APIResponseCode.SUCCESS, true));
+		assertEquals(1, metrics.getResponseCount(200, true));
+		assertEquals(2, metrics.getResponseCount(NotificationResponseCode.SUCCESS, true));
+		assertEquals(0, metrics.getResponseCount(500, false));
+		assertEquals(Map.of("api:200:true", 1L, "notification:200:true", 2L, "notification:500:false", 1L),
+				metrics.getResponseCounts());
+	}
+
+	@Test
+	void countsCodesBeyondTheOverflowLimitInOneOtherMeter() {
+		InMemoryResponseMetrics metrics = new InMemoryResponseMetrics();
+
+		for (int i = 0; i < CodeMeterTable.MAX_OVERFLOW + 10; i++) {
+			metrics.recordResponse(CodeMeterTable.SIZE + i, false);
+		}
+		metrics.recordResponse(-1, false);
+
+		Map<String, Long> counts = metrics.getResponseCounts();
+		assertEquals(CodeMeterTable.MAX_OVERFLOW + 1, counts.size());
+		assertEquals(11L, counts.get("other:other:false"));
+		assertEquals(1L, counts.get("api:" + CodeMeterTable.SIZE + ":false"));
+	}
+
+	@Test
+	void namespacesBeyondTheLimitShareTheOverflow() {
+		CodeMeterTable<Object> table = new CodeMeterTable<>((namespace, code, success) -> new Object());
+
+		for (int i = 0; i < CodeMeterTable.MAX_NAMESPACES; i++) {
+			table.get("ns" + i, 1, true);
+		}
+
+		assertSame(table.get("ns" + CodeMeterTable.MAX_NAMESPACES, 1, true),
+				table.get("ns" + CodeMeterTable.MAX_NAMESPACES, 1, true));
+		assertSame(table.get("ns0", 1, true), table.get("ns0", 1, true));
+	}
+
+	@Test
+	void countsExceptionsPerCodeTypeAndHandlerWithOneHandlePerGroup() {
+		InMemoryResponseMetrics metrics = new InMemoryResponseMetrics();
+		ExceptionMeterTable<Object> table = new ExceptionMeterTable<>((code, exception, handler) -> new Object());
+
+		metrics.recordException(404, IllegalStateException.class, "handleIllegalState");
+		metrics.recordException(404, IllegalStateException.class, "handleIllegalState");
+		metrics.recordException(5000, IllegalStateException.class, "handleIllegalState");
+		metrics.recordException(500, IllegalArgumentException.class, "handleGeneric");
+
+		assertEquals(Map.of("404:IllegalStateException:handleIllegalState", 2L,
+				"5000:IllegalStateException:handleIllegalState", 1L, "500:IllegalArgumentException:handleGeneric", 1L),
+				metrics.getExceptionCounts());
+		assertSame(table.get(404, IllegalStateException.class, "h"), table.get(404, IllegalStateException.class, "h"));
+		assertSame(table.get(9999, IllegalStateException.class, "h"),
+				table.get(9999, IllegalStateException.class, "h"));
+	}
+
+	@Test
+	void countsExceptionsBeyondTheLimitsInOneOtherMeter() {
+		InMemoryResponseMetrics metrics = new InMemoryResponseMetrics();
+
+		for (int i = 0; i < ExceptionMeterTable.MAX_METERS + 10; i++) {
+			metrics.recordException(i, IllegalStateException.class, "handleIllegalState");
+		}
+		for (int i = 0; i < ExceptionMeterTable.MAX_HANDLERS + 5; i++) {
+			metrics.recordException(1, IllegalStateException.class, "handler" + i);
+		}
+
+		Map<String, Long> counts = metrics.getExceptionCounts();
+		assertEquals(ExceptionMeterTable.MAX_METERS + 1, counts.size());
+		assertEquals(10L + ExceptionMeterTable.MAX_HANDLERS + 5, counts.get("other:other:other"));
+	}
+
+	@Test
+	void responseHandlerWithoutConfigurationRecordsItsEnvelopes() {
+		InMemoryResponseMetrics metrics = new InMemoryResponseMetrics();
+
+		new ResponseHandler(metrics).ok("done");
+		new ResponseHandler().ok();
+
+		assertEquals(1, metrics.getResponseCount(APIResponseCode.SUCCESS, true));
+	}
+}
@@ -0,0 +1,198 @@
+package com.common.sdk.common_sdk.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.server.MissingRequestValueException;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.exception.BaseException;
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+class ReactiveStackTests {
+
+	private final ReactiveWebApplicationContextRunner runner = new ReactiveWebApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class,
+					JacksonAutoConfiguration.class, CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class))
+			.withConfiguration(AutoConfigurations.of(sdkAutoConfigurations()));
+
+	@Test
+	void exceptionEnvelopeIsJsonByDefaultAndCarriesTheRequestId() {
+		runner.run(context -> {
+			MockServerWebExchange exchange = exchange(null);
+			exchange.getAttributes().put(ApplicationConstants.CORRELATION_ID, "req-1");
+
+			context.getBean(ReactiveExceptionHandler.class)
+					.handle(exchange, BaseException.stackless(404, "User not found")).block();
+
+			JsonNode body = new ObjectMapper().readTree(body(exchange));
+			assertEquals(404, exchange.getResponse().getStatusCode().value());
+			assertEquals(MediaType.APPLICATION_JSON, exchange.getResponse().getHeaders().getContentType());
+			assertFalse(body.get("success").asBoolean());
+			assertEquals(404, body.get("code").asInt());
+			assertEquals("User not found", body.get("errorMessage").asText());
+			assertEquals("req-1", body.get("requestId").asText());
+		});
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "application/cbor", "application/x-jackson-smile" })
+	void exceptionEnvelopeIsWrittenInTheAcceptedBinaryFormat(String accept) {
+		runner.run(context -> {
+			MockServerWebExchange exchange = exchange(accept);
+
+			context.getBean(ReactiveExceptionHandler.class)
+					.handle(exchange, BaseException.stackless(404, "User not found")).block();
+
+			ObjectMapper mapper = accept.endsWith("cbor") ? new CBORMapper() : new SmileMapper();
+			JsonNode body = mapper.readTree(body(exchange));
+			assertEquals(404, exchange.getResponse().getStatusCode().value());
+			assertEquals(MediaType.parseMediaType(accept), exchange.getResponse().getHeaders().getContentType());
+			assertEquals(404, body.get("code").asInt());
+			assertEquals("User not found", body.get("errorMessage").asText());
+		});
+	}
+
+	@Test
+	void compactEnvelopeUsesIntegerKeysAndOmitsNulls() {
+		runner.run(context -> {
+			MockServerWebExchange exchange = exchange(ApplicationConstants.APPLICATION_COMPACT_CBOR_VALUE);
+			exchange.getAttributes().put(ApplicationConstants.CORRELATION_ID, "req-2");
+
+			context.getBean(ReactiveExceptionHandler.class)
+					.handle(exchange, BaseException.stackless(404, "User not found")).block();
+
+			JsonNode body = new CBORMapper().readTree(body(exchange));
+			assertEquals(ApplicationConstants.APPLICATION_COMPACT_CBOR_VALUE,
+					exchange.getResponse().getHeaders().getContentType().toString());
+			assertFalse(body.get("0").asBoolean());
+			assertEquals(404, body.get("1").asInt());
+			assertEquals("User not found", body.get("2").asText());
+			assertEquals("req-2", body.get("3").asText());
+			assertNull(body.get("4"));
+		});
+	}
+
+	@Test
+	void unacceptableFormatFallsBackToJson() {
+		runner.run(context -> {
+			MockServerWebExchange exchange = exchange("text/html");
+
+			context.getBean(ReactiveExceptionHandler.class)
+					.handle(exchange, BaseException.stackless(404, "User not found")).block();
+
+			assertEquals(MediaType.APPLICATION_JSON, exchange.getResponse().getHeaders().getContentType());
+			assertEquals(404, new ObjectMapper().readTree(body(exchange)).get("code").asInt());
+		});
+	}
+
+	@Test
+	void missingHeaderIsMappedLikeTheServletHandler() throws Exception {
+		MethodParameter parameter = new MethodParameter(ReactiveStackTests.class.getDeclaredMethod("header",
+				String.class), 0);
+		MissingRequestValueException ex = new MissingRequestValueException("tenant", String.class, "request header",
+				parameter);
+
+		runner.run(context -> {
+			MockServerWebExchange exchange = exchange(null);
+
+			context.getBean(ReactiveExceptionHandler.class).handle(exchange, ex).block();
+
+			assertEquals(400, exchange.getResponse().getStatusCode().value());
+			assertEquals(442, new ObjectMapper().readTree(body(exchange)).get("code").asInt());
+		});
+	}
+
+	@Test
+	void correlationFilterPropagatesTheIdToTheResponseHandler() {
+		runner.run(context -> {
+			MockServerWebExchange exchange = exchange(null);
+			AtomicReference<GenericApiResponse<String>> envelope = new AtomicReference<>();
+			ReactiveResponseHandler responseHandler = context.getBean(ReactiveResponseHandler.class);
+
+			context.getBean(ReactiveCorrelationFilter.class)
+					.filter(exchange, chain -> responseHandler.ok("done").doOnNext(envelope::set).then())
+					.block();
+
+			String id = exchange.getResponse().getHeaders().getFirst(ApplicationConstants.CORRELATION_ID);
+			assertNotNull(id);
+			assertEquals(id, ((ApiResponse<String>) envelope.get()).getRequestId());
+			assertEquals(id, ReactiveCorrelation.requestId(exchange));
+			assertEquals("done", envelope.get().getData());
+		});
+	}
+
+	@Test
+	void incomingCorrelationIdIsKept() {
+		runner.run(context -> {
+			MockServerWebExchange exchange = MockServerWebExchange
+					.from(MockServerHttpRequest.get("/users/7").header(ApplicationConstants.CORRELATION_ID, "abc"));
+
+			context.getBean(ReactiveCorrelationFilter.class)
+					.filter(exchange, chain -> ReactiveCorrelation.requestId()
+							.doOnNext(id -> assertEquals("abc", id)).then())
+					.block();
+
+			assertThat(exchange.getResponse().getHeaders().get(ApplicationConstants.CORRELATION_ID))
+					.containsExactly("abc");
+		});
+	}
+
+	private static MockServerWebExchange exchange(String accept) {
+		MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/users/7");
+		if (accept != null) {
+			request.header(HttpHeaders.ACCEPT, accept);
+		}
+		return MockServerWebExchange.from(request);
+	}
+
+	private static byte[] body(MockServerWebExchange exchange) {
+		return DataBufferUtils.join(exchange.getResponse().getBody()).map(buffer -> {
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+			DataBufferUtils.release(buffer);
+			return bytes;
+		}).block();
+	}
+
+	@SuppressWarnings("unused")
+	private void header(String tenant) {
+	}
+
+	private static Class<?>[] sdkAutoConfigurations() {
+		return ImportCandidates.load(AutoConfiguration.class, null)
+				.getCandidates()
+				.stream()
+				.filter(name -> name.startsWith("com.common.sdk."))
+				.map(name -> ClassUtils.resolveClassName(name, null))
+				.toArray(Class<?>[]::new);
+	}
+}
@@ -0,0 +1,68 @@
+package com.common.sdk.common_sdk.registry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.NotificationResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseCode;
+
+class ResponseCodeRegistryTests {
+
+	@Test
+	void scanFindsSdkEnumsAndSeparatesNamespaces() {
+		ResponseCodeRegistry registry = ResponseCodeRegistry.scan(getClass().getClassLoader(),
+				List.of("com.common.sdk.common_sdk.models"));
+
+		assertEquals(Set.of("api", NotificationResponseCode.NAMESPACE), registry.namespaces());
+		assertEquals(APIResponseCode.values().length + NotificationResponseCode.values().length, registry.size());
+		for (APIResponseCode code : APIResponseCode.values()) {
+			assertSame(code, registry.find(code.getCode()));
+		}
+		for (NotificationResponseCode code : NotificationResponseCode.values()) {
+			assertSame(code, registry.find(NotificationResponseCode.NAMESPACE, code.getCode()));
+		}
+		assertNull(registry.find(404));
+		assertNull(registry.find("unknown", 200));
+	}
+
+	@Test
+	void duplicateCodeInOneNamespaceFails() {
+		IllegalStateException exception = assertThrows(IllegalStateException.class,
+				() -> ResponseCodeRegistry.of(List.of(APIResponseCode.SUCCESS, new Code(200, "api"))));
+		assertTrue(exception.getMessage().contains("APIResponseCode.SUCCESS"), exception.getMessage());
+	}
+
+	@Test
+	void lookupHandlesDenseAndSparseCodes() {
+		List<ResponseCode> codes = new ArrayList<>();
+		for (int code = -50; code < 1000; code += 3) {
+			codes.add(new Code(code, "dense"));
+		}
+		codes.add(new Code(Integer.MAX_VALUE, "dense"));
+		ResponseCodeRegistry registry = ResponseCodeRegistry.of(codes);
+
+		for (ResponseCode code : codes) {
+			assertSame(code, registry.find("dense", code.getCode()));
+		}
+		assertNull(registry.find("dense", -49));
+		assertNull(registry.find("dense", 1000));
+	}
+
+	private record Code(int getCode, String namespace) implements ResponseCode {
+
+		@Override
+		public String getMessage() {
+			return "test";
+		}
+	}
+}
@@ -0,0 +1,199 @@
+package com.common.sdk.common_sdk.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+class ReplayCacheFilterTests {
+
+	private final AtomicInteger executions = new AtomicInteger();
+
+	@Test
+	void retryIsAnsweredFromTheStoredResponse() throws Exception {
+		ReplayCacheFilter filter = filter(new ReplayCache(1 << 20, 1 << 16, Duration.ofMinutes(1), false));
+		FilterChain chain = (request, response) -> {
+			executions.incrementAndGet();
+			HttpServletResponse servletResponse = (HttpServletResponse) response;
+			servletResponse.setStatus(201);
+			servletResponse.setHeader("Location", "/orders/1");
+			servletResponse.setContentType("application/json");
+			servletResponse.getWriter().write("{\"success\":true}");
+		};
+
+		MockHttpServletResponse first = perform(filter, chain, "POST", "/orders", "key-1");
+		MockHttpServletResponse retry = perform(filter, chain, "POST", "/orders", "key-1");
+		MockHttpServletResponse otherPath = perform(filter, chain, "POST", "/invoices", "key-1");
+
+		assertEquals(2, executions.get());
+		assertNull(first.getHeader(ApplicationConstants.REPLAYED_HEADER));
+		assertEquals("true", retry.getHeader(ApplicationConstants.REPLAYED_HEADER));
+		assertEquals(201, retry.getStatus());
+		assertEquals("/orders/1", retry.getHeader("Location"));
+		assertEquals("{\"success\":true}", retry.getContentAsString());
+		assertEquals(first.getContentAsString(), otherPath.getContentAsString());
+	}
+
+	@Test
+	void serverErrorsAndRequestsWithoutKeyAreNotStored() throws Exception {
+		ReplayCacheFilter filter = filter(new ReplayCache(1 << 20, 1 << 16, Duration.ofMinutes(1), false));
+		FilterChain chain = (request, response) -> {
+			executions.incrementAndGet();
+			HttpServletResponse servletResponse = (HttpServletResponse) response;
+			servletResponse.setStatus(500);
+			servletResponse.getWriter().write("failed");
+		};
+
+		MockHttpServletResponse failed = perform(filter, chain, "POST", "/orders", "key-1");
+		perform(filter, chain, "POST", "/orders", "key-1");
+		perform(filter, chain, "POST", "/orders", null);
+		perform(filter, chain, "POST", "/orders", null);
+
+		assertEquals(4, executions.get());
+		assertEquals("failed", failed.getContentAsString());
+	}
+
+	@Test
+	void otherCallersAndOtherBodiesAreNotReplayed() throws Exception {
+		ReplayCacheFilter filter = filter(new ReplayCache(1 << 20, 1 << 16, Duration.ofMinutes(1), false));
+		FilterChain chain = (request, response) -> {
+			String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+			response.getWriter().write(executions.incrementAndGet() + ":" + body);
+		};
+
+		MockHttpServletResponse first = perform(filter, chain, "POST", "/orders", "key-5", "alice", "{\"qty\":1}");
+		MockHttpServletResponse retry = perform(filter, chain, "POST", "/orders", "key-5", "alice", "{\"qty\":1}");
+		MockHttpServletResponse otherUser = perform(filter, chain, "POST", "/orders", "key-5", "bob", "{\"qty\":1}");
+		MockHttpServletResponse anonymous = perform(filter, chain, "POST", "/orders", "key-5", null, "{\"qty\":1}");
+		MockHttpServletResponse otherBody = perform(filter, chain, "POST", "/orders", "key-5", "alice", "{\"qty\":2}");
+
+		assertEquals("1:{\"qty\":1}", first.getContentAsString());
+		assertEquals("1:{\"qty\":1}", retry.getContentAsString());
+		assertEquals("2:{\"qty\":1}", otherUser.getContentAsString());
+		assertEquals("3:{\"qty\":1}", anonymous.getContentAsString());
+		assertEquals("4:{\"qty\":2}", otherBody.getContentAsString());
+	}
+
+	@Test
+	void resetResponseIsStoredWithTheSecondBodyOnly() throws Exception {
+		ReplayCacheFilter filter = filter(new ReplayCache(1 << 20, 1 << 16, Duration.ofMinutes(1), false));
+		FilterChain chain = (request, response) -> {
+			executions.incrementAndGet();
+			response.getWriter().write("partial");
+			response.resetBuffer();
+			response.getWriter().write("complete");
+		};
+
+		MockHttpServletResponse first = perform(filter, chain, "POST", "/orders", "key-6");
+		MockHttpServletResponse retry = perform(filter, chain, "POST", "/orders", "key-6");
+
+		assertEquals(1, executions.get());
+		assertEquals("complete", first.getContentAsString());
+		assertEquals("complete", retry.getContentAsString());
+	}
+
+	@Test
+	void concurrentRetryWaitsForTheOriginal() throws Exception {
+		ReplayCache cache = new ReplayCache(1 << 20, 1 << 16, Duration.ofMinutes(1), true);
+		ReplayCacheFilter filter = filter(cache);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		FilterChain chain = (request, response) -> {
+			executions.incrementAndGet();
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			response.getOutputStream().write("slow".getBytes(StandardCharsets.UTF_8));
+		};
+
+		CompletableFuture<MockHttpServletResponse> original = CompletableFuture
+				.supplyAsync(() -> performUnchecked(filter, chain, "PUT", "/orders/1", "key-2"));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<MockHttpServletResponse> retry = CompletableFuture
+				.supplyAsync(() -> performUnchecked(filter, chain, "PUT", "/orders/1", "key-2"));
+		Thread.sleep(100);
+		release.countDown();
+
+		assertEquals("slow", original.get(5, TimeUnit.SECONDS).getContentAsString());
+		assertEquals("slow", retry.get(5, TimeUnit.SECONDS).getContentAsString());
+		assertEquals(1, executions.get());
+		// the retry normally waits on the original; on a slow machine it may only arrive after the store
+		assertEquals(1, cache.getStats().coalesced() + cache.getStats().hits());
+	}
+
+	@Test
+	void leastRecentlyUsedEntriesAreEvictedBySize() throws Exception {
+		ReplayCache cache = new ReplayCache(1_100, 1_000, Duration.ofMinutes(1), false);
+		ReplayCacheFilter filter = filter(cache);
+		FilterChain chain = (request, response) -> {
+			executions.incrementAndGet();
+			response.getOutputStream().write(new byte[300]);
+		};
+
+		perform(filter, chain, "POST", "/a", "key-3");
+		perform(filter, chain, "POST", "/b", "key-3");
+		perform(filter, chain, "POST", "/a", "key-3");
+		perform(filter, chain, "POST", "/c", "key-3");
+		perform(filter, chain, "POST", "/a", "key-3");
+		perform(filter, chain, "POST", "/b", "key-3");
+
+		assertEquals(4, executions.get());
+		ReplayCacheStats stats = cache.getStats();
+		assertEquals(2, stats.hits());
+		assertTrue(stats.evictions() >= 1);
+		assertTrue(stats.bytes() <= 1_100);
+	}
+
+	private ReplayCacheFilter filter(ReplayCache cache) {
+		return new ReplayCacheFilter(cache, Set.of("POST", "PUT"), Duration.ofSeconds(5));
+	}
+
+	private static MockHttpServletResponse perform(ReplayCacheFilter filter, FilterChain chain, String method,
+			String path, String idempotencyKey) throws Exception {
+		return perform(filter, chain, method, path, idempotencyKey, null, "{}");
+	}
+
+	private static MockHttpServletResponse perform(ReplayCacheFilter filter, FilterChain chain, String method,
+			String path, String idempotencyKey, String user, String body) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+		if (idempotencyKey != null) {
+			request.addHeader(ApplicationConstants.IDEMPOTENCY_KEY, idempotencyKey);
+		}
+		if (user != null) {
+			request.setUserPrincipal(() -> user);
+		}
+		request.setContentType("application/json");
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, chain);
+		return response;
+	}
+
+	private static MockHttpServletResponse performUnchecked(ReplayCacheFilter filter, FilterChain chain,
+			String method, String path, String idempotencyKey) {
+		try {
+			return perform(filter, chain, method, path, idempotencyKey);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.common.sdk.common_sdk.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.dto.ErrorDetail;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.enums.NotificationResponseCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+class ApiResponseSerializerTests {
+
+	private final ObjectMapper beanMapper = new ObjectMapper();
+	private final ObjectMapper sdkMapper = new ObjectMapper().registerModule(new CommonSdkJacksonModule());
+
+	@Test
+	void writesSameJsonAsBeanSerializer() throws Exception {
+		assertSameJson(beanMapper, sdkMapper);
+	}
+
+	@Test
+	void honoursTheInclusionAndNamingOfTheMapper() throws Exception {
+		assertSameJson(new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL),
+				new ObjectMapper().registerModule(new CommonSdkJacksonModule())
+						.setSerializationInclusion(JsonInclude.Include.NON_NULL));
+		assertSameJson(new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY),
+				new ObjectMapper().registerModule(new CommonSdkJacksonModule())
+						.setSerializationInclusion(JsonInclude.Include.NON_EMPTY));
+		assertSameJson(new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE),
+				new ObjectMapper().registerModule(new CommonSdkJacksonModule())
+						.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE));
+		assertEquals("{\"success\":true,\"code\":200}", new ObjectMapper()
+				.registerModule(new CommonSdkJacksonModule()).setSerializationInclusion(JsonInclude.Include.NON_NULL)
+				.writeValueAsString(ApiResponse.success(APIResponseCode.SUCCESS, null)));
+	}
+
+	private static void assertSameJson(ObjectMapper beanMapper, ObjectMapper sdkMapper) throws Exception {
+		List<ApiResponse<?>> responses = List.of(
+				ApiResponse.success(Map.of("id", 1, "name", "John"), APIResponseCode.SUCCESS, "req-1"),
+				ApiResponse.success(NotificationResponseCode.SUCCESS, null),
+				ApiResponse.failure(APIResponseCode.VALIDATION_ERROR, "req-\"2\""),
+				ApiResponse.failure(APIResponseCode.METHOD_NOT_ALLOWED,
+						APIResponseCode.METHOD_NOT_ALLOWED.getMessage(), "req-3"),
+				ApiResponse.failure(404, "User not found", "req-4"),
+				ApiResponse.failure(APIResponseCode.VALIDATION_ERROR, "name: must not be blank (and 2 more)",
+						List.of(ErrorDetail.of("name", null, "NotBlank", "must not be blank"),
+								ErrorDetail.of("age", "-1", "Min", "must be greater than or equal to 0",
+										new SerializedString("must be greater than or equal to 0"))),
+						1, "req-5"));
+		for (ApiResponse<?> response : responses) {
+			assertEquals(beanMapper.writeValueAsString(response), sdkMapper.writeValueAsString(response));
+		}
+	}
+
+}
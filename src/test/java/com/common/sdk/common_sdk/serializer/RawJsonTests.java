@@ -0,0 +1,59 @@
+package com.common.sdk.common_sdk.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.common.sdk.common_sdk.models.dto.ApiResponse;
+import com.common.sdk.common_sdk.models.dto.RawJson;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+class RawJsonTests {
+
+	private final ObjectMapper sdkMapper = new ObjectMapper().registerModule(new CommonSdkJacksonModule());
+
+	@Test
+	void splicesSmallAndLargePayloadsAsTheyAre() throws Exception {
+		for (int size : new int[] { 2, 5_000 }) {
+			Map<String, Object> data = new LinkedHashMap<>();
+			data.put("id", 7);
+			data.put("tags", IntStream.range(0, size).mapToObj(i -> "té" + i).toList());
+			byte[] json = sdkMapper.writeValueAsBytes(data);
+
+			assertEquals(sdkMapper.writeValueAsString(ApiResponse.success(data, APIResponseCode.SUCCESS, "req-1")),
+					sdkMapper.writeValueAsString(ApiResponse.success(RawJson.of(json), APIResponseCode.SUCCESS,
+							"req-1")));
+		}
+	}
+
+	@Test
+	void wrapsBufferRangesAndTranscodesForBinaryFormats() throws Exception {
+		byte[] padded = "xx[1,{\"a\":true}]yy".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.wrap(padded, 2, padded.length - 4).slice();
+		List<Object> expected = List.of(1, Map.of("a", true));
+
+		assertEquals("{\"data\":[1,{\"a\":true}]}",
+				sdkMapper.writeValueAsString(Map.of("data", RawJson.of(buffer))));
+		CBORMapper cborMapper = new CBORMapper();
+		byte[] cbor = cborMapper.writeValueAsBytes(RawJson.of(padded, 2, padded.length - 4));
+		assertEquals(expected, cborMapper.readValue(cbor, List.class));
+	}
+
+	@Test
+	void validateRejectsMalformedAndTrailingContent() {
+		assertEquals("{\"a\":[1]}", RawJson.of("{\"a\":[1]}").validate().toString());
+		assertThrows(IllegalArgumentException.class, () -> RawJson.of("{\"a\":").validate());
+		assertThrows(IllegalArgumentException.class, () -> RawJson.of("{} {}").validate());
+		assertThrows(IllegalArgumentException.class, () -> RawJson.of("").validate());
+	}
+}
@@ -0,0 +1,132 @@
+package com.common.sdk.common_sdk.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.exception.BaseException;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.common.sdk.common_sdk.utils.CommonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+
+@SpringBootTest(properties = "common.sdk.async.enabled=true")
+@AutoConfigureMockMvc
+@Import(AsyncResponseTests.AsyncController.class)
+class AsyncResponseTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void completedStageIsWrappedWithTheRequestId() throws Exception {
+		JsonNode body = dispatch("/async/ok", 200);
+
+		assertEquals(200, body.get("code").asInt());
+		assertEquals("alice", body.get("data").get("name").asText());
+		assertEquals("req-1", body.get("requestId").asText());
+	}
+
+	@Test
+	void failedStageIsMappedLikeASynchronousException() throws Exception {
+		JsonNode body = dispatch("/async/failure", 404);
+
+		assertEquals(404, body.get("code").asInt());
+		assertEquals("User not found", body.get("errorMessage").asText());
+		assertEquals("req-1", body.get("requestId").asText());
+	}
+
+	@Test
+	void deferredResponseTimesOutWithRequestTimeout() throws Exception {
+		MvcResult started = start("/async/timeout");
+		MockAsyncContext asyncContext = (MockAsyncContext) started.getRequest().getAsyncContext();
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onTimeout(new AsyncEvent(asyncContext));
+		}
+		JsonNode body = dispatch(started, 504);
+
+		assertEquals(504, body.get("code").asInt());
+		assertEquals("req-1", body.get("requestId").asText());
+	}
+
+	@Test
+	void callableRunsOnTheSdkExecutorWithTheCorrelationId() throws Exception {
+		JsonNode body = dispatch("/async/callable", 200);
+
+		assertTrue(body.get("data").get("thread").asBoolean());
+		assertEquals("req-1", body.get("data").get("correlationId").asText());
+	}
+
+	private MvcResult start(String path) throws Exception {
+		return mockMvc.perform(get(path).accept(MediaType.APPLICATION_JSON)
+				.header(ApplicationConstants.CORRELATION_ID, "req-1")).andReturn();
+	}
+
+	private JsonNode dispatch(String path, int status) throws Exception {
+		return dispatch(start(path), status);
+	}
+
+	private JsonNode dispatch(MvcResult started, int status) throws Exception {
+		started.getAsyncResult(5_000);
+		MockHttpServletResponse response = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+		assertEquals(status, response.getStatus());
+		return objectMapper.readTree(response.getContentAsString());
+	}
+
+	@RestController
+	static class AsyncController {
+
+		@Autowired
+		private ResponseHandler responseHandler;
+
+		@GetMapping("/async/ok")
+		CompletableFuture<GenericApiResponse<Map<String, String>>> ok() {
+			return responseHandler.okAsync(CompletableFuture.supplyAsync(() -> Map.of("name", "alice")));
+		}
+
+		@GetMapping("/async/failure")
+		CompletableFuture<GenericApiResponse<Void>> failure() {
+			return responseHandler.okAsync(CompletableFuture.supplyAsync(() -> {
+				throw new CompletionException(BaseException.stackless(404, "User not found"));
+			}));
+		}
+
+		@GetMapping("/async/timeout")
+		DeferredResponse<Void> timeout() {
+			return responseHandler.okDeferred(new CompletableFuture<>(), Duration.ofMillis(50));
+		}
+
+		@GetMapping("/async/callable")
+		Callable<GenericApiResponse<Map<String, Object>>> callable() {
+			return () -> responseHandler.ok(Map.of("thread", Thread.currentThread().getName().startsWith("sdk-async-"),
+					"correlationId", CommonUtils.getCurrentRequestId()));
+		}
+	}
+}
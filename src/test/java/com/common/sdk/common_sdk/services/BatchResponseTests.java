@@ -0,0 +1,205 @@
+package com.common.sdk.common_sdk.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import com.common.sdk.common_sdk.constants.ApplicationConstants;
+import com.common.sdk.common_sdk.correlation.CorrelationContext;
+import com.common.sdk.common_sdk.exception.BaseException;
+import com.common.sdk.common_sdk.exception.ExceptionLogAggregator;
+import com.common.sdk.common_sdk.models.dto.BatchApiResponse;
+import com.common.sdk.common_sdk.models.dto.BatchItemResult;
+import com.common.sdk.common_sdk.models.dto.BatchOperation;
+import com.common.sdk.common_sdk.models.dto.BatchRequest;
+import com.common.sdk.common_sdk.models.enums.APIResponseCode;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.common.sdk.common_sdk.utils.CommonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BatchResponseTests {
+
+	private final ExceptionLogAggregator logAggregator = new ExceptionLogAggregator(20, Map.of(), 5,
+			Duration.ofHours(1));
+	private final BatchExecutor batchExecutor = new BatchExecutor(2, 5, Duration.ofSeconds(5), ResponseMetrics.NOOP,
+			logAggregator);
+	private final ResponseHandler responseHandler = new ResponseHandler(ResponseMetrics.NOOP, new ObjectMapper(),
+			batchExecutor);
+
+	@AfterEach
+	void tearDown() {
+		batchExecutor.destroy();
+		logAggregator.destroy();
+	}
+
+	@Test
+	void failedItemsAreMappedWithoutStoppingTheirSiblings() {
+		Map<String, Callable<?>> operations = new LinkedHashMap<>();
+		operations.put("ok", () -> "done");
+		operations.put("business", () -> {
+			throw BaseException.stackless(1001, "Notification Template not found");
+		});
+		operations.put("argument", () -> {
+			throw new IllegalArgumentException("amount must be positive");
+		});
+		operations.put("npe", () -> {
+			throw new NullPointerException();
+		});
+		operations.put("correlation", CommonUtils::getCurrentRequestId);
+
+		BatchApiResponse response;
+		try (CorrelationContext.Scope scope = CorrelationContext.open("batch-1")) {
+			response = responseHandler.okBatch(operations);
+		}
+
+		assertFalse(response.isSuccess());
+		assertEquals(APIResponseCode.MULTI_STATUS.getCode(), response.getCode());
+		assertEquals("3 of 5 batch operations failed", response.getErrorMessage());
+		assertEquals("batch-1", response.getRequestId());
+		assertEquals(2, response.getSucceeded());
+		assertEquals(3, response.getFailed());
+		List<BatchItemResult<Object>> items = response.getData();
+		assertEquals(List.of("ok", "business", "argument", "npe", "correlation"),
+				items.stream().map(BatchItemResult::getId).toList());
+		assertEquals("done", items.get(0).getData());
+		assertItem(items.get(1), 1001, "Notification Template not found");
+		assertItem(items.get(2), APIResponseCode.ILLEGAL_ARGUMENT.getCode(), "amount must be positive");
+		assertItem(items.get(3), APIResponseCode.NULL_POINTER.getCode(), ApplicationConstants.NULL_POINTER_MESSAGE);
+		assertEquals("batch-1", items.get(4).getData());
+	}
+
+	@Test
+	void requestOperationsAreDispatchedInOrder() {
+		BatchRequest request = new BatchRequest();
+		for (int i = 0; i < 4; i++) {
+			BatchOperation operation = new BatchOperation();
+			operation.setId("op-" + i);
+			operation.setOperation("square");
+			operation.setPayload(new ObjectMapper().valueToTree(i));
+			request.getOperations().add(operation);
+		}
+
+		BatchApiResponse response = responseHandler.okBatch(request,
+				operation -> operation.getPayload().asInt() * operation.getPayload().asInt());
+
+		assertEquals(List.of(0, 1, 4, 9), response.getData().stream().map(BatchItemResult::getData).toList());
+	}
+
+	@Test
+	void envelopeIsDerivedFromTheItemResults() {
+		BatchApiResponse succeeded = responseHandler.okBatch(Map.of("a", () -> 1, "b", () -> 2));
+		BatchApiResponse failed = responseHandler.okBatch(Map.of("a", () -> {
+			throw BaseException.stackless(404, "Missing");
+		}));
+		BatchApiResponse empty = responseHandler.okBatch(Map.of());
+
+		assertTrue(succeeded.isSuccess());
+		assertEquals(200, succeeded.getCode());
+		assertNull(succeeded.getErrorMessage());
+		assertFalse(failed.isSuccess());
+		assertEquals(APIResponseCode.MULTI_STATUS.getCode(), failed.getCode());
+		assertEquals("All 1 batch operations failed", failed.getErrorMessage());
+		assertTrue(empty.isSuccess());
+		assertEquals(0, empty.getData().size());
+	}
+
+	@Test
+	void missingOrDuplicateOperationsAreRejected() {
+		BatchRequest missingOperations = new BatchRequest();
+		missingOperations.setOperations(null);
+		BatchRequest nullOperation = new BatchRequest();
+		nullOperation.getOperations().add(null);
+		BatchRequest duplicateIds = new BatchRequest();
+		for (int i = 0; i < 2; i++) {
+			BatchOperation operation = new BatchOperation();
+			operation.setId("op");
+			duplicateIds.getOperations().add(operation);
+		}
+		Map<String, Callable<?>> nullId = new HashMap<>();
+		nullId.put(null, () -> 1);
+
+		assertBadRequest("Batch operations and their ids are required",
+				() -> responseHandler.okBatch(missingOperations, operation -> 1));
+		assertBadRequest("Batch operations and their ids are required", () -> responseHandler.okBatch(null));
+		assertBadRequest("Batch operations and their ids are required", () -> batchExecutor.execute(null, null));
+		assertBadRequest("Batch operation 0 is missing", () -> responseHandler.okBatch(nullOperation, op -> 1));
+		assertBadRequest("Batch operation id op is used more than once",
+				() -> responseHandler.okBatch(duplicateIds, operation -> 1));
+		assertBadRequest("Batch operation 0 has no id", () -> responseHandler.okBatch(nullId));
+	}
+
+	@Test
+	void unfinishedItemsTimeOutWithResponseTimeout() {
+		BatchExecutor shortTimeout = new BatchExecutor(2, 5, Duration.ofMillis(100), ResponseMetrics.NOOP,
+				logAggregator);
+		try {
+			List<BatchItemResult<Object>> results = shortTimeout.execute(List.of("fast", "slow"),
+					List.<Callable<?>>of(() -> "done", () -> {
+						Thread.sleep(10_000);
+						return "late";
+					}));
+
+			assertTrue(results.get(0).isSuccess());
+			assertItem(results.get(1), APIResponseCode.RESPONSE_TIMEOUT.getCode(),
+					"Operation did not complete within PT0.1S");
+		} finally {
+			shortTimeout.destroy();
+		}
+	}
+
+	@Test
+	void handlerWithoutConfigurationCreatesItsExecutorOnTheFirstBatch() {
+		long before = summaryThreads();
+		List<ResponseHandler> handlers = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			handlers.add(new ResponseHandler());
+		}
+
+		assertTrue(summaryThreads() <= before);
+		BatchApiResponse response = handlers.get(0).okBatch(Map.of("a", () -> 1, "b", () -> 2));
+		assertTrue(response.isSuccess());
+		assertEquals(2, response.getSucceeded());
+	}
+
+	@Test
+	void oversizedBatchIsRejected() {
+		Map<String, Callable<?>> operations = new LinkedHashMap<>();
+		for (int i = 0; i < 6; i++) {
+			operations.put("op-" + i, () -> null);
+		}
+		BaseException exception = assertThrows(BaseException.class, () -> responseHandler.okBatch(operations));
+		assertEquals(APIResponseCode.BAD_REQUEST.getCode(), exception.getStatusCode());
+	}
+
+	private static long summaryThreads() {
+		return Thread.getAllStackTraces().keySet().stream()
+				.filter(thread -> thread.getName().equals("sdk-exception-log-summary"))
+				.count();
+	}
+
+	private static void assertBadRequest(String message, Executable executable) {
+		BaseException exception = assertThrows(BaseException.class, executable);
+		assertEquals(APIResponseCode.BAD_REQUEST.getCode(), exception.getStatusCode());
+		assertEquals(message, exception.getMessage());
+	}
+
+	private static void assertItem(BatchItemResult<Object> item, int code, String message) {
+		assertFalse(item.isSuccess());
+		assertEquals(code, item.getCode());
+		assertEquals(message, item.getErrorMessage());
+	}
+}
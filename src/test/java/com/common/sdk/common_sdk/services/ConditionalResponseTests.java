@@ -0,0 +1,132 @@
+package com.common.sdk.common_sdk.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.common.sdk.common_sdk.models.dto.RawJson;
+import com.common.sdk.common_sdk.models.interfaces.GenericApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(ConditionalResponseTests.ConditionalController.class)
+class ConditionalResponseTests {
+
+	private static final AtomicInteger LOADS = new AtomicInteger();
+	private static final AtomicInteger COUNT = new AtomicInteger();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ResponseHandler responseHandler;
+
+	@BeforeEach
+	void reset() {
+		LOADS.set(0);
+	}
+
+	@Test
+	void matchingVersionIsNotModifiedWithoutLoadingTheData() throws Exception {
+		MockHttpServletResponse first = perform("/conditional/version", null);
+		String etag = first.getHeader(HttpHeaders.ETAG);
+
+		assertEquals(200, first.getStatus());
+		assertEquals("\"v7\"", etag);
+		assertEquals("alice", objectMapper.readTree(first.getContentAsString()).get("data").get("name").asText());
+
+		MockHttpServletResponse second = perform("/conditional/version", "\"other\", W/" + etag);
+
+		assertEquals(304, second.getStatus());
+		assertEquals(etag, second.getHeader(HttpHeaders.ETAG));
+		assertEquals(0, second.getContentLength());
+		assertEquals(1, LOADS.get());
+	}
+
+	@Test
+	void hashedTagIsCachedUntilTheKeyIsInvalidated() throws Exception {
+		responseHandler.etagCache().invalidate("/conditional/hashed");
+		COUNT.set(3);
+		MockHttpServletResponse first = perform("/conditional/hashed", null);
+		String etag = first.getHeader(HttpHeaders.ETAG);
+
+		assertEquals(200, first.getStatus());
+		assertEquals(18, etag.length());
+		assertEquals(3, objectMapper.readTree(first.getContentAsString()).get("data").get("count").asInt());
+		assertEquals(304, perform("/conditional/hashed", etag).getStatus());
+		assertEquals(1, LOADS.get());
+		assertEquals(200, perform("/conditional/hashed", "\"0000000000000000\"").getStatus());
+		assertEquals(2, LOADS.get());
+
+		COUNT.set(4);
+		assertEquals(304, perform("/conditional/hashed", etag).getStatus());
+		responseHandler.etagCache().invalidate("/conditional/hashed");
+		MockHttpServletResponse changed = perform("/conditional/hashed", etag);
+
+		assertEquals(200, changed.getStatus());
+		assertEquals(4, objectMapper.readTree(changed.getContentAsString()).get("data").get("count").asInt());
+		assertEquals(3, LOADS.get());
+	}
+
+	@Test
+	void ifNoneMatchIsComparedWeakly() {
+		assertTrue(ETagCache.matches("*", "\"v1\""));
+		assertTrue(ETagCache.matches("W/\"a,b\" , \"v1\"", "W/\"v1\""));
+		assertFalse(ETagCache.matches("\"v10\"", "\"v1\""));
+		assertFalse(ETagCache.matches("v1", "\"v1\""));
+		assertFalse(ETagCache.matches(null, "\"v1\""));
+	}
+
+	private MockHttpServletResponse perform(String path, String ifNoneMatch) throws Exception {
+		var request = get(path).accept(MediaType.APPLICATION_JSON);
+		if (ifNoneMatch != null) {
+			request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		}
+		return mockMvc.perform(request).andReturn().getResponse();
+	}
+
+	@RestController
+	static class ConditionalController {
+
+		@Autowired
+		private ResponseHandler responseHandler;
+
+		@GetMapping("/conditional/version")
+		ResponseEntity<GenericApiResponse<Map<String, String>>> version() {
+			return responseHandler.okConditional(7, () -> {
+				LOADS.incrementAndGet();
+				return Map.of("name", "alice");
+			});
+		}
+
+		@GetMapping("/conditional/hashed")
+		ResponseEntity<GenericApiResponse<RawJson>> hashed() {
+			return responseHandler.okHashed("/conditional/hashed", () -> {
+				LOADS.incrementAndGet();
+				return Map.of("count", COUNT.get());
+			});
+		}
+	}
+}
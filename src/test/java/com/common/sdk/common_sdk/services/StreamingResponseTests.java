@@ -0,0 +1,163 @@
+package com.common.sdk.common_sdk.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.common.sdk.common_sdk.exception.BaseException;
+import com.common.sdk.common_sdk.exception.ExceptionMapper;
+import com.common.sdk.common_sdk.models.enums.StreamingFormat;
+import com.common.sdk.common_sdk.models.interfaces.ResponseMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class StreamingResponseTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void jsonArrayWritesTheDataBeforeTheTrailingStatus() throws IOException {
+		String body = write(List.of(1, 2).iterator(), StreamingFormat.JSON_ARRAY, "req-1", 256);
+
+		assertEquals("{\"requestId\":\"req-1\",\"data\":[1,2],\"count\":2,\"success\":true,\"code\":200,"
+				+ "\"errorMessage\":null}", body);
+	}
+
+	@Test
+	void emptySourceAndMissingRequestIdStillFormAnEnvelope() throws IOException {
+		String body = write(List.of().iterator(), StreamingFormat.JSON_ARRAY, null, 256);
+
+		assertEquals("{\"requestId\":null,\"data\":[],\"count\":0,\"success\":true,\"code\":200,"
+				+ "\"errorMessage\":null}", body);
+	}
+
+	@Test
+	void itemsLargerThanTheBufferAreCopiedWhole() throws IOException {
+		String large = "é".repeat(5_000);
+		List<Object> items = List.of(Map.of("text", large), "small", Map.of("text", large + "x"));
+
+		JsonNode envelope = objectMapper.readTree(write(items.iterator(), StreamingFormat.JSON_ARRAY, "req-2", 1));
+
+		assertEquals(3, envelope.get("count").asInt());
+		assertEquals(large, envelope.get("data").get(0).get("text").asText());
+		assertEquals("small", envelope.get("data").get(1).asText());
+		assertEquals(large + "x", envelope.get("data").get(2).get("text").asText());
+		assertTrue(envelope.get("success").asBoolean());
+	}
+
+	@Test
+	void ndjsonWritesOneLinePerItemAndAStatusLine() throws IOException {
+		String body = write(List.of(Map.of("id", 1), Map.of("id", 2)).iterator(), StreamingFormat.NDJSON, "req-3",
+				256);
+
+		assertEquals("{\"id\":1}\n{\"id\":2}\n{\"requestId\":\"req-3\",\"count\":2,\"success\":true,\"code\":200,"
+				+ "\"errorMessage\":null}\n", body);
+	}
+
+	@Test
+	void sourceFailureKeepsTheWrittenItemsAndReportsTheMappedCode() throws IOException {
+		Iterator<Integer> failing = Stream.iterate(1, i -> {
+			if (i == 2) {
+				throw BaseException.stackless(409, "Cursor expired");
+			}
+			return i + 1;
+		}).iterator();
+
+		String body = write(failing, StreamingFormat.JSON_ARRAY, "req-4", 256);
+
+		assertEquals("{\"requestId\":\"req-4\",\"data\":[1,2],\"count\":2,\"success\":false,\"code\":409,"
+				+ "\"errorMessage\":\"Cursor expired\"}", body);
+	}
+
+	@Test
+	void itemFailingToSerializeIsDroppedAndTheStatusStaysValid() throws IOException {
+		List<Object> items = new ArrayList<>();
+		items.add(Map.of("id", 1));
+		items.add(new Unserializable());
+		items.add(Map.of("id", 3));
+
+		JsonNode jsonArray = objectMapper.readTree(write(items.iterator(), StreamingFormat.JSON_ARRAY, "req-5", 256));
+		String[] lines = write(items.iterator(), StreamingFormat.NDJSON, "req-5", 256).split("\n");
+
+		assertEquals(1, jsonArray.get("count").asInt());
+		assertEquals(1, jsonArray.get("data").size());
+		assertFalse(jsonArray.get("success").asBoolean());
+		assertEquals(2, lines.length);
+		assertEquals(1, objectMapper.readTree(lines[0]).get("id").asInt());
+		assertFalse(objectMapper.readTree(lines[1]).get("success").asBoolean());
+	}
+
+	@Test
+	void okStreamClosesTheSourceAndPagesStopAtTheFirstEmptyPage() throws IOException {
+		ResponseHandler responseHandler = new ResponseHandler(ResponseMetrics.NOOP, objectMapper, null);
+		AtomicBoolean closed = new AtomicBoolean();
+
+		ResponseEntity<StreamingResponseBody> stream = responseHandler
+				.okStream(Stream.of("a", "b").onClose(() -> closed.set(true)), StreamingFormat.NDJSON);
+		ResponseEntity<StreamingResponseBody> paged = responseHandler
+				.okPaged(page -> page < 2 ? List.of(page * 2, page * 2 + 1) : List.of(), StreamingFormat.JSON_ARRAY);
+
+		assertEquals(3, body(stream).split("\n").length);
+		assertTrue(closed.get());
+		assertEquals("[0,1,2,3]", objectMapper.readTree(body(paged)).get("data").toString());
+	}
+
+	@Test
+	void flushesEveryNItems() throws IOException {
+		int[] flushes = new int[1];
+		ByteArrayOutputStream out = new ByteArrayOutputStream() {
+			@Override
+			public void flush() {
+				flushes[0]++;
+			}
+		};
+
+		body(List.of(1, 2, 3, 4, 5).iterator(), StreamingFormat.NDJSON, "req-6", 2).writeTo(out);
+
+		assertEquals(3, flushes[0]);
+	}
+
+	private String write(Iterator<?> items, StreamingFormat format, String requestId, int flushEvery)
+			throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		body(items, format, requestId, flushEvery).writeTo(out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	private StreamingEnvelopeBody<Object> body(Iterator<?> items, StreamingFormat format, String requestId,
+			int flushEvery) {
+		return new StreamingEnvelopeBody<>(items, null, format, requestId, objectMapper, ResponseMetrics.NOOP,
+				ExceptionMapper.defaults(), flushEvery);
+	}
+
+	private static String body(ResponseEntity<StreamingResponseBody> response) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		response.getBody().writeTo(out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	static class Unserializable {
+
+		public int getId() {
+			return 2;
+		}
+
+		public String getName() {
+			throw new IllegalStateException("lazy field not loaded");
+		}
+	}
+}
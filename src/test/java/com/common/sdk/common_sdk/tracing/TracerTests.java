@@ -0,0 +1,110 @@
+package com.common.sdk.common_sdk.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.common.sdk.common_sdk.models.enums.SpanKind;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class TracerTests {
+
+	private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+	@Test
+	void traceparentIsParsedAndFormattedPerSpecification() {
+		TraceContext context = TraceContext.parse(TRACEPARENT, "congo=t61rcWkgMzE");
+		assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.getTraceId());
+		assertEquals("00f067aa0ba902b7", context.getSpanIdHex());
+		assertTrue(context.isSampled());
+		assertEquals("congo=t61rcWkgMzE", context.getTraceState());
+		assertEquals(TRACEPARENT, context.traceparent());
+
+		TraceContext future = TraceContext.parse("01-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00-extra", null);
+		assertFalse(future.isSampled());
+		assertEquals("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00", future.traceparent());
+
+		assertNull(TraceContext.parse(null, null));
+		assertNull(TraceContext.parse("ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01", null));
+		assertNull(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01", null));
+		assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01", null));
+		assertNull(TraceContext.parse("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01", null));
+		assertNull(TraceContext.parse(TRACEPARENT + "-extra", null));
+	}
+
+	@Test
+	void samplingFollowsTheParentAndTheRatio() {
+		SpanRingBuffer ring = new SpanRingBuffer(16);
+		Tracer never = new Tracer(0, ring);
+		Tracer always = new Tracer(1, ring);
+
+		Span continued = never.startServerSpan("GET", TraceContext.parse(TRACEPARENT, null));
+		assertTrue(continued.isRecording());
+		assertEquals(0x00f067aa0ba902b7L, continued.getParentSpanId());
+		assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", continued.getContext().getTraceId());
+
+		Span unsampled = always.startServerSpan("GET",
+				TraceContext.parse(TRACEPARENT.substring(0, 53) + "00", null));
+		assertFalse(unsampled.isRecording());
+		assertSame(unsampled, unsampled.startChild("child", SpanKind.CLIENT));
+		assertFalse(never.startServerSpan("GET", null).isRecording());
+
+		Span root = always.startServerSpan("GET", null);
+		try (Span.Scope scope = root.makeCurrent()) {
+			assertSame(root, Span.current());
+			assertEquals("done", always.trace("work", () -> "done"));
+		}
+		assertNull(Span.current());
+		root.end();
+		unsampled.end();
+
+		List<Span> finished = new ArrayList<>();
+		assertEquals(2, ring.drain(finished, 10));
+		assertEquals("work", finished.get(0).getName());
+		assertEquals(root.getContext().getSpanId(), finished.get(0).getParentSpanId());
+		assertSame(root, finished.get(1));
+		assertTrue(root.getEndEpochNanos() >= root.getStartEpochNanos());
+	}
+
+	@Test
+	void fullRingDropsSpansAndBatchesAreEncodedAsOtlpJson() throws Exception {
+		SpanRingBuffer ring = new SpanRingBuffer(3);
+		assertEquals(4, ring.capacity());
+		Tracer tracer = new Tracer(1, ring);
+		for (int i = 0; i < 6; i++) {
+			Span span = tracer.startServerSpan("GET /orders/{id}", TraceContext.parse(TRACEPARENT, "a=1"));
+			span.setAttribute("http.response.status_code", 500).setAttribute("http.route", "/orders/{id}")
+					.markError()
+					.end();
+		}
+		assertEquals(2, ring.getDropped());
+
+		List<Span> batch = new ArrayList<>();
+		assertEquals(4, ring.drain(batch, 10));
+		assertEquals(0, ring.drain(new ArrayList<>(), 10));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new OtlpJsonEncoder("orders").encode(batch.subList(0, 1), out);
+
+		JsonNode request = new ObjectMapper().readTree(out.toByteArray()).get("resourceSpans").get(0);
+		assertEquals("orders", request.at("/resource/attributes/0/value/stringValue").asText());
+		JsonNode span = request.at("/scopeSpans/0/spans/0");
+		assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", span.get("traceId").asText());
+		assertEquals("00f067aa0ba902b7", span.get("parentSpanId").asText());
+		assertEquals(16, span.get("spanId").asText().length());
+		assertEquals("a=1", span.get("traceState").asText());
+		assertEquals(2, span.get("kind").asInt());
+		assertEquals(Long.toString(batch.get(0).getEndEpochNanos()), span.get("endTimeUnixNano").asText());
+		assertEquals("500", span.at("/attributes/0/value/intValue").asText());
+		assertEquals("/orders/{id}", span.at("/attributes/1/value/stringValue").asText());
+		assertEquals(2, span.at("/status/code").asInt());
+	}
+}